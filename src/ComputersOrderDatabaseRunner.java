@@ -1,6 +1,9 @@
+import management.DatabaseManager;
 import management.OrderManager;
+import management.PersistenceScheduler;
 import menu.MainMenu;
 import org.json.JSONException;
+import service.OrderService;
 import static utils.ConsoleUtils.*;
 
 import java.io.IOException;
@@ -13,6 +16,10 @@ import java.io.IOException;
  * It initializes the {@link OrderManager}, loads orders from the 'orders.json' file, and starts the main menu.
  * Handles exceptions related to JSON formatting issues, reading from files, and out-of-bounds status numbers.
  * Displays appropriate error messages and quits the program in case of issues during initialization.
+ * Changes to orders are written to the database in small groups by a {@link PersistenceScheduler}.
+ * Passing {@code --binary} stores the database as a binary snapshot ('orders.bin') instead of 'orders.json'.
+ * Passing {@code --serve}, optionally followed by a port number, runs the program headless as an
+ * {@link OrderService} on the loopback address instead of starting the main menu.
  *
  * @author Meherzad Antia
  * @author Stanley Gu
@@ -26,11 +33,42 @@ public class ComputersOrderDatabaseRunner {
      */
     private static OrderManager orderManager = null;
 
+    /**
+     * Command line argument that stores the database as a binary snapshot instead of JSON.
+     */
+    private static final String BINARY_SNAPSHOT_ARGUMENT = "--binary";
+
+    /**
+     * Command line argument that serves the orders over HTTP instead of starting the main menu.
+     */
+    private static final String SERVE_ARGUMENT = "--serve";
+
+    /**
+     * Longest time to wait for running requests when the service shuts down, in seconds.
+     */
+    private static final int SERVICE_STOP_DELAY_SECONDS = 2;
+
     public static void main(String[] args) {
+        boolean useBinarySnapshot = false;
+        boolean serve = false;
+        int port = OrderService.DEFAULT_PORT;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(BINARY_SNAPSHOT_ARGUMENT)) {
+                useBinarySnapshot = true;
+            } else if (args[i].equals(SERVE_ARGUMENT)) {
+                serve = true;
+                if (i + 1 < args.length && args[i + 1].matches("\\d+")) {
+                    port = Integer.parseInt(args[++i]);
+                }
+            }
+        }
 
         // loading the orders.json to ordersList (quit program instantly if an issue on this part)
         try {
-            orderManager = new OrderManager();
+            DatabaseManager databaseManager = new DatabaseManager(true, useBinarySnapshot);
+            databaseManager.enablePersistenceScheduler(PersistenceScheduler.DEFAULT_WINDOW_MILLIS,
+                    PersistenceScheduler.DEFAULT_MAX_PENDING_WRITES);
+            orderManager = new OrderManager(databaseManager);
         } catch (JSONException e) { // json formatting issue
             printError(e.getMessage());
         } catch (IOException e) { // reading from file issue
@@ -40,8 +78,37 @@ public class ComputersOrderDatabaseRunner {
         }
 
         // after orders.json has been loaded into memory, all subsequent errors will be handled accordingly
-        if (orderManager != null) {
+        if (orderManager != null && serve) {
+            serve(port);
+        } else if (orderManager != null) {
             new MainMenu(orderManager).run();
         }
     }
+
+    /**
+     * Serves the orders over HTTP until the program is stopped, for example with Ctrl+C. On shutdown, the
+     * running requests are given a short time to finish and the pending changes are written to the database.
+     *
+     * @param port The port to listen on.
+     */
+    private static void serve(int port) {
+        OrderService service;
+        try {
+            service = new OrderService(orderManager, port);
+        } catch (IOException e) { // port in use
+            printError("Could not start the order service on port " + port + ": " + e.getMessage());
+            return;
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            service.stop(SERVICE_STOP_DELAY_SECONDS);
+            try {
+                orderManager.flushPendingWrites();
+            } catch (IOException e) {
+                printError(e.getMessage());
+            }
+        }));
+        service.start();
+        System.out.println("Serving orders on http://localhost:" + service.getPort() + " (press Ctrl+C to stop)");
+    }
 }
\ No newline at end of file
@@ -30,6 +30,11 @@ public abstract class Computer {
      */
     protected PrimaryHardware primaryHardware;
 
+    /**
+     * Whether this computer is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a new computer with the specified type and primary hardware.
      *
@@ -41,6 +46,23 @@ public abstract class Computer {
         this.primaryHardware = primaryHardware;
     }
 
+    /**
+     * Constructs a new computer with the same type as another computer and a copy of its primary hardware.
+     * The copy can be changed, even if the other computer is read-only.
+     *
+     * @param other the computer to copy.
+     */
+    protected Computer(Computer other) {
+        this(other.type, new PrimaryHardware(other.primaryHardware));
+    }
+
+    /**
+     * Makes a copy of this computer and of all its hardware, which can be changed even if this computer is read-only.
+     * Concept: Abstract Method
+     * @return the copy of this computer.
+     */
+    public abstract Computer copy();
+
     /**
      * Calculates the total price of the primary hardware.
      * Concept: Abstract Method
@@ -77,8 +99,10 @@ public abstract class Computer {
      * Sets the primary hardware associated with the computer.
      *
      * @param primaryHardware the primary hardware to set.
+     * @throws UnsupportedOperationException if this computer is a read-only copy.
      */
     public void setPrimaryHardware(PrimaryHardware primaryHardware) {
+        checkWritable();
         this.primaryHardware = primaryHardware;
     }
 
@@ -102,4 +126,34 @@ public abstract class Computer {
                 Primary Hardware:
                 %s""", primaryHardware);
     }
+
+    /**
+     * Makes this computer and all its hardware read-only, so every setter throws an
+     * {@code UnsupportedOperationException}. This cannot be undone; use {@link #copy()} to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+        primaryHardware.makeReadOnly();
+    }
+
+    /**
+     * Checks if this computer is a read-only copy.
+     *
+     * @return {@code true} if this computer is read-only, {@code false} otherwise.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this computer is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this computer is a read-only copy.
+     */
+    protected void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This computer is a read-only copy and cannot be changed");
+        }
+    }
 }
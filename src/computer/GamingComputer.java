@@ -64,6 +64,20 @@ public class GamingComputer extends Computer {
         this.additionalHardware = additionalHardware;
     }
 
+    /**
+     * Constructs a GamingComputer object with copies of all the hardware of another gaming computer.
+     * The copy can be changed, even if the other gaming computer is read-only.
+     *
+     * @param other the gaming computer to copy
+     */
+    public GamingComputer(GamingComputer other) {
+        super(other);
+        this.cooler = new Cooler(other.cooler);
+        this.powerSupply = new PowerSupply(other.powerSupply);
+        this.computerCase = new Case(other.computerCase);
+        this.additionalHardware = other.additionalHardware.copy();
+    }
+
     /**
      * Gets the cooler of the gaming computer.
      *
@@ -104,8 +118,10 @@ public class GamingComputer extends Computer {
      * Sets the cooler of the gaming computer.
      *
      * @param cooler the cooler to set
+     * @throws UnsupportedOperationException if this gaming computer is a read-only copy
      */
     public void setCooler(Cooler cooler) {
+        checkWritable();
         this.cooler = cooler;
     }
 
@@ -113,8 +129,10 @@ public class GamingComputer extends Computer {
      * Sets the power supply of the gaming computer.
      *
      * @param powerSupply the power supply to set
+     * @throws UnsupportedOperationException if this gaming computer is a read-only copy
      */
     public void setPowerSupply(PowerSupply powerSupply) {
+        checkWritable();
         this.powerSupply = powerSupply;
     }
 
@@ -122,8 +140,10 @@ public class GamingComputer extends Computer {
      * Sets the computer case of the gaming computer.
      *
      * @param computerCase the computer case to set
+     * @throws UnsupportedOperationException if this gaming computer is a read-only copy
      */
     public void setComputerCase(Case computerCase) {
+        checkWritable();
         this.computerCase = computerCase;
     }
 
@@ -131,8 +151,10 @@ public class GamingComputer extends Computer {
      * Sets the gaming-specific additional hardware.
      *
      * @param additionalHardware the additional hardware to set
+     * @throws UnsupportedOperationException if this gaming computer is a read-only copy
      */
     public void setAdditionalHardware(GamingAdditionalHardware additionalHardware) {
+        checkWritable();
         this.additionalHardware = additionalHardware;
     }
 
@@ -171,4 +193,27 @@ public class GamingComputer extends Computer {
                 Additional Hardware:
                 %s""", super.toString(), cooler, powerSupply, computerCase, additionalHardware);
     }
+
+    /**
+     * Makes a copy of this gaming computer and of all its hardware, which can be changed even if this gaming computer is read-only.
+     * Concept: Polymorphism
+     * @return the copy of this gaming computer
+     */
+    @Override
+    public GamingComputer copy() {
+        return new GamingComputer(this);
+    }
+
+    /**
+     * Makes this gaming computer and all its hardware read-only.
+     * Concept: Polymorphism
+     */
+    @Override
+    public void makeReadOnly() {
+        super.makeReadOnly();
+        cooler.makeReadOnly();
+        powerSupply.makeReadOnly();
+        computerCase.makeReadOnly();
+        additionalHardware.makeReadOnly();
+    }
 }
@@ -36,6 +36,17 @@ public class Laptop extends Computer {
         this.additionalHardware = additionalHardware;
     }
 
+    /**
+     * Constructs a Laptop object with copies of all the hardware of another laptop.
+     * The copy can be changed, even if the other laptop is read-only.
+     *
+     * @param other the laptop to copy
+     */
+    public Laptop(Laptop other) {
+        super(other);
+        this.additionalHardware = other.additionalHardware.copy();
+    }
+
     /**
      * Gets the laptop-specific additional hardware.
      *
@@ -49,8 +60,10 @@ public class Laptop extends Computer {
      * Sets the laptop-specific additional hardware.
      *
      * @param additionalHardware the additional hardware to set
+     * @throws UnsupportedOperationException if this laptop is a read-only copy
      */
     public void setAdditionalHardware(LaptopAdditionalHardware additionalHardware) {
+        checkWritable();
         this.additionalHardware = additionalHardware;
     }
 
@@ -87,4 +100,24 @@ public class Laptop extends Computer {
                 Additional Hardware:
                 %s""", super.toString(), additionalHardware);
     }
+
+    /**
+     * Makes a copy of this laptop and of all its hardware, which can be changed even if this laptop is read-only.
+     * Concept: Polymorphism
+     * @return the copy of this laptop
+     */
+    @Override
+    public Laptop copy() {
+        return new Laptop(this);
+    }
+
+    /**
+     * Makes this laptop and all its hardware read-only.
+     * Concept: Polymorphism
+     */
+    @Override
+    public void makeReadOnly() {
+        super.makeReadOnly();
+        additionalHardware.makeReadOnly();
+    }
 }
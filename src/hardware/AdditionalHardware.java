@@ -28,6 +28,11 @@ public abstract class AdditionalHardware {
      */
     protected Storage additionalStorage;
 
+    /**
+     * Whether this additional hardware is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs an {@code AdditionalHardware} object with the specified additional storage.
      *
@@ -37,6 +42,23 @@ public abstract class AdditionalHardware {
         this.additionalStorage = additionalStorage;
     }
 
+    /**
+     * Constructs an {@code AdditionalHardware} object with a copy of the additional storage of another one.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other  the additional hardware to copy
+     */
+    protected AdditionalHardware(AdditionalHardware other){
+        this(other.additionalStorage == null ? null : new Storage(other.additionalStorage));
+    }
+
+    /**
+     * Makes a copy of this additional hardware that can be changed, even if this one is read-only.
+     * Concept: Abstract Method
+     * @return the copy of this additional hardware
+     */
+    public abstract AdditionalHardware copy();
+
     /**
      * Gets the additional storage component.
      *
@@ -50,8 +72,10 @@ public abstract class AdditionalHardware {
      * Sets the additional storage component.
      *
      * @param additionalStorage  the additional storage component to set
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void setAdditionalStorage(Storage additionalStorage) {
+        checkWritable();
         this.additionalStorage = additionalStorage;
     }
 
@@ -95,4 +119,36 @@ public abstract class AdditionalHardware {
                 %s""", additionalStorage);
 
     }
+
+    /**
+     * Makes this additional hardware read-only, so every setter throws an {@code UnsupportedOperationException}. Its additional storage is made read-only too.
+     * This cannot be undone; use the copy constructor to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+        if (additionalStorage != null) {
+            additionalStorage.makeReadOnly();
+        }
+    }
+
+    /**
+     * Checks if this additional hardware is a read-only copy.
+     *
+     * @return {@code true} if this additional hardware is read-only, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this additional hardware is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
+     */
+    protected void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This additional hardware is a read-only copy and cannot be changed");
+        }
+    }
 }
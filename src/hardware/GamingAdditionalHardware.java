@@ -70,6 +70,29 @@ public class GamingAdditionalHardware extends AdditionalHardware {
         this.extraFansCount = extraFansCount;
     }
 
+    /**
+     * Constructs a {@code GamingAdditionalHardware} object with the same options as another one,
+     * and a copy of its additional storage. The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the additional hardware to copy
+     */
+    public GamingAdditionalHardware(GamingAdditionalHardware other) {
+        super(other);
+        this.hasRgbStrips = other.hasRgbStrips;
+        this.useNoiseCancellingFans = other.useNoiseCancellingFans;
+        this.extraFansCount = other.extraFansCount;
+    }
+
+    /**
+     * Makes a copy of this additional hardware that can be changed, even if this one is read-only.
+     * Concept: Polymorphism
+     * @return the copy of this additional hardware
+     */
+    @Override
+    public GamingAdditionalHardware copy() {
+        return new GamingAdditionalHardware(this);
+    }
+
     /**
      * Checks if the additional hardware has RGB strips.
      *
@@ -101,8 +124,10 @@ public class GamingAdditionalHardware extends AdditionalHardware {
      * Sets whether the additional hardware has RGB strips.
      *
      * @param hasRgbStrips true if the hardware has RGB strips, false otherwise
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void setHasRgbStrips(boolean hasRgbStrips) {
+        checkWritable();
         this.hasRgbStrips = hasRgbStrips;
     }
 
@@ -110,8 +135,10 @@ public class GamingAdditionalHardware extends AdditionalHardware {
      * Sets whether noise-canceling fans are used.
      *
      * @param useNoiseCancellingFans true if noise-canceling fans are used, false otherwise
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void setUseNoiseCancellingFans(boolean useNoiseCancellingFans) {
+        checkWritable();
         this.useNoiseCancellingFans = useNoiseCancellingFans;
     }
 
@@ -119,8 +146,10 @@ public class GamingAdditionalHardware extends AdditionalHardware {
      * Sets the count of extra cooling fans.
      *
      * @param extraFansCount the count of extra cooling fans
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void setExtraFansCount(int extraFansCount) {
+        checkWritable();
         this.extraFansCount = extraFansCount;
     }
 
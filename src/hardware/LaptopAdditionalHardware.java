@@ -63,6 +63,29 @@ public class LaptopAdditionalHardware extends AdditionalHardware {
         this.has360Hinge = has360Hinge;
     }
 
+    /**
+     * Constructs a {@code LaptopAdditionalHardware} object with the same options as another one,
+     * and a copy of its additional storage. The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the additional hardware to copy
+     */
+    public LaptopAdditionalHardware(LaptopAdditionalHardware other) {
+        super(other);
+        this.hasFingerprintScanner = other.hasFingerprintScanner;
+        this.hasTouchscreen = other.hasTouchscreen;
+        this.has360Hinge = other.has360Hinge;
+    }
+
+    /**
+     * Makes a copy of this additional hardware that can be changed, even if this one is read-only.
+     * Concept: Polymorphism
+     * @return the copy of this additional hardware
+     */
+    @Override
+    public LaptopAdditionalHardware copy() {
+        return new LaptopAdditionalHardware(this);
+    }
+
     /**
      * Checks if the laptop has a fingerprint scanner.
      *
@@ -94,8 +117,10 @@ public class LaptopAdditionalHardware extends AdditionalHardware {
      * Sets whether the laptop has a fingerprint scanner.
      *
      * @param hasFingerprintScanner true if the laptop has a fingerprint scanner, false otherwise
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void setFingerprintScanner(boolean hasFingerprintScanner) {
+        checkWritable();
         this.hasFingerprintScanner = hasFingerprintScanner;
     }
 
@@ -103,8 +128,10 @@ public class LaptopAdditionalHardware extends AdditionalHardware {
      * Sets whether the laptop has a touchscreen.
      *
      * @param hasTouchscreen true if the laptop has a touchscreen, false otherwise
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void setTouchscreen(boolean hasTouchscreen) {
+        checkWritable();
         this.hasTouchscreen = hasTouchscreen;
     }
 
@@ -112,8 +139,10 @@ public class LaptopAdditionalHardware extends AdditionalHardware {
      * Sets whether the laptop has a 360-degree hinge.
      *
      * @param has360Hinge true if the laptop has a 360-degree hinge, false otherwise
+     * @throws UnsupportedOperationException if this additional hardware is a read-only copy
      */
     public void set360Hinge(boolean has360Hinge) {
+        checkWritable();
         this.has360Hinge = has360Hinge;
     }
 
@@ -33,6 +33,11 @@ public class PrimaryHardware {
     /** CPU component. Concept: Encapsulation */
     private CPU CPU;
 
+    /**
+     * Whether this primary hardware is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a PrimaryHardware object with the specified components.
      *
@@ -50,6 +55,17 @@ public class PrimaryHardware {
         this.CPU = CPU;
     }
 
+    /**
+     * Constructs a PrimaryHardware object with copies of the components of another one.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the primary hardware to copy
+     */
+    public PrimaryHardware(PrimaryHardware other) {
+        this(new Storage(other.storage), new Motherboard(other.motherboard), new RAM(other.RAM),
+                new GPU(other.GPU), new CPU(other.CPU));
+    }
+
     /**
      * Gets the storage component.
      *
@@ -99,8 +115,10 @@ public class PrimaryHardware {
      * Sets the storage component.
      *
      * @param storage the storage component to set
+     * @throws UnsupportedOperationException if this primary hardware is a read-only copy
      */
     public void setStorage(Storage storage) {
+        checkWritable();
         this.storage = storage;
     }
 
@@ -108,8 +126,10 @@ public class PrimaryHardware {
      * Sets the motherboard component.
      *
      * @param motherboard the motherboard component to set
+     * @throws UnsupportedOperationException if this primary hardware is a read-only copy
      */
     public void setMotherboard(Motherboard motherboard) {
+        checkWritable();
         this.motherboard = motherboard;
     }
 
@@ -117,8 +137,10 @@ public class PrimaryHardware {
      * Sets the RAM component.
      *
      * @param RAM the RAM component to set
+     * @throws UnsupportedOperationException if this primary hardware is a read-only copy
      */
     public void setRAM(RAM RAM) {
+        checkWritable();
         this.RAM = RAM;
     }
 
@@ -126,8 +148,10 @@ public class PrimaryHardware {
      * Sets the GPU component.
      *
      * @param GPU the GPU component to set
+     * @throws UnsupportedOperationException if this primary hardware is a read-only copy
      */
     public void setGPU(GPU GPU) {
+        checkWritable();
         this.GPU = GPU;
     }
 
@@ -135,8 +159,10 @@ public class PrimaryHardware {
      * Sets the CPU component.
      *
      * @param CPU the CPU component to set
+     * @throws UnsupportedOperationException if this primary hardware is a read-only copy
      */
     public void setCPU(CPU CPU) {
+        checkWritable();
         this.CPU = CPU;
     }
 
@@ -189,4 +215,38 @@ public class PrimaryHardware {
                 Storage:
                 %s""", CPU, motherboard, RAM, GPU, storage);
     }
+
+    /**
+     * Makes this primary hardware read-only, so every setter throws an {@code UnsupportedOperationException}. Its components are made read-only too.
+     * This cannot be undone; use the copy constructor to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+        storage.makeReadOnly();
+        motherboard.makeReadOnly();
+        RAM.makeReadOnly();
+        GPU.makeReadOnly();
+        CPU.makeReadOnly();
+    }
+
+    /**
+     * Checks if this primary hardware is a read-only copy.
+     *
+     * @return {@code true} if this primary hardware is read-only, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this primary hardware is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this primary hardware is a read-only copy
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This primary hardware is a read-only copy and cannot be changed");
+        }
+    }
 }
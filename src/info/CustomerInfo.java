@@ -41,6 +41,11 @@ public class CustomerInfo {
     private String address;
 
 
+    /**
+     * Whether this customer information is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a CustomerInfo object with the specified customer details.
      *
@@ -58,6 +63,16 @@ public class CustomerInfo {
         this.address = address;
     }
 
+    /**
+     * Constructs a CustomerInfo object with the same details as another one.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the customer information to copy
+     */
+    public CustomerInfo(CustomerInfo other) {
+        this(other.firstName, other.lastName, other.email, other.phoneNumber, other.address);
+    }
+
     /**
      * Gets the first name of the customer.
      *
@@ -107,8 +122,10 @@ public class CustomerInfo {
      * Sets the first name of the customer.
      *
      * @param firstName the first name to set
+     * @throws UnsupportedOperationException if this customer information is a read-only copy
      */
     public void setFirstName(String firstName) {
+        checkWritable();
         this.firstName = firstName;
     }
 
@@ -116,8 +133,10 @@ public class CustomerInfo {
      * Sets the last name of the customer.
      *
      * @param lastName the last name to set
+     * @throws UnsupportedOperationException if this customer information is a read-only copy
      */
     public void setLastName(String lastName) {
+        checkWritable();
         this.lastName = lastName;
     }
 
@@ -125,8 +144,10 @@ public class CustomerInfo {
      * Sets the email address of the customer.
      *
      * @param email the email address to set
+     * @throws UnsupportedOperationException if this customer information is a read-only copy
      */
     public void setEmail(String email) {
+        checkWritable();
         this.email = email;
     }
 
@@ -134,8 +155,10 @@ public class CustomerInfo {
      * Sets the phone number of the customer.
      *
      * @param phoneNumber the phone number to set
+     * @throws UnsupportedOperationException if this customer information is a read-only copy
      */
     public void setPhoneNumber(String phoneNumber) {
+        checkWritable();
         this.phoneNumber = phoneNumber;
     }
 
@@ -143,8 +166,10 @@ public class CustomerInfo {
      * Sets the address of the customer.
      *
      * @param address the address to set
+     * @throws UnsupportedOperationException if this customer information is a read-only copy
      */
     public void setAddress(String address) {
+        checkWritable();
         this.address = address;
     }
 
@@ -162,4 +187,33 @@ public class CustomerInfo {
                 Phone Number: %s
                 Address: %s""", firstName, lastName, email, phoneNumber, address);
     }
+
+    /**
+     * Makes this customer information read-only, so every setter throws an {@code UnsupportedOperationException}.
+     * This cannot be undone; use the copy constructor to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * Checks if this customer information is a read-only copy.
+     *
+     * @return {@code true} if this customer information is read-only, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this customer information is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this customer information is a read-only copy
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This customer information is a read-only copy and cannot be changed");
+        }
+    }
 }
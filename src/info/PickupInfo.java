@@ -25,6 +25,11 @@ public class PickupInfo {
     private String pickupAddress;
 
 
+    /**
+     * Whether this pickup information is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a PickupInfo object with the specified billing and pickup addresses.
      *
@@ -36,6 +41,16 @@ public class PickupInfo {
         this.pickupAddress = pickupAddress;
     }
 
+    /**
+     * Constructs a PickupInfo object with the same details as another one.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the pickup information to copy
+     */
+    public PickupInfo(PickupInfo other) {
+        this(other.billingAddress, other.pickupAddress);
+    }
+
     /**
      * Gets the billing address for pickup.
      *
@@ -58,8 +73,10 @@ public class PickupInfo {
      * Sets the billing address for pickup.
      *
      * @param billingAddress the billing address to set
+     * @throws UnsupportedOperationException if this pickup information is a read-only copy
      */
     public void setBillingAddress(String billingAddress) {
+        checkWritable();
         this.billingAddress = billingAddress;
     }
 
@@ -67,8 +84,10 @@ public class PickupInfo {
      * Sets the pickup address for the customer.
      *
      * @param pickupAddress the pickup address to set
+     * @throws UnsupportedOperationException if this pickup information is a read-only copy
      */
     public void setPickupAddress(String pickupAddress) {
+        checkWritable();
         this.pickupAddress = pickupAddress;
     }
 
@@ -83,4 +102,33 @@ public class PickupInfo {
                 Billing Address: %s
                 Pickup Address: %s""", billingAddress, pickupAddress);
     }
+
+    /**
+     * Makes this pickup information read-only, so every setter throws an {@code UnsupportedOperationException}.
+     * This cannot be undone; use the copy constructor to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * Checks if this pickup information is a read-only copy.
+     *
+     * @return {@code true} if this pickup information is read-only, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this pickup information is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this pickup information is a read-only copy
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This pickup information is a read-only copy and cannot be changed");
+        }
+    }
 }
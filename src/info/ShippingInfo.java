@@ -36,6 +36,11 @@ public class ShippingInfo {
     private String shippingCompany;
 
 
+    /**
+     * Whether this shipping information is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a ShippingInfo object with the specified billing, shipping addresses,
      * and shipping company.
@@ -50,6 +55,16 @@ public class ShippingInfo {
         this.shippingCompany = shippingCompany;
     }
 
+    /**
+     * Constructs a ShippingInfo object with the same details as another one.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the shipping information to copy
+     */
+    public ShippingInfo(ShippingInfo other) {
+        this(other.billingAddress, other.shippingAddress, other.shippingCompany);
+    }
+
     /**
      * Gets the billing address for shipping.
      *
@@ -81,8 +96,10 @@ public class ShippingInfo {
      * Sets the billing address for shipping.
      *
      * @param billingAddress the billing address to set
+     * @throws UnsupportedOperationException if this shipping information is a read-only copy
      */
     public void setBillingAddress(String billingAddress) {
+        checkWritable();
         this.billingAddress = billingAddress;
     }
 
@@ -90,8 +107,10 @@ public class ShippingInfo {
      * Sets the shipping address for the customer.
      *
      * @param shippingAddress the shipping address to set
+     * @throws UnsupportedOperationException if this shipping information is a read-only copy
      */
     public void setShippingAddress(String shippingAddress) {
+        checkWritable();
         this.shippingAddress = shippingAddress;
     }
 
@@ -99,8 +118,10 @@ public class ShippingInfo {
      * Sets the shipping company for delivery.
      *
      * @param shippingCompany the shipping company to set
+     * @throws UnsupportedOperationException if this shipping information is a read-only copy
      */
     public void setShippingCompany(String shippingCompany) {
+        checkWritable();
         this.shippingCompany = shippingCompany;
     }
 
@@ -117,4 +138,33 @@ public class ShippingInfo {
                 Shipping Company: %s
                 Shipping Fee: $%.2f / package""", billingAddress, shippingAddress, shippingCompany, SHIPPING_FEE);
     }
+
+    /**
+     * Makes this shipping information read-only, so every setter throws an {@code UnsupportedOperationException}.
+     * This cannot be undone; use the copy constructor to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * Checks if this shipping information is a read-only copy.
+     *
+     * @return {@code true} if this shipping information is read-only, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this shipping information is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this shipping information is a read-only copy
+     */
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This shipping information is a read-only copy and cannot be changed");
+        }
+    }
 }
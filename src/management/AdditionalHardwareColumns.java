@@ -0,0 +1,373 @@
+package management;
+
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.AdditionalHardware;
+import hardware.GamingAdditionalHardware;
+import hardware.LaptopAdditionalHardware;
+import order.Order;
+import parts.Storage;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code AdditionalHardwareColumns} class keeps the features that spec matching compares (the three
+ * feature flags, the extra fan count, and the speed and size of the additional storage) in columns of
+ * primitive arrays, one set of columns for gaming computers and one for laptops. Rows are sorted by order ID.
+ * </p>
+ * <p>
+ * Matching an {@link AdditionalHardware} against every order is then a single pass over the columns that
+ * counts the matching features of each row with bit operations and comparisons, instead of visiting each order,
+ * checking and casting its computer and calling {@code matchSpecs}. Large columns are split into chunks that
+ * are scored in parallel. The result is always the same as calling
+ * {@link AdditionalHardware#matchSpecs(AdditionalHardware, double)} on every order of the same computer type
+ * that has additional storage, including how {@link LaptopAdditionalHardware} compares the 360-degree hinge
+ * to the touchscreen of the other hardware and ignores the storage speed.
+ * </p>
+ * <p>
+ * The features of each order are copied when the order is added, so {@link #update(Order)} must be called
+ * after the additional hardware of an order changes.
+ * </p>
+ * <p>Concepts: Array of Primitives, Bit Manipulation, Parallelism</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class AdditionalHardwareColumns {
+    /**
+     * Columns with at least this many rows are scored in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    /**
+     * Number of rows scored by one parallel task.
+     */
+    private static final int CHUNK_SIZE = 1 << 13;
+
+    /**
+     * Bits of the feature flags column. Gaming computers use the first two, laptops use all three.
+     */
+    private static final int FIRST_FLAG = 1;
+    private static final int SECOND_FLAG = 1 << 1;
+    private static final int THIRD_FLAG = 1 << 2;
+
+    /**
+     * The columns of the gaming computers and of the laptops.
+     */
+    private final Columns gaming = new Columns();
+    private final Columns laptop = new Columns();
+
+    /**
+     * Adds the additional hardware features of an order. Orders without additional storage are left out, since
+     * they never match. If the order is already indexed, its features are replaced.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        remove(order.getId());
+
+        if (order.getComputer() instanceof GamingComputer gamingComputer) {
+            GamingAdditionalHardware hardware = gamingComputer.getAdditionalHardware();
+            if (hardware != null && hardware.getAdditionalStorage() != null) {
+                int flags = (hardware.isHasRgbStrips() ? FIRST_FLAG : 0)
+                        | (hardware.isUseNoiseCancellingFans() ? SECOND_FLAG : 0);
+                gaming.add(order.getId(), flags, hardware.getExtraFansCount(), hardware.getAdditionalStorage());
+            }
+        } else if (order.getComputer() instanceof Laptop laptopComputer) {
+            LaptopAdditionalHardware hardware = laptopComputer.getAdditionalHardware();
+            if (hardware != null && hardware.getAdditionalStorage() != null) {
+                int flags = (hardware.isHasFingerprintScanner() ? FIRST_FLAG : 0)
+                        | (hardware.isHasTouchscreen() ? SECOND_FLAG : 0)
+                        | (hardware.isHas360Hinge() ? THIRD_FLAG : 0);
+                laptop.add(order.getId(), flags, 0, hardware.getAdditionalStorage());
+            }
+        }
+    }
+
+    /**
+     * Replaces the features of an order after its additional hardware has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes the features of an order.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        gaming.remove(id);
+        laptop.remove(id);
+    }
+
+    /**
+     * Removes every order.
+     */
+    public void clear() {
+        gaming.clear();
+        laptop.clear();
+    }
+
+    /**
+     * Replaces the contents of the columns with the given orders.
+     *
+     * @param orders The orders to add.
+     */
+    public void rebuild(List<Order> orders) {
+        clear();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Gets the number of orders with additional storage, which are the only orders that can match.
+     *
+     * @return The number of rows in both sets of columns.
+     */
+    public int size() {
+        return gaming.size + laptop.size;
+    }
+
+    /**
+     * Finds the orders whose additional hardware matches the specs of another additional hardware at a match
+     * rate, as {@link AdditionalHardware#matchSpecs(AdditionalHardware, double)} would.
+     *
+     * @param additionalHardware The additional hardware to match against, which must have additional storage.
+     * @param percent            The match rate, from 0 to 1.
+     * @return The IDs of the matching orders in ascending order.
+     * @throws NullPointerException If the additional hardware has no additional storage.
+     */
+    public int[] matchingIds(AdditionalHardware additionalHardware, double percent) {
+        if (additionalHardware instanceof GamingAdditionalHardware hardware) {
+            int minMatches = minMatches(GamingAdditionalHardware.HARDWARE_COUNT, percent);
+            if (minMatches > GamingAdditionalHardware.HARDWARE_COUNT) {
+                return new int[0];
+            }
+            int flags = (hardware.isHasRgbStrips() ? FIRST_FLAG : 0)
+                    | (hardware.isUseNoiseCancellingFans() ? SECOND_FLAG : 0);
+            int fans = hardware.getExtraFansCount();
+            double speed = hardware.getAdditionalStorage().getSpeedMBps();
+            double capacity = hardware.getAdditionalStorage().getCapacityGB();
+            return gaming.scan((columns, from, to, hits) ->
+                    columns.scoreGaming(from, to, flags, fans, speed, capacity, minMatches, hits));
+        }
+        if (additionalHardware instanceof LaptopAdditionalHardware hardware) {
+            int minMatches = minMatches(LaptopAdditionalHardware.HARDWARE_COUNT, percent);
+            if (minMatches > LaptopAdditionalHardware.HARDWARE_COUNT) {
+                return new int[0];
+            }
+            // matchSpecs compares the 360-degree hinge of each laptop to the touchscreen of the other hardware
+            int flags = (hardware.isHasFingerprintScanner() ? FIRST_FLAG : 0)
+                    | (hardware.isHasTouchscreen() ? SECOND_FLAG | THIRD_FLAG : 0);
+            double capacity = hardware.getAdditionalStorage().getCapacityGB();
+            return laptop.scan((columns, from, to, hits) ->
+                    columns.scoreLaptop(from, to, flags, capacity, minMatches, hits));
+        }
+        return new int[0];
+    }
+
+    /**
+     * Finds the smallest number of matching features that reaches a match rate, using the same division as
+     * {@code matchSpecs} so that the result is exactly the same.
+     *
+     * @param featureCount The number of features compared.
+     * @param percent      The match rate, from 0 to 1.
+     * @return The smallest number of matching features, or {@code featureCount + 1} if no number reaches the rate.
+     */
+    private static int minMatches(int featureCount, double percent) {
+        int matches = 0;
+        while (matches <= featureCount && !((double) matches / featureCount >= percent)) {
+            matches++;
+        }
+        return matches;
+    }
+
+    /**
+     * Scores a range of rows and records which ones match.
+     */
+    private interface Kernel {
+        /**
+         * Scores the rows from {@code from} to {@code to} of some columns.
+         *
+         * @param columns The columns to score.
+         * @param from    The first row, inclusive.
+         * @param to      The last row, exclusive.
+         * @param hits    Receives the positions of the matching rows, from index 0.
+         * @return The number of matching rows written to {@code hits}.
+         */
+        int score(Columns columns, int from, int to, int[] hits);
+    }
+
+    /**
+     * One set of columns: the order IDs in ascending order and the features of each order.
+     * Only the first {@code size} elements of each array are used.
+     */
+    private static class Columns {
+        private int[] ids = new int[0];
+        private int[] flags = new int[0];
+        private int[] fans = new int[0];
+        private double[] speeds = new double[0];
+        private double[] capacities = new double[0];
+        private int size;
+
+        /**
+         * Adds a row, keeping the rows sorted by ID.
+         *
+         * @param id      The ID of the order, which must not already have a row.
+         * @param flag    The feature flags.
+         * @param fan     The extra fan count.
+         * @param storage The additional storage.
+         */
+        private void add(int id, int flag, int fan, Storage storage) {
+            int row = -Arrays.binarySearch(ids, 0, size, id) - 1;
+            if (size == ids.length) {
+                int capacity = Math.max(16, size * 2);
+                ids = Arrays.copyOf(ids, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                fans = Arrays.copyOf(fans, capacity);
+                speeds = Arrays.copyOf(speeds, capacity);
+                capacities = Arrays.copyOf(capacities, capacity);
+            }
+            shift(row, row + 1, size - row);
+            ids[row] = id;
+            flags[row] = flag;
+            fans[row] = fan;
+            speeds[row] = storage.getSpeedMBps();
+            capacities[row] = storage.getCapacityGB();
+            size++;
+        }
+
+        /**
+         * Removes the row of an order, if it has one.
+         *
+         * @param id The ID of the order.
+         */
+        private void remove(int id) {
+            int row = Arrays.binarySearch(ids, 0, size, id);
+            if (row >= 0) {
+                shift(row + 1, row, size - row - 1);
+                size--;
+            }
+        }
+
+        /**
+         * Removes every row.
+         */
+        private void clear() {
+            size = 0;
+        }
+
+        /**
+         * Moves a block of rows in every column.
+         *
+         * @param from   The first row of the block.
+         * @param to     The row to move it to.
+         * @param length The number of rows.
+         */
+        private void shift(int from, int to, int length) {
+            System.arraycopy(ids, from, ids, to, length);
+            System.arraycopy(flags, from, flags, to, length);
+            System.arraycopy(fans, from, fans, to, length);
+            System.arraycopy(speeds, from, speeds, to, length);
+            System.arraycopy(capacities, from, capacities, to, length);
+        }
+
+        /**
+         * Runs a kernel over every row, in parallel chunks if there are many rows.
+         *
+         * @param kernel The kernel that scores the rows.
+         * @return The IDs of the matching rows in ascending order.
+         */
+        private int[] scan(Kernel kernel) {
+            if (size < PARALLEL_THRESHOLD) {
+                int[] hits = new int[size];
+                return idsAt(hits, kernel.score(this, 0, size, hits));
+            }
+
+            int chunkCount = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+            int[][] chunkHits = IntStream.range(0, chunkCount).parallel().mapToObj(chunk -> {
+                int from = chunk * CHUNK_SIZE;
+                int to = Math.min(size, from + CHUNK_SIZE);
+                int[] hits = new int[to - from];
+                return Arrays.copyOf(hits, kernel.score(this, from, to, hits));
+            }).toArray(int[][]::new);
+
+            int total = 0;
+            for (int[] hits : chunkHits) {
+                total += hits.length;
+            }
+            int[] result = new int[total];
+            int filled = 0;
+            for (int[] hits : chunkHits) {
+                for (int row : hits) {
+                    result[filled++] = ids[row];
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Gets the IDs of the rows at some positions.
+         *
+         * @param rows  The positions of the rows.
+         * @param count The number of positions to use.
+         * @return The IDs.
+         */
+        private int[] idsAt(int[] rows, int count) {
+            int[] result = new int[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = ids[rows[i]];
+            }
+            return result;
+        }
+
+        /**
+         * Scores gaming rows as {@link GamingAdditionalHardware#matchSpecs(AdditionalHardware, double)} does:
+         * one feature each for equal RGB strips, equal noise cancelling fans, at least as many extra fans, and
+         * additional storage at least as fast and as large.
+         *
+         * @return The number of matching rows written to {@code hits}.
+         */
+        private int scoreGaming(int from, int to, int flag, int fan, double speed, double capacity,
+                                int minMatches, int[] hits) {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                int matches = 2 - Integer.bitCount((flags[row] ^ flag) & (FIRST_FLAG | SECOND_FLAG))
+                        + (fans[row] >= fan ? 1 : 0)
+                        + (speeds[row] - speed >= 0 & capacities[row] - capacity >= 0 ? 1 : 0);
+                hits[count] = row;
+                count += matches >= minMatches ? 1 : 0;
+            }
+            return count;
+        }
+
+        /**
+         * Scores laptop rows as {@link LaptopAdditionalHardware#matchSpecs(AdditionalHardware, double)} does:
+         * one feature for additional storage at least as large, and one for each flag equal to the expected flag.
+         *
+         * @return The number of matching rows written to {@code hits}.
+         */
+        private int scoreLaptop(int from, int to, int flag, double capacity, int minMatches, int[] hits) {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                int matches = 3 - Integer.bitCount((flags[row] ^ flag) & (FIRST_FLAG | SECOND_FLAG | THIRD_FLAG))
+                        + (capacities[row] - capacity >= 0 ? 1 : 0);
+                hits[count] = row;
+                count += matches >= minMatches ? 1 : 0;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package management;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code AtomicFile} class replaces the contents of a file atomically: the new contents are written to a
+ * temporary file next to the target, optionally forced to disk, and then renamed over the target. A reader
+ * (or the program after a crash) therefore sees either the complete old file or the complete new file, never
+ * a partially written one. If writing fails, the target is left untouched and the temporary file is removed.
+ * </p>
+ * <p>
+ * This class is designed to be used as a utility class, and its methods are static.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public final class AtomicFile {
+    /**
+     * Suffix of the temporary file that the new contents are written to.
+     */
+    public static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file to a stream.
+     */
+    public interface Content {
+        /**
+         * Writes the contents. The stream is buffered, and must not be closed.
+         *
+         * @param out the stream to write to.
+         * @throws IOException if an I/O error occurs while writing.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Private constructor to prevent instantiation of the class.
+     */
+    private AtomicFile() {}
+
+    /**
+     * Atomically replaces the contents of a file. Concept: File Writing
+     *
+     * @param target  the file to replace; it does not need to exist yet.
+     * @param content writes the new contents of the file.
+     * @param force   {@code true} to force the new contents and the rename to disk before returning.
+     * @throws IOException if an I/O error occurs, in which case the target is unchanged.
+     */
+    public static void write(Path target, Content content, boolean force) throws IOException {
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+
+        try {
+            FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            try {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                content.writeTo(out);
+                out.flush();
+                if (force) {
+                    channel.force(true);
+                }
+            } finally {
+                channel.close();
+            }
+
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) { // e.g. some network drives
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        if (force) {
+            forceDirectory(target.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Forces the directory entry changed by the rename to disk. Some platforms (such as Windows) cannot open
+     * a directory for this, in which case the rename is left to the file system.
+     *
+     * @param directory the directory holding the renamed file.
+     */
+    private static void forceDirectory(Path directory) {
+        try {
+            FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ);
+            try {
+                channel.force(true);
+            } finally {
+                channel.close();
+            }
+        } catch (IOException e) {
+            // not supported on this platform
+        }
+    }
+}
@@ -0,0 +1,522 @@
+package management;
+
+import computer.Computer;
+import computer.ComputerType;
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.GamingAdditionalHardware;
+import hardware.LaptopAdditionalHardware;
+import hardware.PrimaryHardware;
+import info.CustomerInfo;
+import info.PickupInfo;
+import info.ShippingInfo;
+import order.*;
+import parts.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code BinarySnapshot} class reads and writes the order database in a compact, versioned binary format.
+ * It is an alternative to orders.json for large databases, where parsing JSON text dominates startup time.
+ * The JSON format is still used for interchange.
+ * </p>
+ * <p>
+ * Layout of a snapshot file (all numbers are big-endian, as written by {@link DataOutputStream}):
+ * <pre>
+ * int    MAGIC
+ * short  FORMAT_VERSION
+ * int    number of dictionary strings, followed by each string as (int byte length, UTF-8 bytes)
+ * int    number of orders, followed by each order as (int byte length, record bytes)
+ * </pre>
+ * Every string in an order (brands, models, names, addresses, status names, ...) is stored once in the
+ * dictionary and referred to by its index, or by {@link #NULL_STRING} if it is absent. Records are length
+ * prefixed so that a reader can skip over an order without decoding it. Every record starts with a fixed
+ * size header holding the fields needed to list and filter orders (see {@link #HEADER_SIZE}); the customer,
+ * shipping/pickup information and hardware follow the header.
+ * </p>
+ * <p>
+ * This class is designed to be used as a utility class, and its methods are static.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public final class BinarySnapshot {
+    /**
+     * First four bytes of every snapshot file ("CODB").
+     */
+    public static final int MAGIC = 0x434F4442;
+
+    /**
+     * Version of the layout written by this class. Files with any other version are rejected.
+     */
+    public static final short FORMAT_VERSION = 1;
+
+    /**
+     * Dictionary index used for a string that is {@code null}.
+     */
+    public static final int NULL_STRING = -1;
+
+    // Order and computer type codes stored in the record header
+    public static final byte PICKUP_ORDER = 0;
+    public static final byte SHIPPING_ORDER = 1;
+    public static final byte GAMING_COMPUTER = 0;
+    public static final byte LAPTOP_COMPUTER = 1;
+
+    // Offsets of the fields of the fixed size header at the start of every record
+    public static final int ID_OFFSET = 0;
+    public static final int ORDER_TYPE_OFFSET = 4;
+    public static final int COMPUTER_TYPE_OFFSET = 5;
+    public static final int STATUS_NUMBER_OFFSET = 6;
+    public static final int STATUS_NAME_OFFSET = 10;
+    public static final int QUANTITY_OFFSET = 14;
+    public static final int ORDER_DATE_OFFSET = 18;
+    public static final int FINISH_BY_DATE_OFFSET = 26;
+    public static final int HEADER_SIZE = 34;
+
+    /**
+     * Private constructor to prevent instantiation of the class.
+     */
+    private BinarySnapshot() {}
+
+    /**
+     * Writes the orders as a snapshot to a stream. The stream is flushed but not closed, so the snapshot
+     * can be written through {@link AtomicFile}. Concept: File Writing
+     *
+     * @param stream the stream to write the snapshot to.
+     * @param orders the orders to write, in the order they should be loaded back.
+     * @throws IOException if an I/O error occurs while writing the stream.
+     */
+    public static void write(OutputStream stream, List<Order> orders) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+
+        // the records are encoded first, since the dictionary is only complete once every order has been seen
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream records = new DataOutputStream(recordBytes);
+        ByteArrayOutputStream singleRecordBytes = new ByteArrayOutputStream();
+        RecordWriter recordWriter = new RecordWriter(new DataOutputStream(singleRecordBytes), dictionary, strings);
+
+        for (Order order : orders) {
+            singleRecordBytes.reset();
+            recordWriter.writeOrder(order);
+            records.writeInt(singleRecordBytes.size());
+            singleRecordBytes.writeTo(records);
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(orders.size());
+        recordBytes.writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Reads every order from a snapshot file. Concept: File Reading
+     *
+     * @param file the path of the snapshot file.
+     * @return the orders in the order they were written.
+     * @throws IOException if an I/O error occurs while reading the file, or the file is not a snapshot
+     *                     of a supported version.
+     */
+    public static List<Order> read(Path file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+        try {
+            String[] dictionary = readPreamble(in, file);
+            int orderCount = in.readInt();
+            List<Order> orders = new ArrayList<>(orderCount);
+
+            byte[] buffer = new byte[0];
+            for (int i = 0; i < orderCount; i++) {
+                int length = in.readInt();
+                if (buffer.length < length) {
+                    buffer = new byte[Math.max(length, buffer.length * 2)];
+                }
+                in.readFully(buffer, 0, length);
+                orders.add(decodeRecord(ByteBuffer.wrap(buffer, 0, length), dictionary, i));
+            }
+            return orders;
+        } catch (EOFException e) {
+            throw new IOException("Binary snapshot " + file + " is truncated.", e);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Reads and checks the magic number and version, then reads the string dictionary.
+     *
+     * @param in   the stream positioned at the start of the file.
+     * @param file the path of the file, used in error messages.
+     * @return the string dictionary.
+     * @throws IOException if the file is not a snapshot of a supported version.
+     */
+    static String[] readPreamble(DataInput in, Path file) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(file + " is not a binary order snapshot.");
+        }
+        short version = in.readShort();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary snapshot version " + version + " in " + file + " (expected " + FORMAT_VERSION + ").");
+        }
+
+        String[] dictionary = new String[in.readInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            dictionary[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return dictionary;
+    }
+
+    /**
+     * Decodes a single order record, starting at the current position of the buffer.
+     *
+     * @param record     the buffer positioned at the start of the record.
+     * @param dictionary the string dictionary of the snapshot.
+     * @param index      the index of the record in the snapshot, used in error messages.
+     * @return the decoded order.
+     * @throws IOException if the record is malformed.
+     */
+    public static Order decodeRecord(ByteBuffer record, String[] dictionary, int index) throws IOException {
+        try {
+            return new RecordReader(record, dictionary).readOrder();
+        } catch (RuntimeException e) { // buffer underflow, bad dictionary index, bad status number, ...
+            throw new IOException("Malformed order record at index " + index + " of the binary snapshot: " + e, e);
+        }
+    }
+
+    /**
+     * Encodes orders into records, adding every string it meets to the dictionary.
+     */
+    private static class RecordWriter {
+        private final DataOutputStream out;
+        private final Map<String, Integer> dictionary;
+        private final List<String> strings;
+
+        private RecordWriter(DataOutputStream out, Map<String, Integer> dictionary, List<String> strings) {
+            this.out = out;
+            this.dictionary = dictionary;
+            this.strings = strings;
+        }
+
+        private void writeOrder(Order order) throws IOException {
+            Computer computer = order.getComputer();
+            OrderStatus status = order.getOrderStatus();
+
+            // fixed size header (see HEADER_SIZE)
+            out.writeInt(order.getId());
+            out.writeByte(order instanceof ShippingOrder ? SHIPPING_ORDER : PICKUP_ORDER);
+            out.writeByte(computer instanceof Laptop ? LAPTOP_COMPUTER : GAMING_COMPUTER);
+            out.writeInt(status.getStatusNumber());
+            writeString(status.getCurrentStatus());
+            out.writeInt(order.getQuantity());
+            out.writeLong(order.getOrderDate().getTime());
+            out.writeLong(order.getFinishByDate().getTime());
+
+            CustomerInfo customerInfo = order.getCustomerInfo();
+            writeString(customerInfo.getFirstName());
+            writeString(customerInfo.getLastName());
+            writeString(customerInfo.getEmail());
+            writeString(customerInfo.getPhoneNumber());
+            writeString(customerInfo.getAddress());
+
+            if (order instanceof ShippingOrder shippingOrder) {
+                ShippingInfo shippingInfo = shippingOrder.getShippingInfo();
+                writeString(shippingInfo.getBillingAddress());
+                writeString(shippingInfo.getShippingAddress());
+                writeString(shippingInfo.getShippingCompany());
+            } else {
+                PickupInfo pickupInfo = ((PickupOrder) order).getPickupInfo();
+                writeString(pickupInfo.getBillingAddress());
+                writeString(pickupInfo.getPickupAddress());
+            }
+
+            PrimaryHardware primaryHardware = computer.getPrimaryHardware();
+            writeCPU(primaryHardware.getCPU());
+            writeGPU(primaryHardware.getGPU());
+            writeRAM(primaryHardware.getRAM());
+            writeMotherboard(primaryHardware.getMotherboard());
+            writeStorage(primaryHardware.getStorage());
+
+            if (computer instanceof GamingComputer gamingComputer) {
+                writeCooler(gamingComputer.getCooler());
+                writePowerSupply(gamingComputer.getPowerSupply());
+                writeCase(gamingComputer.getComputerCase());
+
+                GamingAdditionalHardware additionalHardware = gamingComputer.getAdditionalHardware();
+                writeOptionalStorage(additionalHardware.getAdditionalStorage());
+                out.writeBoolean(additionalHardware.isHasRgbStrips());
+                out.writeBoolean(additionalHardware.isUseNoiseCancellingFans());
+                out.writeInt(additionalHardware.getExtraFansCount());
+            } else {
+                LaptopAdditionalHardware additionalHardware = ((Laptop) computer).getAdditionalHardware();
+                writeOptionalStorage(additionalHardware.getAdditionalStorage());
+                out.writeBoolean(additionalHardware.isHasFingerprintScanner());
+                out.writeBoolean(additionalHardware.isHasTouchscreen());
+                out.writeBoolean(additionalHardware.isHas360Hinge());
+            }
+        }
+
+        private void writePart(Part part) throws IOException {
+            writeString(part.getBrand());
+            writeString(part.getModel());
+            out.writeDouble(part.getPrice());
+        }
+
+        private void writeCPU(CPU cpu) throws IOException {
+            writePart(cpu);
+            out.writeInt(cpu.getCores());
+            out.writeInt(cpu.getThreads());
+            out.writeDouble(cpu.getProcessingSpeed());
+        }
+
+        private void writeGPU(GPU gpu) throws IOException {
+            writePart(gpu);
+            out.writeBoolean(gpu.isRayTracing());
+            out.writeDouble(gpu.getClockSpeed());
+            out.writeInt(gpu.getVRAM());
+        }
+
+        private void writeRAM(RAM ram) throws IOException {
+            writePart(ram);
+            writeString(ram.getType());
+            out.writeInt(ram.getCapacity());
+            out.writeDouble(ram.getSpeedMHz());
+        }
+
+        private void writeMotherboard(Motherboard motherboard) throws IOException {
+            writePart(motherboard);
+            writeString(motherboard.getSize());
+            out.writeBoolean(motherboard.isHasWifi());
+        }
+
+        private void writeStorage(Storage storage) throws IOException {
+            writePart(storage);
+            out.writeDouble(storage.getSpeedMBps());
+            out.writeDouble(storage.getCapacityGB());
+        }
+
+        private void writeOptionalStorage(Storage storage) throws IOException {
+            out.writeBoolean(storage != null);
+            if (storage != null) {
+                writeStorage(storage);
+            }
+        }
+
+        private void writeCooler(Cooler cooler) throws IOException {
+            writePart(cooler);
+            writeString(cooler.getColour());
+            writeString(cooler.getType());
+            out.writeInt(cooler.getFanCount());
+            out.writeInt(cooler.getRpm());
+        }
+
+        private void writePowerSupply(PowerSupply powerSupply) throws IOException {
+            writePart(powerSupply);
+            out.writeDouble(powerSupply.getWattage());
+        }
+
+        private void writeCase(Case computerCase) throws IOException {
+            writePart(computerCase);
+            writeString(computerCase.getColour());
+            writeString(computerCase.getSize());
+            writeString(computerCase.getMaterial());
+        }
+
+        /**
+         * Writes the dictionary index of a string, adding the string to the dictionary if it is new.
+         */
+        private void writeString(String string) throws IOException {
+            if (string == null) {
+                out.writeInt(NULL_STRING);
+                return;
+            }
+
+            Integer index = dictionary.get(string);
+            if (index == null) {
+                index = strings.size();
+                dictionary.put(string, index);
+                strings.add(string);
+            }
+            out.writeInt(index);
+        }
+    }
+
+    /**
+     * Decodes a record written by {@link RecordWriter}, field by field in the same order.
+     */
+    private static class RecordReader {
+        private final ByteBuffer in;
+        private final String[] dictionary;
+
+        private RecordReader(ByteBuffer in, String[] dictionary) {
+            this.in = in;
+            this.dictionary = dictionary;
+        }
+
+        private Order readOrder() {
+            int id = in.getInt();
+            byte orderType = in.get();
+            byte computerType = in.get();
+            int statusNumber = in.getInt();
+            String statusName = readString();
+            OrderStatus status = statusNumber == -1 ? new OrderStatus(statusName) : OrderStatus.defaultByIndex(statusNumber);
+            int quantity = in.getInt();
+            Date orderDate = new Date(in.getLong());
+            Date finishByDate = new Date(in.getLong());
+
+            CustomerInfo customerInfo = new CustomerInfo(readString(), readString(), readString(), readString(), readString());
+
+            ShippingInfo shippingInfo = null;
+            PickupInfo pickupInfo = null;
+            if (orderType == SHIPPING_ORDER) {
+                shippingInfo = new ShippingInfo(readString(), readString(), readString());
+            } else {
+                pickupInfo = new PickupInfo(readString(), readString());
+            }
+
+            CPU cpu = readCPU();
+            GPU gpu = readGPU();
+            RAM ram = readRAM();
+            Motherboard motherboard = readMotherboard();
+            Storage storage = readStorage();
+            PrimaryHardware primaryHardware = new PrimaryHardware(storage, motherboard, ram, gpu, cpu);
+
+            Computer computer;
+            if (computerType == GAMING_COMPUTER) {
+                Cooler cooler = readCooler();
+                PowerSupply powerSupply = readPowerSupply();
+                Case computerCase = readCase();
+                Storage additionalStorage = readOptionalStorage();
+                boolean hasRgbStrips = readBoolean();
+                boolean useNoiseCancellingFans = readBoolean();
+                int extraFansCount = in.getInt();
+                computer = new GamingComputer(primaryHardware, cooler, powerSupply, computerCase,
+                        new GamingAdditionalHardware(additionalStorage, hasRgbStrips, useNoiseCancellingFans, extraFansCount));
+            } else {
+                Storage additionalStorage = readOptionalStorage();
+                boolean hasFingerprintScanner = readBoolean();
+                boolean hasTouchscreen = readBoolean();
+                boolean has360Hinge = readBoolean();
+                computer = new Laptop(primaryHardware,
+                        new LaptopAdditionalHardware(additionalStorage, hasFingerprintScanner, hasTouchscreen, has360Hinge));
+            }
+
+            if (orderType == SHIPPING_ORDER) {
+                return new ShippingOrder(id, quantity, status, computer, customerInfo, orderDate, finishByDate, shippingInfo);
+            }
+            return new PickupOrder(id, quantity, status, computer, customerInfo, orderDate, finishByDate, pickupInfo);
+        }
+
+        private CPU readCPU() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            int cores = in.getInt();
+            int threads = in.getInt();
+            double processingSpeed = in.getDouble();
+            return new CPU(price, model, brand, cores, threads, processingSpeed);
+        }
+
+        private GPU readGPU() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            boolean rayTracing = readBoolean();
+            double clockSpeed = in.getDouble();
+            int vRam = in.getInt();
+            return new GPU(price, model, brand, rayTracing, clockSpeed, vRam);
+        }
+
+        private RAM readRAM() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            String type = readString();
+            int capacity = in.getInt();
+            double speedMHz = in.getDouble();
+            return new RAM(price, model, brand, type, capacity, speedMHz);
+        }
+
+        private Motherboard readMotherboard() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            String size = readString();
+            boolean hasWifi = readBoolean();
+            return new Motherboard(price, model, brand, size, hasWifi);
+        }
+
+        private Storage readStorage() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            double speedMBps = in.getDouble();
+            double capacityGB = in.getDouble();
+            return new Storage(price, model, brand, speedMBps, capacityGB);
+        }
+
+        private Storage readOptionalStorage() {
+            return readBoolean() ? readStorage() : null;
+        }
+
+        private Cooler readCooler() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            String colour = readString();
+            String type = readString();
+            int fanCount = in.getInt();
+            int rpm = in.getInt();
+            return new Cooler(price, model, brand, colour, type, fanCount, rpm);
+        }
+
+        private PowerSupply readPowerSupply() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            double wattage = in.getDouble();
+            return new PowerSupply(price, model, brand, wattage);
+        }
+
+        private Case readCase() {
+            String brand = readString();
+            String model = readString();
+            double price = in.getDouble();
+            String colour = readString();
+            String size = readString();
+            String material = readString();
+            return new Case(price, model, brand, colour, size, material);
+        }
+
+        private boolean readBoolean() {
+            return in.get() != 0;
+        }
+
+        private String readString() {
+            int index = in.getInt();
+            return index == NULL_STRING ? null : dictionary[index];
+        }
+    }
+}
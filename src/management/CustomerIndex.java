@@ -0,0 +1,245 @@
+package management;
+
+import info.CustomerInfo;
+import order.Order;
+
+import java.util.*;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code CustomerIndex} class groups order IDs by customer. A customer is identified by their first and
+ * last name, compared without regard to case or surrounding spaces, and optionally also by their email
+ * address. The names are kept as separate parts of the key, so "Ann" "Lee" and "An" "nLee" are different
+ * customers.
+ * </p>
+ * <p>
+ * Listing the unique customers and looking up the orders of a customer by name take time proportional to
+ * the number of customers and the number of matching orders, instead of scanning every order. Like the other
+ * indexes, it remembers which customer each order was added under, so {@link #update(Order)} must be
+ * called after the customer information of an order changes.
+ * </p>
+ * <p>Concepts: Hashing, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class CustomerIndex {
+    /**
+     * {@code true} if customers with the same name but different email addresses are different customers.
+     */
+    private final boolean keyedByEmail;
+
+    /**
+     * Order IDs of each customer, in order of when the customer was first added.
+     */
+    private final Map<CustomerKey, OrderIdList> ordersByCustomer = new LinkedHashMap<>();
+
+    /**
+     * The customers with each name; only used when customers are keyed by email as well.
+     */
+    private final Map<CustomerKey, List<CustomerKey>> customersByName = new HashMap<>();
+
+    /**
+     * The customer that each indexed order was added under, by order ID.
+     */
+    private final Map<Integer, CustomerKey> customerOfOrder = new HashMap<>();
+
+    /**
+     * Constructs an empty {@code CustomerIndex}.
+     *
+     * @param keyedByEmail {@code true} to tell customers with the same name apart by their email address,
+     *                     {@code false} to identify customers by their full name only.
+     */
+    public CustomerIndex(boolean keyedByEmail) {
+        this.keyedByEmail = keyedByEmail;
+    }
+
+    /**
+     * Adds an order under its customer. If the order is already indexed, it is moved to its current customer.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        remove(order.getId());
+
+        CustomerInfo customerInfo = order.getCustomerInfo();
+        CustomerKey key = new CustomerKey(customerInfo.getFirstName(), customerInfo.getLastName(),
+                keyedByEmail ? customerInfo.getEmail() : null);
+        customerOfOrder.put(order.getId(), key);
+
+        OrderIdList ids = ordersByCustomer.get(key);
+        if (ids == null) {
+            ids = new OrderIdList();
+            ordersByCustomer.put(key, ids);
+            if (keyedByEmail) {
+                customersByName.computeIfAbsent(key.nameOnly(), k -> new ArrayList<>()).add(key);
+            }
+        }
+        ids.add(order.getId());
+    }
+
+    /**
+     * Moves an order to its current customer after its customer information has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes an order from the customer it was added under. A customer with no orders left is removed.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        CustomerKey key = customerOfOrder.remove(id);
+        if (key == null) {
+            return;
+        }
+
+        OrderIdList ids = ordersByCustomer.get(key);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            ordersByCustomer.remove(key);
+            if (keyedByEmail) {
+                List<CustomerKey> sameName = customersByName.get(key.nameOnly());
+                sameName.remove(key);
+                if (sameName.isEmpty()) {
+                    customersByName.remove(key.nameOnly());
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        ordersByCustomer.clear();
+        customersByName.clear();
+        customerOfOrder.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with the given orders.
+     *
+     * @param orders The orders to index.
+     */
+    public void rebuild(List<Order> orders) {
+        clear();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Gets the number of unique customers.
+     *
+     * @return The number of customers with at least one order.
+     */
+    public int customerCount() {
+        return ordersByCustomer.size();
+    }
+
+    /**
+     * Gets the ID of the first (lowest ID) order of every customer.
+     *
+     * @return One order ID per customer, in order of when the customer was first added.
+     */
+    public int[] firstOrderIdOfEachCustomer() {
+        int[] ids = new int[ordersByCustomer.size()];
+        int i = 0;
+        for (OrderIdList customerIds : ordersByCustomer.values()) {
+            ids[i++] = customerIds.get(0);
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the IDs of the orders of every customer with a name. When customers are keyed by email as well,
+     * the orders of every customer with that name are included.
+     *
+     * @param firstName The first name of the customer, in any case.
+     * @param lastName  The last name of the customer, in any case.
+     * @return The order IDs in ascending order, or an empty array if there is no customer with that name.
+     */
+    public int[] orderIdsOf(String firstName, String lastName) {
+        CustomerKey name = new CustomerKey(firstName, lastName, null);
+        if (!keyedByEmail) {
+            OrderIdList ids = ordersByCustomer.get(name);
+            return ids == null ? new int[0] : ids.toArray();
+        }
+
+        List<CustomerKey> customers = customersByName.getOrDefault(name, List.of());
+        OrderIdList[] lists = new OrderIdList[customers.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = ordersByCustomer.get(customers.get(i));
+        }
+        return OrderIdList.union(lists);
+    }
+
+    /**
+     * Gets the IDs of the orders of the customer of an order, that is, every order that was placed under the
+     * same name (and email address, when customers are keyed by email).
+     *
+     * @param customerInfo The customer information to look up.
+     * @return The order IDs in ascending order, or an empty array if the customer has no orders.
+     */
+    public int[] orderIdsOf(CustomerInfo customerInfo) {
+        CustomerKey key = new CustomerKey(customerInfo.getFirstName(), customerInfo.getLastName(),
+                keyedByEmail ? customerInfo.getEmail() : null);
+        OrderIdList ids = ordersByCustomer.get(key);
+        return ids == null ? new int[0] : ids.toArray();
+    }
+
+    /**
+     * Normalizes part of a key so that it does not depend on case or surrounding spaces.
+     *
+     * @param value The value to normalize, may be {@code null}.
+     * @return The normalized value, or {@code null} if the value is {@code null}.
+     */
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        // upper then lower case folds letters like the German sharp s that have no single-letter lower case pair
+        return value.trim().toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Identifies a customer by normalized first name, last name and (optionally) email address.
+     */
+    private static class CustomerKey {
+        private final String firstName;
+        private final String lastName;
+        private final String email; // null when customers are identified by name only
+
+        private CustomerKey(String firstName, String lastName, String email) {
+            this.firstName = normalize(firstName);
+            this.lastName = normalize(lastName);
+            this.email = normalize(email);
+        }
+
+        private CustomerKey nameOnly() {
+            return email == null ? this : new CustomerKey(firstName, lastName, null);
+        }
+
+        public boolean equals(Object other) {
+            if (!(other instanceof CustomerKey otherKey)) {
+                return false;
+            }
+            return Objects.equals(firstName, otherKey.firstName) && Objects.equals(lastName, otherKey.lastName)
+                    && Objects.equals(email, otherKey.email);
+        }
+
+        public int hashCode() {
+            return Objects.hash(firstName, lastName, email);
+        }
+    }
+}
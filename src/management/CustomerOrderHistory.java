@@ -0,0 +1,130 @@
+package management;
+
+import info.CustomerInfo;
+import order.Order;
+import order.OrderStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code CustomerOrderHistory} class is a summary of every order placed by one customer: the orders
+ * themselves, the lifetime spend of the customer and the number of orders that are still open. It is built by
+ * {@link OrderManager#getCustomerOrderHistory(String, String)} from the customer index, so building it only
+ * touches the orders of that customer.
+ * </p>
+ * <p>
+ * The lifetime spend is the sum of the total costs of every order that is not cancelled, the same orders that
+ * {@link OrderManager#calculateAveragePriceOfAllOrders()} counts. An order is open if it is not started or
+ * in progress.
+ * </p>
+ * <p>Concept: Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class CustomerOrderHistory {
+    /**
+     * Customer information of the customer's lowest ID order, or {@code null} if the customer has no orders.
+     */
+    private final CustomerInfo customerInfo;
+
+    /**
+     * The customer's orders in ascending ID order.
+     */
+    private final List<Order> orders;
+
+    /**
+     * Sum of the total costs of the customer's orders that are not cancelled.
+     */
+    private final double lifetimeSpend;
+
+    /**
+     * Number of the customer's orders that are not started or in progress.
+     */
+    private final int openOrderCount;
+
+    /**
+     * Constructs a {@code CustomerOrderHistory} from the orders of a customer.
+     *
+     * @param orders The customer's orders in ascending ID order.
+     */
+    public CustomerOrderHistory(List<Order> orders) {
+        this.orders = Collections.unmodifiableList(orders);
+        this.customerInfo = orders.isEmpty() ? null : orders.get(0).getCustomerInfo();
+
+        double spend = 0;
+        int open = 0;
+        for (Order order : orders) {
+            OrderStatus status = order.getOrderStatus();
+            if (OrderStatistics.bucketOf(status) != OrderStatistics.CANCELLED) {
+                spend += order.totalCost();
+            }
+            if (status.isCurrent()) {
+                open++;
+            }
+        }
+        this.lifetimeSpend = spend;
+        this.openOrderCount = open;
+    }
+
+    /**
+     * Gets the customer information of the customer's lowest ID order.
+     *
+     * @return The customer information, or {@code null} if the customer has no orders.
+     */
+    public CustomerInfo getCustomerInfo() {
+        return customerInfo;
+    }
+
+    /**
+     * Gets the customer's orders.
+     *
+     * @return An unmodifiable list of the orders in ascending ID order.
+     */
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Gets the number of orders the customer has placed.
+     *
+     * @return The number of orders.
+     */
+    public int getOrderCount() {
+        return orders.size();
+    }
+
+    /**
+     * Gets the sum of the total costs of the customer's orders that are not cancelled.
+     *
+     * @return The lifetime spend.
+     */
+    public double getLifetimeSpend() {
+        return lifetimeSpend;
+    }
+
+    /**
+     * Gets the number of the customer's orders that are not started or in progress.
+     *
+     * @return The number of open orders.
+     */
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    /**
+     * Checks if the customer has any orders.
+     *
+     * @return {@code true} if the customer has no orders, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return orders.isEmpty();
+    }
+}
@@ -10,14 +10,23 @@ import info.CustomerInfo;
 import info.PickupInfo;
 import info.ShippingInfo;
 import order.*;
-import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import parts.*;
 import utils.DateUtils;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 
 /**
@@ -39,6 +48,11 @@ import java.util.*;
  * for potential errors during the conversion process. It is designed to work in conjunction with other
  * classes and components to maintain and manage the computer store's order database.
  * </p>
+ * <p>
+ * By default, changes to individual orders are appended to a {@link WriteAheadLog} instead of rewriting
+ * the whole database file, so the cost of a save is proportional to the change rather than the size of
+ * the database. The log is replayed on load and periodically compacted into a new orders.json snapshot.
+ * </p>
  *
  * @author Meherzad Antia
  * @author Stanley Gu
@@ -71,51 +85,369 @@ public class DatabaseManager {
      */
     private static final String DATABASE_PATH = "src/database/orders.json";
 
+    /**
+     * Represents the file path for the binary snapshot of the database, used instead of orders.json
+     * in binary snapshot mode (see {@link BinarySnapshot}).
+     */
+    private static final String BINARY_SNAPSHOT_PATH = "src/database/orders.bin";
+
+    /**
+     * Represents the file path for the write-ahead log of order mutations made since the last snapshot.
+     */
+    private static final String WRITE_AHEAD_LOG_PATH = "src/database/orders.wal";
+
+    /**
+     * Number of write-ahead log records after which the log is compacted into a new orders.json snapshot.
+     */
+    private static final int COMPACTION_THRESHOLD = 500;
+
+    /**
+     * Number of orders of the database file that are converted together by one task when loading.
+     */
+    private static final int LOAD_CHUNK_SIZE = 256;
+
+    /**
+     * Number of chunks per thread of the fork-join pool that may be converting at once when loading.
+     */
+    private static final int LOAD_CHUNKS_PER_THREAD = 2;
+
+    /**
+     * ID of an input order that has not been given an ID yet.
+     */
+    private static final int UNASSIGNED_ID = 0;
+
+    /**
+     * File extension of the order files of a bulk import directory.
+     */
+    private static final String IMPORT_FILE_EXTENSION = ".json";
+
     /**
      * List to store order data. Concepts: Encapsulation, Array of Objects
      */
     private final List<Order> ordersList;
 
+    /**
+     * Write-ahead log of the mutations made since the last snapshot, or {@code null} if every mutation
+     * rewrites the whole database file.
+     */
+    private final WriteAheadLog writeAheadLog;
 
     /**
-     * Constructs a {@code DatabaseManager} object, loading order data from the database file.
+     * {@code true} if the database is stored as a binary snapshot (orders.bin) instead of orders.json.
+     */
+    private final boolean useBinarySnapshot;
+
+    /**
+     * Decides when saves are forced to disk.
+     */
+    private DurabilityPolicy durabilityPolicy = DurabilityPolicy.BATCHED;
+
+    /**
+     * Groups the write-ahead log records of bursts of mutations into single writes, or {@code null} if each
+     * mutation is written to the log as soon as it happens.
+     */
+    private PersistenceScheduler persistenceScheduler;
+
+    /**
+     * Constructs a {@code DatabaseManager} object in write-ahead log mode, loading order data from the
+     * database file and replaying any logged mutations on top of it.
      *
      * @throws IOException if an I/O error occurs while reading the database file.
      */
     public DatabaseManager() throws IOException {
+        this(true);
+    }
+
+    /**
+     * Constructs a {@code DatabaseManager} object, loading order data from the database file.
+     *
+     * @param useWriteAheadLog {@code true} to append each mutation to the write-ahead log and compact it
+     *                         periodically, {@code false} to rewrite the whole database file on every mutation.
+     * @throws IOException if an I/O error occurs while reading the database file.
+     */
+    public DatabaseManager(boolean useWriteAheadLog) throws IOException {
+        this(useWriteAheadLog, false);
+    }
+
+    /**
+     * Constructs a {@code DatabaseManager} object, loading order data from the database file.
+     *
+     * @param useWriteAheadLog  {@code true} to append each mutation to the write-ahead log and compact it
+     *                          periodically, {@code false} to rewrite the whole database file on every mutation.
+     * @param useBinarySnapshot {@code true} to store the database as a binary snapshot (orders.bin) instead of
+     *                          orders.json. If orders.bin does not exist yet, orders.json is loaded instead.
+     * @throws IOException if an I/O error occurs while reading the database file.
+     */
+    public DatabaseManager(boolean useWriteAheadLog, boolean useBinarySnapshot) throws IOException {
         ordersList = new ArrayList<>();
+        writeAheadLog = useWriteAheadLog ? new WriteAheadLog(WRITE_AHEAD_LOG_PATH, durabilityPolicy) : null;
+        this.useBinarySnapshot = useBinarySnapshot;
         loadOrderListFromDatabase();
     }
 
     /**
-     * Saves the current list of orders to the database file. Concept: File Writing
+     * Memory-maps the binary snapshot (orders.bin) without loading its orders, for inspecting the snapshot
+     * cheaply. Changes that are only in the write-ahead log are not part of the snapshot.
+     *
+     * @return a store that decodes orders from the snapshot as they are accessed.
+     * @throws IOException if the snapshot does not exist or cannot be read.
      */
-    public void saveOrdersListToDatabase() {
-        try {
-            BufferedWriter bw = new BufferedWriter(new FileWriter(DATABASE_PATH));
-            JSONArray jsonData = new JSONArray(ordersList);
-            jsonData.write(bw, 2, 0);
-            bw.close();
-        } catch (IOException e) {
-            System.err.println("An error occurred when writing to database file.");
+    public MappedOrderStore openBinarySnapshot() throws IOException {
+        if (!Files.exists(Path.of(BINARY_SNAPSHOT_PATH))) {
+            throw new FileNotFoundException("No binary snapshot has been saved yet (" + BINARY_SNAPSHOT_PATH + ").");
+        }
+        return new MappedOrderStore(Path.of(BINARY_SNAPSHOT_PATH));
+    }
+
+    /**
+     * Checks if the database is stored as a binary snapshot.
+     *
+     * @return {@code true} if the database file is orders.bin, {@code false} if it is orders.json.
+     */
+    public boolean isUsingBinarySnapshot() {
+        return useBinarySnapshot;
+    }
+
+    /**
+     * Starts grouping the write-ahead log records of bursts of mutations into single writes
+     * (see {@link PersistenceScheduler}). Replaces any scheduler that was already started, after flushing it.
+     *
+     * @param windowMillis     the time that a record may stay pending before it is flushed, in milliseconds.
+     * @param maxPendingWrites the number of orders with pending records at which the records are flushed immediately.
+     * @throws IOException           if an I/O error occurs while flushing the previous scheduler.
+     * @throws IllegalStateException if the database manager is not in write-ahead log mode.
+     */
+    public void enablePersistenceScheduler(long windowMillis, int maxPendingWrites) throws IOException {
+        if (writeAheadLog == null) {
+            throw new IllegalStateException("Write-behind persistence needs the write-ahead log");
+        }
+        disablePersistenceScheduler();
+        persistenceScheduler = new PersistenceScheduler(writeAheadLog, windowMillis, maxPendingWrites);
+    }
+
+    /**
+     * Flushes and stops the persistence scheduler, if one was started, so that every later mutation is
+     * written to the log as soon as it happens.
+     *
+     * @throws IOException if an I/O error occurs while flushing the scheduler.
+     */
+    public void disablePersistenceScheduler() throws IOException {
+        if (persistenceScheduler != null) {
+            PersistenceScheduler scheduler = persistenceScheduler;
+            persistenceScheduler = null;
+            scheduler.close();
         }
     }
 
     /**
-     * Loads order data from the database file and populates the order list.
+     * Gets the persistence scheduler, for example to report how many writes it has coalesced.
+     *
+     * @return the persistence scheduler, or {@code null} if none was started.
+     */
+    public PersistenceScheduler getPersistenceScheduler() {
+        return persistenceScheduler;
+    }
+
+    /**
+     * Writes every mutation that the persistence scheduler is still holding to the write-ahead log.
+     * Does nothing if no scheduler was started.
+     *
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    public void flushPendingWrites() throws IOException {
+        if (persistenceScheduler != null) {
+            persistenceScheduler.flush();
+        }
+    }
+
+    /**
+     * Gets the policy that decides when saves are forced to disk.
+     *
+     * @return the durability policy.
+     */
+    public DurabilityPolicy getDurabilityPolicy() {
+        return durabilityPolicy;
+    }
+
+    /**
+     * Sets the policy that decides when saves are forced to disk.
+     *
+     * @param durabilityPolicy the new durability policy.
+     */
+    public void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+        if (writeAheadLog != null) {
+            writeAheadLog.setDurabilityPolicy(durabilityPolicy);
+        }
+    }
+
+    /**
+     * Saves the current list of orders to the database file. In JSON mode the orders are written by
+     * {@link OrderJsonWriter} directly from their getters in a fixed key order; in binary snapshot mode they
+     * are written by {@link BinarySnapshot}. The file is replaced atomically through {@link AtomicFile}, so a
+     * crash during the save leaves the previous database file intact. In write-ahead log mode this is the
+     * compaction step: once the snapshot is written, the log is truncated. Concept: File Writing
+     *
+     * @throws IOException if an I/O error occurs while writing the database file or truncating the log.
+     */
+    public void saveOrdersListToDatabase() throws IOException {
+        if (useBinarySnapshot) {
+            AtomicFile.write(Path.of(BINARY_SNAPSHOT_PATH), out -> BinarySnapshot.write(out, ordersList),
+                    durabilityPolicy.forcesSnapshots());
+        } else {
+            exportOrdersToJson();
+        }
+
+        if (writeAheadLog != null) {
+            writeAheadLog.truncate();
+        }
+        if (persistenceScheduler != null) {
+            persistenceScheduler.discardPending(); // already part of the snapshot
+        }
+    }
+
+    /**
+     * Writes the current list of orders to orders.json, regardless of the storage mode. In binary snapshot
+     * mode this keeps a human-readable copy of the database for interchange; the write-ahead log is not
+     * touched, since the binary snapshot remains the database file. Like every save, the file is replaced
+     * atomically. Concept: File Writing
+     *
+     * @throws IOException if an I/O error occurs while writing orders.json.
+     */
+    public void exportOrdersToJson() throws IOException {
+        exportOrdersToJson(ordersList);
+    }
+
+    /**
+     * Writes the given orders to orders.json, regardless of the storage mode, for example the orders of an
+     * {@link OrderSnapshot}. Like every save, the file is replaced atomically. Concept: File Writing
+     *
+     * @param orders the orders to write, in the order they should appear.
+     * @throws IOException if an I/O error occurs while writing orders.json.
+     */
+    public void exportOrdersToJson(Collection<Order> orders) throws IOException {
+        AtomicFile.write(Path.of(DATABASE_PATH), out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            new OrderJsonWriter(writer, true).writeOrders(orders);
+            writer.flush();
+        }, durabilityPolicy.forcesSnapshots());
+    }
+
+    /**
+     * Persists a single order that was added or modified. In write-ahead log mode only this order is
+     * appended to the log (or handed to the persistence scheduler, if one was started); otherwise the
+     * whole database file is rewritten.
+     *
+     * @param order the order that was added or modified.
+     * @throws IOException if an I/O error occurs while writing the log or the database file.
+     */
+    public void saveOrder(Order order) throws IOException {
+        if (writeAheadLog == null) {
+            saveOrdersListToDatabase();
+            return;
+        }
+
+        if (persistenceScheduler != null) {
+            persistenceScheduler.schedulePut(order);
+        } else {
+            writeAheadLog.appendPut(order);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Persists the deletion of an order. In write-ahead log mode only the id of the deleted order is
+     * appended to the log (or handed to the persistence scheduler, if one was started); otherwise the
+     * whole database file is rewritten.
+     *
+     * @param id the id of the deleted order.
+     * @throws IOException if an I/O error occurs while writing the log or the database file.
+     */
+    public void saveOrderDeletion(int id) throws IOException {
+        if (writeAheadLog == null) {
+            saveOrdersListToDatabase();
+            return;
+        }
+
+        if (persistenceScheduler != null) {
+            persistenceScheduler.scheduleDelete(id);
+        } else {
+            writeAheadLog.appendDelete(id);
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Rewrites the snapshot and truncates the write-ahead log once it holds enough records, counting the
+     * records still pending in the persistence scheduler.
+     *
+     * @throws IOException if an I/O error occurs while writing the database file.
+     */
+    private void compactIfNeeded() throws IOException {
+        int pendingRecords = persistenceScheduler == null ? 0 : persistenceScheduler.getPendingWriteCount();
+        if (writeAheadLog.getRecordCount() + pendingRecords >= COMPACTION_THRESHOLD) {
+            saveOrdersListToDatabase();
+        }
+    }
+
+    /**
+     * Loads order data from the database file and populates the order list. A JSON file is read as a stream, one
+     * order at a time (see {@link #readOrdersFromFile(String)}); in binary snapshot mode orders.bin is read by
+     * {@link BinarySnapshot}, falling back to orders.json if no binary snapshot has been written yet.
+     * In write-ahead log mode, the logged mutations are then replayed on top of the loaded snapshot.
      *
      * @throws IOException    if an I/O error occurs while reading the database file.
      * @throws JSONException  if there is an issue parsing JSON data from the file.
      */
     public void loadOrderListFromDatabase() throws IOException, JSONException {
-        JSONArray fileData = readFileAsJSONArray(DATABASE_PATH);
+        List<Order> loadedOrders;
+        if (useBinarySnapshot && Files.exists(Path.of(BINARY_SNAPSHOT_PATH))) {
+            loadedOrders = BinarySnapshot.read(Path.of(BINARY_SNAPSHOT_PATH));
+        } else {
+            loadedOrders = readOrdersFromFile(DATABASE_PATH);
+        }
         ordersList.clear();
+        ordersList.addAll(loadedOrders);
 
-        for (int i = 0; i < fileData.length(); i++) {
-            ordersList.add(loadExistingOrder(fileData.getJSONObject(i)));
+        if (writeAheadLog != null) {
+            replayWriteAheadLog();
         }
     }
 
+    /**
+     * Applies every record of the write-ahead log to the order list, oldest first. A put record replaces
+     * the order with the same id in place (or appends it if it is new), and a delete record removes it.
+     *
+     * @throws IOException   if an I/O error occurs while reading the log.
+     * @throws JSONException if a logged order cannot be converted back into an {@code Order}.
+     */
+    private void replayWriteAheadLog() throws IOException, JSONException {
+        List<JSONObject> records = writeAheadLog.readRecords();
+        if (records.isEmpty()) {
+            return;
+        }
+
+        // LinkedHashMap keeps each order at its original position when it is replaced
+        Map<Integer, Order> ordersById = new LinkedHashMap<>();
+        for (Order order : ordersList) {
+            ordersById.put(order.getId(), order);
+        }
+
+        for (JSONObject record : records) {
+            String operation = record.getString(Keys.WAL_OPERATION);
+
+            if (operation.equals(WriteAheadLog.PUT)) {
+                Order order = loadExistingOrder(record.getJSONObject(Keys.WAL_ORDER));
+                ordersById.put(order.getId(), order);
+            } else if (operation.equals(WriteAheadLog.DELETE)) {
+                ordersById.remove(record.getInt(Keys.ID));
+            }
+        }
+
+        ordersList.clear();
+        ordersList.addAll(ordersById.values());
+    }
+
     /**
      * Retrieves the list of all orders in the system.
      *
@@ -126,32 +458,214 @@ public class DatabaseManager {
     }
 
     /**
-     * Adds a new order to the system based on the specified computer type and order type. This method
-     * will load the specified file into the list of orders and re-save the orders list back into the database
-     * to make sure the database and the order list is synced.
+     * Creates a new order from the input file of the specified computer type and order type, and appends it to
+     * the list of orders. The order is not saved yet: the caller adds it to its indexes first, and then saves it
+     * with {@link #saveOrder(Order)}, so that an order that fails to save is still indexed like every other
+     * order in the list.
      *
      * @param computerType the type of computer for the order, specified by {@link ComputerType}.
      * @param orderType    the type of order (pickup or shipping), specified by {@link OrderType}.
-     * @throws IOException if an I/O error occurs during the order creation or database update.
+     * @return the newly added order.
+     * @throws IOException if an I/O error occurs while reading the input file.
      */
-    public void addOrder(String computerType, String orderType) throws IOException {
+    public Order appendNewOrder(String computerType, String orderType) throws IOException {
         String inputFile = determineOrderInputFile(computerType, orderType);
-        Order order = createNewOrder(readFileAsJSONObject(inputFile)); // calls the wrapper method!
+        return appendNewOrder(readFileAsJSONObject(inputFile));
+    }
+
+    /**
+     * Creates a new order from a JSON representation in the same format as the input files, and appends it to
+     * the list of orders. The order is given the next ID and the current date as its order date. Like
+     * {@link #appendNewOrder(String, String)}, the order is not saved until {@link #saveOrder(Order)} is called.
+     *
+     * @param json the JSON object representing the order, without an ID or order dates.
+     * @return the newly added order.
+     * @throws IOException              if an I/O error occurs while reserving the ID of the order.
+     * @throws JSONException            if a member of the order is missing or has the wrong type.
+     * @throws IllegalArgumentException if the order type, computer type or status number is invalid.
+     */
+    public Order appendNewOrder(JSONObject json) throws IOException, JSONException {
+        Order order = createNewOrder(json); // calls the wrapper method!
 
-        IdManager.incrementIdValue();
         ordersList.add(order);
-        saveOrdersListToDatabase();
+        return order;
+    }
+
+    /**
+     * Reads the orders of a bulk import from a directory. Every file in the directory that ends with .json holds
+     * one order in the format of the input files, like src/input/gamingShipping.json; the files are imported in
+     * order of file name. The files are read and checked in parallel, and the list of orders is not changed
+     * until the batch is appended with {@link #appendImport(ImportBatch)}.
+     *
+     * @param directory the directory to import.
+     * @return the orders that were read, and an error for each file that could not be read.
+     * @throws IOException if the directory cannot be listed.
+     */
+    public ImportBatch parseImportDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> entries = Files.list(directory)) {
+            files = entries.filter(file -> file.getFileName().toString().endsWith(IMPORT_FILE_EXTENSION))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .toList();
+        }
+
+        List<String> sources = new ArrayList<>(files.size());
+        List<Callable<String>> records = new ArrayList<>(files.size());
+        for (Path file : files) {
+            sources.add(file.getFileName().toString());
+            records.add(() -> Files.readString(file, StandardCharsets.UTF_8));
+        }
+        return parseImportRecords(sources, records);
+    }
+
+    /**
+     * Reads the orders of a bulk import from an NDJSON stream: one order per line, in the format of the input
+     * files, with blank lines ignored. The orders are checked in parallel, and the list of orders is not changed
+     * until the batch is appended with {@link #appendImport(ImportBatch)}.
+     *
+     * @param reader the stream to import, which is read to the end but not closed.
+     * @return the orders that were read, and an error for each line that could not be read.
+     * @throws IOException if an I/O error occurs while reading the stream.
+     */
+    public ImportBatch parseImportNdjson(Reader reader) throws IOException {
+        BufferedReader br = new BufferedReader(reader);
+        List<String> sources = new ArrayList<>();
+        List<Callable<String>> records = new ArrayList<>();
+        int lineNumber = 0;
+        String line;
+        while ((line = br.readLine()) != null) {
+            lineNumber++;
+            if (!line.isBlank()) {
+                String record = line;
+                sources.add("line " + lineNumber);
+                records.add(() -> record);
+            }
+        }
+        return parseImportRecords(sources, records);
+    }
+
+    /**
+     * Reads and checks the records of a bulk import in parallel. A record that cannot be read, is not valid JSON,
+     * or is not a valid order gets an error message made of its source and the message of the exception, such as
+     * the messages of {@link #jsonToComputer(JSONObject)} and {@link #jsonToOrderStatus(JSONObject)}.
+     * Concept: Parallel Streams
+     *
+     * @param sources the file name or line number of each record, used in the error messages.
+     * @param records reads the JSON text of each record.
+     * @return the orders that were read, and the error messages, both in record order.
+     */
+    private ImportBatch parseImportRecords(List<String> sources, List<Callable<String>> records) {
+        Order[] orders = new Order[records.size()];
+        String[] errors = new String[records.size()];
+
+        IntStream.range(0, records.size()).parallel().forEach(i -> {
+            try {
+                orders[i] = createNewOrderWithoutId(new JSONObject(records.get(i).call()));
+            } catch (Exception e) {
+                errors[i] = sources.get(i) + ": " + (e.getMessage() != null ? e.getMessage() : e.toString());
+            }
+        });
+
+        List<Order> validOrders = new ArrayList<>(orders.length);
+        List<String> errorMessages = new ArrayList<>();
+        for (int i = 0; i < orders.length; i++) {
+            if (orders[i] != null) {
+                validOrders.add(orders[i]);
+            } else {
+                errorMessages.add(errors[i]);
+            }
+        }
+        return new ImportBatch(records.size(), validOrders, errorMessages);
+    }
+
+    /**
+     * Appends the orders of a bulk import to the list of orders, the first step of committing it: gives them a
+     * contiguous block of IDs in record order and adds them to the list. The orders are not saved until
+     * {@link #saveImport(ImportBatch)} is called, so the caller can add them to its indexes first. If the batch
+     * was appended before but could not be saved, it is not appended again.
+     *
+     * @param batch the batch to append. Records with errors are skipped.
+     * @return {@code true} if the orders were appended now, {@code false} if they already were.
+     * @throws IOException           if an I/O error occurs while reserving the IDs.
+     * @throws IllegalStateException if the batch has already been committed.
+     */
+    public boolean appendImport(ImportBatch batch) throws IOException {
+        if (batch.isCommitted()) {
+            throw new IllegalStateException("This import has already been committed");
+        }
+        if (batch.isAppended()) {
+            return false;
+        }
+
+        List<Order> orders = batch.getOrders();
+        if (!orders.isEmpty()) {
+            int firstId = IdManager.reserveIds(orders.size());
+            for (int i = 0; i < orders.size(); i++) {
+                orders.get(i).setId(firstId + i);
+            }
+            ordersList.addAll(orders);
+        }
+        batch.markAppended();
+        return true;
+    }
+
+    /**
+     * Saves the orders of a bulk import that was appended with {@link #appendImport(ImportBatch)} with a single
+     * write, and marks the batch as committed once the write succeeds. In write-ahead log mode that is one
+     * append of every record to the log, after any records still pending in the persistence scheduler, unless
+     * the log would then be compacted anyway; otherwise the whole database file is rewritten once. If the write
+     * fails, the batch stays uncommitted and can be saved again: the records of the log put whole orders, so
+     * writing some of them twice does no harm.
+     *
+     * @param batch the batch to save.
+     * @throws IOException           if an I/O error occurs while saving the orders.
+     * @throws IllegalStateException if the batch has not been appended, or has already been committed.
+     */
+    public void saveImport(ImportBatch batch) throws IOException {
+        if (batch.isCommitted()) {
+            throw new IllegalStateException("This import has already been committed");
+        }
+        if (!batch.isAppended()) {
+            throw new IllegalStateException("This import has not been appended to the orders yet");
+        }
+        List<Order> orders = batch.getOrders();
+        if (orders.isEmpty()) {
+            batch.markCommitted();
+            return;
+        }
+
+        int pendingRecords = persistenceScheduler == null ? 0 : persistenceScheduler.getPendingWriteCount();
+        if (writeAheadLog == null || writeAheadLog.getRecordCount() + pendingRecords + orders.size() >= COMPACTION_THRESHOLD) {
+            saveOrdersListToDatabase(); // one rewrite, instead of an append that is compacted right away
+            batch.markCommitted();
+            return;
+        }
+
+        if (persistenceScheduler != null) {
+            persistenceScheduler.flush(); // keeps the log in the order of the changes
+        }
+        List<String> records = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            records.add(WriteAheadLog.putRecord(order));
+        }
+        writeAheadLog.appendAll(records);
+        batch.markCommitted();
+        compactIfNeeded();
     }
 
     /**
      * Creates an Order object from a JSON representation, taking into account whether it is an input or database order.
+     * An input order does not have an ID yet: it is given one by the caller once the whole order has been read,
+     * so that an invalid order never uses up an ID.
      *
      * @param json        the JSON object representing the order.
      * @param orderInput  a flag indicating whether the order is from input or database.
      * @return an {@code Order} object created from the JSON data.
-     * @throws IOException           if an I/O error occurs during the order creation.
-     * @throws NumberFormatException if there is an issue parsing numeric data from the JSON.
-     * @throws JSONException         if there is an issue parsing JSON data.
+     * @throws IOException              if an I/O error occurs during the order creation.
+     * @throws NumberFormatException    if there is an issue parsing numeric data from the JSON.
+     * @throws JSONException            if there is an issue parsing JSON data.
+     * @throws IllegalArgumentException if the order type, computer type or status number is invalid.
      */
     private Order createOrderFromJson(JSONObject json, boolean orderInput) throws IOException, NumberFormatException, JSONException{
         OrderStatus orderStatus = jsonToOrderStatus(json.getJSONObject(Keys.STATUS));
@@ -162,8 +676,8 @@ public class DatabaseManager {
 
         int id;
 
-        if (orderInput) { // if order is a new order from input, generate a id based on current id
-            id = IdManager.getCurrentIdValue();
+        if (orderInput) { // if order is a new order from input, the caller generates an id once it is valid
+            id = UNASSIGNED_ID;
 
             // determines the type of order and calls the constructor without order dates (generated automatically based on current date)
             if (type.equals(OrderType.SHIPPING)) {
@@ -188,7 +702,7 @@ public class DatabaseManager {
             }
         }
 
-        return null;
+        throw new IllegalArgumentException("Invalid order type. Make sure it is either shipping or pickup.");
     }
 
     /**
@@ -200,6 +714,20 @@ public class DatabaseManager {
      * @throws NumberFormatException if there is an issue parsing numeric data from the JSON.
      */
     private Order createNewOrder(JSONObject json) throws IOException, NumberFormatException {
+        Order order = createNewOrderWithoutId(json);
+        order.setId(IdManager.nextIdValue()); // generate a id based on current id
+        return order;
+    }
+
+    /**
+     * Creates a new order from a JSON representation for input orders, without giving it an ID.
+     *
+     * @param json the JSON object representing the order.
+     * @return an {@code Order} object created from the JSON data, with an unassigned ID.
+     * @throws IOException           if an I/O error occurs during the order creation.
+     * @throws NumberFormatException if there is an issue parsing numeric data from the JSON.
+     */
+    private Order createNewOrderWithoutId(JSONObject json) throws IOException, NumberFormatException {
         return createOrderFromJson(json, true);
     }
 
@@ -626,15 +1154,129 @@ public class DatabaseManager {
     }
 
     /**
-     * Reads the content of a file and returns it as a JSON array.
+     * Reads a file containing a JSON array of orders and converts it into a list of orders. The file is read
+     * once, from start to end, as UTF-8 by a {@link JsonRecordReader} that only splits the array into the text
+     * of each order. Every {@value #LOAD_CHUNK_SIZE} orders are handed to the fork-join pool as a chunk, which
+     * parses and converts them while the rest of the file is still being read, so a large file loads on every
+     * core. At most {@value #LOAD_CHUNKS_PER_THREAD} chunks per thread of the pool are in flight at once: when
+     * there are that many, the oldest chunk is joined before the next one is started, so the text of a large
+     * file is never all in memory. The chunks are put back together in the order they appear in the file.
+     * With a single processor there is nothing to gain from the pool, and every chunk is converted on this
+     * thread as soon as it is read. Concepts: File Reading, Fork-Join
      *
      * @param file the path of the file to be read.
-     * @return a JSON array representing the file content.
-     * @throws IOException if an I/O error occurs while reading the file.
+     * @return the orders in the file, in the order they appear.
+     * @throws IOException              if an I/O error occurs while reading the file.
+     * @throws JSONException            if the file is not a JSON array of orders, or an order cannot be converted.
+     * @throws IllegalArgumentException if an order has an invalid status number or computer type.
+     */
+    private List<Order> readOrdersFromFile(String file) throws IOException, JSONException {
+        boolean parallel = Runtime.getRuntime().availableProcessors() > 1;
+        int maxInFlight = LOAD_CHUNKS_PER_THREAD * ForkJoinPool.commonPool().getParallelism();
+        Deque<CompletableFuture<Order[]>> inFlight = new ArrayDeque<>(maxInFlight);
+        List<Order> orders = new ArrayList<>();
+        try (JsonRecordReader records = new JsonRecordReader(
+                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
+            List<String> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+            int firstIndex = 0;
+            String record;
+            while ((record = records.nextObject()) != null) {
+                chunk.add(record);
+                if (chunk.size() == LOAD_CHUNK_SIZE) {
+                    if (!parallel) {
+                        orders.addAll(Arrays.asList(loadChunk(chunk, firstIndex)));
+                    } else {
+                        if (inFlight.size() == maxInFlight) {
+                            orders.addAll(Arrays.asList(joinLoadChunk(inFlight.removeFirst())));
+                        }
+                        inFlight.addLast(submitLoadChunk(chunk, firstIndex));
+                    }
+                    firstIndex += chunk.size();
+                    chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                orders.addAll(Arrays.asList(joinLoadChunk(inFlight.removeFirst())));
+            }
+            if (!chunk.isEmpty()) {
+                orders.addAll(Arrays.asList(loadChunk(chunk, firstIndex)));
+            }
+        } catch (IOException | RuntimeException e) {
+            for (CompletableFuture<Order[]> task : inFlight) {
+                task.cancel(false);
+            }
+            throw e;
+        }
+        return orders;
+    }
+
+    /**
+     * Starts converting a chunk of orders on the fork-join pool, see {@link #loadChunk(List, int)}.
+     *
+     * @param records    the JSON text of each order of the chunk.
+     * @param firstIndex the index of the first order of the chunk in the file.
+     * @return the future orders of the chunk.
+     */
+    private CompletableFuture<Order[]> submitLoadChunk(List<String> records, int firstIndex) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return loadChunk(records, firstIndex);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Converts a chunk of orders. An order that cannot be converted fails the chunk with the same kind of
+     * exception, with the index of the order in the file added to the message.
+     *
+     * @param records    the JSON text of each order of the chunk.
+     * @param firstIndex the index of the first order of the chunk in the file.
+     * @return the orders of the chunk.
+     * @throws IOException              if an I/O error occurs while converting an order.
+     * @throws JSONException            if an order cannot be converted.
+     * @throws IllegalArgumentException if an order has an invalid status number or computer type.
      */
-    private JSONArray readFileAsJSONArray(String file) throws IOException {
-        String result = readAllLines(file);
-        return new JSONArray(result);
+    private Order[] loadChunk(List<String> records, int firstIndex) throws IOException, JSONException {
+        Order[] orders = new Order[records.size()];
+        for (int i = 0; i < orders.length; i++) {
+            String location = "Order at index " + (firstIndex + i) + " of the database file: ";
+            try {
+                orders[i] = loadExistingOrder(new JSONObject(records.get(i)));
+            } catch (JSONException e) {
+                throw new JSONException(location + e.getMessage(), e);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(location + e.getMessage(), e);
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * Waits for a chunk of orders to be converted.
+     *
+     * @param task the future orders of the chunk.
+     * @return the orders of the chunk.
+     * @throws IOException if an I/O error occurred while converting the chunk, or the wait was interrupted.
+     */
+    private Order[] joinLoadChunk(CompletableFuture<Order[]> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading the database file");
+        } catch (ExecutionException e) { // rethrow the exception of the chunk as it was thrown
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
     }
 
     /**
@@ -0,0 +1,99 @@
+package management;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * The {@code DurabilityPolicy} class decides when {@link DatabaseManager} forces written data to disk
+ * ({@code fsync}) instead of leaving it in the operating system's cache. Forcing makes a save survive a
+ * power loss or operating system crash, at the cost of waiting for the disk.
+ *
+ * <p>Predefined policies:</p>
+ * <ul>
+ *   <li>{@code ALWAYS} - Every snapshot and every write-ahead log record is forced to disk.</li>
+ *   <li>{@code BATCHED} - Every snapshot is forced to disk, and write-ahead log records are forced once every
+ *   {@link #DEFAULT_BATCH_SIZE} records, so a crash loses at most one batch of recent changes.</li>
+ *   <li>{@code NEVER} - Nothing is forced to disk. Saves are still atomic, so the database file is never left
+ *   half written if the program dies, but recent saves can be lost if the whole machine goes down.</li>
+ * </ul>
+ *
+ * <p>Custom batch sizes can be created with {@link #batched(int)}. Instances of this class are immutable
+ * once created.</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class DurabilityPolicy {
+    /**
+     * Class fields
+     */
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    public static final DurabilityPolicy ALWAYS = new DurabilityPolicy("always", 1, true);
+    public static final DurabilityPolicy BATCHED = new DurabilityPolicy("batched", DEFAULT_BATCH_SIZE, true);
+    public static final DurabilityPolicy NEVER = new DurabilityPolicy("never", 0, false);
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final String name;
+    private final int batchSize; // 0 means write-ahead log records are never forced
+    private final boolean forceSnapshots;
+
+    /**
+     * Constructs a new {@code DurabilityPolicy}.
+     *
+     * @param name           The name of the policy, used for display.
+     * @param batchSize      The number of write-ahead log records per forced write, or 0 to never force them.
+     * @param forceSnapshots {@code true} if snapshots are forced to disk.
+     */
+    private DurabilityPolicy(String name, int batchSize, boolean forceSnapshots) {
+        this.name = name;
+        this.batchSize = batchSize;
+        this.forceSnapshots = forceSnapshots;
+    }
+
+    /**
+     * Creates a batched policy with a custom batch size.
+     *
+     * @param batchSize The number of write-ahead log records per forced write.
+     * @return The new policy.
+     * @throws IllegalArgumentException if the batch size is not positive.
+     */
+    public static DurabilityPolicy batched(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size");
+        }
+        return new DurabilityPolicy("batched", batchSize, true);
+    }
+
+    /**
+     * Checks if snapshots of the whole database are forced to disk before they replace the old snapshot.
+     *
+     * @return {@code true} if snapshots are forced, {@code false} otherwise.
+     */
+    public boolean forcesSnapshots() {
+        return forceSnapshots;
+    }
+
+    /**
+     * Checks if the write-ahead log should be forced to disk after appending a record.
+     *
+     * @param unforcedRecords The number of records appended since the log was last forced, including the new one.
+     * @return {@code true} if the log should be forced now, {@code false} otherwise.
+     */
+    public boolean shouldForceLog(int unforcedRecords) {
+        return batchSize > 0 && unforcedRecords >= batchSize;
+    }
+
+    /**
+     * Returns the name of the policy.
+     * Concept: Polymorphism
+     * @return The string representation of the policy.
+     */
+    public String toString() {
+        return batchSize > 1 ? name + " (every " + batchSize + " records)" : name;
+    }
+}
@@ -0,0 +1,133 @@
+package management;
+
+import order.Order;
+
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code FinishByDateIndex} class is a sorted index of orders by finish by date. The finish by dates are
+ * kept as epoch milliseconds in a {@link SortedKeyIndex} (orders due at the same time are sorted by ID).
+ * Finding the orders due in a range of time is then two binary searches and a copy of the slice between them,
+ * instead of a scan of every order, and listing every order from most to least urgent needs no sorting at all.
+ * </p>
+ * <p>
+ * The finish by date that each order was added with is remembered, so {@link #update(Order)} must be called
+ * after the finish by date of an order changes.
+ * </p>
+ * <p>Concepts: Binary Search, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class FinishByDateIndex {
+    /**
+     * Finish by dates in epoch milliseconds, by order ID.
+     */
+    private final SortedKeyIndex times = new SortedKeyIndex();
+
+    /**
+     * Adds an order at its finish by date. If the order is already indexed, it is moved to its current date.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        times.put(order.getId(), order.getFinishByDate().getTime());
+    }
+
+    /**
+     * Moves an order to its current finish by date after it has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes an order from the index.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        times.remove(id);
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        times.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with the given orders.
+     *
+     * @param orders The orders to index.
+     */
+    public void rebuild(List<Order> orders) {
+        int[] ids = new int[orders.size()];
+        double[] finishByTimes = new double[orders.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = orders.get(i).getId();
+            finishByTimes[i] = orders.get(i).getFinishByDate().getTime();
+        }
+        times.rebuild(ids, finishByTimes);
+    }
+
+    /**
+     * Gets the number of indexed orders.
+     *
+     * @return The number of orders.
+     */
+    public int size() {
+        return times.size();
+    }
+
+    /**
+     * Counts the orders due in a range of time.
+     *
+     * @param from The earliest finish by date in epoch milliseconds, inclusive.
+     * @param to   The latest finish by date in epoch milliseconds, inclusive.
+     * @return The number of orders due in the range.
+     */
+    public int countDueBetween(long from, long to) {
+        return times.countBetween(from, to);
+    }
+
+    /**
+     * Gets the IDs of the orders due in a range of time, from most to least urgent.
+     *
+     * @param from The earliest finish by date in epoch milliseconds, inclusive.
+     * @param to   The latest finish by date in epoch milliseconds, inclusive.
+     * @return The IDs, sorted by finish by date and then by ID.
+     */
+    public int[] idsDueBetween(long from, long to) {
+        return times.idsBetween(from, to);
+    }
+
+    /**
+     * Gets the IDs of the orders due in a range of time, in ascending ID order.
+     *
+     * @param from The earliest finish by date in epoch milliseconds, inclusive.
+     * @param to   The latest finish by date in epoch milliseconds, inclusive.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsDueBetweenInIdOrder(long from, long to) {
+        return times.idsBetweenInIdOrder(from, to);
+    }
+
+    /**
+     * Gets the IDs of every order, from most to least urgent.
+     *
+     * @return The IDs, sorted by finish by date and then by ID.
+     */
+    public int[] idsByFinishByDate() {
+        return times.allIds();
+    }
+}
@@ -0,0 +1,134 @@
+package management;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * The {@code GroupSummary} class is one row of a report made by {@link OrderColumns#summarize}: the number
+ * of orders and computers in a group, the sum of their total costs, and the average price of each kind of part.
+ * The average price of a part is the average unit price over the orders in the group that have that part.
+ *
+ * <p>Instances of this class are immutable.</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class GroupSummary {
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final String groupName;
+    private final int orderCount;
+    private final long computerCount;
+    private final double totalCost;
+    private final double[] partPriceSums;
+    private final int[] partCounts;
+
+    /**
+     * Constructs a new {@code GroupSummary}.
+     *
+     * @param groupName     The name of the group.
+     * @param orderCount    The number of orders in the group.
+     * @param computerCount The sum of the quantities of the orders in the group.
+     * @param totalCost     The sum of the total costs of the orders in the group.
+     * @param partPriceSums The sum of the prices of the parts in each slot, in the order of {@link PartSlot#values()}.
+     * @param partCounts    The number of orders with a part in each slot, in the same order.
+     */
+    GroupSummary(String groupName, int orderCount, long computerCount, double totalCost,
+                 double[] partPriceSums, int[] partCounts) {
+        this.groupName = groupName;
+        this.orderCount = orderCount;
+        this.computerCount = computerCount;
+        this.totalCost = totalCost;
+        this.partPriceSums = partPriceSums;
+        this.partCounts = partCounts;
+    }
+
+    /**
+     * Gets the name of the group.
+     *
+     * @return The group name.
+     */
+    public String getGroupName() {
+        return groupName;
+    }
+
+    /**
+     * Gets the number of orders in the group.
+     *
+     * @return The number of orders.
+     */
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Gets the number of computers ordered in the group, which is the sum of the quantities of the orders.
+     *
+     * @return The number of computers.
+     */
+    public long getComputerCount() {
+        return computerCount;
+    }
+
+    /**
+     * Gets the sum of the total costs of the orders in the group.
+     *
+     * @return The sum of the total costs.
+     */
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    /**
+     * Gets the average total cost of the orders in the group.
+     *
+     * @return The average total cost, or {@code NaN} if the group has no orders.
+     */
+    public double getAverageOrderCost() {
+        return totalCost / orderCount;
+    }
+
+    /**
+     * Gets the number of orders in the group with a part in a slot.
+     *
+     * @param slot The part slot.
+     * @return The number of orders with that part.
+     */
+    public int getPartCount(PartSlot slot) {
+        return partCounts[indexOf(slot)];
+    }
+
+    /**
+     * Gets the average unit price of the part in a slot, over the orders in the group that have that part.
+     *
+     * @param slot The part slot.
+     * @return The average price, or {@code NaN} if no order in the group has that part.
+     */
+    public double getAveragePartPrice(PartSlot slot) {
+        int index = indexOf(slot);
+        return partPriceSums[index] / partCounts[index];
+    }
+
+    /**
+     * Gets the position of a slot in the part columns.
+     *
+     * @param slot The part slot.
+     * @return The position of the slot in {@link PartSlot#values()}.
+     */
+    private static int indexOf(PartSlot slot) {
+        return PartSlot.values().indexOf(slot);
+    }
+
+    /**
+     * Returns the group name, order count and total cost of the group.
+     * Concept: Polymorphism
+     * @return The string representation of the group summary.
+     */
+    public String toString() {
+        return String.format("%s: %d orders, $%.2f", groupName, orderCount, totalCost);
+    }
+}
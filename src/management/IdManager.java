@@ -1,13 +1,16 @@
 package management;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
 /**
  * <p>ICS4U</p>
  * <p>AY Jackson SS</p>
  *
  * The IdManager class is responsible for managing unique identifier values
- * stored in a file. It provides methods to retrieve the current identifier
- * value and increment it, ensuring uniqueness across the application.
+ * stored in a file. It provides methods to allocate the next identifier
+ * value, ensuring uniqueness across the application.
  *
  * <p>
  * This class is designed to be used as a utility class, and its methods
@@ -17,7 +20,17 @@ import java.io.*;
  * <p>
  * The identifier values are stored in a file named "id.txt" located in the
  * "src/database" directory. The file is expected to contain a single integer
- * value representing the current identifier.
+ * value: every identifier below it may already have been handed out.
+ * </p>
+ *
+ * <p>
+ * The file is only read once. After that, the next identifier is kept in memory
+ * and handed out with a single atomic increment, so allocating an identifier
+ * is safe from several threads at once and does not touch the file. Identifiers
+ * are reserved from the file in blocks of {@link #ID_BLOCK_SIZE}: the file is
+ * rewritten once per block, before any identifier of the block is handed out.
+ * If the program stops before a block is used up, the rest of the block is
+ * skipped, so identifiers stay unique but may have gaps.
  * </p>
  *
  * <p>
@@ -28,8 +41,7 @@ import java.io.*;
  * <p>
  * Example usage:
  * <pre>
- * int currentId = IdManager.getCurrentIdValue();
- * IdManager.incrementIdValue();
+ * int id = IdManager.nextIdValue();
  * </pre>
  * </p>
  *
@@ -47,54 +59,170 @@ public final class IdManager {
      */
     private static final int STARTING_ID_VALUE = 10000;
 
+    /**
+     * Number of identifiers reserved by each write to the storage file.
+     */
+    public static final int ID_BLOCK_SIZE = 64;
+
+    /**
+     * The next identifier to hand out. Concept: Concurrency
+     */
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    /**
+     * Every identifier below this value has been reserved in the storage file.
+     */
+    private static volatile int reservedLimit;
+
+    /**
+     * {@code true} once the storage file has been read.
+     */
+    private static volatile boolean loaded;
+
     /**
      * Private constructor to prevent instantiation of the class.
      */
     private IdManager() {}
 
     /**
-     * Retrieves the current identifier value from the storage file.
+     * Reads the storage file the first time an identifier is needed. Nothing is reserved yet,
+     * so the first allocation reserves a block. A missing file starts at the starting ID value.
      * Concept: File Reading
-     * @return The current identifier value.
      * @throws IOException             If an I/O error occurs while reading the file.
      * @throws NumberFormatException   If the file content is not a valid integer.
      */
+    private static void ensureLoaded() throws IOException, NumberFormatException {
+        if (loaded) {
+            return;
+        }
+
+        synchronized (IdManager.class) {
+            if (loaded) {
+                return;
+            }
+
+            int storedValue = STARTING_ID_VALUE;
+            File file = new File(ID_FILE);
+            if (file.exists()) {
+                BufferedReader br = new BufferedReader(new FileReader(file));
+                try {
+                    storedValue = Integer.parseInt(br.readLine().trim());
+                } finally {
+                    br.close();
+                }
+            }
+            nextId.set(storedValue);
+            reservedLimit = storedValue;
+            loaded = true;
+        }
+    }
+
+    /**
+     * Retrieves the identifier value that will be handed out next, without allocating it.
+     * @return The current identifier value.
+     * @throws IOException             If an I/O error occurs while reading the file the first time.
+     * @throws NumberFormatException   If the file content is not a valid integer.
+     */
     public static int getCurrentIdValue() throws IOException, NumberFormatException {
-        BufferedReader br = new BufferedReader(new FileReader(ID_FILE));
-        int currentValue = Integer.parseInt(br.readLine());
-        br.close();
-        return currentValue;
+        ensureLoaded();
+        return nextId.get();
     }
 
     /**
-     * Increments the current identifier value and updates the storage file.
-     * Concept: File Writing
-     * @throws IOException             If an I/O error occurs while writing to the file.
+     * Allocates the next identifier value. Safe to call from several threads at once; each call
+     * returns a different value.
+     * @return The allocated identifier value.
+     * @throws IOException             If an I/O error occurs while reserving a new block of identifiers.
      * @throws NumberFormatException   If the file content is not a valid integer.
      */
-    public static void incrementIdValue() throws IOException, NumberFormatException {
-        int currentValue = getCurrentIdValue();
-        BufferedWriter bw = new BufferedWriter(new FileWriter(ID_FILE));
-        bw.write(String.valueOf(currentValue + 1));
-        bw.close();
+    public static int nextIdValue() throws IOException, NumberFormatException {
+        ensureLoaded();
+        int id = nextId.getAndIncrement();
+        if (id >= reservedLimit) {
+            reserveThrough(id);
+        }
+        return id;
+    }
+
+    /**
+     * Allocates a contiguous range of identifier values, for example for a bulk import.
+     * @param count The number of identifiers to allocate.
+     * @return The first allocated identifier; the range ends at {@code first + count - 1}.
+     * @throws IOException               If an I/O error occurs while reserving the identifiers.
+     * @throws NumberFormatException     If the file content is not a valid integer.
+     * @throws IllegalArgumentException  If the count is not positive.
+     */
+    public static int reserveIds(int count) throws IOException, NumberFormatException {
+        if (count < 1) {
+            throw new IllegalArgumentException("Invalid number of identifiers to reserve");
+        }
+        ensureLoaded();
+        int first = nextId.getAndAdd(count);
+        int last = first + count - 1;
+        if (last >= reservedLimit) {
+            reserveThrough(last);
+        }
+        return first;
+    }
+
+    /**
+     * Makes sure that identifiers are never handed out again once they are used by an existing order.
+     * Only moves the next identifier forward, never backward.
+     * @param maxExistingId The largest identifier used by an existing order.
+     * @throws IOException             If an I/O error occurs while updating the file.
+     * @throws NumberFormatException   If the file content is not a valid integer.
+     */
+    public static void syncWithExistingIds(int maxExistingId) throws IOException, NumberFormatException {
+        ensureLoaded();
+        int next = nextId.accumulateAndGet(maxExistingId + 1, Math::max);
+        if (next > reservedLimit) {
+            reserveThrough(next - 1);
+        }
+    }
+
+    /**
+     * Reserves a new block of identifiers, making sure the given identifier is part of it,
+     * with a single write to the storage file. Threads that need the same block wait for
+     * the first one to reserve it.
+     * @param id An identifier that has been allocated and must be reserved.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    private static synchronized void reserveThrough(int id) throws IOException {
+        if (id < reservedLimit) { // another thread reserved it first
+            return;
+        }
+        int newLimit = id + ID_BLOCK_SIZE;
+        writeIdFile(newLimit);
+        reservedLimit = newLimit;
     }
 
     /**
      * Sets the current ID value to the specified ID and updates the ID file.
-     * Concept: File Writing
      * @param id The new ID value to set.
+     * @throws IOException If an I/O error occurs while writing to the file.
      */
-    public static void setCurrentIDValue(int id) throws IOException {
-        BufferedWriter bw = new BufferedWriter(new FileWriter(ID_FILE));
-        bw.write(String.valueOf(id));
-        bw.close();
+    public static synchronized void setCurrentIDValue(int id) throws IOException {
+        writeIdFile(id);
+        nextId.set(id);
+        reservedLimit = id;
+        loaded = true;
     }
 
     /**
      * Resets the current ID value to the starting ID value.
+     * @throws IOException If an I/O error occurs while writing to the file.
      */
     public static void resetCurrentIDValue() throws IOException {
         setCurrentIDValue(STARTING_ID_VALUE);
     }
 
+    /**
+     * Replaces the content of the storage file with the given value.
+     * Concept: File Writing
+     * @param value The value to store.
+     * @throws IOException If an I/O error occurs while writing to the file.
+     */
+    private static void writeIdFile(int value) throws IOException {
+        AtomicFile.write(Path.of(ID_FILE), out -> out.write(String.valueOf(value).getBytes(StandardCharsets.UTF_8)), true);
+    }
 }
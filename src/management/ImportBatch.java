@@ -0,0 +1,131 @@
+package management;
+
+import order.Order;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code ImportBatch} class is the result of reading the orders of a bulk import, see
+ * {@link DatabaseManager#parseImportDirectory(java.nio.file.Path)} and
+ * {@link DatabaseManager#parseImportNdjson(java.io.Reader)}. It holds every order that was read successfully,
+ * in the order of the records, and an error message for every record that was not.
+ * </p>
+ * <p>
+ * The orders do not have IDs until the batch is appended to the orders with
+ * {@link DatabaseManager#appendImport(ImportBatch)}, which gives them a contiguous block of IDs in record order.
+ * The batch is committed once {@link DatabaseManager#saveImport(ImportBatch)} has saved them all at once; if
+ * that fails, the batch stays appended but not committed, and can be saved again.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class ImportBatch {
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final int recordCount;
+    private final List<Order> orders;
+    private final List<String> errors;
+    private boolean appended;
+    private boolean committed;
+
+    /**
+     * Constructs a new {@code ImportBatch}.
+     *
+     * @param recordCount The number of records that were read.
+     * @param orders      The orders that were read successfully, in record order.
+     * @param errors      An error message for each record that could not be read, in record order.
+     */
+    ImportBatch(int recordCount, List<Order> orders, List<String> errors) {
+        this.recordCount = recordCount;
+        this.orders = Collections.unmodifiableList(orders);
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Gets the number of records in the import, valid or not.
+     *
+     * @return The number of records.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Gets the orders that were read successfully. Once the batch is committed, these are the imported orders.
+     *
+     * @return An unmodifiable list of the orders, in record order.
+     */
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Gets an error message for each record that could not be read, starting with the file name or line number
+     * of the record, for example {@code "line 3: Invalid default status index."}.
+     *
+     * @return An unmodifiable list of the error messages, in record order.
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Checks if any record could not be read.
+     *
+     * @return {@code true} if there is at least one error, {@code false} otherwise.
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    /**
+     * Checks if the orders of the batch have been given IDs and added to the list of orders.
+     *
+     * @return {@code true} if the orders have been appended, whether or not they have been saved yet.
+     */
+    public boolean isAppended() {
+        return appended;
+    }
+
+    /**
+     * Marks the batch as appended.
+     */
+    void markAppended() {
+        appended = true;
+    }
+
+    /**
+     * Checks if the batch has been committed to the database.
+     *
+     * @return {@code true} if the orders have been given IDs and saved, {@code false} otherwise.
+     */
+    public boolean isCommitted() {
+        return committed;
+    }
+
+    /**
+     * Marks the batch as committed.
+     */
+    void markCommitted() {
+        committed = true;
+    }
+
+    /**
+     * Returns the number of orders read and the number of errors.
+     * Concept: Polymorphism
+     * @return The string representation of the batch.
+     */
+    public String toString() {
+        return orders.size() + " of " + recordCount + " orders read, " + errors.size() + " errors";
+    }
+}
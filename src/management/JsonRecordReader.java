@@ -0,0 +1,214 @@
+package management;
+
+import org.json.JSONException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code JsonRecordReader} class splits a JSON array of objects, such as orders.json, into the text of each
+ * object, one object at a time, without parsing the objects. It only keeps track of braces and strings, which
+ * is much faster than building a {@code JSONObject}, so the objects can then be parsed by several threads at
+ * once while the file is still being read.
+ * </p>
+ * <p>
+ * The array itself is checked: it must start with {@code [}, hold only objects separated by commas, and end
+ * with {@code ]}. The contents of each object are checked when it is parsed.
+ * </p>
+ * <p>Concepts: File Reading, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class JsonRecordReader implements Closeable {
+    /**
+     * Number of characters read from the reader at a time.
+     */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position; // next character of the buffer to read
+    private int limit; // number of characters in the buffer
+    private long characterCount; // characters read before the buffer
+    private int recordCount;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * Constructs a new {@code JsonRecordReader}.
+     *
+     * @param reader The reader of the JSON array, which is closed with this reader.
+     */
+    public JsonRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the text of the next object of the array.
+     *
+     * @return The text of the object, from its opening brace to its closing brace, or {@code null} at the end of
+     *         the array.
+     * @throws IOException   If an I/O error occurs while reading.
+     * @throws JSONException If the text is not a JSON array of objects.
+     */
+    public String nextObject() throws IOException, JSONException {
+        if (finished) {
+            return null;
+        }
+
+        int first;
+        if (!started) {
+            started = true;
+            if (nextClean() != '[') {
+                throw syntaxError("The database file must contain a JSON array of orders");
+            }
+            first = nextClean();
+            if (first == ']') { // empty array
+                finished = true;
+                return null;
+            }
+        } else {
+            int separator = nextClean();
+            if (separator == ']') {
+                finished = true;
+                return null;
+            } else if (separator != ',') {
+                throw syntaxError("Expected a ',' or ']' after order at index " + (recordCount - 1));
+            }
+            first = nextClean();
+        }
+
+        if (first != '{') {
+            throw new JSONException("Order at index " + recordCount + " of the database file is not a JSON object.");
+        }
+        String object = readObject();
+        recordCount++;
+        return object;
+    }
+
+    /**
+     * Gets the number of objects read so far, which is also the index of the next object.
+     *
+     * @return The number of objects read.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Reads the rest of an object whose opening brace has just been read, skipping over braces in strings.
+     *
+     * @return The text of the object.
+     * @throws IOException   If an I/O error occurs while reading.
+     * @throws JSONException If the text ends before the object does.
+     */
+    private String readObject() throws IOException, JSONException {
+        StringBuilder object = new StringBuilder(1024).append('{');
+        int depth = 1;
+        boolean inString = false;
+
+        while (depth > 0) {
+            if (position == limit && !fill()) {
+                throw syntaxError("Unterminated order at index " + recordCount);
+            }
+
+            // copy the characters up to the end of the object, or of the buffer, in one go
+            int start = position;
+            while (position < limit && depth > 0) {
+                char c = buffer[position++];
+                if (inString) {
+                    if (c == '\\') {
+                        if (position == limit) { // the escaped character is in the next buffer
+                            object.append(buffer, start, position - start);
+                            if (!fill()) {
+                                throw syntaxError("Unterminated order at index " + recordCount);
+                            }
+                            start = position;
+                        }
+                        position++;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                }
+            }
+            object.append(buffer, start, position - start);
+        }
+        return object.toString();
+    }
+
+    /**
+     * Reads the next character that is not whitespace.
+     *
+     * @return The character, or -1 at the end of the text.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    private int nextClean() throws IOException {
+        while (true) {
+            if (position == limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[position++];
+            if (c > ' ') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Reads the next characters into the buffer.
+     *
+     * @return {@code true} if at least one character was read, {@code false} at the end of the text.
+     * @throws IOException If an I/O error occurs while reading.
+     */
+    private boolean fill() throws IOException {
+        characterCount += limit;
+        position = 0;
+        limit = 0;
+        int read = reader.read(buffer, 0, buffer.length);
+        while (read == 0) {
+            read = reader.read(buffer, 0, buffer.length);
+        }
+        if (read < 0) {
+            return false;
+        }
+        limit = read;
+        return true;
+    }
+
+    /**
+     * Makes an exception for a syntax error at the current position.
+     *
+     * @param message The error message.
+     * @return The exception.
+     */
+    private JSONException syntaxError(String message) {
+        return new JSONException(message + " at character " + (characterCount + position));
+    }
+
+    /**
+     * Closes the reader.
+     *
+     * @throws IOException If an I/O error occurs while closing.
+     */
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -106,5 +106,9 @@ public class Keys {
     public static final String HAS_TOUCHSCREEN = "hasTouchscreen";
     public static final String HAS_360_HINGE = "has360Hinge";
 
+    // Write-Ahead Log Records
+    public static final String WAL_OPERATION = "operation";
+    public static final String WAL_ORDER = "order";
+
 
 }
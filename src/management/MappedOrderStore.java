@@ -0,0 +1,359 @@
+package management;
+
+import order.Order;
+import order.OrderStatus;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code MappedOrderStore} class is a read-only view of a {@link BinarySnapshot} file that memory-maps
+ * the file instead of loading every order into memory. When the store is opened, only the fixed size header
+ * of each record is read into a small table of parallel arrays (ID, order and computer type, status and the
+ * position of the record in the file). An {@link Order}, with its whole computer and hardware tree, is only
+ * decoded the first time it is accessed, and is then cached.
+ * </p>
+ * <p>
+ * Counting orders and filtering them by status or ID only reads the header table, so the bytes holding the
+ * customer information and hardware of an order are never touched unless the order itself is requested.
+ * </p>
+ * <p>
+ * A snapshot must be smaller than 2 GB to be mapped. The store keeps a reference to the mapping, so changes
+ * made to the file after it is opened may or may not be visible; open a new store after saving a new snapshot.
+ * </p>
+ * <p>Concepts: File Reading, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class MappedOrderStore {
+    /**
+     * The mapped snapshot file.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * The string dictionary of the snapshot.
+     */
+    private final String[] dictionary;
+
+    /**
+     * Header table, one entry per record in file order. Concept: Array of Primitives
+     */
+    private final int[] ids;
+    private final byte[] orderTypes;
+    private final byte[] computerTypes;
+    private final int[] statusNumbers;
+    private final int[] statusNames; // dictionary indices
+    private final int[] recordOffsets; // position of the first byte of the record
+    private final int[] recordLengths;
+
+    /**
+     * Record positions sorted by ID, and the matching IDs, for binary searching by ID.
+     */
+    private final int[] positionsById;
+    private final int[] sortedIds;
+
+    /**
+     * Orders that have already been decoded, or {@code null} for orders that have not been accessed yet.
+     */
+    private final Order[] materializedOrders;
+
+    /**
+     * Opens a snapshot file and reads its header table. Concept: File Reading
+     *
+     * @param file the path of the snapshot file.
+     * @throws IOException if an I/O error occurs while mapping the file, or the file is not a snapshot
+     *                     of a supported version.
+     */
+    public MappedOrderStore(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Binary snapshot " + file + " is too large to be memory-mapped.");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            channel.close(); // the mapping stays valid after the channel is closed
+        }
+
+        try {
+            dictionary = readDictionary(file);
+
+            int orderCount = buffer.getInt();
+            ids = new int[orderCount];
+            orderTypes = new byte[orderCount];
+            computerTypes = new byte[orderCount];
+            statusNumbers = new int[orderCount];
+            statusNames = new int[orderCount];
+            recordOffsets = new int[orderCount];
+            recordLengths = new int[orderCount];
+            materializedOrders = new Order[orderCount];
+
+            int position = buffer.position();
+            for (int i = 0; i < orderCount; i++) {
+                int length = buffer.getInt(position);
+                int offset = position + Integer.BYTES;
+                if (length < BinarySnapshot.HEADER_SIZE || offset + length > buffer.limit()) {
+                    throw new IOException("Malformed order record at index " + i + " of the binary snapshot.");
+                }
+
+                ids[i] = buffer.getInt(offset + BinarySnapshot.ID_OFFSET);
+                orderTypes[i] = buffer.get(offset + BinarySnapshot.ORDER_TYPE_OFFSET);
+                computerTypes[i] = buffer.get(offset + BinarySnapshot.COMPUTER_TYPE_OFFSET);
+                statusNumbers[i] = buffer.getInt(offset + BinarySnapshot.STATUS_NUMBER_OFFSET);
+                statusNames[i] = buffer.getInt(offset + BinarySnapshot.STATUS_NAME_OFFSET);
+                recordOffsets[i] = offset;
+                recordLengths[i] = length;
+
+                position = offset + length; // skip the rest of the record without reading it
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Binary snapshot " + file + " is truncated.", e);
+        }
+
+        // sort the record positions by ID, packing each (ID, position) pair into one long so no boxing is needed
+        long[] idPositionPairs = new long[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            idPositionPairs[i] = ((long) ids[i] << 32) | i;
+        }
+        Arrays.sort(idPositionPairs);
+        positionsById = new int[ids.length];
+        sortedIds = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            sortedIds[i] = (int) (idPositionPairs[i] >> 32);
+            positionsById[i] = (int) idPositionPairs[i];
+        }
+    }
+
+    /**
+     * Reads the preamble of the mapped file, leaving the buffer positioned at the order count.
+     *
+     * @param file the path of the file, used in error messages.
+     * @return the string dictionary.
+     * @throws IOException if the file is not a snapshot of a supported version.
+     */
+    private String[] readDictionary(Path file) throws IOException {
+        return BinarySnapshot.readPreamble(new DataInputStream(new ByteBufferInputStream(buffer)), file);
+    }
+
+    /**
+     * Gets the number of orders in the snapshot.
+     *
+     * @return the number of orders.
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Gets the ID of the order at a position, without decoding the order.
+     *
+     * @param position the position of the order in the snapshot.
+     * @return the ID of the order.
+     */
+    public int getId(int position) {
+        return ids[position];
+    }
+
+    /**
+     * Gets the name of the status of the order at a position, without decoding the order.
+     *
+     * @param position the position of the order in the snapshot.
+     * @return the status name, for example "In progress".
+     */
+    public String getStatusName(int position) {
+        return dictionary[statusNames[position]];
+    }
+
+    /**
+     * Gets the status number of the order at a position, without decoding the order.
+     *
+     * @param position the position of the order in the snapshot.
+     * @return the status number, or -1 for a custom status.
+     */
+    public int getStatusNumber(int position) {
+        return statusNumbers[position];
+    }
+
+    /**
+     * Checks if the order at a position is a shipping order, without decoding the order.
+     *
+     * @param position the position of the order in the snapshot.
+     * @return {@code true} for a shipping order, {@code false} for a pickup order.
+     */
+    public boolean isShippingOrder(int position) {
+        return orderTypes[position] == BinarySnapshot.SHIPPING_ORDER;
+    }
+
+    /**
+     * Checks if the order at a position is for a laptop, without decoding the order.
+     *
+     * @param position the position of the order in the snapshot.
+     * @return {@code true} for a laptop, {@code false} for a gaming computer.
+     */
+    public boolean isLaptop(int position) {
+        return computerTypes[position] == BinarySnapshot.LAPTOP_COMPUTER;
+    }
+
+    /**
+     * Gets the order at a position, decoding it from the mapped file the first time it is accessed.
+     *
+     * @param position the position of the order in the snapshot.
+     * @return the order.
+     * @throws IOException if the record is malformed.
+     */
+    public synchronized Order getOrder(int position) throws IOException {
+        Order order = materializedOrders[position];
+        if (order == null) {
+            ByteBuffer record = buffer.slice(recordOffsets[position], recordLengths[position]);
+            order = BinarySnapshot.decodeRecord(record, dictionary, position);
+            materializedOrders[position] = order;
+        }
+        return order;
+    }
+
+    /**
+     * Finds the order with the given ID, decoding only that order. Concept: Binary Search
+     *
+     * @param id the ID of the order.
+     * @return the order, or {@code null} if there is no order with that ID.
+     * @throws IOException if the record is malformed.
+     */
+    public Order findOrderById(int id) throws IOException {
+        int index = Arrays.binarySearch(sortedIds, id);
+        return index < 0 ? null : getOrder(positionsById[index]);
+    }
+
+    /**
+     * Counts the orders with the given status, using only the header table.
+     *
+     * @param status the status to count.
+     * @return the number of orders with that status.
+     */
+    public int countByStatus(OrderStatus status) {
+        String name = status.getCurrentStatus();
+        int count = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (dictionary[statusNames[i]].equals(name)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the orders per status, using only the header table.
+     *
+     * @return a map from status name to the number of orders with that status, in order of first appearance.
+     */
+    public Map<String, Integer> countByStatus() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < ids.length; i++) {
+            counts.merge(dictionary[statusNames[i]], 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    /**
+     * Gets the positions of the orders with the given status, using only the header table.
+     *
+     * @param status the status to filter by.
+     * @return the positions of the matching orders, in snapshot order.
+     */
+    public int[] positionsWithStatus(OrderStatus status) {
+        String name = status.getCurrentStatus();
+        int[] positions = new int[ids.length];
+        int count = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (dictionary[statusNames[i]].equals(name)) {
+                positions[count++] = i;
+            }
+        }
+        return Arrays.copyOf(positions, count);
+    }
+
+    /**
+     * Gets the orders with the given status. Only the matching orders are decoded.
+     *
+     * @param status the status to filter by.
+     * @return the matching orders, in snapshot order.
+     * @throws IOException if a matching record is malformed.
+     */
+    public List<Order> findOrdersByStatus(OrderStatus status) throws IOException {
+        int[] positions = positionsWithStatus(status);
+        List<Order> orders = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            orders.add(getOrder(position));
+        }
+        return orders;
+    }
+
+    /**
+     * Gets a read-only list view of every order in the snapshot. Orders are decoded as the list elements
+     * are accessed, so iterating the whole list decodes every order.
+     *
+     * @return the list view.
+     * @throws UncheckedIOException from {@code get} if a record is malformed.
+     */
+    public List<Order> asList() {
+        return new LazyOrderList();
+    }
+
+    /**
+     * A list that decodes each order from the store when it is accessed.
+     */
+    private class LazyOrderList extends AbstractList<Order> implements RandomAccess {
+        public Order get(int index) {
+            try {
+                return getOrder(index);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /**
+     * An input stream that reads from the current position of a buffer, so that the preamble can be read
+     * with the same code as {@link BinarySnapshot#read(Path)}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer in;
+
+        private ByteBufferInputStream(ByteBuffer in) {
+            this.in = in;
+        }
+
+        public int read() {
+            return in.hasRemaining() ? in.get() & 0xFF : -1;
+        }
+
+        public int read(byte[] bytes, int offset, int length) {
+            if (!in.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, in.remaining());
+            in.get(bytes, offset, count);
+            return count;
+        }
+    }
+}
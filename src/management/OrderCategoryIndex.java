@@ -0,0 +1,262 @@
+package management;
+
+import order.Order;
+import order.OrderStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderCategoryIndex} class is a secondary index that groups order IDs by status, by order type
+ * ({@link order.OrderType}) and by computer type ({@link computer.ComputerType}). Each group is an
+ * {@link OrderIdList}, so the number of orders in a group is known without scanning any orders, and the
+ * orders in a group can be listed in time proportional to the size of the group.
+ * </p>
+ * <p>
+ * The index remembers which groups each order was added to. Removing or updating an order therefore does not
+ * depend on the current state of the order, so the index stays correct even if the status of an order was
+ * changed before the index was told about it. {@link #update(Order)} must be called after every change
+ * to an indexed order.
+ * </p>
+ * <p>Concepts: Hashing, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderCategoryIndex {
+    /**
+     * Stands in for a group with no orders in queries. Never modified.
+     */
+    private static final OrderIdList EMPTY = new OrderIdList();
+
+    /**
+     * Order IDs by status name, by order type and by computer type.
+     */
+    private final Map<String, OrderIdList> idsByStatus = new HashMap<>();
+    private final Map<String, OrderIdList> idsByOrderType = new HashMap<>();
+    private final Map<String, OrderIdList> idsByComputerType = new HashMap<>();
+
+    /**
+     * IDs of the orders with a custom status, whatever its name.
+     */
+    private final OrderIdList customStatusIds = new OrderIdList();
+
+    /**
+     * The groups that each indexed order was added to, by order ID.
+     */
+    private final Map<Integer, IndexedOrder> indexedOrders = new HashMap<>();
+
+    /**
+     * Adds an order to the groups it belongs to. If the order is already indexed, it is moved to the
+     * groups it belongs to now.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        remove(order.getId());
+
+        IndexedOrder indexedOrder = new IndexedOrder(order.getOrderStatus().getCurrentStatus(),
+                order.getOrderStatus().isCustom(), order.getType(), order.getComputer().getType());
+        indexedOrders.put(order.getId(), indexedOrder);
+
+        group(idsByStatus, indexedOrder.status).add(order.getId());
+        group(idsByOrderType, indexedOrder.orderType).add(order.getId());
+        group(idsByComputerType, indexedOrder.computerType).add(order.getId());
+        if (indexedOrder.customStatus) {
+            customStatusIds.add(order.getId());
+        }
+    }
+
+    /**
+     * Moves an order to the groups it belongs to after it has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes an order from every group it was added to.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        IndexedOrder indexedOrder = indexedOrders.remove(id);
+        if (indexedOrder == null) {
+            return;
+        }
+
+        OrderIdList statusIds = idsByStatus.get(indexedOrder.status);
+        statusIds.remove(id);
+        if (statusIds.isEmpty()) { // custom statuses come and go, so drop their empty groups
+            idsByStatus.remove(indexedOrder.status);
+        }
+        idsByOrderType.get(indexedOrder.orderType).remove(id);
+        idsByComputerType.get(indexedOrder.computerType).remove(id);
+        if (indexedOrder.customStatus) {
+            customStatusIds.remove(id);
+        }
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        idsByStatus.clear();
+        idsByOrderType.clear();
+        idsByComputerType.clear();
+        customStatusIds.clear();
+        indexedOrders.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with the given orders.
+     *
+     * @param orders The orders to index.
+     */
+    public void rebuild(List<Order> orders) {
+        clear();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Counts the orders with a status.
+     *
+     * @param status The status to count.
+     * @return The number of orders with that status.
+     */
+    public int countWithStatus(OrderStatus status) {
+        OrderIdList ids = idsByStatus.get(status.getCurrentStatus());
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Gets the IDs of the orders with a status.
+     *
+     * @param status The status to look for.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsWithStatus(OrderStatus status) {
+        OrderIdList ids = idsByStatus.get(status.getCurrentStatus());
+        return ids == null ? new int[0] : ids.toArray();
+    }
+
+    /**
+     * Counts the orders that are not started or in progress.
+     *
+     * @return The number of current orders.
+     */
+    public int countCurrent() {
+        return countWithStatus(OrderStatus.NOT_STARTED) + countWithStatus(OrderStatus.IN_PROGRESS);
+    }
+
+    /**
+     * Gets the IDs of the orders that are not started or in progress.
+     *
+     * @return The IDs in ascending order.
+     */
+    public int[] currentIds() {
+        return OrderIdList.union(idsByStatus.getOrDefault(OrderStatus.NOT_STARTED.getCurrentStatus(), EMPTY),
+                idsByStatus.getOrDefault(OrderStatus.IN_PROGRESS.getCurrentStatus(), EMPTY));
+    }
+
+    /**
+     * Counts the orders with a custom status.
+     *
+     * @return The number of orders with a custom status.
+     */
+    public int countCustomStatus() {
+        return customStatusIds.size();
+    }
+
+    /**
+     * Gets the IDs of the orders with a custom status.
+     *
+     * @return The IDs in ascending order.
+     */
+    public int[] customStatusIds() {
+        return customStatusIds.toArray();
+    }
+
+    /**
+     * Counts the orders of an order type.
+     *
+     * @param orderType The order type, for example {@link order.OrderType#PICKUP}.
+     * @return The number of orders of that type.
+     */
+    public int countOfOrderType(String orderType) {
+        OrderIdList ids = idsByOrderType.get(orderType);
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Gets the IDs of the orders of an order type.
+     *
+     * @param orderType The order type, for example {@link order.OrderType#PICKUP}.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsOfOrderType(String orderType) {
+        OrderIdList ids = idsByOrderType.get(orderType);
+        return ids == null ? new int[0] : ids.toArray();
+    }
+
+    /**
+     * Counts the orders for a computer type.
+     *
+     * @param computerType The computer type, for example {@link computer.ComputerType#LAPTOP}.
+     * @return The number of orders for that computer type.
+     */
+    public int countOfComputerType(String computerType) {
+        OrderIdList ids = idsByComputerType.get(computerType);
+        return ids == null ? 0 : ids.size();
+    }
+
+    /**
+     * Gets the IDs of the orders for a computer type.
+     *
+     * @param computerType The computer type, for example {@link computer.ComputerType#LAPTOP}.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsOfComputerType(String computerType) {
+        OrderIdList ids = idsByComputerType.get(computerType);
+        return ids == null ? new int[0] : ids.toArray();
+    }
+
+    /**
+     * Gets the group with a key, creating it if it does not exist yet.
+     *
+     * @param groups The groups to look in.
+     * @param key    The key of the group.
+     * @return The group.
+     */
+    private static OrderIdList group(Map<String, OrderIdList> groups, String key) {
+        return groups.computeIfAbsent(key, k -> new OrderIdList());
+    }
+
+    /**
+     * The groups that an order was added to.
+     */
+    private static class IndexedOrder {
+        private final String status;
+        private final boolean customStatus;
+        private final String orderType;
+        private final String computerType;
+
+        private IndexedOrder(String status, boolean customStatus, String orderType, String computerType) {
+            this.status = status;
+            this.customStatus = customStatus;
+            this.orderType = orderType;
+            this.computerType = computerType;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package management;
+
+import order.Order;
+import parts.Part;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderColumns} class is a columnar copy of the numbers that reports need from every order: the
+ * group of the order in each {@link ReportDimension} (status, order type and computer type), the order
+ * date, the quantity, the price of the part in each {@link PartSlot}, and the total cost. Each of
+ * these is kept in its own primitive array, with one row per order.
+ * </p>
+ * <p>
+ * A report then runs as a few tight loops over contiguous arrays, instead of following
+ * {@code Order -> Computer -> PrimaryHardware -> Part} and calling {@code totalCost()} for every order.
+ * Rows are not kept in any particular order: removing an order moves the last row into its place.
+ * </p>
+ * <p>
+ * The numbers of each order are copied when the order is added, so {@link #update(Order)} must be called
+ * after every change to an order.
+ * </p>
+ * <p>Concepts: Array of Primitives, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderColumns {
+    /**
+     * Capacity of a new set of columns.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The dimensions and part slots that have a column, in the order of their columns.
+     */
+    private static final List<ReportDimension> DIMENSIONS = ReportDimension.values();
+    private static final List<PartSlot> SLOTS = PartSlot.values();
+
+    /**
+     * The columns. Only the first {@code size} elements of each array are used.
+     * The price of a part is {@code NaN} if the order has no part in that slot.
+     */
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private final byte[][] groups = new byte[DIMENSIONS.size()][INITIAL_CAPACITY];
+    private long[] orderDates = new long[INITIAL_CAPACITY];
+    private int[] quantities = new int[INITIAL_CAPACITY];
+    private final double[][] partPrices = new double[SLOTS.size()][INITIAL_CAPACITY];
+    private double[] totalCosts = new double[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * The row of each order, by order ID.
+     */
+    private final Map<Integer, Integer> rowOfOrder = new HashMap<>();
+
+    /**
+     * Adds a row for an order. If the order already has a row, the row is replaced.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        Integer existingRow = rowOfOrder.get(order.getId());
+        int row = existingRow == null ? size : existingRow;
+        if (existingRow == null) {
+            if (size == ids.length) {
+                grow();
+            }
+            size++;
+            rowOfOrder.put(order.getId(), row);
+        }
+
+        ids[row] = order.getId();
+        for (int dimension = 0; dimension < groups.length; dimension++) {
+            groups[dimension][row] = (byte) DIMENSIONS.get(dimension).groupOf(order);
+        }
+        orderDates[row] = order.getOrderDate().getTime();
+        quantities[row] = order.getQuantity();
+        for (int slot = 0; slot < partPrices.length; slot++) {
+            Part part = SLOTS.get(slot).partOf(order);
+            partPrices[slot][row] = part == null ? Double.NaN : part.getPrice();
+        }
+        totalCosts[row] = order.totalCost();
+    }
+
+    /**
+     * Replaces the row of an order after it has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes the row of an order by moving the last row into its place.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        Integer row = rowOfOrder.remove(id);
+        if (row == null) {
+            return;
+        }
+
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            for (byte[] column : groups) {
+                column[row] = column[last];
+            }
+            orderDates[row] = orderDates[last];
+            quantities[row] = quantities[last];
+            for (double[] column : partPrices) {
+                column[row] = column[last];
+            }
+            totalCosts[row] = totalCosts[last];
+            rowOfOrder.put(ids[row], row);
+        }
+    }
+
+    /**
+     * Removes every row.
+     */
+    public void clear() {
+        size = 0;
+        rowOfOrder.clear();
+    }
+
+    /**
+     * Replaces the rows with those of the given orders.
+     *
+     * @param orders The orders to add.
+     */
+    public void rebuild(List<Order> orders) {
+        clear();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return The number of orders.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Groups the orders placed in a range of dates by a dimension, and sums the number of orders and computers,
+     * the total costs, and the part prices of each group.
+     * Concept: Group By
+     *
+     * @param dimension The dimension to group by.
+     * @param from      The earliest order date, inclusive, or {@code null} for no lower bound.
+     * @param to        The latest order date, inclusive, or {@code null} for no upper bound.
+     * @return A summary of every group of the dimension, in group order, including groups with no orders.
+     */
+    public List<GroupSummary> summarize(ReportDimension dimension, Date from, Date to) {
+        long fromTime = from == null ? Long.MIN_VALUE : from.getTime();
+        long toTime = to == null ? Long.MAX_VALUE : to.getTime();
+        byte[] groupColumn = groups[DIMENSIONS.indexOf(dimension)];
+        int groupCount = dimension.getGroupCount();
+
+        int[] orderCounts = new int[groupCount];
+        long[] computerCounts = new long[groupCount];
+        double[] costSums = new double[groupCount];
+        for (int row = 0; row < size; row++) {
+            if (orderDates[row] >= fromTime && orderDates[row] <= toTime) {
+                int group = groupColumn[row];
+                orderCounts[group]++;
+                computerCounts[group] += quantities[row];
+                costSums[group] += totalCosts[row];
+            }
+        }
+
+        double[][] priceSums = new double[groupCount][SLOTS.size()];
+        int[][] partCounts = new int[groupCount][SLOTS.size()];
+        for (int slot = 0; slot < partPrices.length; slot++) {
+            double[] prices = partPrices[slot];
+            for (int row = 0; row < size; row++) {
+                if (orderDates[row] >= fromTime && orderDates[row] <= toTime && !Double.isNaN(prices[row])) {
+                    int group = groupColumn[row];
+                    priceSums[group][slot] += prices[row];
+                    partCounts[group][slot]++;
+                }
+            }
+        }
+
+        List<GroupSummary> summaries = new ArrayList<>(groupCount);
+        for (int group = 0; group < groupCount; group++) {
+            summaries.add(new GroupSummary(dimension.getGroupName(group), orderCounts[group],
+                    computerCounts[group], costSums[group], priceSums[group], partCounts[group]));
+        }
+        return summaries;
+    }
+
+    /**
+     * Doubles the capacity of every column.
+     */
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        for (int dimension = 0; dimension < groups.length; dimension++) {
+            groups[dimension] = Arrays.copyOf(groups[dimension], capacity);
+        }
+        orderDates = Arrays.copyOf(orderDates, capacity);
+        quantities = Arrays.copyOf(quantities, capacity);
+        for (int slot = 0; slot < partPrices.length; slot++) {
+            partPrices[slot] = Arrays.copyOf(partPrices[slot], capacity);
+        }
+        totalCosts = Arrays.copyOf(totalCosts, capacity);
+    }
+}
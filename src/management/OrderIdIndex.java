@@ -0,0 +1,226 @@
+package management;
+
+import order.Order;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderIdIndex} class is a hash index from order ID to {@link Order}. It is an open addressing
+ * hash table with linear probing that stores the IDs in a primitive {@code int} array, so looking up,
+ * adding and removing an order never boxes the ID into an {@code Integer}.
+ * </p>
+ * <p>
+ * The index only holds references to the orders, so it does not care how the orders list it mirrors is
+ * currently sorted. {@link OrderManager} keeps it in sync whenever an order is added, deleted or loaded.
+ * </p>
+ * <p>Concepts: Hashing, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderIdIndex {
+    /**
+     * Initial number of slots in the table (always a power of two).
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Order IDs, one per slot. Only meaningful where the matching slot in {@code orders} is not null.
+     */
+    private int[] ids;
+
+    /**
+     * Orders, one per slot. A null entry marks an empty slot.
+     */
+    private Order[] orders;
+
+    /**
+     * Number of orders in the index.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty {@code OrderIdIndex}.
+     */
+    public OrderIdIndex() {
+        ids = new int[INITIAL_CAPACITY];
+        orders = new Order[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the number of orders in the index.
+     *
+     * @return the number of orders in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the order with the given ID.
+     *
+     * @param id the ID of the order.
+     * @return the order with the given ID, or {@code null} if it is not in the index.
+     */
+    public Order get(int id) {
+        int mask = orders.length - 1;
+        int slot = slotOf(id, mask);
+
+        while (orders[slot] != null) {
+            if (ids[slot] == id) {
+                return orders[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Adds an order to the index, replacing any order that already has the same ID.
+     *
+     * @param order the order to add.
+     */
+    public void put(Order order) {
+        // the table is doubled once more than half of its slots are used, which keeps probe sequences short
+        if ((size + 1) * 2 > orders.length) {
+            resize(orders.length * 2);
+        }
+        insert(order);
+    }
+
+    /**
+     * Removes the order with the given ID from the index.
+     *
+     * @param id the ID of the order to remove.
+     * @return the removed order, or {@code null} if it was not in the index.
+     */
+    public Order remove(int id) {
+        int mask = orders.length - 1;
+        int slot = slotOf(id, mask);
+
+        while (orders[slot] != null) {
+            if (ids[slot] == id) {
+                Order removed = orders[slot];
+                closeGap(slot, mask);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        Arrays.fill(orders, null);
+        size = 0;
+    }
+
+    /**
+     * Replaces the contents of the index with the given orders.
+     *
+     * @param ordersList the orders to index.
+     */
+    public void rebuild(List<Order> ordersList) {
+        int capacity = INITIAL_CAPACITY;
+        while (ordersList.size() * 2 > capacity) {
+            capacity *= 2;
+        }
+
+        ids = new int[capacity];
+        orders = new Order[capacity];
+        size = 0;
+
+        for (Order order : ordersList) {
+            insert(order);
+        }
+    }
+
+    /**
+     * Places an order in its slot without checking the load factor.
+     *
+     * @param order the order to place.
+     */
+    private void insert(Order order) {
+        int id = order.getId();
+        int mask = orders.length - 1;
+        int slot = slotOf(id, mask);
+
+        while (orders[slot] != null) {
+            if (ids[slot] == id) {
+                orders[slot] = order;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        ids[slot] = id;
+        orders[slot] = order;
+        size++;
+    }
+
+    /**
+     * Empties a slot and shifts back any later entries of the same probe sequence, so that lookups never
+     * stop early at the emptied slot (backward shift deletion).
+     *
+     * @param gap  the slot to empty.
+     * @param mask the table mask.
+     */
+    private void closeGap(int gap, int mask) {
+        int slot = (gap + 1) & mask;
+
+        while (orders[slot] != null) {
+            int home = slotOf(ids[slot], mask);
+
+            // move the entry into the gap if the gap lies cyclically between its home slot and its current slot
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                ids[gap] = ids[slot];
+                orders[gap] = orders[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        orders[gap] = null;
+    }
+
+    /**
+     * Rehashes every order into a table with the given number of slots.
+     *
+     * @param capacity the new number of slots (a power of two).
+     */
+    private void resize(int capacity) {
+        Order[] oldOrders = orders;
+
+        ids = new int[capacity];
+        orders = new Order[capacity];
+        size = 0;
+
+        for (int i = 0; i < oldOrders.length; i++) {
+            if (oldOrders[i] != null) {
+                insert(oldOrders[i]);
+            }
+        }
+    }
+
+    /**
+     * Computes the home slot of an ID. Order IDs are sequential, so they are scrambled with a multiplicative
+     * hash to spread neighbouring IDs across the table.
+     *
+     * @param id   the order ID.
+     * @param mask the table mask.
+     * @return the home slot of the ID.
+     */
+    private static int slotOf(int id, int mask) {
+        int hash = id * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,216 @@
+package management;
+
+import java.util.Arrays;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderIdList} class is a set of order IDs kept in ascending order in a growable {@code int} array.
+ * It is used as a posting list by the secondary indexes: checking membership is a binary search, and adding
+ * or removing an ID shifts the IDs after it, which is a single fast array copy for the list sizes of this
+ * application. Since the IDs are primitive, a list of thousands of orders costs a few kilobytes and no boxing.
+ * </p>
+ * <p>Concepts: Array of Primitives, Binary Search, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderIdList {
+    /**
+     * Capacity of a new list.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The IDs in ascending order; only the first {@code size} elements are used.
+     */
+    private int[] ids = new int[INITIAL_CAPACITY];
+
+    /**
+     * The number of IDs in the list.
+     */
+    private int size;
+
+    /**
+     * Adds an ID to the list, keeping it sorted. Does nothing if the ID is already in the list.
+     *
+     * @param id The ID to add.
+     * @return {@code true} if the ID was added, {@code false} if it was already in the list.
+     */
+    public boolean add(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index >= 0) {
+            return false;
+        }
+
+        int insertionPoint = -index - 1;
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(ids, insertionPoint, ids, insertionPoint + 1, size - insertionPoint);
+        ids[insertionPoint] = id;
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes an ID from the list.
+     *
+     * @param id The ID to remove.
+     * @return {@code true} if the ID was removed, {@code false} if it was not in the list.
+     */
+    public boolean remove(int id) {
+        int index = Arrays.binarySearch(ids, 0, size, id);
+        if (index < 0) {
+            return false;
+        }
+
+        System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Checks if an ID is in the list.
+     *
+     * @param id The ID to look for.
+     * @return {@code true} if the ID is in the list, {@code false} otherwise.
+     */
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Gets the ID at a position in the list.
+     *
+     * @param index The position, from 0 (smallest ID) to {@code size() - 1} (largest ID).
+     * @return The ID at that position.
+     * @throws IndexOutOfBoundsException if the position is out of range.
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return ids[index];
+    }
+
+    /**
+     * Gets the number of IDs in the list.
+     *
+     * @return The number of IDs.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return {@code true} if there are no IDs in the list, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every ID from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Copies the IDs into a new array.
+     *
+     * @return The IDs in ascending order.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Merges several lists into one array of IDs, in ascending order. An ID that is in more than one
+     * list appears once. Concept: Merging
+     *
+     * @param lists The lists to merge.
+     * @return The IDs that are in at least one of the lists, in ascending order.
+     */
+    public static int[] union(OrderIdList... lists) {
+        int total = 0;
+        for (OrderIdList list : lists) {
+            total += list.size;
+        }
+
+        int[] merged = new int[total];
+        int[] positions = new int[lists.length];
+        int count = 0;
+
+        while (true) {
+            // pick the smallest next ID among the lists
+            int smallest = Integer.MAX_VALUE;
+            boolean found = false;
+            for (int i = 0; i < lists.length; i++) {
+                if (positions[i] < lists[i].size && (!found || lists[i].ids[positions[i]] < smallest)) {
+                    smallest = lists[i].ids[positions[i]];
+                    found = true;
+                }
+            }
+            if (!found) {
+                return Arrays.copyOf(merged, count);
+            }
+
+            merged[count++] = smallest;
+            for (int i = 0; i < lists.length; i++) {
+                if (positions[i] < lists[i].size && lists[i].ids[positions[i]] == smallest) {
+                    positions[i]++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Intersects several lists into one array of IDs, in ascending order. The smallest list is walked and
+     * each of its IDs is looked up in the other lists with a binary search, so the time taken is proportional
+     * to the size of the smallest list (times the logarithm of the others), however large the others are.
+     * Concept: Binary Search
+     *
+     * @param lists The lists to intersect; at least one.
+     * @return The IDs that are in every one of the lists, in ascending order.
+     */
+    public static int[] intersection(OrderIdList... lists) {
+        OrderIdList[] bySize = lists.clone();
+        Arrays.sort(bySize, (first, second) -> Integer.compare(first.size, second.size));
+
+        OrderIdList smallest = bySize[0];
+        int[] common = new int[smallest.size];
+        int count = 0;
+        for (int i = 0; i < smallest.size; i++) {
+            int id = smallest.ids[i];
+            boolean inAll = true;
+            for (int j = 1; j < bySize.length && inAll; j++) {
+                inAll = bySize[j].contains(id);
+            }
+            if (inAll) {
+                common[count++] = id;
+            }
+        }
+        return Arrays.copyOf(common, count);
+    }
+
+    /**
+     * Creates a list from IDs that are already in ascending order, without copying them.
+     *
+     * @param sortedIds The IDs in ascending order, with no duplicates. Must not be modified afterwards.
+     * @return The list.
+     */
+    static OrderIdList wrap(int[] sortedIds) {
+        OrderIdList list = new OrderIdList();
+        list.ids = sortedIds.length == 0 ? new int[INITIAL_CAPACITY] : sortedIds;
+        list.size = sortedIds.length;
+        return list;
+    }
+}
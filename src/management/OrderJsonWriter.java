@@ -0,0 +1,612 @@
+package management;
+
+import computer.Computer;
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.GamingAdditionalHardware;
+import hardware.LaptopAdditionalHardware;
+import hardware.PrimaryHardware;
+import info.CustomerInfo;
+import info.PickupInfo;
+import info.ShippingInfo;
+import order.Order;
+import order.OrderStatus;
+import order.PickupOrder;
+import order.ShippingOrder;
+import parts.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderJsonWriter} class writes orders as JSON text directly to a {@link Writer}. Each order type,
+ * computer type, piece of hardware and part is written straight from its getters, using the {@link Keys}
+ * constants in a fixed key order, so no intermediate {@code JSONObject} tree is built and no bean reflection
+ * is involved. The same orders always produce byte-for-byte identical output.
+ * </p>
+ * <p>
+ * The output is read back by {@link DatabaseManager}, so only the fields that are needed to rebuild an order
+ * are written (derived values such as whether an order is overdue are left out).
+ * </p>
+ * <p>
+ * Example usage:
+ * <pre>
+ * BufferedWriter bw = Files.newBufferedWriter(Path.of("src/database/orders.json"));
+ * new OrderJsonWriter(bw, true).writeOrders(ordersList);
+ * bw.close();
+ * </pre>
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderJsonWriter {
+    /**
+     * Number of spaces per indentation level when pretty printing.
+     */
+    private static final int INDENT_FACTOR = 2;
+
+    /**
+     * Largest magnitude for which a whole number is written without a fraction or exponent.
+     */
+    private static final double MAX_PLAIN_WHOLE_NUMBER = 1e15;
+
+    /**
+     * Hexadecimal digits used to escape control characters.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The writer the JSON text is written to. Concept: Encapsulation
+     */
+    private final Writer out;
+
+    /**
+     * Whether to put each member on its own indented line.
+     */
+    private final boolean pretty;
+
+    /**
+     * Current nesting depth, used for indentation.
+     */
+    private int depth;
+
+    /**
+     * Whether the array or object currently being written has no members yet.
+     */
+    private boolean firstMember = true;
+
+    /**
+     * Constructs an {@code OrderJsonWriter}.
+     *
+     * @param out    the writer to write the JSON text to. It is not closed by this class.
+     * @param pretty {@code true} to indent the output by two spaces per level like orders.json,
+     *               {@code false} to write everything on a single line.
+     */
+    public OrderJsonWriter(Writer out, boolean pretty) {
+        this.out = out;
+        this.pretty = pretty;
+    }
+
+    /**
+     * Writes the orders as a JSON array.
+     *
+     * @param orders the orders to write, in the order they should appear.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public void writeOrders(Collection<Order> orders) throws IOException {
+        out.write('[');
+        depth++;
+        firstMember = true;
+
+        for (Order order : orders) {
+            beginMember();
+            writeOrderObject(order);
+        }
+
+        end(']');
+    }
+
+    /**
+     * Writes a single order as a JSON object.
+     *
+     * @param order the order to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    public void writeOrder(Order order) throws IOException {
+        writeOrderObject(order);
+    }
+
+    /**
+     * Writes the members of an order, including its shipping or pickup information.
+     *
+     * @param order the order to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeOrderObject(Order order) throws IOException {
+        beginObject();
+        field(Keys.ID, order.getId());
+        field(Keys.TYPE, order.getType());
+        writeOrderStatus(order.getOrderStatus());
+        field(Keys.QUANTITY, order.getQuantity());
+        // same format as DateUtils.stringToDate expects (Ex. Mon Jan 15 17:39:08 EST 2024)
+        field(Keys.ORDER_DATE, order.getOrderDate().toString());
+        field(Keys.FINISH_BY_DATE, order.getFinishByDate().toString());
+        writeCustomerInfo(order.getCustomerInfo());
+
+        if (order instanceof ShippingOrder shippingOrder) {
+            writeShippingInfo(shippingOrder.getShippingInfo());
+        } else if (order instanceof PickupOrder pickupOrder) {
+            writePickupInfo(pickupOrder.getPickupInfo());
+        }
+
+        writeComputer(order.getComputer());
+        endObject();
+    }
+
+    /**
+     * Writes the order status as a member of the current object.
+     *
+     * @param status the order status to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeOrderStatus(OrderStatus status) throws IOException {
+        key(Keys.STATUS);
+        beginObject();
+        field(Keys.CURRENT_STATUS, status.getCurrentStatus());
+        field(Keys.STATUS_NUMBER, status.getStatusNumber());
+        endObject();
+    }
+
+    /**
+     * Writes the customer information as a member of the current object.
+     *
+     * @param customerInfo the customer information to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeCustomerInfo(CustomerInfo customerInfo) throws IOException {
+        key(Keys.CUSTOMER_INFO);
+        beginObject();
+        field(Keys.CUSTOMER_FIRST_NAME, customerInfo.getFirstName());
+        field(Keys.CUSTOMER_LAST_NAME, customerInfo.getLastName());
+        field(Keys.CUSTOMER_EMAIL, customerInfo.getEmail());
+        field(Keys.CUSTOMER_PHONE_NUMBER, customerInfo.getPhoneNumber());
+        field(Keys.CUSTOMER_ADDRESS, customerInfo.getAddress());
+        endObject();
+    }
+
+    /**
+     * Writes the shipping information as a member of the current object.
+     *
+     * @param shippingInfo the shipping information to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeShippingInfo(ShippingInfo shippingInfo) throws IOException {
+        key(Keys.SHIPPING_INFO);
+        beginObject();
+        field(Keys.BILLING_ADDRESS, shippingInfo.getBillingAddress());
+        field(Keys.SHIPPING_ADDRESS, shippingInfo.getShippingAddress());
+        field(Keys.SHIPPING_COMPANY, shippingInfo.getShippingCompany());
+        endObject();
+    }
+
+    /**
+     * Writes the pickup information as a member of the current object.
+     *
+     * @param pickupInfo the pickup information to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writePickupInfo(PickupInfo pickupInfo) throws IOException {
+        key(Keys.PICKUP_INFO);
+        beginObject();
+        field(Keys.BILLING_ADDRESS, pickupInfo.getBillingAddress());
+        field(Keys.PICKUP_ADDRESS, pickupInfo.getPickupAddress());
+        endObject();
+    }
+
+    /**
+     * Writes a computer, including the parts that only gaming computers have.
+     *
+     * @param computer the computer to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeComputer(Computer computer) throws IOException {
+        key(Keys.COMPUTER);
+        beginObject();
+        field(Keys.TYPE, computer.getType());
+        writePrimaryHardware(computer.getPrimaryHardware());
+
+        if (computer instanceof GamingComputer gamingComputer) {
+            writeCase(gamingComputer.getComputerCase());
+            writeCooler(gamingComputer.getCooler());
+            writePowerSupply(gamingComputer.getPowerSupply());
+            writeGamingAdditionalHardware(gamingComputer.getAdditionalHardware());
+        } else if (computer instanceof Laptop laptop) {
+            writeLaptopAdditionalHardware(laptop.getAdditionalHardware());
+        }
+        endObject();
+    }
+
+    /**
+     * Writes the primary hardware as a member of the current object.
+     *
+     * @param primaryHardware the primary hardware to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writePrimaryHardware(PrimaryHardware primaryHardware) throws IOException {
+        key(Keys.PRIMARY_HARDWARE);
+        beginObject();
+        writeCPU(primaryHardware.getCPU());
+        writeGPU(primaryHardware.getGPU());
+        writeRAM(primaryHardware.getRAM());
+        writeMotherboard(primaryHardware.getMotherboard());
+        writeStorage(Keys.STORAGE, primaryHardware.getStorage());
+        endObject();
+    }
+
+    /**
+     * Writes the gaming additional hardware as a member of the current object.
+     *
+     * @param additionalHardware the gaming additional hardware to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeGamingAdditionalHardware(GamingAdditionalHardware additionalHardware) throws IOException {
+        key(Keys.ADDITIONAL_HARDWARE);
+        beginObject();
+        writeStorage(Keys.ADDITIONAL_STORAGE, additionalHardware.getAdditionalStorage());
+        field(Keys.RGB_STRIPS, additionalHardware.isHasRgbStrips());
+        field(Keys.EXTRA_FANS_COUNT, additionalHardware.getExtraFansCount());
+        field(Keys.NOISE_CANCELLING_FANS, additionalHardware.isUseNoiseCancellingFans());
+        endObject();
+    }
+
+    /**
+     * Writes the laptop additional hardware as a member of the current object.
+     *
+     * @param additionalHardware the laptop additional hardware to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeLaptopAdditionalHardware(LaptopAdditionalHardware additionalHardware) throws IOException {
+        key(Keys.ADDITIONAL_HARDWARE);
+        beginObject();
+        writeStorage(Keys.ADDITIONAL_STORAGE, additionalHardware.getAdditionalStorage());
+        field(Keys.HAS_FINGERPRINT_SCANNER, additionalHardware.isHasFingerprintScanner());
+        field(Keys.HAS_TOUCHSCREEN, additionalHardware.isHasTouchscreen());
+        field(Keys.HAS_360_HINGE, additionalHardware.isHas360Hinge());
+        endObject();
+    }
+
+    /**
+     * Writes the brand, model and price that every part has.
+     *
+     * @param part the part to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writePartFields(Part part) throws IOException {
+        field(Keys.BRAND, part.getBrand());
+        field(Keys.MODEL, part.getModel());
+        field(Keys.PRICE, part.getPrice());
+    }
+
+    /**
+     * Writes a CPU as a member of the current object.
+     *
+     * @param cpu the CPU to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeCPU(CPU cpu) throws IOException {
+        key(Keys.CPU);
+        beginObject();
+        writePartFields(cpu);
+        field(Keys.CPU_CORES, cpu.getCores());
+        field(Keys.CPU_THREADS, cpu.getThreads());
+        field(Keys.CPU_PROCESSING_SPEED, cpu.getProcessingSpeed());
+        endObject();
+    }
+
+    /**
+     * Writes a GPU as a member of the current object.
+     *
+     * @param gpu the GPU to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeGPU(GPU gpu) throws IOException {
+        key(Keys.GPU);
+        beginObject();
+        writePartFields(gpu);
+        field(Keys.GPU_RAY_TRACING, gpu.isRayTracing());
+        field(Keys.GPU_CLOCK_SPEED, gpu.getClockSpeed());
+        field(Keys.GPU_VRAM, gpu.getVRAM());
+        endObject();
+    }
+
+    /**
+     * Writes a RAM module as a member of the current object.
+     *
+     * @param ram the RAM module to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeRAM(RAM ram) throws IOException {
+        key(Keys.RAM);
+        beginObject();
+        writePartFields(ram);
+        field(Keys.RAM_MEMORY, ram.getCapacity());
+        field(Keys.RAM_SPEED, ram.getSpeedMHz());
+        field(Keys.TYPE, ram.getType());
+        endObject();
+    }
+
+    /**
+     * Writes a motherboard as a member of the current object.
+     *
+     * @param motherboard the motherboard to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeMotherboard(Motherboard motherboard) throws IOException {
+        key(Keys.MOTHERBOARD);
+        beginObject();
+        writePartFields(motherboard);
+        field(Keys.MOTHERBOARD_SIZE, motherboard.getSize());
+        field(Keys.MOTHERBOARD_WIFI, motherboard.isHasWifi());
+        endObject();
+    }
+
+    /**
+     * Writes a storage device under the given key, or {@code null} if there is none (additional storage is optional).
+     *
+     * @param key     the key to write the storage device under.
+     * @param storage the storage device, or {@code null}.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeStorage(String key, Storage storage) throws IOException {
+        key(key);
+        if (storage == null) {
+            out.write("null");
+            return;
+        }
+        beginObject();
+        writePartFields(storage);
+        field(Keys.STORAGE_SIZE, storage.getCapacityGB());
+        field(Keys.STORAGE_SPEED, storage.getSpeedMBps());
+        endObject();
+    }
+
+    /**
+     * Writes a computer case as a member of the current object.
+     *
+     * @param computerCase the computer case to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeCase(Case computerCase) throws IOException {
+        key(Keys.CASE);
+        beginObject();
+        writePartFields(computerCase);
+        field(Keys.CASE_SIZE, computerCase.getSize());
+        field(Keys.CASE_MATERIAL, computerCase.getMaterial());
+        field(Keys.COLOUR, computerCase.getColour());
+        endObject();
+    }
+
+    /**
+     * Writes a cooler as a member of the current object.
+     *
+     * @param cooler the cooler to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeCooler(Cooler cooler) throws IOException {
+        key(Keys.COOLER);
+        beginObject();
+        writePartFields(cooler);
+        field(Keys.COOLER_RPM, cooler.getRpm());
+        field(Keys.TYPE, cooler.getType());
+        field(Keys.COOLER_FAN_COUNT, cooler.getFanCount());
+        field(Keys.COLOUR, cooler.getColour());
+        endObject();
+    }
+
+    /**
+     * Writes a power supply as a member of the current object.
+     *
+     * @param powerSupply the power supply to write.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writePowerSupply(PowerSupply powerSupply) throws IOException {
+        key(Keys.POWER_SUPPLY);
+        beginObject();
+        writePartFields(powerSupply);
+        field(Keys.PSU_WATTAGE, powerSupply.getWattage());
+        endObject();
+    }
+
+    // The following methods write the JSON syntax itself
+    /**
+     * Writes a member with a string value.
+     *
+     * @param key   the key of the member.
+     * @param value the value of the member.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void field(String key, String value) throws IOException {
+        key(key);
+        writeString(value);
+    }
+
+    /**
+     * Writes a member with an integer value.
+     *
+     * @param key   the key of the member.
+     * @param value the value of the member.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void field(String key, int value) throws IOException {
+        key(key);
+        out.write(Integer.toString(value));
+    }
+
+    /**
+     * Writes a member with a decimal value.
+     *
+     * @param key   the key of the member.
+     * @param value the value of the member.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void field(String key, double value) throws IOException {
+        key(key);
+        writeNumber(value);
+    }
+
+    /**
+     * Writes a member with a boolean value.
+     *
+     * @param key   the key of the member.
+     * @param value the value of the member.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void field(String key, boolean value) throws IOException {
+        key(key);
+        out.write(value ? "true" : "false");
+    }
+
+    /**
+     * Writes the separator and indentation before a member, followed by its key.
+     *
+     * @param key the key of the member.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void key(String key) throws IOException {
+        beginMember();
+        writeString(key);
+        out.write(pretty ? ": " : ":");
+    }
+
+    /**
+     * Writes the separator and indentation before a member of an array or object.
+     *
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void beginMember() throws IOException {
+        if (!firstMember) {
+            out.write(',');
+        }
+        firstMember = false;
+        newLine();
+    }
+
+    /**
+     * Opens a new object.
+     *
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void beginObject() throws IOException {
+        out.write('{');
+        depth++;
+        firstMember = true;
+    }
+
+    /**
+     * Closes the current object.
+     *
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void endObject() throws IOException {
+        end('}');
+    }
+
+    /**
+     * Closes the current array or object. Empty ones are closed on the same line.
+     *
+     * @param closingBracket the bracket that closes the array or object.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void end(char closingBracket) throws IOException {
+        depth--;
+        if (!firstMember) {
+            newLine();
+        }
+        out.write(closingBracket);
+        firstMember = false;
+    }
+
+    /**
+     * Starts a new indented line when pretty printing.
+     *
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void newLine() throws IOException {
+        if (pretty) {
+            out.write('\n');
+            for (int i = 0; i < depth * INDENT_FACTOR; i++) {
+                out.write(' ');
+            }
+        }
+    }
+
+    /**
+     * Writes a number the same way org.json does: whole numbers without a trailing ".0".
+     *
+     * @param value the number to write.
+     * @throws IOException              if an I/O error occurs while writing.
+     * @throws IllegalArgumentException if the number is not finite, since JSON cannot represent it.
+     */
+    private void writeNumber(double value) throws IOException {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("JSON does not allow non-finite numbers: " + value);
+        }
+
+        if (value == Math.rint(value) && Math.abs(value) < MAX_PLAIN_WHOLE_NUMBER) {
+            out.write(Long.toString((long) value));
+        } else {
+            out.write(Double.toString(value));
+        }
+    }
+
+    /**
+     * Writes a quoted JSON string, escaping quotes, backslashes and control characters.
+     *
+     * @param value the string to write, or {@code null}.
+     * @throws IOException if an I/O error occurs while writing.
+     */
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+
+        out.write('"');
+        int start = 0; // start of the current run of characters that need no escaping
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+
+            out.write(value, start, i - start);
+            switch (c) {
+                case '"' -> out.write("\\\"");
+                case '\\' -> out.write("\\\\");
+                case '\n' -> out.write("\\n");
+                case '\r' -> out.write("\\r");
+                case '\t' -> out.write("\\t");
+                case '\b' -> out.write("\\b");
+                case '\f' -> out.write("\\f");
+                default -> {
+                    out.write("\\u00");
+                    out.write(HEX_DIGITS[c >> 4]);
+                    out.write(HEX_DIGITS[c & 0xF]);
+                }
+            }
+            start = i + 1;
+        }
+
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+}
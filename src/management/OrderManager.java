@@ -1,23 +1,32 @@
 package management;
 
 import computer.ComputerType;
-import computer.GamingComputer;
-import computer.Laptop;
 import hardware.AdditionalHardware;
-import hardware.GamingAdditionalHardware;
-import hardware.LaptopAdditionalHardware;
 import info.CustomerInfo;
 import order.Order;
 import order.OrderStatus;
-import order.ShippingOrder;
-import order.PickupOrder;
+import order.OrderType;
 import org.json.JSONException;
+import org.json.JSONObject;
 import parts.*;
+import query.IndexedOrders;
+import query.OrderPredicate;
+import query.OrderQuery;
+import query.QueryPlan;
+import query.QueryPlanner;
 import utils.ConsoleUtils;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * <p>ICS4U</p>
@@ -45,6 +54,22 @@ import java.util.List;
  * </pre>
  * </p>
  *
+ * <p>
+ * An {@code OrderManager} can be shared by many threads, for example one per operator terminal. It is guarded
+ * by a read-write lock: any number of threads can look up, search and report on the orders at the same time,
+ * while adding, updating and deleting orders, saving and loading take turns one at a time. Every write touches
+ * the shared indexes, so writers are serialized rather than striped by order. Methods that return several
+ * orders return a new list, and sorting only changes the order that orders are listed in; the shared list of
+ * orders always stays in ID order. The orders themselves are the live objects, so a reader that holds on to an
+ * order may see a later update to it.
+ * </p>
+ * <p>
+ * Readers that need a consistent view of every order without taking the lock, such as listings, reports and
+ * exports, use {@link #snapshot()} instead. After every change, the writer publishes a new immutable
+ * {@link OrderSnapshot} that copies only the changed order and shares everything else with the previous one.
+ * </p>
+ * <p>Concepts: Concurrency, Read-Write Lock, Copy-on-Write</p>
+ *
  * @author Meherzad Antia
  * @author Stanley Gu
  * @author Daniel Li
@@ -61,6 +86,19 @@ public class OrderManager {
     private static final int ALL_GAMING_COMPUTER_ORDERS = 6;
     private static final int ALL_LAPTOP_ORDERS = 7;
 
+    // Sorters used by the predefined sort orders
+    private static final OrderSorter STATUS_AND_URGENCY_SORTER = OrderSorter.by(OrderSortKey.STATUS).thenBy(OrderSortKey.FINISH_BY_DATE);
+    private static final OrderSorter ID_SORTER = OrderSorter.by(OrderSortKey.ID);
+
+    // Range of status numbers, from custom statuses (-1) to cancelled (3)
+    private static final int LOWEST_STATUS_NUMBER = -1;
+    private static final int STATUS_NUMBER_COUNT = 5;
+
+    /**
+     * Number of milliseconds in a day.
+     */
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * 1000;
+
 
     /**
      * DatabaseManager instance field to handle reading and writing to database (orders.json)
@@ -74,6 +112,96 @@ public class OrderManager {
      */
     private final List<Order> ordersList;
 
+    /**
+     * Hash index from order ID to order, kept in sync with {@code ordersList} so that ID lookups are O(1)
+     * and never reorder the list. Concept: Encapsulation
+     */
+    private final OrderIdIndex orderIdIndex = new OrderIdIndex();
+
+    /**
+     * Secondary index of order IDs by status, order type and computer type, kept in sync with
+     * {@code ordersList} so that counts are O(1) and filtered lists do not scan every order.
+     * Concept: Encapsulation
+     */
+    private final OrderCategoryIndex orderCategoryIndex = new OrderCategoryIndex();
+
+    /**
+     * Running counts and total cost sums per status bucket, kept in sync with {@code ordersList} so that
+     * revenue and average price queries are O(1). Concept: Encapsulation
+     */
+    private final OrderStatistics orderStatistics = new OrderStatistics();
+
+    /**
+     * Index of order IDs by customer full name, kept in sync with {@code ordersList} so that listing the unique
+     * customers and looking up a customer by name do not scan every order. Concept: Encapsulation
+     */
+    private final CustomerIndex customerIndex = new CustomerIndex(false);
+
+    /**
+     * Inverted index of order IDs by the brand and model words of every part, kept in sync with
+     * {@code ordersList} so that component searches do not scan every order. Concept: Encapsulation
+     */
+    private final PartIndex partIndex = new PartIndex();
+
+    /**
+     * Sorted index of order IDs by finish by date, kept in sync with {@code ordersList} so that overdue and
+     * due soon queries are range lookups and the urgency sort does not compare orders. Concept: Encapsulation
+     */
+    private final FinishByDateIndex finishByDateIndex = new FinishByDateIndex();
+
+    /**
+     * Sorted index of order IDs by cached total cost, kept in sync with {@code ordersList} so that price range
+     * and most expensive or cheapest queries do not compute the cost of every order. Concept: Encapsulation
+     */
+    private final PriceIndex priceIndex = new PriceIndex();
+
+    /**
+     * Columns of the additional hardware features of every order, kept in sync with {@code ordersList} so that
+     * spec matching is a single pass over primitive arrays. Concept: Encapsulation
+     */
+    private final AdditionalHardwareColumns additionalHardwareColumns = new AdditionalHardwareColumns();
+
+    /**
+     * Columnar copy of the numbers that reports need from every order, kept in sync with {@code ordersList} so
+     * that reports are loops over primitive arrays, or {@code null} if it is turned off. Concept: Encapsulation
+     */
+    private OrderColumns orderColumns = new OrderColumns();
+
+    /**
+     * The orders and indexes of this manager, as seen by the query planner.
+     */
+    private final IndexedOrders indexedOrders = new ManagerIndexes();
+
+    /**
+     * {@code true} if every revenue and average price query is cross-checked against a full recompute.
+     */
+    private volatile boolean verifyingStatistics;
+
+    /**
+     * The sorter that {@link #printAllOrders()} and {@link #getListedOrders()} list the orders with.
+     */
+    private volatile OrderSorter listingSorter = ID_SORTER;
+
+    /**
+     * Guards the orders list, the indexes and the database manager. Readers share the read lock, and every
+     * change takes the write lock. Concept: Read-Write Lock
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock readLock = lock.readLock();
+    private final Lock writeLock = lock.writeLock();
+
+    /**
+     * The latest snapshot of the orders. It is only replaced with the write lock held, and read without any
+     * lock. Concept: Copy-on-Write
+     */
+    private final AtomicReference<OrderSnapshot> snapshot = new AtomicReference<>(OrderSnapshot.EMPTY);
+
+    /**
+     * Taken by exports of a snapshot, so that two exports never write orders.json at the same time and a
+     * newer snapshot is never overwritten by an older one.
+     */
+    private final Object exportMonitor = new Object();
+
     /**
      * Constructs an OrderManager and initializes the order list by loading data from the database.
      *
@@ -83,8 +211,22 @@ public class OrderManager {
      * will automatically reflect in {@code DatabaseManager}'s ordersList
      */
     public OrderManager() throws IOException {
-        databaseManager = new DatabaseManager();
+        this(new DatabaseManager());
+    }
+
+    /**
+     * Constructs an OrderManager that manages the orders loaded by the given database manager.
+     *
+     * @param databaseManager The database manager that has loaded the orders.
+     * @throws IOException If an I/O error occurs while syncing the ID counter.
+     * @apiNote As with {@link #OrderManager()}, the {@code ordersList} is the same list as the database
+     * manager's ordersList.
+     */
+    public OrderManager(DatabaseManager databaseManager) throws IOException {
+        this.databaseManager = databaseManager;
         ordersList = databaseManager.getAllOrders();
+        ID_SORTER.sort(ordersList);
+        rebuildIndexes();
         idificateIt();
     }
 
@@ -98,12 +240,53 @@ public class OrderManager {
     }
 
     /**
-     * Retrieves the list of orders.
+     * Retrieves a copy of the list of orders.
      *
-     * @return The list of orders.
+     * @return An unmodifiable copy of the list of orders, in order of ID. Later changes to the orders list are
+     *         not reflected in the copy.
      */
     public List<Order> getOrdersList() {
-        return ordersList;
+        readLock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(ordersList));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves a copy of the list of orders in the order chosen by the last sort, see {@link #sortOrders(OrderSorter)}.
+     *
+     * @return A new list of every order, in listing order.
+     */
+    public List<Order> getListedOrders() {
+        return getSortedOrders(listingSorter);
+    }
+
+    /**
+     * Retrieves a copy of the list of orders sorted with the given sorter, without changing the orders list.
+     *
+     * @param sorter The sorter describing the keys to sort by, see {@link OrderSorter}. Orders that are tied on
+     *               every key of the sorter stay in order of ID.
+     * @return A new list of every order, in sorted order.
+     */
+    public List<Order> getSortedOrders(OrderSorter sorter) {
+        readLock.lock();
+        try {
+            return sorter == STATUS_AND_URGENCY_SORTER ? ordersByStatusAndMostUrgent() : sortedCopy(sorter);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Gets the latest snapshot of the orders, without taking a lock. The snapshot never changes, so every
+     * order in it is as it was at the same moment, however long it is read for. Concept: Copy-on-Write
+     *
+     * @return The latest snapshot.
+     */
+    public OrderSnapshot snapshot() {
+        return snapshot.get();
     }
 
     /**
@@ -119,14 +302,22 @@ public class OrderManager {
      * Sets the associated {@code orderList}
      *
      * @param ordersList The new {@code orderList} to set.
+     * @throws IOException If an I/O error occurs while writing the database file.
      * @apiNote This method does not directly set the {@code this.orderList} but instead clears the
      * {@code this.orderList} and adds all the items from the new {@code orderList} to prevent
      * the sync between {@code DatabaseManager} and {@code OrderManager} from breaking
      */
-    public void setOrdersList(List<Order> ordersList) {
-        this.ordersList.clear();
-        this.ordersList.addAll(ordersList);
-        saveOrdersToDatabase();
+    public void setOrdersList(List<Order> ordersList) throws IOException {
+        writeLock.lock();
+        try {
+            this.ordersList.clear();
+            this.ordersList.addAll(ordersList);
+            ID_SORTER.sort(this.ordersList);
+            rebuildIndexes();
+            saveOrdersToDatabase();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -135,7 +326,12 @@ public class OrderManager {
      * @return The number of orders.
      */
     public int ordersCount() {
-        return ordersList.size();
+        readLock.lock();
+        try {
+            return ordersList.size();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
@@ -156,143 +352,338 @@ public class OrderManager {
 
     /**
      * Finds and returns a list of orders that match the specified additional hardware and percentage criteria.
+     * The orders are scored in one pass over the additional hardware columns, see {@link AdditionalHardwareColumns}.
      *
      * @param otherAdditionalHardware The additional hardware to match against.
      * @param percent The percentage match threshold.
-     * @return List of orders matching the given criteria.
+     * @return List of orders matching the given criteria, in order of ID.
      */
     public List<Order> findMatchingOrdersByAdditionalHardwareAndPercent(AdditionalHardware otherAdditionalHardware, double percent) {
-
-        List<Order> matchedOrders = new ArrayList<>();
-
-        boolean isGaming = otherAdditionalHardware instanceof GamingAdditionalHardware;
-
-        for (Order currOrder : ordersList) {
-            if (isGaming && currOrder.getComputer().getType().equalsIgnoreCase(ComputerType.GAMING)) {
-                GamingComputer currGamingComputer = (GamingComputer) currOrder.getComputer();
-
-                if (currGamingComputer.getAdditionalHardware().getAdditionalStorage() != null) {
-                    GamingAdditionalHardware currGamingAdditionalHardware = currGamingComputer.getAdditionalHardware();
-                    if (currGamingAdditionalHardware.matchSpecs(otherAdditionalHardware, percent)) {
-                        matchedOrders.add(currOrder);
-                    }
-                }
-            } else if (!isGaming && currOrder.getComputer().getType().equalsIgnoreCase(ComputerType.LAPTOP)) {
-                Laptop currLaptop = (Laptop) currOrder.getComputer();
-
-                if (currLaptop.getAdditionalHardware().getAdditionalStorage() != null) {
-                    LaptopAdditionalHardware currLaptopAdditionalHardware = currLaptop.getAdditionalHardware();
-                    if (currLaptopAdditionalHardware.matchSpecs(otherAdditionalHardware, percent)) {
-                        matchedOrders.add(currOrder);
-                    }
-                }
-            }
+        readLock.lock();
+        try {
+            return ordersWithIds(additionalHardwareColumns.matchingIds(otherAdditionalHardware, percent));
+        } finally {
+            readLock.unlock();
         }
-        return matchedOrders;
     }
 
     /**
-     * Retrieves a list of unique customer information from all orders.
+     * Retrieves a list of unique customer information from all orders, using the customer index. Customers
+     * are the same if their first and last names are equal, ignoring case. The customer information of each
+     * customer's lowest ID order is used.
+     * Concept: Hashing
      *
      * @return List of unique customer information.
      */
     public List<CustomerInfo> viewAllUniqueCustomerInfo() {
-
-        List<String> fullCustomerNames = new ArrayList<>();
-        List<CustomerInfo> customerInfoList = new ArrayList<>();
-
-        for (Order currOrder : ordersList) {
-            CustomerInfo customerInfo = currOrder.getCustomerInfo();
-            String firstName = customerInfo.getFirstName();
-            String lastname = customerInfo.getLastName();
-            String fullName = firstName + lastname;
-
-            if (!fullCustomerNames.contains(fullName)) {
-                fullCustomerNames.add(fullName);
-                customerInfoList.add(customerInfo);
+        readLock.lock();
+        try {
+            List<CustomerInfo> customerInfoList = new ArrayList<>(customerIndex.customerCount());
+            for (int id : customerIndex.firstOrderIdOfEachCustomer()) {
+                customerInfoList.add(orderIdIndex.get(id).getCustomerInfo());
             }
+            return customerInfoList;
+        } finally {
+            readLock.unlock();
         }
-        return customerInfoList;
     }
 
     /**
-     * Prints customer information based on the provided first name and last name.
+     * Prints customer information based on the provided first name and last name, ignoring case,
+     * using the customer index. Concept: Hashing
      *
      * @param firstName The first name of the customer.
      * @param lastName  The last name of the customer.
      * @return {@code true} if customer information is found and printed, {@code false} otherwise.
      */
     public boolean printCustomerInfoByFullName(String firstName, String lastName){
-        for (Order currOrder : ordersList) {
-            CustomerInfo customerInfo = currOrder.getCustomerInfo();
+        CustomerInfo customerInfo;
+        readLock.lock();
+        try {
+            int[] ids = customerIndex.orderIdsOf(firstName, lastName);
+            if (ids.length == 0) {
+                return false;
+            }
+            customerInfo = orderIdIndex.get(ids[0]).getCustomerInfo();
+        } finally {
+            readLock.unlock();
+        }
+        ConsoleUtils.boxCustomerInfo(customerInfo).render();
+        return true;
+    }
 
-            if (customerInfo.getFirstName().equalsIgnoreCase(firstName) && customerInfo.getLastName().equalsIgnoreCase(lastName)) {
-                ConsoleUtils.boxCustomerInfo(customerInfo).render();
+    /**
+     * Retrieves the orders placed by the customer with the given first name and last name, ignoring case.
+     *
+     * @param firstName The first name of the customer.
+     * @param lastName  The last name of the customer.
+     * @return The customer's orders in ascending ID order, or an empty list if there is no such customer.
+     */
+    public List<Order> findOrdersByCustomerName(String firstName, String lastName) {
+        readLock.lock();
+        try {
+            return ordersWithIds(customerIndex.orderIdsOf(firstName, lastName));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the order history of the customer with the given first name and last name, ignoring case:
+     * their orders, lifetime spend and number of open orders. Uses the customer index, so the time taken
+     * depends only on the number of orders of that customer.
+     * Concept: Hashing
+     *
+     * @param firstName The first name of the customer.
+     * @param lastName  The last name of the customer.
+     * @return The customer's order history, which is empty if there is no such customer.
+     */
+    public CustomerOrderHistory getCustomerOrderHistory(String firstName, String lastName) {
+        return new CustomerOrderHistory(findOrdersByCustomerName(firstName, lastName));
+    }
+
+    /**
+     * Replaces the customer information of an order.
+     *
+     * @param order        The order with the customer information to be updated.
+     * @param customerInfo The new customer information.
+     * @return {@code true} if the order is found and updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
+     */
+    public boolean updateOrderCustomerInfo(Order order, CustomerInfo customerInfo) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.setCustomerInfo(customerInfo);
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
                 return true;
             }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
-     * Sorts the orders in the list by order status and finish by date in ascending order.
-     * Uses the selection sort algorithm.
+     * Lists the orders by order status and finish by date in ascending order from now on. Orders with the same
+     * status and finish by date are listed by ID. The orders list itself is not reordered.
      */
     public void sortOrdersByStatusAndMostUrgent() {
-        // uses selection sort
-        for (int i = 0; i < ordersList.size(); i++) {
-            int minIndex = i;
-
-            for (int j = i + 1; j < ordersList.size(); j++) {
-                Order currOrder = ordersList.get(j);
-                Order minOrder = ordersList.get(minIndex);
-
-                if(currOrder.compareToOrderStatus(minOrder) < 0){
-                    minIndex = j;
-                } else if (currOrder.compareToOrderStatus(minOrder) == 0 && currOrder.compareToFinishByDate(minOrder) < 0){
-                    minIndex = j;
-                }
+        sortOrders(STATUS_AND_URGENCY_SORTER);
+    }
+
+    /**
+     * Lists the orders by order ID in ascending order from now on.
+     */
+    public void sortOrdersByID() {
+        sortOrders(ID_SORTER);
+    }
+
+    /**
+     * Lists the orders with the given sorter from now on, in {@link #printAllOrders()} and
+     * {@link #getListedOrders()}. Orders that are tied on every key of the sorter are listed by ID.
+     * The orders list itself is not reordered, so threads that are reading it are not affected.
+     *
+     * @param sorter The sorter describing the keys to sort by, see {@link OrderSorter}.
+     */
+    public void sortOrders(OrderSorter sorter) {
+        listingSorter = sorter;
+    }
+
+    /**
+     * Sorts a copy of the orders list by order status and finish by date in ascending order. Orders with the
+     * same status and finish by date are sorted by ID. Must be called with the read lock held.
+     * <p>
+     * The finish by date index already lists the orders from most to least urgent, so a single stable pass that
+     * groups them by status number (a counting sort) is all that is left to do, in O(n) time.
+     * </p>
+     * Concept: Counting Sort
+     *
+     * @return A new list of every order, in sorted order.
+     */
+    private List<Order> ordersByStatusAndMostUrgent() {
+        int[] idsByDate = finishByDateIndex.idsByFinishByDate();
+        if (idsByDate.length != ordersList.size()) { // duplicate IDs in the list, so sort the usual way
+            return sortedCopy(STATUS_AND_URGENCY_SORTER);
+        }
+
+        Order[] byDate = new Order[idsByDate.length];
+        int[] statusCounts = new int[STATUS_NUMBER_COUNT + 1];
+        for (int i = 0; i < idsByDate.length; i++) {
+            byDate[i] = orderIdIndex.get(idsByDate[i]);
+            int statusNumber = byDate[i].getOrderStatus().getStatusNumber();
+            if (statusNumber < LOWEST_STATUS_NUMBER || statusNumber >= LOWEST_STATUS_NUMBER + STATUS_NUMBER_COUNT) {
+                return sortedCopy(STATUS_AND_URGENCY_SORTER); // a status number the buckets do not cover
             }
-            Order temp = ordersList.get(i);
-            ordersList.set(i, ordersList.get(minIndex));
-            ordersList.set(minIndex, temp);
+            statusCounts[statusNumber - LOWEST_STATUS_NUMBER + 1]++;
         }
+
+        for (int bucket = 1; bucket <= STATUS_NUMBER_COUNT; bucket++) {
+            statusCounts[bucket] += statusCounts[bucket - 1]; // now the start of each bucket
+        }
+        Order[] sorted = new Order[byDate.length];
+        for (Order order : byDate) {
+            sorted[statusCounts[order.getOrderStatus().getStatusNumber() - LOWEST_STATUS_NUMBER]++] = order;
+        }
+        return new ArrayList<>(Arrays.asList(sorted));
     }
 
     /**
-     * Sorts the orders in the list by order ID in ascending order. Uses the insertion sort algorithm.
+     * Sorts a copy of the orders list. Must be called with the read lock held.
+     *
+     * @param sorter The sorter describing the keys to sort by.
+     * @return A new list of every order, in sorted order.
      */
-    public void sortOrdersByID() {
+    private List<Order> sortedCopy(OrderSorter sorter) {
+        List<Order> sorted = new ArrayList<>(ordersList);
+        sorter.sort(sorted);
+        return sorted;
+    }
 
-        for (int i = 0; i < ordersList.size(); i++) {
+    /**
+     * Checks if an order is one of the orders of this manager, and not, for example, an order that another
+     * thread has deleted since it was found. Must be called with the read or write lock held.
+     *
+     * @param order The order to check.
+     * @return {@code true} if the order is in the orders list, {@code false} otherwise.
+     */
+    private boolean isManaged(Order order) {
+        return order != null && orderIdIndex.get(order.getId()) == order;
+    }
 
-            int j = i;
-            Order order = ordersList.get(i);
-            while (j > 0 && order.compareToId(ordersList.get(j - 1)) < 0) {
-                ordersList.set(j, ordersList.get(j - 1));
-                j--;
+    /**
+     * Finds the position of a managed order in the orders list. The orders list is kept in ID order, so the
+     * order is found with a binary search on its ID, instead of comparing it with every order in the list.
+     * Must be called with the read or write lock held. Concept: Binary Search
+     *
+     * @param order The order to find, which must be in the orders list.
+     * @return The position of the order in the orders list.
+     */
+    private int positionOf(Order order) {
+        int id = order.getId();
+        int low = 0;
+        int high = ordersList.size() - 1;
+        while (low < high) { // first position whose ID is not less than the ID
+            int mid = (low + high) >>> 1;
+            if (ordersList.get(mid).getId() < id) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
+        }
 
-            ordersList.set(j, order);
+        // several orders may share the ID, so find this very order among them
+        for (int position = low; position < ordersList.size() && ordersList.get(position).getId() == id; position++) {
+            if (ordersList.get(position) == order) {
+                return position;
+            }
         }
+        throw new IllegalStateException("Order " + id + " is not in the orders list");
     }
 
     /**
-     * Adds a new order to the system.
+     * Adds a new order to the system. The order is added to every index before it is saved, like the changes
+     * made by the {@code update} methods, so an order that fails to save can still be found, changed and deleted.
      *
      * @param computerType The type of computer for the order, specified by {@link computer.ComputerType}.
      * @param orderType    The type of order, specified by {@link order.OrderType}.
      * @throws IOException If an I/O error occurs while adding the order.
      */
     public void addOrder(String computerType, String orderType) throws IOException {
-        databaseManager.addOrder(computerType, orderType);
+        writeLock.lock();
+        try {
+            Order order = databaseManager.appendNewOrder(computerType, orderType);
+            indexOrder(order);
+            databaseManager.saveOrder(order);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
-     * Prints details of all orders in the list to the console.
+     * Adds a new order to the system from a JSON representation in the same format as the input files,
+     * see {@link DatabaseManager#appendNewOrder(JSONObject)}. The order is added to every index before it is saved.
+     *
+     * @param json The JSON object representing the order.
+     * @return The newly added order.
+     * @throws IOException              If an I/O error occurs while adding the order.
+     * @throws JSONException            If a member of the order is missing or has the wrong type.
+     * @throws IllegalArgumentException If the order type, computer type or status number is invalid.
+     */
+    public Order addOrder(JSONObject json) throws IOException, JSONException {
+        writeLock.lock();
+        try {
+            Order order = databaseManager.appendNewOrder(json);
+            indexOrder(order);
+            databaseManager.saveOrder(order);
+            return order;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Imports every order file of a directory at once, see {@link DatabaseManager#parseImportDirectory(Path)}.
+     * The files are read and checked in parallel without holding up other threads; only committing the
+     * valid orders takes the write lock.
+     *
+     * @param directory The directory to import.
+     * @return The committed batch, with the imported orders and an error for each file that could not be read.
+     * @throws IOException If the directory cannot be listed, or an I/O error occurs while saving the orders.
+     */
+    public ImportBatch importOrdersFromDirectory(Path directory) throws IOException {
+        return commitImport(databaseManager.parseImportDirectory(directory));
+    }
+
+    /**
+     * Imports every order of an NDJSON stream at once, one order per line, see
+     * {@link DatabaseManager#parseImportNdjson(Reader)}. The orders are checked in parallel without holding up
+     * other threads; only committing the valid orders takes the write lock.
+     *
+     * @param reader The stream to import, which is read to the end but not closed.
+     * @return The committed batch, with the imported orders and an error for each line that could not be read.
+     * @throws IOException If an I/O error occurs while reading the stream or saving the orders.
+     */
+    public ImportBatch importOrdersFromNdjson(Reader reader) throws IOException {
+        return commitImport(databaseManager.parseImportNdjson(reader));
+    }
+
+    /**
+     * Commits the valid orders of a bulk import read with {@link DatabaseManager#parseImportDirectory(Path)} or
+     * {@link DatabaseManager#parseImportNdjson(Reader)}. The orders are appended to the list and added to every
+     * index before they are saved, like a single new order. If saving fails, the orders stay in the list and the
+     * indexes, the batch is not marked as committed, and this method can be called again with the same batch to
+     * save them.
+     *
+     * @param batch The batch to commit.
+     * @return The committed batch.
+     * @throws IOException           If an I/O error occurs while saving the orders.
+     * @throws IllegalStateException If the batch has already been committed.
+     */
+    public ImportBatch commitImport(ImportBatch batch) throws IOException {
+        writeLock.lock();
+        try {
+            if (databaseManager.appendImport(batch)) {
+                for (Order order : batch.getOrders()) {
+                    indexOrder(order);
+                }
+            }
+            databaseManager.saveImport(batch);
+            return batch;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Prints details of all orders to the console, in the order chosen by the last sort. The orders are read
+     * from the latest snapshot, so printing does not hold up changes to the orders.
      */
     public void printAllOrders(){
-        printOrderList(ordersList);
+        List<Order> orders = new ArrayList<>(snapshot().getOrders());
+        listingSorter.sort(orders);
+        printOrderList(orders);
     }
 
     /**
@@ -301,14 +692,21 @@ public class OrderManager {
      * @param order        The order with its status to be updated.
      * @param statusNumber The new status number.
      * @return {@code true} if the order is found and updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderStatus(Order order, int statusNumber){
-        if (order != null) {
-            order.updateStatus(statusNumber);
-            saveOrdersToDatabase();
-            return true;
+    public boolean updateOrderStatus(Order order, int statusNumber) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.updateStatus(statusNumber);
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -317,14 +715,21 @@ public class OrderManager {
      * @param order        The order with its status to be updated.
      * @param customStatus The new custom status.
      * @return {@code true} if the order is found and updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderStatus(Order order, String customStatus){
-        if (order != null) {
-            order.updateStatus(new OrderStatus(customStatus));
-            saveOrdersToDatabase();
-            return true;
+    public boolean updateOrderStatus(Order order, String customStatus) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.updateStatus(new OrderStatus(customStatus));
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -338,15 +743,21 @@ public class OrderManager {
      * @param threads          The number of CPU threads.
      * @param processingSpeed The processing speed of the CPU.
      * @return {@code true} if the order is found and CPU details are updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderCPU(Order order, String brand, String model, double price, int cores, int threads, double processingSpeed) {
-
-        if (order != null) {
-            order.getComputer().getPrimaryHardware().setCPU(new CPU(price, model, brand, cores, threads, processingSpeed));
-            saveOrdersToDatabase();
-            return true;
+    public boolean updateOrderCPU(Order order, String brand, String model, double price, int cores, int threads, double processingSpeed) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.getComputer().getPrimaryHardware().setCPU(new CPU(price, model, brand, cores, threads, processingSpeed));
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -360,15 +771,21 @@ public class OrderManager {
      * @param clockSpeed   The clock speed of the GPU.
      * @param VRAM         The VRAM (Video RAM) capacity of the GPU.
      * @return {@code true} if the order is found and GPU details are updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderGPU(Order order, String brand, String model, double price, boolean rayTracing, double clockSpeed, int VRAM) {
-
-        if (order != null) {
-            order.getComputer().getPrimaryHardware().setGPU(new GPU(price, model, brand, rayTracing, clockSpeed, VRAM));
-            saveOrdersToDatabase();
-            return true;
+    public boolean updateOrderGPU(Order order, String brand, String model, double price, boolean rayTracing, double clockSpeed, int VRAM) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.getComputer().getPrimaryHardware().setGPU(new GPU(price, model, brand, rayTracing, clockSpeed, VRAM));
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -382,15 +799,21 @@ public class OrderManager {
      * @param capacity The capacity of the RAM.
      * @param speedMHz The speed of the RAM in megahertz.
      * @return {@code true} if the order is found and RAM details are updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderRAM(Order order, String brand, String model, double price, String type, int capacity, int speedMHz) {
-
-        if (order != null) {
-            order.getComputer().getPrimaryHardware().setRAM(new RAM(price, model, brand, type, capacity, speedMHz));
-            saveOrdersToDatabase();
-            return true;
+    public boolean updateOrderRAM(Order order, String brand, String model, double price, String type, int capacity, int speedMHz) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.getComputer().getPrimaryHardware().setRAM(new RAM(price, model, brand, type, capacity, speedMHz));
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -403,15 +826,21 @@ public class OrderManager {
      * @param size    The size of the motherboard.
      * @param hasWifi Indicates whether the motherboard has Wi-Fi capability.
      * @return {@code true} if the order is found and motherboard details are updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderMotherboard(Order order, String brand, String model, double price, String size, boolean hasWifi){
-
-        if (order != null) {
-            order.getComputer().getPrimaryHardware().setMotherboard(new Motherboard(price, model, brand, size, hasWifi));
-            saveOrdersToDatabase();
-            return true;
+    public boolean updateOrderMotherboard(Order order, String brand, String model, double price, String size, boolean hasWifi) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.getComputer().getPrimaryHardware().setMotherboard(new Motherboard(price, model, brand, size, hasWifi));
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -424,15 +853,48 @@ public class OrderManager {
      * @param capacityGB  The capacity of the storage device in gigabytes.
      * @param speedMBps   The speed of the storage device in megabytes per second.
      * @return {@code true} if the order is found and storage details are updated, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean updateOrderStorage(Order order, String brand, String model, double price, int capacityGB, int speedMBps){
+    public boolean updateOrderStorage(Order order, String brand, String model, double price, int capacityGB, int speedMBps) throws IOException {
+        writeLock.lock();
+        try {
+            if (isManaged(order)) {
+                order.getComputer().getPrimaryHardware().setStorage(new Storage(price, model, brand, speedMBps, capacityGB));
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
+        }
+    }
 
-        if (order != null) {
-            order.getComputer().getPrimaryHardware().setStorage(new Storage(price, model, brand, speedMBps, capacityGB));
-            saveOrdersToDatabase();
-            return true;
+    /**
+     * Updates the number of computers in an order.
+     *
+     * @param order    The order with the quantity to be updated.
+     * @param quantity The new number of computers, at least 1.
+     * @return {@code true} if the order is found and updated, {@code false} otherwise.
+     * @throws IllegalArgumentException If the quantity is less than 1.
+     * @throws IOException              If an I/O error occurs while saving the change to the database.
+     */
+    public boolean updateOrderQuantity(Order order, int quantity) throws IOException {
+        writeLock.lock();
+        try {
+            if (quantity < 1) {
+                throw new IllegalArgumentException("Invalid quantity: " + quantity);
+            }
+            if (isManaged(order)) {
+                order.setQuantity(quantity);
+                reindexOrder(order);
+                databaseManager.saveOrder(order);
+                return true;
+            }
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-        return false;
     }
 
     /**
@@ -440,19 +902,24 @@ public class OrderManager {
      *
      * @param id The ID of the order to be deleted.
      * @return {@code true} if the order is found and deleted, {@code false} otherwise.
+     * @throws IOException If an I/O error occurs while saving the change to the database.
      */
-    public boolean deleteOrder(int id) {
-
-        int orderToDeleteIndex = binarySearchIndexById(id);
+    public boolean deleteOrder(int id) throws IOException {
+        writeLock.lock();
+        try {
+            Order orderToDelete = findOrderById(id);
+
+            if(orderToDelete != null){
+                ordersList.remove(positionOf(orderToDelete));
+                unindexOrder(orderToDelete);
+                databaseManager.saveOrderDeletion(id);
+                return true;
+            }
 
-        if(orderToDeleteIndex != -1){
-            ordersList.remove(orderToDeleteIndex);
-            sortOrdersByID();
-            saveOrdersToDatabase();
-            return true;
+            return false;
+        } finally {
+            writeLock.unlock();
         }
-
-        return false;
     }
 
     /**
@@ -462,78 +929,130 @@ public class OrderManager {
      * @return The total cost of the order, or -1 if the order is not found.
      */
     public double orderTotalCost(int id) {
-        Order order = findOrderById(id);
-        if(order != null){
-            return order.totalCost();
-        }
-        return -1;
+        readLock.lock();
+        try {
+            Order order = findOrderById(id);
+            if(order != null){
+                return order.totalCost();
+            }
+            return -1;
 
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
      * Calculates the expected revenue based on the total cost of all not started and in progress orders.
+     * The revenue is read from the running statistics in O(1).
      *
      * @return The expected revenue.
+     * @throws IllegalStateException If statistics verification is on and the running statistics do not
+     *                               match a full recompute.
      */
     public double calculateExpectedRevenue() {
-        double expectedRevenue = 0;
-
-        List<Order> currentOrders = allCurrentOrders();
-        int size = currentOrders.size();
-
-        for (Order currentOrder : currentOrders) {
-            expectedRevenue += currentOrder.totalCost();
+        readLock.lock();
+        try {
+            verifyStatistics();
+            return orderStatistics.expectedRevenue();
+        } finally {
+            readLock.unlock();
         }
-
-        return expectedRevenue;
     }
 
 
     /**
      * Calculates the average price of all orders (current, completed, and custom).
+     * The average is read from the running statistics in O(1).
      *
      * @return The average price of all orders.
+     * @throws IllegalStateException If statistics verification is on and the running statistics do not
+     *                               match a full recompute.
      */
     public double calculateAveragePriceOfAllOrders() {
-        double priceSum = 0;
-        int count = 0;
+        readLock.lock();
+        try {
+            verifyStatistics();
+            return orderStatistics.averagePriceExceptCancelled();
+        } finally {
+            readLock.unlock();
+        }
+    }
 
-        List<Order> currentOrders = allCurrentOrders();
-        List<Order> completedOrders = allCompletedOrders();
-        List<Order> customOrders = allCustomOrders();
+    /**
+     * Turns statistics verification on or off. While it is on, every revenue and average price query also
+     * recomputes the statistics from every order and fails if the running statistics disagree. This makes
+     * the queries O(n) again, so it is meant for debugging and testing.
+     *
+     * @param verifyingStatistics {@code true} to cross-check every query, {@code false} to trust the running statistics.
+     */
+    public void setVerifyingStatistics(boolean verifyingStatistics) {
+        this.verifyingStatistics = verifyingStatistics;
+    }
 
-        for (Order currentOrder : currentOrders) {
-            priceSum += currentOrder.totalCost();
-            count++;
-        }
-        for (Order completedOrder : completedOrders) {
-            priceSum += completedOrder.totalCost();
-            count++;
+    /**
+     * Turns the columnar copy of the orders used by reports on or off. While it is off, reports are made from
+     * the latest snapshot without taking a lock, and the first report on each snapshot copies its orders into
+     * columns, which saves memory between changes but makes the first report after a change slower.
+     *
+     * @param maintainingOrderColumns {@code true} to keep the columns in sync with every change, {@code false}
+     *                                to drop them.
+     */
+    public void setMaintainingOrderColumns(boolean maintainingOrderColumns) {
+        writeLock.lock();
+        try {
+            if (!maintainingOrderColumns) {
+                orderColumns = null;
+            } else if (orderColumns == null) {
+                orderColumns = new OrderColumns();
+                orderColumns.rebuild(ordersList);
+            }
+        } finally {
+            writeLock.unlock();
         }
-        for (Order customOrder : customOrders) {
-            priceSum += customOrder.totalCost();
-            count++;
+    }
+
+    /**
+     * Groups the orders placed in a range of dates by a dimension, and sums the number of orders and computers,
+     * the total costs, and the part prices of each group, using the columnar copy of the orders.
+     * For example, the revenue and average GPU price of gaming computers and of laptops.
+     *
+     * @param dimension The dimension to group by, see {@link ReportDimension}.
+     * @param from      The earliest order date, inclusive, or {@code null} for no lower bound.
+     * @param to        The latest order date, inclusive, or {@code null} for no upper bound.
+     * @return A summary of every group of the dimension, in group order, including groups with no orders.
+     */
+    public List<GroupSummary> summarizeOrders(ReportDimension dimension, Date from, Date to) {
+        readLock.lock();
+        try {
+            if (orderColumns != null) {
+                return orderColumns.summarize(dimension, from, to);
+            }
+        } finally {
+            readLock.unlock();
         }
+        return snapshot().summarize(dimension, from, to);
+    }
 
-        return priceSum / count;
+    /**
+     * Cross-checks the running statistics against a full recompute if statistics verification is on.
+     *
+     * @throws IllegalStateException If the running statistics do not match the recompute.
+     */
+    private void verifyStatistics() {
+        if (verifyingStatistics && !orderStatistics.matches(ordersList)) {
+            throw new IllegalStateException("Order statistics are out of sync with the orders list");
+        }
     }
 
     /**
-     * Filters orders based on their order status.
+     * Filters orders based on their order status, using the category index.
      *
      * @param status The order status to filter by.
-     * @return A list of orders with the specified status.
+     * @return A list of orders with the specified status, in order of ID.
      */
     public List<Order> filterOrdersByStatus(OrderStatus status) {
-        List<Order> filteredList = new ArrayList<>();
-
-        for (Order order : ordersList) {
-            if (order.getOrderStatus().equals(status)) {
-                filteredList.add(order);
-            }
-        }
-
-        return filteredList;
+        return query(OrderQuery.where(OrderPredicate.hasStatus(status)));
     }
 
     /**
@@ -560,204 +1079,446 @@ public class OrderManager {
     /**
      * Retrieves a list of all current orders.
      *
-     * @return A list of all current orders.
+     * @return A list of all current orders (orders with a status of "not started" or "in progress"), in order of ID.
      */
     public List<Order> allCurrentOrders() {
-        List<Order> currentOrders = new ArrayList<>();
-
-        for (Order order : ordersList) {
-            if (order.getOrderStatus().isCurrent()) {
-                currentOrders.add(order);
-            }
+        readLock.lock();
+        try {
+            return ordersWithIds(orderCategoryIndex.currentIds());
+        } finally {
+            readLock.unlock();
         }
-
-        return currentOrders;
     }
 
     /**
      * Retrieves a list of all custom orders.
      *
-     * @return A list of all custom orders.
+     * @return A list of all custom orders, in order of ID.
      */
     public List<Order> allCustomOrders() {
-        List<Order> customOrders = new ArrayList<>();
-        for (Order order : ordersList) {
-            if (order.getOrderStatus().isCustom()) customOrders.add(order);
+        readLock.lock();
+        try {
+            return ordersWithIds(orderCategoryIndex.customStatusIds());
+        } finally {
+            readLock.unlock();
         }
-        return customOrders;
     }
 
     /**
      * Retrieves a list of all completed orders.
      *
-     * @return A list of all completed orders.
+     * @return A list of all completed orders, in order of ID.
      */
     public List<Order> allCompletedOrders() {
-        List<Order> completedOrders = new ArrayList<>();
-
-        for (Order currOrder : ordersList) {
-            if (currOrder.getOrderStatus().equals(OrderStatus.COMPLETED)) {
-                completedOrders.add(currOrder);
-            }
+        readLock.lock();
+        try {
+            return filterOrdersByStatus(OrderStatus.COMPLETED);
+        } finally {
+            readLock.unlock();
         }
-
-        return completedOrders;
     }
 
     /**
      * Retrieves a list of all cancelled orders.
      *
-     * @return A list of all cancelled orders.
+     * @return A list of all cancelled orders, in order of ID.
      */
     public List<Order> allCancelledOrders() {
-
-        List<Order> cancelledOrders = new ArrayList<>();
-
-        for (Order currOrder : ordersList) {
-            if (currOrder.getOrderStatus().equals(OrderStatus.CANCELLED)) {
-                cancelledOrders.add(currOrder);
-            }
+        readLock.lock();
+        try {
+            return filterOrdersByStatus(OrderStatus.CANCELLED);
+        } finally {
+            readLock.unlock();
         }
-        return cancelledOrders;
     }
 
     /**
      * Retrieves a list of all pickup orders.
      *
-     * @return A list of all pickup orders.
+     * @return A list of all pickup orders, in order of ID.
      */
     public List<Order> allPickupOrders() {
-        List<Order> pickupOrders = new ArrayList<>();
-
-        for (Order currOrder : ordersList) {
-            if (currOrder instanceof PickupOrder) {
-                pickupOrders.add(currOrder);
-            }
+        readLock.lock();
+        try {
+            return ordersWithIds(orderCategoryIndex.idsOfOrderType(OrderType.PICKUP));
+        } finally {
+            readLock.unlock();
         }
-
-        return pickupOrders;
     }
 
     /**
      * Retrieves a list of all shipping orders.
      *
-     * @return A list of all shipping orders.
+     * @return A list of all shipping orders, in order of ID.
      */
     public List<Order> allShippingOrders() {
-        List<Order> shippingOrders = new ArrayList<>();
-
-        for (Order currOrder : ordersList) {
-            if (currOrder instanceof ShippingOrder) {
-                shippingOrders.add(currOrder);
-            }
+        readLock.lock();
+        try {
+            return ordersWithIds(orderCategoryIndex.idsOfOrderType(OrderType.SHIPPING));
+        } finally {
+            readLock.unlock();
         }
-
-        return shippingOrders;
     }
 
     /**
      * Retrieves a list of all gaming computer orders.
      *
-     * @return A list of all gaming computer orders.
+     * @return A list of all gaming computer orders, in order of ID.
      */
     public List<Order> allGamingComputerOrders() {
-        List<Order> gamingComputerOrders = new ArrayList<>();
-
-        for (Order currOrder : ordersList) {
-            if (currOrder.getComputer() instanceof GamingComputer) {
-                gamingComputerOrders.add(currOrder);
-            }
+        readLock.lock();
+        try {
+            return ordersWithIds(orderCategoryIndex.idsOfComputerType(ComputerType.GAMING));
+        } finally {
+            readLock.unlock();
         }
-
-        return gamingComputerOrders;
     }
 
     /**
      * Retrieves a list of all laptop orders.
      *
-     * @return A list of all laptop orders.
+     * @return A list of all laptop orders, in order of ID.
      */
     public List<Order> allLaptopOrders() {
-        List<Order> laptopOrders = new ArrayList<>();
+        readLock.lock();
+        try {
+            return ordersWithIds(orderCategoryIndex.idsOfComputerType(ComputerType.LAPTOP));
+        } finally {
+            readLock.unlock();
+        }
+    }
 
-        for (Order currOrder : ordersList) {
-            if (currOrder.getComputer() instanceof Laptop) {
-                laptopOrders.add(currOrder);
-            }
+    /**
+     * Counts the orders with a status in O(1), using the category index.
+     *
+     * @param status The status to count.
+     * @return The number of orders with that status.
+     */
+    public int countOrdersWithStatus(OrderStatus status) {
+        readLock.lock();
+        try {
+            return orderCategoryIndex.countWithStatus(status);
+        } finally {
+            readLock.unlock();
         }
+    }
 
-        return laptopOrders;
+    /**
+     * Counts the orders that are not started or in progress in O(1), using the category index.
+     *
+     * @return The number of current orders.
+     */
+    public int countCurrentOrders() {
+        readLock.lock();
+        try {
+            return orderCategoryIndex.countCurrent();
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
-     * Performs a binary search to find the index of an order in the list based on its ID.
-     * Concepts: Binary Search, Recursion
-     * @param id     The ID of the order to search for.
-     * @param bottom The starting index for the search.
-     * @param top    The ending index for the search.
-     * @return The index of the order if found, otherwise -1.
+     * Counts the orders with a custom status in O(1), using the category index.
+     *
+     * @return The number of custom orders.
      */
-    private int binarySearchIndexById(int id, int bottom, int top) {
-        int middle = bottom + (top - bottom) / 2;
+    public int countCustomOrders() {
+        readLock.lock();
+        try {
+            return orderCategoryIndex.countCustomStatus();
+        } finally {
+            readLock.unlock();
+        }
+    }
 
-        if (bottom <= top) {
-            if (id == ordersList.get(middle).getId()) {
-                return middle;
-            } else if (id < ordersList.get(middle).getId()) {
-                return binarySearchIndexById(id, bottom, middle - 1);
-            } else {
-                return binarySearchIndexById(id, middle + 1, top);
+    /**
+     * Counts the orders of an order type in O(1), using the category index.
+     *
+     * @param orderType The order type, {@link OrderType#PICKUP} or {@link OrderType#SHIPPING}.
+     * @return The number of orders of that type.
+     */
+    public int countOrdersOfType(String orderType) {
+        readLock.lock();
+        try {
+            return orderCategoryIndex.countOfOrderType(orderType);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Counts the orders for a computer type in O(1), using the category index.
+     *
+     * @param computerType The computer type, {@link ComputerType#GAMING} or {@link ComputerType#LAPTOP}.
+     * @return The number of orders for that computer type.
+     */
+    public int countOrdersOfComputerType(String computerType) {
+        readLock.lock();
+        try {
+            return orderCategoryIndex.countOfComputerType(computerType);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Looks up the orders with the given IDs in the ID index.
+     *
+     * @param ids The IDs of the orders, which must all exist.
+     * @return The orders, in the same order as the IDs.
+     */
+    private List<Order> ordersWithIds(int[] ids) {
+        List<Order> orders = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            orders.add(orderIdIndex.get(id));
+        }
+        return orders;
+    }
+
+    /**
+     * Finds the orders that are overdue: not started or in progress, with a finish by date that has passed.
+     * Uses the finish by date index.
+     *
+     * @return A list of the overdue orders, from most to least overdue.
+     */
+    public List<Order> findOverdueOrders() {
+        return query(OrderQuery.where(OrderPredicate.isOverdue(System.currentTimeMillis()))
+                .sortedBy(OrderSorter.by(OrderSortKey.FINISH_BY_DATE)));
+    }
+
+    /**
+     * Finds the orders that are not started or in progress and are due in the next number of days.
+     * Uses the finish by date index.
+     *
+     * @param days The number of days from now.
+     * @return A list of the orders due in that time, from most to least urgent.
+     * @throws IllegalArgumentException If the number of days is negative.
+     */
+    public List<Order> findOrdersDueWithinDays(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Invalid number of days: " + days);
+        }
+        long now = System.currentTimeMillis();
+        return query(OrderQuery.where(OrderPredicate.finishByBetween(new Date(now), new Date(now + days * MILLIS_PER_DAY))
+                        .and(OrderPredicate.isCurrent()))
+                .sortedBy(OrderSorter.by(OrderSortKey.FINISH_BY_DATE)));
+    }
+
+    /**
+     * Finds the orders with a finish by date in a range, whatever their status. Uses the finish by date index.
+     *
+     * @param from The earliest finish by date, inclusive.
+     * @param to   The latest finish by date, inclusive.
+     * @return A list of the orders due in the range, from most to least urgent.
+     */
+    public List<Order> findOrdersDueBetween(Date from, Date to) {
+        return query(OrderQuery.where(OrderPredicate.finishByBetween(from, to))
+                .sortedBy(OrderSorter.by(OrderSortKey.FINISH_BY_DATE)));
+    }
+
+    /**
+     * Counts the orders with a finish by date in a range, whatever their status, in O(log n) time.
+     *
+     * @param from The earliest finish by date, inclusive.
+     * @param to   The latest finish by date, inclusive.
+     * @return The number of orders due in the range.
+     */
+    public int countOrdersDueBetween(Date from, Date to) {
+        readLock.lock();
+        try {
+            return finishByDateIndex.countDueBetween(from.getTime(), to.getTime());
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the orders with a total cost in a range, using the price index.
+     * For example, the orders between $2000 and $5000.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return A list of the orders in the range, from cheapest to most expensive. Orders with the same total
+     *         cost are sorted by ID.
+     */
+    public List<Order> findOrdersPricedBetween(double min, double max) {
+        readLock.lock();
+        try {
+            return ordersWithIds(priceIndex.idsBetween(min, max));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Counts the orders with a total cost in a range, in O(log n) time.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return The number of orders in the range.
+     */
+    public int countOrdersPricedBetween(double min, double max) {
+        readLock.lock();
+        try {
+            return priceIndex.countBetween(min, max);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the most expensive orders. The price index is already sorted, so this reads the last entries of
+     * the index in O(k) time instead of sorting every order.
+     *
+     * @param count The largest number of orders to return.
+     * @return A list of at most {@code count} orders, from most to least expensive. Orders with the same total
+     *         cost are sorted by ID.
+     * @throws IllegalArgumentException If the count is negative.
+     */
+    public List<Order> findMostExpensiveOrders(int count) {
+        readLock.lock();
+        try {
+            if (count < 0) {
+                throw new IllegalArgumentException("Invalid number of orders: " + count);
             }
+            return ordersWithIds(priceIndex.mostExpensiveIds(count));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Finds the cheapest orders. The price index is already sorted, so this reads the first entries of the
+     * index in O(k) time instead of sorting every order.
+     *
+     * @param count The largest number of orders to return.
+     * @return A list of at most {@code count} orders, from least to most expensive. Orders with the same total
+     *         cost are sorted by ID.
+     * @throws IllegalArgumentException If the count is negative.
+     */
+    public List<Order> findCheapestOrders(int count) {
+        readLock.lock();
+        try {
+            if (count < 0) {
+                throw new IllegalArgumentException("Invalid number of orders: " + count);
+            }
+            return ordersWithIds(priceIndex.cheapestIds(count));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Runs a query over the orders, see {@link OrderQuery}. The query planner uses an index when the
+     * predicate allows it, and otherwise tests every order once.
+     *
+     * @param query The query to run.
+     * @return A new list of the matching orders, in the order of the query.
+     */
+    public List<Order> query(OrderQuery query) {
+        readLock.lock();
+        try {
+            return QueryPlanner.execute(query, indexedOrders);
+        } finally {
+            readLock.unlock();
         }
+    }
 
-        return -1;
+    /**
+     * Runs a query over the orders like {@link #query(OrderQuery)}, but returns the read-only copies of the
+     * matching orders from the snapshot that the indexes were built with. The copies can be read after the
+     * lock is released, while writers change the orders, so they are what the order service sends to clients.
+     * Concept: Copy-on-Write
+     *
+     * @param query The query to run.
+     * @return A new list of the read-only copies of the matching orders, in the order of the query.
+     */
+    public List<Order> querySnapshot(OrderQuery query) {
+        readLock.lock();
+        try {
+            OrderSnapshot current = snapshot.get(); // published under the write lock, so it matches the indexes
+            List<Order> matches = QueryPlanner.execute(query, indexedOrders);
+            List<Order> copies = new ArrayList<>(matches.size());
+            for (Order order : matches) {
+                copies.add(current.get(order.getId()));
+            }
+            return copies;
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
-     * Wrapper method for the binarySearchIndexById method. Sorts the orders by ID before initiating the search.
+     * Counts the orders that match a predicate, see {@link OrderPredicate}.
      *
-     * @param id The ID of the order to search for.
-     * @return The index of the order if found, otherwise -1.
+     * @param predicate The predicate to match.
+     * @return The number of matching orders.
      */
-    private int binarySearchIndexById(int id) { // wrapper method
-        sortOrdersByID();
-        return binarySearchIndexById(id, 0, ordersList.size() - 1);
+    public int count(OrderPredicate predicate) {
+        readLock.lock();
+        try {
+            return QueryPlanner.count(predicate, indexedOrders);
+        } finally {
+            readLock.unlock();
+        }
     }
 
     /**
-     * Finds and retrieves an order based on its ID using binary search.
+     * Explains how a query would run, without running it.
      *
+     * @param query The query to plan.
+     * @return The plan chosen by the query planner.
+     */
+    public QueryPlan explain(OrderQuery query) {
+        readLock.lock();
+        try {
+            return QueryPlanner.plan(query, indexedOrders);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Finds and retrieves an order based on its ID using the ID hash index.
+     * Concept: Hashing
      * @param id The ID of the order to find.
      * @return The order with the specified ID, or null if not found.
      */
     public Order findOrderById(int id){
-        int index = binarySearchIndexById(id);
-
-        if(index != -1){
-            return ordersList.get(index);
+        readLock.lock();
+        try {
+            return orderIdIndex.get(id);
+        } finally {
+            readLock.unlock();
         }
-        return null;
     }
 
     /**
-     * Finds orders based on the CPU and GPU brands of their primary hardware.
-     * Concept: Linear Search
+     * Finds orders based on the CPU and GPU brands of their primary hardware, ignoring case. The query
+     * planner looks up the smaller of the two brands in the part index and checks the other brand on those orders.
+     * Concept: Inverted Index
      * @param cpuBrand The brand of the CPU to match.
      * @param gpuBrand The brand of the GPU to match.
-     * @return A list of orders matching the specified CPU and GPU brands.
+     * @return A list of orders matching the specified CPU and GPU brands, in ascending ID order.
      */
     public List<Order> findOrdersByCPUAndGPUBrand(String cpuBrand, String gpuBrand){
-
-        List<Order> orders = new ArrayList<>();
-
-        for (Order order : ordersList) {
-            if (order.getComputer().getPrimaryHardware().matchCpuBrand(cpuBrand) && order.getComputer().getPrimaryHardware().matchGpuBrand(gpuBrand)) {
-                orders.add(order);
-            }
-        }
-        return orders;
+        return query(OrderQuery.where(OrderPredicate.hasPartBrand(PartSlot.CPU, cpuBrand)
+                .and(OrderPredicate.hasPartBrand(PartSlot.GPU, gpuBrand))));
     }
 
+    /**
+     * Finds orders whose parts match every criterion, or at least one criterion. The query planner answers
+     * this with a single search of the part index.
+     * For example, a GPU matching "nvidia" and RAM matching "corsair".
+     * Concept: Inverted Index
+     * @param criteria The criteria to match, see {@link PartCriterion}; at least one.
+     * @param matchAll {@code true} to find the orders that match every criterion, {@code false} to find
+     *                 the orders that match at least one criterion.
+     * @return A list of the matching orders, in ascending ID order.
+     */
+    public List<Order> findOrdersByParts(List<PartCriterion> criteria, boolean matchAll) {
+        return query(OrderQuery.where(OrderPredicate.hasParts(criteria, matchAll)));
+    }
 
     /**
      * Prints a list of customer information to the console.
@@ -783,26 +1544,81 @@ public class OrderManager {
     }
 
     /**
-     * Saves the list of orders to the database.
+     * Saves the whole list of orders to the database, compacting any pending write-ahead log records
+     * into the snapshot.
+     * @throws IOException If an I/O error occurs while writing the database file.
      */
-    public void saveOrdersToDatabase() {
-        databaseManager.saveOrdersListToDatabase();
+    public void saveOrdersToDatabase() throws IOException {
+        writeLock.lock();
+        try {
+            databaseManager.saveOrdersListToDatabase();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Writes every change that is still waiting in the persistence scheduler to the database.
+     *
+     * @throws IOException If an I/O error occurs while writing the changes.
+     */
+    public void flushPendingWrites() throws IOException {
+        writeLock.lock();
+        try {
+            databaseManager.flushPendingWrites();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Exports all orders to orders.json, whichever format the database is stored in. When the database is a
+     * binary snapshot, orders.json is only a copy, so the latest snapshot of the orders is exported without
+     * holding up changes to the orders. Otherwise orders.json is the database file itself, and it is written
+     * with the write lock held like every other save.
+     *
+     * @throws IOException If an I/O error occurs while writing orders.json.
+     */
+    public void exportOrdersToJson() throws IOException {
+        DatabaseManager databaseManager = this.databaseManager;
+        if (databaseManager.isUsingBinarySnapshot()) {
+            synchronized (exportMonitor) {
+                databaseManager.exportOrdersToJson(snapshot().getOrders());
+            }
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            this.databaseManager.exportOrdersToJson();
+        } finally {
+            writeLock.unlock();
+        }
     }
 
 
     /**
      * Used to maintain unique IDs to orders in the system based on the current state of the orders list.
      * If the orders list is empty, it resets the current ID value to the starting ID value.
-     * Otherwise, it sets the current ID value to the next available ID based on the last order's ID.
+     * Otherwise, it makes sure the next ID handed out is above the largest ID in the list, so a stale
+     * or edited id.txt can never cause duplicate IDs.
      *
      * @throws IOException If an I/O error occurs while updating the ID value.
      */
     public void idificateIt() throws IOException {
-        if (ordersList.isEmpty()) {
-            IdManager.resetCurrentIDValue();
-        } else {
-
-//            IdManager.setCurrentIDValue(ordersList.getLast().getId() + 1);
+        writeLock.lock();
+        try {
+            if (ordersList.isEmpty()) {
+                IdManager.resetCurrentIDValue();
+            } else {
+                int maxId = Integer.MIN_VALUE;
+                for (Order order : ordersList) {
+                    maxId = Math.max(maxId, order.getId());
+                }
+                IdManager.syncWithExistingIds(maxId);
+            }
+        } finally {
+            writeLock.unlock();
         }
     }
 
@@ -816,9 +1632,96 @@ public class OrderManager {
      * @throws JSONException If there is an issue with JSON data format during loading.
      */
     public void loadOrdersFromDatabase() throws IOException, JSONException {
-        databaseManager.loadOrderListFromDatabase();
-        sortOrdersByID();
-        idificateIt();
+        writeLock.lock();
+        try {
+            databaseManager.loadOrderListFromDatabase();
+            ID_SORTER.sort(ordersList);
+            rebuildIndexes();
+            idificateIt();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Adds an order to every index and running statistic maintained by this manager.
+     *
+     * @param order The order that was added to the orders list.
+     */
+    private void indexOrder(Order order) {
+        orderIdIndex.put(order);
+        orderCategoryIndex.add(order);
+        orderStatistics.add(order);
+        customerIndex.add(order);
+        partIndex.add(order);
+        finishByDateIndex.add(order);
+        priceIndex.add(order);
+        additionalHardwareColumns.add(order);
+        if (orderColumns != null) {
+            orderColumns.add(order);
+        }
+        snapshot.set(snapshot.get().with(order.readOnlyCopy()));
+    }
+
+    /**
+     * Updates every index and running statistic maintained by this manager after an order in the orders list has changed.
+     *
+     * @param order The order that changed.
+     */
+    private void reindexOrder(Order order) {
+        orderCategoryIndex.update(order);
+        orderStatistics.update(order);
+        customerIndex.update(order);
+        partIndex.update(order);
+        finishByDateIndex.update(order);
+        priceIndex.update(order);
+        additionalHardwareColumns.update(order);
+        if (orderColumns != null) {
+            orderColumns.update(order);
+        }
+        snapshot.set(snapshot.get().with(order.readOnlyCopy()));
+    }
+
+    /**
+     * Removes an order from every index and running statistic maintained by this manager.
+     *
+     * @param order The order that was removed from the orders list.
+     */
+    private void unindexOrder(Order order) {
+        orderIdIndex.remove(order.getId());
+        orderCategoryIndex.remove(order.getId());
+        orderStatistics.remove(order.getId());
+        customerIndex.remove(order.getId());
+        partIndex.remove(order.getId());
+        finishByDateIndex.remove(order.getId());
+        priceIndex.remove(order.getId());
+        additionalHardwareColumns.remove(order.getId());
+        if (orderColumns != null) {
+            orderColumns.remove(order.getId());
+        }
+        snapshot.set(snapshot.get().without(order.getId()));
+    }
+
+    /**
+     * Rebuilds every index and running statistic maintained by this manager from the current orders list.
+     */
+    private void rebuildIndexes() {
+        orderIdIndex.rebuild(ordersList);
+        orderCategoryIndex.rebuild(ordersList);
+        orderStatistics.rebuild(ordersList);
+        customerIndex.rebuild(ordersList);
+        partIndex.rebuild(ordersList);
+        finishByDateIndex.rebuild(ordersList);
+        priceIndex.rebuild(ordersList);
+        additionalHardwareColumns.rebuild(ordersList);
+        if (orderColumns != null) {
+            orderColumns.rebuild(ordersList);
+        }
+        List<Order> copies = new ArrayList<>(ordersList.size());
+        for (Order order : ordersList) {
+            copies.add(order.readOnlyCopy());
+        }
+        snapshot.set(OrderSnapshot.of(snapshot.get().getVersion() + 1, copies));
     }
 
     /**
@@ -828,4 +1731,61 @@ public class OrderManager {
     public boolean isEmptyOrders() {
         return ordersCount() == 0;
     }
+
+    /**
+     * Gives the query planner access to the orders list and the indexes of this manager.
+     */
+    private class ManagerIndexes implements IndexedOrders {
+        public Iterable<Order> allOrders() {
+            return ordersList;
+        }
+
+        public int orderCount() {
+            return ordersList.size();
+        }
+
+        public Order orderWithId(int id) {
+            return orderIdIndex.get(id);
+        }
+
+        public int[] idsWithStatus(OrderStatus status) {
+            return orderCategoryIndex.idsWithStatus(status);
+        }
+
+        public int[] currentIds() {
+            return orderCategoryIndex.currentIds();
+        }
+
+        public int[] customStatusIds() {
+            return orderCategoryIndex.customStatusIds();
+        }
+
+        public int[] idsOfOrderType(String orderType) {
+            return orderCategoryIndex.idsOfOrderType(orderType);
+        }
+
+        public int[] idsOfComputerType(String computerType) {
+            return orderCategoryIndex.idsOfComputerType(computerType);
+        }
+
+        public int[] idsDueBetween(long from, long to) {
+            return finishByDateIndex.idsDueBetweenInIdOrder(from, to);
+        }
+
+        public int[] idsPricedBetween(double min, double max) {
+            return priceIndex.idsBetweenInIdOrder(min, max);
+        }
+
+        public int[] idsMatchingAdditionalHardware(AdditionalHardware additionalHardware, double percent) {
+            return additionalHardwareColumns.matchingIds(additionalHardware, percent);
+        }
+
+        public int[] idsWithPartBrand(PartSlot slot, String brand) {
+            return partIndex.idsWithBrand(slot, brand);
+        }
+
+        public int[] idsMatchingParts(List<PartCriterion> criteria, boolean matchAll) {
+            return partIndex.search(criteria, matchAll);
+        }
+    }
 }
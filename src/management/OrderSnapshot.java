@@ -0,0 +1,338 @@
+package management;
+
+import order.Order;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderSnapshot} class is a point-in-time view of every order of an {@link OrderManager}. A snapshot
+ * never changes once it is published: every change to the orders makes a new snapshot with the next version
+ * number, and threads that are still reading an older snapshot keep seeing the orders exactly as they were.
+ * Reading a snapshot takes no lock.
+ * </p>
+ * <p>
+ * The orders of a snapshot are read-only copies of the managed orders (see {@link order.Order#readOnlyCopy()}),
+ * sorted by ID and split into chunks of at most {@value #MAX_CHUNK_SIZE} orders. Adding, replacing or removing
+ * an order copies only the chunk it belongs to and the array of chunks; every other chunk, and every other order,
+ * is shared with the previous snapshot (structural sharing). Every setter of a copy, and of the computer, parts
+ * and information in it, throws an {@code UnsupportedOperationException}, since any number of threads and
+ * snapshots may be reading them.
+ * </p>
+ * <p>Concepts: Immutability, Copy-on-Write, Binary Search</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public final class OrderSnapshot {
+    /**
+     * The largest number of orders in a chunk. A chunk that grows past this is split in half.
+     */
+    private static final int MAX_CHUNK_SIZE = 64;
+
+    /**
+     * The snapshot with no orders.
+     */
+    static final OrderSnapshot EMPTY = new OrderSnapshot(0, new Order[0][], new int[0], 0);
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final long version;
+    private final Order[][] chunks; // each chunk is non-empty and sorted by ID; the chunks are sorted by ID too
+    private final int[] chunkStarts; // position of the first order of each chunk in the whole snapshot
+    private final int size;
+    private final List<Order> orders = new SnapshotList();
+
+    /**
+     * Columnar copy of the orders for reports, built by the first report on this snapshot.
+     */
+    private volatile OrderColumns columns;
+
+    /**
+     * Constructs a new {@code OrderSnapshot}.
+     *
+     * @param version     The version number of the snapshot.
+     * @param chunks      The chunks of orders, which are not copied.
+     * @param chunkStarts The position of the first order of each chunk.
+     * @param size        The number of orders.
+     */
+    private OrderSnapshot(long version, Order[][] chunks, int[] chunkStarts, int size) {
+        this.version = version;
+        this.chunks = chunks;
+        this.chunkStarts = chunkStarts;
+        this.size = size;
+    }
+
+    /**
+     * Makes a snapshot of copies of orders. If several orders have the same ID, only the last one is kept,
+     * like the ID index of the manager.
+     *
+     * @param version The version number of the snapshot.
+     * @param copies  Copies of the orders, in ascending ID order. The copies must not be changed afterwards.
+     * @return A new snapshot of the orders.
+     */
+    static OrderSnapshot of(long version, List<Order> copies) {
+        Order[] sorted = new Order[copies.size()];
+        int count = 0;
+        for (Order order : copies) {
+            if (count > 0 && sorted[count - 1].getId() == order.getId()) {
+                sorted[count - 1] = order;
+            } else {
+                sorted[count++] = order;
+            }
+        }
+
+        Order[][] chunks = new Order[(count + MAX_CHUNK_SIZE - 1) / MAX_CHUNK_SIZE][];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int from = chunk * MAX_CHUNK_SIZE;
+            chunks[chunk] = Arrays.copyOfRange(sorted, from, Math.min(from + MAX_CHUNK_SIZE, count));
+        }
+        return new OrderSnapshot(version, chunks, startsOf(chunks), count);
+    }
+
+    /**
+     * Makes the next snapshot, with an order added, or replacing the order with the same ID.
+     *
+     * @param copy A copy of the order. The copy must not be changed afterwards.
+     * @return A new snapshot that shares every other chunk with this one.
+     */
+    OrderSnapshot with(Order copy) {
+        int id = copy.getId();
+        if (chunks.length == 0) {
+            return new OrderSnapshot(version + 1, new Order[][]{{copy}}, new int[]{0}, 1);
+        }
+
+        int chunk = chunkFor(id);
+        Order[] oldChunk = chunks[chunk];
+        int index = indexIn(oldChunk, id);
+        if (index >= 0) { // replace, so the positions of the chunks do not move
+            Order[] newChunk = oldChunk.clone();
+            newChunk[index] = copy;
+            Order[][] newChunks = chunks.clone();
+            newChunks[chunk] = newChunk;
+            return new OrderSnapshot(version + 1, newChunks, chunkStarts, size);
+        }
+
+        int insertionPoint = -index - 1;
+        Order[] newChunk = new Order[oldChunk.length + 1];
+        System.arraycopy(oldChunk, 0, newChunk, 0, insertionPoint);
+        newChunk[insertionPoint] = copy;
+        System.arraycopy(oldChunk, insertionPoint, newChunk, insertionPoint + 1, oldChunk.length - insertionPoint);
+
+        Order[][] newChunks;
+        if (newChunk.length <= MAX_CHUNK_SIZE) {
+            newChunks = chunks.clone();
+            newChunks[chunk] = newChunk;
+        } else { // split the full chunk in half
+            int half = newChunk.length / 2;
+            newChunks = new Order[chunks.length + 1][];
+            System.arraycopy(chunks, 0, newChunks, 0, chunk);
+            newChunks[chunk] = Arrays.copyOfRange(newChunk, 0, half);
+            newChunks[chunk + 1] = Arrays.copyOfRange(newChunk, half, newChunk.length);
+            System.arraycopy(chunks, chunk + 1, newChunks, chunk + 2, chunks.length - chunk - 1);
+        }
+        return new OrderSnapshot(version + 1, newChunks, startsOf(newChunks), size + 1);
+    }
+
+    /**
+     * Makes the next snapshot, without the order with an ID.
+     *
+     * @param id The ID of the order to remove.
+     * @return A new snapshot that shares every other chunk with this one, or a new version of this snapshot
+     *         if there is no order with that ID.
+     */
+    OrderSnapshot without(int id) {
+        int chunk = chunks.length == 0 ? -1 : chunkFor(id);
+        int index = chunk < 0 ? -1 : indexIn(chunks[chunk], id);
+        if (index < 0) {
+            return new OrderSnapshot(version + 1, chunks, chunkStarts, size);
+        }
+
+        Order[] oldChunk = chunks[chunk];
+        Order[][] newChunks;
+        if (oldChunk.length == 1) { // drop the empty chunk
+            newChunks = new Order[chunks.length - 1][];
+            System.arraycopy(chunks, 0, newChunks, 0, chunk);
+            System.arraycopy(chunks, chunk + 1, newChunks, chunk, chunks.length - chunk - 1);
+        } else {
+            Order[] newChunk = new Order[oldChunk.length - 1];
+            System.arraycopy(oldChunk, 0, newChunk, 0, index);
+            System.arraycopy(oldChunk, index + 1, newChunk, index, oldChunk.length - index - 1);
+            newChunks = chunks.clone();
+            newChunks[chunk] = newChunk;
+        }
+        return new OrderSnapshot(version + 1, newChunks, startsOf(newChunks), size - 1);
+    }
+
+    /**
+     * Gets the version number of the snapshot. Every change to the orders of the manager increases it by one.
+     *
+     * @return The version number.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the number of orders in the snapshot.
+     *
+     * @return The number of orders.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if there are no orders in the snapshot.
+     *
+     * @return {@code true} if the snapshot has no orders, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds an order by its ID, in O(log n) time.
+     *
+     * @param id The ID of the order.
+     * @return The copy of the order in this snapshot, or {@code null} if there is no order with that ID.
+     */
+    public Order get(int id) {
+        if (chunks.length == 0) {
+            return null;
+        }
+        Order[] chunk = chunks[chunkFor(id)];
+        int index = indexIn(chunk, id);
+        return index >= 0 ? chunk[index] : null;
+    }
+
+    /**
+     * Gets every order of the snapshot.
+     *
+     * @return An unmodifiable list of the orders, in ascending ID order. The list never changes.
+     */
+    public List<Order> getOrders() {
+        return orders;
+    }
+
+    /**
+     * Groups the orders of the snapshot placed in a range of dates by a dimension, see
+     * {@link OrderColumns#summarize(ReportDimension, Date, Date)}. The first report on a snapshot copies its
+     * orders into columns, and later reports on the same snapshot reuse them.
+     *
+     * @param dimension The dimension to group by.
+     * @param from      The earliest order date, inclusive, or {@code null} for no lower bound.
+     * @param to        The latest order date, inclusive, or {@code null} for no upper bound.
+     * @return A summary of every group of the dimension, in group order, including groups with no orders.
+     */
+    public List<GroupSummary> summarize(ReportDimension dimension, Date from, Date to) {
+        OrderColumns reportColumns = columns;
+        if (reportColumns == null) { // two threads may both build the columns, which is harmless
+            reportColumns = new OrderColumns();
+            reportColumns.rebuild(orders);
+            columns = reportColumns;
+        }
+        return reportColumns.summarize(dimension, from, to);
+    }
+
+    /**
+     * Finds the chunk that an ID belongs to: the last chunk whose first ID is not greater than the ID, or
+     * the first chunk. Concept: Binary Search
+     *
+     * @param id The ID to look for.
+     * @return The position of the chunk.
+     */
+    private int chunkFor(int id) {
+        int low = 0;
+        int high = chunks.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (chunks[mid][0].getId() <= id) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds an ID in a chunk. Concept: Binary Search
+     *
+     * @param chunk The chunk to search.
+     * @param id    The ID to look for.
+     * @return The position of the order with that ID, or {@code -(insertion point) - 1} if it is not in the chunk.
+     */
+    private static int indexIn(Order[] chunk, int id) {
+        int low = 0;
+        int high = chunk.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midId = chunk[mid].getId();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Computes the position of the first order of each chunk.
+     *
+     * @param chunks The chunks.
+     * @return The position of the first order of each chunk.
+     */
+    private static int[] startsOf(Order[][] chunks) {
+        int[] starts = new int[chunks.length];
+        int position = 0;
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            starts[chunk] = position;
+            position += chunks[chunk].length;
+        }
+        return starts;
+    }
+
+    /**
+     * Read-only list view of the orders of the snapshot. Concept: Inheritance
+     */
+    private class SnapshotList extends AbstractList<Order> implements RandomAccess {
+        public Order get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            int chunk = Arrays.binarySearch(chunkStarts, index);
+            if (chunk < 0) {
+                chunk = -chunk - 2;
+            }
+            return chunks[chunk][index - chunkStarts[chunk]];
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Returns the version and number of orders of the snapshot.
+     * Concept: Polymorphism
+     * @return The string representation of the snapshot.
+     */
+    public String toString() {
+        return "Snapshot v" + version + " (" + size + " orders)";
+    }
+}
@@ -0,0 +1,122 @@
+package management;
+
+import order.Order;
+
+import java.util.Comparator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * The {@code OrderSortKey} class represents a single field that orders can be sorted by, in either
+ * ascending or descending order. It provides predefined ascending keys for the fields that {@link Order}
+ * already knows how to compare, and each key can be reversed.
+ *
+ * <p>Predefined sort keys:</p>
+ * <ul>
+ *   <li>{@code STATUS} - Same ordering as {@link Order#compareToOrderStatus(Order)}.</li>
+ *   <li>{@code FINISH_BY_DATE} - Same ordering as {@link Order#compareToFinishByDate(Order)}.</li>
+ *   <li>{@code TOTAL_COST} - Same ordering as {@link Order#compareToTotalCost(Order)}.</li>
+ *   <li>{@code ID} - Same ordering as {@link Order#compareToId(Order)}.</li>
+ * </ul>
+ *
+ * <p>Besides a comparator built from the matching {@code compareTo} method of {@link Order}, every key
+ * can extract its value from an order as a single {@code double}. {@link OrderSorter} uses this to compute
+ * each key once per order instead of once per comparison (for example, {@link Order#totalCost()} walks
+ * the whole hardware tree). Instances of this class are immutable once created.</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderSortKey {
+    /**
+     * Class fields
+     */
+    public static final OrderSortKey STATUS = new OrderSortKey("status", false,
+            order -> order.getOrderStatus().getStatusNumber(),
+            Order::compareToOrderStatus);
+    public static final OrderSortKey FINISH_BY_DATE = new OrderSortKey("finish by date", false,
+            order -> order.getFinishByDate().getTime(),
+            Order::compareToFinishByDate);
+    public static final OrderSortKey TOTAL_COST = new OrderSortKey("total cost", false,
+            Order::totalCost,
+            (first, second) -> Double.compare(first.compareToTotalCost(second), 0));
+    public static final OrderSortKey ID = new OrderSortKey("ID", false,
+            Order::getId,
+            Order::compareToId);
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final String name;
+    private final boolean descending;
+    private final ToDoubleFunction<Order> keyExtractor;
+    private final Comparator<Order> ascendingComparator;
+
+    /**
+     * Constructs a new {@code OrderSortKey}.
+     *
+     * @param name                The name of the field, used for display.
+     * @param descending          {@code true} if larger values come first.
+     * @param keyExtractor        Extracts the value of the field from an order.
+     * @param ascendingComparator Compares two orders by the field in ascending order.
+     */
+    private OrderSortKey(String name, boolean descending, ToDoubleFunction<Order> keyExtractor,
+                         Comparator<Order> ascendingComparator) {
+        this.name = name;
+        this.descending = descending;
+        this.keyExtractor = keyExtractor;
+        this.ascendingComparator = ascendingComparator;
+    }
+
+    /**
+     * Gets a key on the same field with the opposite direction.
+     *
+     * @return The reversed sort key.
+     */
+    public OrderSortKey reversed() {
+        return new OrderSortKey(name, !descending, keyExtractor, ascendingComparator);
+    }
+
+    /**
+     * Checks if larger values come first.
+     *
+     * @return {@code true} if the key sorts in descending order, {@code false} otherwise.
+     */
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * Extracts the value of this key from an order. Comparing the extracted values with
+     * {@link Double#compare(double, double)} gives the same ordering as {@link #comparator()} (ignoring direction).
+     *
+     * @param order The order to extract the value from.
+     * @return The value of the field for the order.
+     */
+    public double keyOf(Order order) {
+        return keyExtractor.applyAsDouble(order);
+    }
+
+    /**
+     * Gets a comparator that compares two orders by this key, taking the direction into account.
+     *
+     * @return The comparator for this key.
+     */
+    public Comparator<Order> comparator() {
+        return descending ? ascendingComparator.reversed() : ascendingComparator;
+    }
+
+    /**
+     * Returns the name and direction of the key.
+     * Concept: Polymorphism
+     * @return The string representation of the key.
+     */
+    public String toString() {
+        return name + (descending ? " (descending)" : " (ascending)");
+    }
+}
@@ -0,0 +1,265 @@
+package management;
+
+import order.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PriorityQueue;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderSorter} class sorts lists of orders by one or more {@link OrderSortKey}s, where each key
+ * breaks the ties of the keys before it. A sorter is built by chaining keys together, for example:
+ * <pre>
+ * OrderSorter.by(OrderSortKey.STATUS).thenBy(OrderSortKey.FINISH_BY_DATE).sort(orders);
+ * </pre>
+ * </p>
+ * <p>
+ * Every key is computed once per order before sorting starts (decorate-sort-undecorate), so expensive keys
+ * such as the total cost are not recomputed on every comparison. The sort itself is a stable O(n log n)
+ * merge sort, which runs in parallel on the common fork-join pool once the list is large enough for the
+ * split to pay off. Instances of this class are immutable once created.
+ * </p>
+ * <p>Concepts: Sorting, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderSorter {
+    /**
+     * Lists with at least this many orders are sorted in parallel.
+     */
+    public static final int PARALLEL_THRESHOLD = 8192;
+
+    /**
+     * The keys to sort by, most significant first.
+     */
+    private final OrderSortKey[] keys;
+
+    /**
+     * Constructs a sorter with the given keys.
+     *
+     * @param keys The keys to sort by, most significant first.
+     */
+    private OrderSorter(OrderSortKey[] keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Creates a sorter that sorts by a single key.
+     *
+     * @param key The key to sort by.
+     * @return The new sorter.
+     */
+    public static OrderSorter by(OrderSortKey key) {
+        return new OrderSorter(new OrderSortKey[]{key});
+    }
+
+    /**
+     * Creates a sorter that sorts by this sorter's keys and then breaks any remaining ties with the given key.
+     *
+     * @param key The key to break ties with.
+     * @return The new sorter.
+     */
+    public OrderSorter thenBy(OrderSortKey key) {
+        OrderSortKey[] newKeys = Arrays.copyOf(keys, keys.length + 1);
+        newKeys[keys.length] = key;
+        return new OrderSorter(newKeys);
+    }
+
+    /**
+     * Gets a comparator equivalent to this sorter, composed from the comparators of each key.
+     * Useful when orders are compared one pair at a time instead of sorted as a whole list.
+     *
+     * @return The composed comparator.
+     */
+    public Comparator<Order> comparator() {
+        Comparator<Order> comparator = keys[0].comparator();
+        for (int i = 1; i < keys.length; i++) {
+            comparator = comparator.thenComparing(keys[i].comparator());
+        }
+        return comparator;
+    }
+
+    /**
+     * Sorts the list in place. Orders that are equal on every key keep their relative order.
+     *
+     * @param orders The list of orders to sort.
+     */
+    public void sort(List<Order> orders) {
+        SortEntry[] entries = new SortEntry[orders.size()];
+
+        int i = 0;
+        for (Order order : orders) {
+            entries[i++] = entryOf(order);
+        }
+
+        Comparator<SortEntry> entryComparator = this::compareEntries;
+        if (entries.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelSort(entries, entryComparator);
+        } else {
+            Arrays.sort(entries, entryComparator);
+        }
+
+        ListIterator<Order> iterator = orders.listIterator();
+        for (SortEntry entry : entries) {
+            iterator.next();
+            iterator.set(entry.order);
+        }
+    }
+
+    /**
+     * Returns the keys of the sorter, most significant first.
+     * Concept: Polymorphism
+     * @return The string representation of the sorter.
+     */
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        for (int k = 0; k < keys.length; k++) {
+            description.append(k == 0 ? "" : ", then ").append(keys[k]);
+        }
+        return description.toString();
+    }
+
+    /**
+     * Creates a selection that keeps only the first few orders in this sorter's order, out of orders that are
+     * offered to it one at a time. Useful for "top K" queries, since it never holds more than {@code limit}
+     * orders and does not sort the orders that are left out.
+     *
+     * @param limit The number of orders to keep.
+     * @return The new, empty selection.
+     */
+    public Selection select(int limit) {
+        return new Selection(limit);
+    }
+
+    /**
+     * Computes the key values of an order.
+     *
+     * @param order The order.
+     * @return The entry holding the order and its key values.
+     */
+    private SortEntry entryOf(Order order) {
+        double[] values = new double[keys.length];
+        for (int k = 0; k < keys.length; k++) {
+            values[k] = keys[k].keyOf(order);
+        }
+        return new SortEntry(order, values);
+    }
+
+    /**
+     * Compares two entries by their precomputed keys.
+     *
+     * @param first  The first entry.
+     * @param second The second entry.
+     * @return A negative value if the first entry comes first, zero if they are tied on every key,
+     *         and a positive value if the second entry comes first.
+     */
+    private int compareEntries(SortEntry first, SortEntry second) {
+        for (int k = 0; k < keys.length; k++) {
+            int result = Double.compare(first.values[k], second.values[k]);
+            if (result != 0) {
+                return keys[k].isDescending() ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * An order together with its precomputed key values.
+     */
+    private static class SortEntry {
+        private final Order order;
+        private final double[] values; // most significant key first
+        private long sequence; // only used by a selection
+
+        private SortEntry(Order order, double[] values) {
+            this.order = order;
+            this.values = values;
+        }
+    }
+
+    /**
+     * The first few orders, in the order of the sorter, out of the orders offered so far. The kept orders are in
+     * a heap with the last of them on top, so each offered order is compared with that one and either thrown
+     * away or swapped in, in O(log limit) time. Orders that are tied on every key are kept in the order they
+     * were offered, the same as {@link #sort(List)} followed by taking the first {@code limit} orders.
+     * Concepts: Heaps, Encapsulation
+     */
+    public class Selection {
+        private final int limit;
+        private final PriorityQueue<SortEntry> kept;
+        private long offered; // number of orders offered so far, breaks ties between equal keys
+
+        /**
+         * Constructs an empty selection.
+         *
+         * @param limit The number of orders to keep.
+         */
+        private Selection(int limit) {
+            if (limit < 0) {
+                throw new IllegalArgumentException("Invalid limit: " + limit);
+            }
+            this.limit = limit;
+            this.kept = new PriorityQueue<>(Math.max(1, Math.min(limit, 1024)), this::compareLastFirst);
+        }
+
+        /**
+         * Offers an order to the selection, which keeps it if it is among the first {@code limit} orders so far.
+         *
+         * @param order The order to offer.
+         */
+        public void offer(Order order) {
+            if (limit == 0) {
+                return;
+            }
+            SortEntry entry = entryOf(order);
+            entry.sequence = offered++;
+            if (kept.size() < limit) {
+                kept.add(entry);
+            } else if (compareLastFirst(entry, kept.peek()) > 0) {
+                kept.poll();
+                kept.add(entry);
+            }
+        }
+
+        /**
+         * Gets the kept orders in the order of the sorter.
+         *
+         * @return A new list of at most {@code limit} orders.
+         */
+        public List<Order> toList() {
+            SortEntry[] entries = kept.toArray(new SortEntry[0]);
+            Arrays.sort(entries, (first, second) -> -compareLastFirst(first, second));
+            List<Order> orders = new ArrayList<>(entries.length);
+            for (SortEntry entry : entries) {
+                orders.add(entry.order);
+            }
+            return orders;
+        }
+
+        /**
+         * Compares two entries so that the entry that comes last in the sorter's order (including the order
+         * they were offered in) comes first.
+         *
+         * @param first  The first entry.
+         * @param second The second entry.
+         * @return A negative value if the first entry comes later, a positive value if it comes earlier.
+         */
+        private int compareLastFirst(SortEntry first, SortEntry second) {
+            int result = compareEntries(first, second);
+            if (result == 0) {
+                result = Long.compare(first.sequence, second.sequence);
+            }
+            return -result;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package management;
+
+import order.Order;
+import order.OrderStatus;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderStatistics} class keeps a running count and a running sum of the total cost of the orders
+ * in each status bucket: current (not started or in progress), completed, cancelled and custom. Revenue and
+ * average price queries then read these sums in O(1) instead of walking the hardware tree of every order.
+ * </p>
+ * <p>
+ * The cost that each order contributed, and the bucket it contributed to, are remembered so that the
+ * contribution can be taken back out when the order changes or is removed. {@link #update(Order)} must
+ * be called after every change to an order that can affect its status or total cost.
+ * </p>
+ * <p>
+ * Adding and subtracting costs can leave a rounding error in a sum; {@link #matches(List)} compares every
+ * sum with a full recompute, using a small tolerance.
+ * </p>
+ * <p>Concepts: Hashing, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderStatistics {
+    /**
+     * Status buckets
+     */
+    public static final int CURRENT = 0;
+    public static final int COMPLETED = 1;
+    public static final int CANCELLED = 2;
+    public static final int CUSTOM = 3;
+    private static final int BUCKET_COUNT = 4;
+
+    /**
+     * Largest difference between a running sum and a full recompute that is treated as rounding error,
+     * relative to the size of the sum.
+     */
+    private static final double RELATIVE_TOLERANCE = 1e-9;
+
+    /**
+     * Number of orders and sum of their total costs in each bucket.
+     */
+    private final int[] counts = new int[BUCKET_COUNT];
+    private final double[] costSums = new double[BUCKET_COUNT];
+
+    /**
+     * What each order contributed, by order ID.
+     */
+    private final Map<Integer, Contribution> contributions = new HashMap<>();
+
+    /**
+     * Gets the bucket that an order status belongs to.
+     *
+     * @param status The order status.
+     * @return {@link #CURRENT}, {@link #COMPLETED}, {@link #CANCELLED} or {@link #CUSTOM}.
+     */
+    public static int bucketOf(OrderStatus status) {
+        if (status.isCustom()) {
+            return CUSTOM;
+        } else if (status.isCurrent()) {
+            return CURRENT;
+        } else if (status.equals(OrderStatus.COMPLETED)) {
+            return COMPLETED;
+        }
+        return CANCELLED;
+    }
+
+    /**
+     * Adds the total cost of an order to its bucket. If the order was already added, its previous
+     * contribution is taken out first.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        remove(order.getId());
+
+        Contribution contribution = new Contribution(bucketOf(order.getOrderStatus()), order.totalCost());
+        contributions.put(order.getId(), contribution);
+        counts[contribution.bucket]++;
+        costSums[contribution.bucket] += contribution.cost;
+    }
+
+    /**
+     * Recomputes the contribution of an order after it has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Takes the contribution of an order back out of its bucket.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        Contribution contribution = contributions.remove(id);
+        if (contribution == null) {
+            return;
+        }
+
+        counts[contribution.bucket]--;
+        costSums[contribution.bucket] -= contribution.cost;
+        if (counts[contribution.bucket] == 0) {
+            costSums[contribution.bucket] = 0; // drop any rounding error left behind
+        }
+    }
+
+    /**
+     * Removes every order.
+     */
+    public void clear() {
+        contributions.clear();
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts[bucket] = 0;
+            costSums[bucket] = 0;
+        }
+    }
+
+    /**
+     * Replaces the statistics with those of the given orders.
+     *
+     * @param orders The orders to add.
+     */
+    public void rebuild(List<Order> orders) {
+        clear();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Gets the number of orders in a bucket.
+     *
+     * @param bucket {@link #CURRENT}, {@link #COMPLETED}, {@link #CANCELLED} or {@link #CUSTOM}.
+     * @return The number of orders.
+     */
+    public int getCount(int bucket) {
+        return counts[bucket];
+    }
+
+    /**
+     * Gets the sum of the total costs of the orders in a bucket.
+     *
+     * @param bucket {@link #CURRENT}, {@link #COMPLETED}, {@link #CANCELLED} or {@link #CUSTOM}.
+     * @return The sum of the total costs.
+     */
+    public double getCostSum(int bucket) {
+        return costSums[bucket];
+    }
+
+    /**
+     * Gets the sum of the total costs of all current orders.
+     *
+     * @return The expected revenue.
+     */
+    public double expectedRevenue() {
+        return costSums[CURRENT];
+    }
+
+    /**
+     * Gets the average total cost of every order that is not cancelled.
+     *
+     * @return The average price, or {@code NaN} if every order is cancelled.
+     */
+    public double averagePriceExceptCancelled() {
+        double priceSum = costSums[CURRENT] + costSums[COMPLETED] + costSums[CUSTOM];
+        int count = counts[CURRENT] + counts[COMPLETED] + counts[CUSTOM];
+        return priceSum / count;
+    }
+
+    /**
+     * Checks the running counts and sums against a full recompute from the given orders.
+     *
+     * @param orders The orders that the statistics should describe.
+     * @return {@code true} if every count is equal and every sum is equal up to rounding error,
+     *         {@code false} otherwise.
+     */
+    public boolean matches(List<Order> orders) {
+        OrderStatistics recomputed = new OrderStatistics();
+        recomputed.rebuild(orders);
+
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            double difference = Math.abs(costSums[bucket] - recomputed.costSums[bucket]);
+            double tolerance = RELATIVE_TOLERANCE * Math.max(1, Math.abs(recomputed.costSums[bucket]));
+            if (counts[bucket] != recomputed.counts[bucket] || difference > tolerance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The bucket an order was added to and the total cost it added.
+     */
+    private static class Contribution {
+        private final int bucket;
+        private final double cost;
+
+        private Contribution(int bucket, double cost) {
+            this.bucket = bucket;
+            this.cost = cost;
+        }
+    }
+}
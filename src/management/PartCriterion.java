@@ -0,0 +1,91 @@
+package management;
+
+import order.Order;
+import parts.Part;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * The {@code PartCriterion} class is one condition of a component search: the part in a {@link PartSlot}
+ * must match some search text. The text is split into words, and the part matches if every word appears,
+ * ignoring case, among the words of its brand and model. For example, {@code "nvidia 4090"} matches a GPU
+ * with the brand "Nvidia" and the model "GeForce RTX 4090".
+ *
+ * <p>Instances of this class are immutable.</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class PartCriterion {
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final PartSlot slot;
+    private final String text;
+
+    /**
+     * Constructs a new {@code PartCriterion}.
+     *
+     * @param slot The slot of the part to match.
+     * @param text The words that the brand and model of the part must contain.
+     */
+    public PartCriterion(PartSlot slot, String text) {
+        this.slot = slot;
+        this.text = text;
+    }
+
+    /**
+     * Gets the slot of the part to match.
+     *
+     * @return The part slot.
+     */
+    public PartSlot getSlot() {
+        return slot;
+    }
+
+    /**
+     * Gets the words that the brand and model of the part must contain.
+     *
+     * @return The search text.
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Checks if the part in the slot of an order matches the search text, without using an index.
+     * Gives the same result as a search of the {@link PartIndex}.
+     *
+     * @param order The order to check.
+     * @return {@code true} if the order has a part in the slot and its brand and model contain every word of
+     *         the search text, {@code false} otherwise (including when the search text has no words).
+     */
+    public boolean matches(Order order) {
+        Part part = slot.partOf(order);
+        List<String> searchWords = PartIndex.words(text);
+        if (part == null || searchWords.isEmpty()) {
+            return false;
+        }
+
+        Set<String> partWords = new HashSet<>(PartIndex.words(part.getBrand()));
+        partWords.addAll(PartIndex.words(part.getModel()));
+        return partWords.containsAll(searchWords);
+    }
+
+    /**
+     * Returns the slot and search text of the criterion.
+     * Concept: Polymorphism
+     * @return The string representation of the criterion.
+     */
+    public String toString() {
+        return slot + " matching \"" + text + "\"";
+    }
+}
@@ -0,0 +1,260 @@
+package management;
+
+import order.Order;
+import parts.Part;
+
+import java.util.*;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code PartIndex} class is an inverted index over the parts of every order. For each {@link PartSlot},
+ * it maps every case-folded word of a part's brand and model to the IDs of the orders whose part in that
+ * slot contains the word, and it maps each case-folded brand as a whole to the orders with exactly that
+ * brand. Each of these posting lists is an {@link OrderIdList}.
+ * </p>
+ * <p>
+ * A search resolves each word to its posting list and intersects the lists starting from the smallest, so
+ * a search like "Nvidia GPU and Corsair RAM" takes time proportional to the shorter of the two lists rather
+ * than to the number of orders. Criteria can also be combined with OR, which merges their results.
+ * </p>
+ * <p>
+ * Like the other indexes, it remembers which posting lists each order was added to, so
+ * {@link #update(Order)} must be called after a part of an order changes.
+ * </p>
+ * <p>Concepts: Hashing, Inverted Index, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class PartIndex {
+    /**
+     * Separates the parts of a term. Slot names never contain it, and it is never part of a word.
+     */
+    private static final char TERM_SEPARATOR = '|';
+
+    /**
+     * Kinds of term: a whole brand, or a single word of a brand or model.
+     */
+    private static final char BRAND_TERM = 'b';
+    private static final char WORD_TERM = 'w';
+
+    /**
+     * Order IDs by term. A term is the slot name, the kind of term and the case-folded value.
+     */
+    private final Map<String, OrderIdList> postings = new HashMap<>();
+
+    /**
+     * The terms that each indexed order was added under, by order ID.
+     */
+    private final Map<Integer, List<String>> termsOfOrder = new HashMap<>();
+
+    /**
+     * Adds an order under the brand and words of each of its parts. If the order is already indexed,
+     * it is moved to the terms of its current parts.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        remove(order.getId());
+
+        List<String> terms = new ArrayList<>();
+        for (PartSlot slot : PartSlot.values()) {
+            Part part = slot.partOf(order);
+            if (part == null) {
+                continue;
+            }
+            if (part.getBrand() != null) {
+                terms.add(term(slot, BRAND_TERM, fold(part.getBrand())));
+            }
+            Set<String> words = new HashSet<>(words(part.getBrand()));
+            words.addAll(words(part.getModel()));
+            for (String word : words) {
+                terms.add(term(slot, WORD_TERM, word));
+            }
+        }
+
+        termsOfOrder.put(order.getId(), terms);
+        for (String term : terms) {
+            postings.computeIfAbsent(term, t -> new OrderIdList()).add(order.getId());
+        }
+    }
+
+    /**
+     * Moves an order to the terms of its current parts after a part has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes an order from every posting list it was added to. Posting lists with no orders left are removed.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        List<String> terms = termsOfOrder.remove(id);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            OrderIdList ids = postings.get(term);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        postings.clear();
+        termsOfOrder.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with the given orders.
+     *
+     * @param orders The orders to index.
+     */
+    public void rebuild(List<Order> orders) {
+        clear();
+        for (Order order : orders) {
+            add(order);
+        }
+    }
+
+    /**
+     * Gets the IDs of the orders whose part in a slot has a brand, ignoring case.
+     *
+     * @param slot  The slot of the part.
+     * @param brand The brand to look for.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsWithBrand(PartSlot slot, String brand) {
+        OrderIdList ids = postings.get(term(slot, BRAND_TERM, fold(brand)));
+        return ids == null ? new int[0] : ids.toArray();
+    }
+
+    /**
+     * Gets the IDs of the orders whose parts have every one of several brands, ignoring case. For example,
+     * a CPU brand and a GPU brand.
+     *
+     * @param slots  The slots of the parts.
+     * @param brands The brand to look for in each slot, in the same order as the slots.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsWithBrands(PartSlot[] slots, String[] brands) {
+        OrderIdList[] lists = new OrderIdList[slots.length];
+        for (int i = 0; i < slots.length; i++) {
+            lists[i] = postings.get(term(slots[i], BRAND_TERM, fold(brands[i])));
+            if (lists[i] == null) {
+                return new int[0];
+            }
+        }
+        return OrderIdList.intersection(lists);
+    }
+
+    /**
+     * Searches for the orders that match every criterion, or at least one criterion.
+     *
+     * @param criteria The criteria to match; at least one.
+     * @param matchAll {@code true} to find the orders that match every criterion (AND), {@code false} to find
+     *                 the orders that match at least one criterion (OR).
+     * @return The IDs of the matching orders in ascending order.
+     */
+    public int[] search(List<PartCriterion> criteria, boolean matchAll) {
+        if (matchAll) {
+            // one intersection over the words of every criterion, so the smallest list of all drives it
+            List<OrderIdList> lists = new ArrayList<>();
+            for (PartCriterion criterion : criteria) {
+                if (!addPostings(criterion, lists)) {
+                    return new int[0];
+                }
+            }
+            return OrderIdList.intersection(lists.toArray(new OrderIdList[0]));
+        }
+
+        List<OrderIdList> matches = new ArrayList<>();
+        for (PartCriterion criterion : criteria) {
+            List<OrderIdList> lists = new ArrayList<>();
+            if (addPostings(criterion, lists)) {
+                matches.add(OrderIdList.wrap(OrderIdList.intersection(lists.toArray(new OrderIdList[0]))));
+            }
+        }
+        return OrderIdList.union(matches.toArray(new OrderIdList[0]));
+    }
+
+    /**
+     * Adds the posting list of every word of a criterion to a list.
+     *
+     * @param criterion The criterion.
+     * @param lists     The list to add the posting lists to.
+     * @return {@code true} if every word has a posting list, {@code false} if some word matches no orders
+     *         (or the criterion has no words), in which case the criterion matches no orders.
+     */
+    private boolean addPostings(PartCriterion criterion, List<OrderIdList> lists) {
+        List<String> words = words(criterion.getText());
+        if (words.isEmpty()) {
+            return false;
+        }
+        for (String word : words) {
+            OrderIdList ids = postings.get(term(criterion.getSlot(), WORD_TERM, word));
+            if (ids == null) {
+                return false;
+            }
+            lists.add(ids);
+        }
+        return true;
+    }
+
+    /**
+     * Builds a term.
+     *
+     * @param slot  The slot of the part.
+     * @param kind  {@link #BRAND_TERM} or {@link #WORD_TERM}.
+     * @param value The case-folded brand or word.
+     * @return The term.
+     */
+    private static String term(PartSlot slot, char kind, String value) {
+        return slot.getName() + TERM_SEPARATOR + kind + TERM_SEPARATOR + value;
+    }
+
+    /**
+     * Splits text into case-folded words, made of letters and digits.
+     *
+     * @param text The text to split, may be {@code null}.
+     * @return The words, in order, possibly with duplicates.
+     */
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        for (String word : fold(text).split("[^\\p{L}\\p{N}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Folds the case of text.
+     *
+     * @param text The text to fold.
+     * @return The case-folded text.
+     */
+    static String fold(String text) {
+        return text.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,133 @@
+package management;
+
+import computer.Computer;
+import computer.GamingComputer;
+import computer.Laptop;
+import order.Order;
+import parts.Part;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * The {@code PartSlot} class represents a place in a computer that holds a {@link Part}, such as the CPU or
+ * the power supply, and knows how to get the part in that place from an order.
+ *
+ * <p>Predefined part slots:</p>
+ * <ul>
+ *   <li>{@code CPU}, {@code GPU}, {@code RAM}, {@code MOTHERBOARD}, {@code STORAGE} - The primary hardware
+ *   of every computer.</li>
+ *   <li>{@code ADDITIONAL_STORAGE} - The additional storage of the additional hardware, if any.</li>
+ *   <li>{@code COOLER}, {@code CASE}, {@code POWER_SUPPLY} - Only in gaming computers.</li>
+ * </ul>
+ *
+ * <p>Instances of this class are immutable.</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class PartSlot {
+    /**
+     * Class fields
+     */
+    public static final PartSlot CPU = new PartSlot("CPU",
+            order -> order.getComputer().getPrimaryHardware().getCPU());
+    public static final PartSlot GPU = new PartSlot("GPU",
+            order -> order.getComputer().getPrimaryHardware().getGPU());
+    public static final PartSlot RAM = new PartSlot("RAM",
+            order -> order.getComputer().getPrimaryHardware().getRAM());
+    public static final PartSlot MOTHERBOARD = new PartSlot("Motherboard",
+            order -> order.getComputer().getPrimaryHardware().getMotherboard());
+    public static final PartSlot STORAGE = new PartSlot("Storage",
+            order -> order.getComputer().getPrimaryHardware().getStorage());
+    public static final PartSlot ADDITIONAL_STORAGE = new PartSlot("Additional Storage",
+            PartSlot::additionalStorageOf);
+    public static final PartSlot COOLER = new PartSlot("Cooler",
+            order -> order.getComputer() instanceof GamingComputer gamingComputer ? gamingComputer.getCooler() : null);
+    public static final PartSlot CASE = new PartSlot("Case",
+            order -> order.getComputer() instanceof GamingComputer gamingComputer ? gamingComputer.getComputerCase() : null);
+    public static final PartSlot POWER_SUPPLY = new PartSlot("Power Supply",
+            order -> order.getComputer() instanceof GamingComputer gamingComputer ? gamingComputer.getPowerSupply() : null);
+
+    /**
+     * Every predefined part slot, in menu order.
+     */
+    private static final List<PartSlot> ALL_SLOTS = List.of(CPU, GPU, RAM, MOTHERBOARD, STORAGE,
+            ADDITIONAL_STORAGE, COOLER, CASE, POWER_SUPPLY);
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final String name;
+    private final Function<Order, Part> partExtractor;
+
+    /**
+     * Constructs a new {@code PartSlot}.
+     *
+     * @param name          The name of the slot, used for display.
+     * @param partExtractor Gets the part in this slot from an order, or {@code null} if there is none.
+     */
+    private PartSlot(String name, Function<Order, Part> partExtractor) {
+        this.name = name;
+        this.partExtractor = partExtractor;
+    }
+
+    /**
+     * Gets every predefined part slot.
+     *
+     * @return An unmodifiable list of the slots, in menu order.
+     */
+    public static List<PartSlot> values() {
+        return ALL_SLOTS;
+    }
+
+    /**
+     * Gets the name of the slot.
+     *
+     * @return The name of the slot.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the part in this slot of an order.
+     *
+     * @param order The order to get the part from.
+     * @return The part, or {@code null} if the computer of the order has no part in this slot.
+     */
+    public Part partOf(Order order) {
+        return partExtractor.apply(order);
+    }
+
+    /**
+     * Gets the additional storage of an order.
+     *
+     * @param order The order to get the additional storage from.
+     * @return The additional storage, or {@code null} if there is none.
+     */
+    private static Part additionalStorageOf(Order order) {
+        Computer computer = order.getComputer();
+        if (computer instanceof GamingComputer gamingComputer && gamingComputer.getAdditionalHardware() != null) {
+            return gamingComputer.getAdditionalHardware().getAdditionalStorage();
+        } else if (computer instanceof Laptop laptop && laptop.getAdditionalHardware() != null) {
+            return laptop.getAdditionalHardware().getAdditionalStorage();
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the slot.
+     * Concept: Polymorphism
+     * @return The string representation of the slot.
+     */
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,306 @@
+package management;
+
+import order.Order;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code PersistenceScheduler} class delays and groups the write-ahead log records of a burst of order
+ * mutations (write-behind). Instead of appending one record per mutation, the records are held for up to a
+ * configurable window, or until a configurable number of orders have pending records, and are then appended
+ * in a single write. If the same order is changed several times within the window, only its latest state is
+ * written, so those writes are coalesced into one.
+ * </p>
+ * <p>
+ * Each record is built as soon as the mutation is scheduled, so the background thread that flushes the
+ * window never reads an {@link Order} while it is being changed. Pending records are flushed when
+ * {@link #flush()} is called, when the scheduler is closed, and when the program shuts down normally.
+ * Mutations that are still pending when the program is killed or the machine crashes are lost, so the
+ * window should stay short.
+ * </p>
+ * <p>Concepts: Encapsulation, Concurrency</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public final class PersistenceScheduler {
+    /**
+     * Default time that a record may stay pending before it is flushed.
+     */
+    public static final long DEFAULT_WINDOW_MILLIS = 250;
+
+    /**
+     * Default number of orders with pending records at which the records are flushed immediately.
+     */
+    public static final int DEFAULT_MAX_PENDING_WRITES = 100;
+
+    /**
+     * The log that the records are flushed to.
+     */
+    private final WriteAheadLog writeAheadLog;
+
+    /**
+     * Time that a record may stay pending before it is flushed, in milliseconds.
+     */
+    private final long windowMillis;
+
+    /**
+     * Number of orders with pending records at which the records are flushed immediately.
+     */
+    private final int maxPendingWrites;
+
+    /**
+     * Latest pending record of each order, by order id.
+     */
+    private final Map<Integer, String> pendingRecords = new LinkedHashMap<>();
+
+    /**
+     * Runs the flush at the end of each window.
+     */
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Flushes the pending records when the program shuts down.
+     */
+    private final Thread shutdownHook;
+
+    /**
+     * The flush at the end of the current window, or {@code null} if there are no pending records.
+     */
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * The error of the last background flush that failed, reported by the next call to the scheduler.
+     */
+    private IOException backgroundFailure;
+
+    /**
+     * Statistics since the scheduler was created.
+     */
+    private long mutationCount; // mutations scheduled
+    private long recordsWritten; // records appended to the log
+    private long flushCount; // writes to the log
+    private long discardedCount; // mutations dropped because a snapshot already held them
+
+    /**
+     * Constructs a {@code PersistenceScheduler} that flushes to the given log.
+     *
+     * @param writeAheadLog    the log that the records are flushed to.
+     * @param windowMillis     the time that a record may stay pending before it is flushed, in milliseconds.
+     * @param maxPendingWrites the number of orders with pending records at which the records are flushed immediately.
+     * @throws IllegalArgumentException if the window is negative or the maximum number of pending writes is not positive.
+     */
+    public PersistenceScheduler(WriteAheadLog writeAheadLog, long windowMillis, int maxPendingWrites) {
+        if (windowMillis < 0 || maxPendingWrites < 1) {
+            throw new IllegalArgumentException("Invalid persistence scheduler window or batch size");
+        }
+        this.writeAheadLog = writeAheadLog;
+        this.windowMillis = windowMillis;
+        this.maxPendingWrites = maxPendingWrites;
+
+        timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence-scheduler");
+            thread.setDaemon(true); // must not keep the program running
+            return thread;
+        });
+        shutdownHook = new Thread(this::flushQuietly, "persistence-scheduler-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+    }
+
+    /**
+     * Schedules a record that adds or replaces an order, replacing any pending record of the same order.
+     *
+     * @param order the order that was added or modified.
+     * @throws IOException if a flush caused by this call, or an earlier background flush, fails.
+     */
+    public synchronized void schedulePut(Order order) throws IOException {
+        schedule(order.getId(), WriteAheadLog.putRecord(order));
+    }
+
+    /**
+     * Schedules a record that deletes an order, replacing any pending record of the same order.
+     *
+     * @param id the id of the deleted order.
+     * @throws IOException if a flush caused by this call, or an earlier background flush, fails.
+     */
+    public synchronized void scheduleDelete(int id) throws IOException {
+        schedule(id, WriteAheadLog.deleteRecord(id));
+    }
+
+    /**
+     * Adds a record to the pending records, flushing them if there are enough of them or starting a new
+     * window if there were none.
+     *
+     * @param id     the id of the order that the record is for.
+     * @param record the JSON text of the record.
+     * @throws IOException if a flush caused by this call, or an earlier background flush, fails.
+     */
+    private void schedule(int id, String record) throws IOException {
+        pendingRecords.put(id, record);
+        mutationCount++;
+
+        if (backgroundFailure != null || pendingRecords.size() >= maxPendingWrites) {
+            flush(); // a background failure is retried (and reported if it fails again) right away
+        } else if (scheduledFlush == null) {
+            scheduledFlush = timer.schedule(this::flushInBackground, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Appends every pending record to the log in a single write. If the write fails, the records stay
+     * pending and are retried by the next flush.
+     *
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    public synchronized void flush() throws IOException {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        backgroundFailure = null;
+
+        if (pendingRecords.isEmpty()) {
+            return;
+        }
+        writeAheadLog.appendAll(pendingRecords.values());
+        recordsWritten += pendingRecords.size();
+        flushCount++;
+        pendingRecords.clear();
+    }
+
+    /**
+     * Flushes the pending records at the end of a window, keeping any error to report later.
+     */
+    private synchronized void flushInBackground() {
+        scheduledFlush = null;
+        try {
+            flush();
+        } catch (IOException e) {
+            backgroundFailure = e;
+        }
+    }
+
+    /**
+     * Flushes the pending records when the program shuts down, reporting errors on the console.
+     */
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            System.err.println("An error occurred when writing pending changes to the write-ahead log.");
+        }
+    }
+
+    /**
+     * Drops every pending record without writing it. Used once a snapshot that already holds the
+     * pending changes has been written. The dropped records are counted as discarded, not as coalesced or
+     * superseded.
+     */
+    public synchronized void discardPending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        backgroundFailure = null;
+        discardedCount += pendingRecords.size();
+        pendingRecords.clear();
+    }
+
+    /**
+     * Flushes the pending records and stops the scheduler. Mutations must not be scheduled afterwards.
+     *
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    public synchronized void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            timer.shutdownNow();
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // already shutting down
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records waiting to be flushed.
+     *
+     * @return the number of orders with pending records.
+     */
+    public synchronized int getPendingWriteCount() {
+        return pendingRecords.size();
+    }
+
+    /**
+     * Gets the number of mutations that have been scheduled.
+     *
+     * @return the number of mutations since the scheduler was created.
+     */
+    public synchronized long getMutationCount() {
+        return mutationCount;
+    }
+
+    /**
+     * Gets the number of writes to the log made by flushes.
+     *
+     * @return the number of flushes that wrote at least one record.
+     */
+    public synchronized long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * Gets the number of pending records that were dropped by {@link #discardPending()} because a snapshot
+     * that already held them was written.
+     *
+     * @return the number of discarded records since the scheduler was created.
+     */
+    public synchronized long getDiscardedMutationCount() {
+        return discardedCount;
+    }
+
+    /**
+     * Gets the number of mutations that reached the log or were overwritten before they could, that is every
+     * mutation that is neither pending nor discarded.
+     *
+     * @return the number of mutations handled by flushes.
+     */
+    public synchronized long getFlushedMutationCount() {
+        return mutationCount - pendingRecords.size() - discardedCount;
+    }
+
+    /**
+     * Gets the number of writes that were saved by grouping mutations together, compared to writing each
+     * mutation to the log as soon as it happens. Mutations that are still pending or were discarded are not
+     * counted.
+     *
+     * @return the number of mutations handled by flushes minus the number of writes made.
+     */
+    public synchronized long getCoalescedWriteCount() {
+        return getFlushedMutationCount() - flushCount;
+    }
+
+    /**
+     * Gets the number of mutations that were overwritten by a later mutation of the same order before they
+     * were flushed, and so never reached the log. Mutations that were discarded are not counted.
+     *
+     * @return the number of mutations handled by flushes that were not written.
+     */
+    public synchronized long getSupersededMutationCount() {
+        return getFlushedMutationCount() - recordsWritten;
+    }
+}
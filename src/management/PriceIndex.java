@@ -0,0 +1,158 @@
+package management;
+
+import order.Order;
+
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code PriceIndex} class is a sorted index of orders by total cost. The total cost of each order is
+ * computed once, when the order is added, and cached in a {@link SortedKeyIndex} (orders with the same total
+ * cost are sorted by ID).
+ * </p>
+ * <p>
+ * Finding the orders in a price range is two binary searches and a copy of the slice between them, and the
+ * most expensive or cheapest orders are simply the last or first entries, so neither needs to walk the
+ * hardware tree of any order or sort anything. The cached total cost of an order is only refreshed by
+ * {@link #update(Order)}, which must be called after a part or the quantity of an order changes.
+ * </p>
+ * <p>Concepts: Binary Search, Caching, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class PriceIndex {
+    /**
+     * Cached total costs, by order ID.
+     */
+    private final SortedKeyIndex costs = new SortedKeyIndex();
+
+    /**
+     * Adds an order at its total cost. If the order is already indexed, its total cost is recomputed and it
+     * is moved to its new place.
+     *
+     * @param order The order to add.
+     */
+    public void add(Order order) {
+        costs.put(order.getId(), order.totalCost());
+    }
+
+    /**
+     * Recomputes the total cost of an order after a part or its quantity has changed.
+     *
+     * @param order The order that changed.
+     */
+    public void update(Order order) {
+        add(order);
+    }
+
+    /**
+     * Removes an order from the index.
+     *
+     * @param id The ID of the order to remove.
+     */
+    public void remove(int id) {
+        costs.remove(id);
+    }
+
+    /**
+     * Removes every order from the index.
+     */
+    public void clear() {
+        costs.clear();
+    }
+
+    /**
+     * Replaces the contents of the index with the given orders, computing the total cost of each.
+     *
+     * @param orders The orders to index.
+     */
+    public void rebuild(List<Order> orders) {
+        int[] ids = new int[orders.size()];
+        double[] totalCosts = new double[orders.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = orders.get(i).getId();
+            totalCosts[i] = orders.get(i).totalCost();
+        }
+        costs.rebuild(ids, totalCosts);
+    }
+
+    /**
+     * Gets the number of indexed orders.
+     *
+     * @return The number of orders.
+     */
+    public int size() {
+        return costs.size();
+    }
+
+    /**
+     * Gets the cached total cost of an order.
+     *
+     * @param id The ID of the order.
+     * @return The total cost computed when the order was last added or updated, or {@code NaN} if the order
+     *         is not indexed.
+     */
+    public double costOf(int id) {
+        Double cost = costs.keyOf(id);
+        return cost == null ? Double.NaN : cost;
+    }
+
+    /**
+     * Counts the orders in a price range.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return The number of orders in the range.
+     */
+    public int countBetween(double min, double max) {
+        return costs.countBetween(min, max);
+    }
+
+    /**
+     * Gets the IDs of the orders in a price range, from cheapest to most expensive.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return The IDs, sorted by total cost and then by ID.
+     */
+    public int[] idsBetween(double min, double max) {
+        return costs.idsBetween(min, max);
+    }
+
+    /**
+     * Gets the IDs of the orders in a price range, in ascending ID order.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return The IDs in ascending order.
+     */
+    public int[] idsBetweenInIdOrder(double min, double max) {
+        return costs.idsBetweenInIdOrder(min, max);
+    }
+
+    /**
+     * Gets the IDs of the cheapest orders.
+     *
+     * @param count The largest number of orders to return.
+     * @return The IDs, sorted by total cost (cheapest first) and then by ID.
+     */
+    public int[] cheapestIds(int count) {
+        return costs.firstIds(count);
+    }
+
+    /**
+     * Gets the IDs of the most expensive orders.
+     *
+     * @param count The largest number of orders to return.
+     * @return The IDs, sorted by total cost (most expensive first) and then by ID.
+     */
+    public int[] mostExpensiveIds(int count) {
+        return costs.lastIds(count);
+    }
+}
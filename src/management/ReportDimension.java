@@ -0,0 +1,126 @@
+package management;
+
+import computer.ComputerType;
+import order.Order;
+import order.OrderType;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * The {@code ReportDimension} class represents a way to group orders in a report, such as by status or by
+ * computer type. Each dimension puts every order in one of a small, fixed number of groups, numbered from 0.
+ *
+ * <p>Predefined report dimensions:</p>
+ * <ul>
+ *   <li>{@code STATUS} - Custom, not started, in progress, completed or cancelled.</li>
+ *   <li>{@code ORDER_TYPE} - Shipping or pickup.</li>
+ *   <li>{@code COMPUTER_TYPE} - Gaming or laptop.</li>
+ * </ul>
+ *
+ * <p>Instances of this class are immutable.</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class ReportDimension {
+    /**
+     * Class fields
+     */
+    public static final ReportDimension STATUS = new ReportDimension("Status",
+            List.of("Custom", "Not started", "In progress", "Completed", "Cancelled"),
+            order -> order.getOrderStatus().getStatusNumber() + 1);
+    public static final ReportDimension ORDER_TYPE = new ReportDimension("Order Type",
+            List.of("Shipping", "Pickup"),
+            order -> order.getType().equals(OrderType.SHIPPING) ? 0 : 1);
+    public static final ReportDimension COMPUTER_TYPE = new ReportDimension("Computer Type",
+            List.of("Gaming", "Laptop"),
+            order -> order.getComputer().getType().equals(ComputerType.GAMING) ? 0 : 1);
+
+    /**
+     * Every predefined report dimension, in menu order.
+     */
+    private static final List<ReportDimension> ALL_DIMENSIONS = List.of(STATUS, ORDER_TYPE, COMPUTER_TYPE);
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final String name;
+    private final List<String> groupNames;
+    private final ToIntFunction<Order> groupOf;
+
+    /**
+     * Constructs a new {@code ReportDimension}.
+     *
+     * @param name       The name of the dimension, used for display.
+     * @param groupNames The name of each group, by group number.
+     * @param groupOf    Gets the group number of an order.
+     */
+    private ReportDimension(String name, List<String> groupNames, ToIntFunction<Order> groupOf) {
+        this.name = name;
+        this.groupNames = groupNames;
+        this.groupOf = groupOf;
+    }
+
+    /**
+     * Gets every predefined report dimension.
+     *
+     * @return An unmodifiable list of the dimensions, in menu order.
+     */
+    public static List<ReportDimension> values() {
+        return ALL_DIMENSIONS;
+    }
+
+    /**
+     * Gets the name of the dimension.
+     *
+     * @return The name of the dimension.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of groups of the dimension.
+     *
+     * @return The number of groups.
+     */
+    public int getGroupCount() {
+        return groupNames.size();
+    }
+
+    /**
+     * Gets the name of a group.
+     *
+     * @param group The group number, from 0.
+     * @return The name of the group.
+     */
+    public String getGroupName(int group) {
+        return groupNames.get(group);
+    }
+
+    /**
+     * Gets the group that an order belongs to.
+     *
+     * @param order The order.
+     * @return The group number, from 0.
+     */
+    public int groupOf(Order order) {
+        return groupOf.applyAsInt(order);
+    }
+
+    /**
+     * Returns the name of the dimension.
+     * Concept: Polymorphism
+     * @return The string representation of the dimension.
+     */
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,295 @@
+package management;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code SortedKeyIndex} class is the sorted array that {@link FinishByDateIndex} and {@link PriceIndex} are
+ * built on. It keeps a {@code double} key for each order ID in a primitive array, sorted together with a
+ * parallel array of the IDs (IDs with the same key are sorted by ID). Finding the IDs with a key in a range is
+ * then two binary searches and a copy of the slice between them, and the IDs with the smallest or largest keys
+ * are simply the first or last entries. Finish by dates are stored as epoch milliseconds, which a
+ * {@code double} holds exactly.
+ * </p>
+ * <p>
+ * Putting or removing an ID shifts the entries after it, which is a single fast array copy for the sizes of
+ * this application. The key of each ID is remembered, so an entry can be found again after the order it was
+ * computed from has changed.
+ * </p>
+ * <p>Concepts: Array of Primitives, Binary Search, Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+class SortedKeyIndex {
+    /**
+     * Capacity of a new index.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * Keys and the matching IDs, sorted by key and then by ID. Only the first {@code size} elements are used.
+     */
+    private double[] keys = new double[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * The key that each ID was put with.
+     */
+    private final Map<Integer, Double> keyOfId = new HashMap<>();
+
+    /**
+     * Puts an ID at a key. If the ID is already in the index, it is moved to the new key.
+     *
+     * @param id  The ID to put.
+     * @param key The key of the ID.
+     */
+    void put(int id, double key) {
+        remove(id);
+
+        int position = -positionOf(key, id) - 1;
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        System.arraycopy(keys, position, keys, position + 1, size - position);
+        System.arraycopy(ids, position, ids, position + 1, size - position);
+        keys[position] = key;
+        ids[position] = id;
+        size++;
+        keyOfId.put(id, key);
+    }
+
+    /**
+     * Removes an ID from the index.
+     *
+     * @param id The ID to remove.
+     */
+    void remove(int id) {
+        Double key = keyOfId.remove(id);
+        if (key == null) {
+            return;
+        }
+
+        int position = positionOf(key, id);
+        System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+    }
+
+    /**
+     * Removes every ID from the index.
+     */
+    void clear() {
+        size = 0;
+        keyOfId.clear();
+    }
+
+    /**
+     * Replaces the contents of the index. The entries are sorted once, instead of inserted one at a time.
+     * If an ID is given more than once, its last key wins, as if the entries were put in turn.
+     *
+     * @param newIds  The IDs to index.
+     * @param newKeys The key of each ID, at the same position.
+     */
+    void rebuild(int[] newIds, double[] newKeys) {
+        clear();
+
+        double[][] entries = new double[newIds.length][];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new double[]{newKeys[i], newIds[i]};
+            keyOfId.put(newIds[i], newKeys[i]);
+        }
+        if (keyOfId.size() != entries.length) { // an ID given twice
+            clear();
+            for (int i = 0; i < newIds.length; i++) {
+                put(newIds[i], newKeys[i]);
+            }
+            return;
+        }
+        Arrays.sort(entries, (first, second) -> Double.compare(first[0], second[0]) != 0
+                ? Double.compare(first[0], second[0]) : Double.compare(first[1], second[1]));
+
+        int capacity = Math.max(INITIAL_CAPACITY, entries.length);
+        keys = new double[capacity];
+        ids = new int[capacity];
+        for (int i = 0; i < entries.length; i++) {
+            keys[i] = entries[i][0];
+            ids[i] = (int) entries[i][1];
+        }
+        size = entries.length;
+    }
+
+    /**
+     * Gets the number of IDs in the index.
+     *
+     * @return The number of IDs.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Gets the key that an ID was put with.
+     *
+     * @param id The ID.
+     * @return The key, or {@code null} if the ID is not in the index.
+     */
+    Double keyOf(int id) {
+        return keyOfId.get(id);
+    }
+
+    /**
+     * Counts the IDs with a key in a range.
+     *
+     * @param min The smallest key, inclusive.
+     * @param max The largest key, inclusive.
+     * @return The number of IDs in the range.
+     */
+    int countBetween(double min, double max) {
+        return Math.max(0, upperBound(max) - lowerBound(min));
+    }
+
+    /**
+     * Gets the IDs with a key in a range.
+     *
+     * @param min The smallest key, inclusive.
+     * @param max The largest key, inclusive.
+     * @return The IDs, sorted by key and then by ID.
+     */
+    int[] idsBetween(double min, double max) {
+        int start = lowerBound(min);
+        int end = upperBound(max);
+        return start >= end ? new int[0] : Arrays.copyOfRange(ids, start, end);
+    }
+
+    /**
+     * Gets the IDs with a key in a range, in ascending ID order.
+     *
+     * @param min The smallest key, inclusive.
+     * @param max The largest key, inclusive.
+     * @return The IDs in ascending order.
+     */
+    int[] idsBetweenInIdOrder(double min, double max) {
+        int[] inRange = idsBetween(min, max);
+        Arrays.sort(inRange);
+        return inRange;
+    }
+
+    /**
+     * Gets the IDs with the smallest keys.
+     *
+     * @param count The largest number of IDs to return.
+     * @return The IDs, sorted by key (smallest first) and then by ID.
+     */
+    int[] firstIds(int count) {
+        return Arrays.copyOf(ids, Math.min(Math.max(count, 0), size));
+    }
+
+    /**
+     * Gets the IDs with the largest keys.
+     *
+     * @param count The largest number of IDs to return.
+     * @return The IDs, sorted by key (largest first) and then by ID.
+     */
+    int[] lastIds(int count) {
+        int[] result = new int[Math.min(Math.max(count, 0), size)];
+        int filled = 0;
+        int runEnd = size; // walk runs of equal keys from the end, listing each run in ascending ID order
+        while (filled < result.length) {
+            int runStart = runEnd - 1;
+            while (runStart > 0 && Double.compare(keys[runStart - 1], keys[runEnd - 1]) == 0) {
+                runStart--;
+            }
+            for (int i = runStart; i < runEnd && filled < result.length; i++) {
+                result[filled++] = ids[i];
+            }
+            runEnd = runStart;
+        }
+        return result;
+    }
+
+    /**
+     * Gets every ID.
+     *
+     * @return The IDs, sorted by key and then by ID.
+     */
+    int[] allIds() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    /**
+     * Finds the position of an entry.
+     *
+     * @param key The key of the entry.
+     * @param id  The ID of the entry.
+     * @return The position of the entry if it is in the index, otherwise {@code -(insertion point) - 1}.
+     */
+    private int positionOf(double key, int id) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Double.compare(keys[middle], key);
+            if (comparison == 0) {
+                comparison = Integer.compare(ids[middle], id);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Finds the first position with a key at or above a value.
+     *
+     * @param key The value.
+     * @return The position, or {@code size} if every key is smaller.
+     */
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(keys[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Finds the first position with a key above a value.
+     *
+     * @param key The value.
+     * @return The position, or {@code size} if no key is larger.
+     */
+    private int upperBound(double key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Double.compare(keys[middle], key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
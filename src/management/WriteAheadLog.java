@@ -0,0 +1,268 @@
+package management;
+
+import order.Order;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code WriteAheadLog} class is an append-only log of order mutations that sits next to the
+ * orders.json snapshot. Instead of rewriting the whole database every time a single order changes,
+ * {@link DatabaseManager} appends one small record per mutation to this log. Each record is a single
+ * line of JSON holding either the full state of one order ({@link #PUT}) or the id of a deleted order
+ * ({@link #DELETE}).
+ * </p>
+ * <p>
+ * On startup the records are replayed on top of the snapshot, and once the log grows past a threshold
+ * the snapshot is rewritten and the log is truncated (compaction). Replaying a record is idempotent,
+ * so a crash between writing the snapshot and truncating the log does not lose or duplicate orders.
+ * </p>
+ * <p>
+ * The log can be appended to from a background thread (see {@link PersistenceScheduler}), so its
+ * methods are synchronized.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class WriteAheadLog {
+    /**
+     * Operation name of a record that adds or replaces an order.
+     */
+    public static final String PUT = "put";
+
+    /**
+     * Operation name of a record that deletes an order.
+     */
+    public static final String DELETE = "delete";
+
+    /**
+     * The file path of the log.
+     */
+    private final String path;
+
+    /**
+     * Number of records currently in the log (since the last truncation).
+     */
+    private int recordCount;
+
+    /**
+     * Decides after which appends the log is forced to disk.
+     */
+    private DurabilityPolicy durabilityPolicy;
+
+    /**
+     * Number of records appended since the log was last forced to disk.
+     */
+    private int unforcedRecordCount;
+
+    /**
+     * Constructs a {@code WriteAheadLog} backed by the given file. The file is created on the first append.
+     *
+     * @param path             the file path of the log.
+     * @param durabilityPolicy decides after which appends the log is forced to disk.
+     */
+    public WriteAheadLog(String path, DurabilityPolicy durabilityPolicy) {
+        this.path = path;
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * Sets the policy that decides after which appends the log is forced to disk.
+     *
+     * @param durabilityPolicy the new policy.
+     */
+    public synchronized void setDurabilityPolicy(DurabilityPolicy durabilityPolicy) {
+        this.durabilityPolicy = durabilityPolicy;
+    }
+
+    /**
+     * Gets the number of records currently in the log.
+     *
+     * @return the number of records appended or replayed since the last truncation.
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Appends a record that adds or replaces an order. The order is written with {@link OrderJsonWriter},
+     * so the record has the same fields as the order would have in the snapshot.
+     *
+     * @param order the order that was added or modified.
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    public void appendPut(Order order) throws IOException {
+        append(putRecord(order));
+    }
+
+    /**
+     * Appends a record that deletes an order.
+     *
+     * @param id the id of the deleted order.
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    public void appendDelete(int id) throws IOException {
+        append(deleteRecord(id));
+    }
+
+    /**
+     * Builds the text of a record that adds or replaces an order, without appending it.
+     *
+     * @param order the order that was added or modified.
+     * @return the JSON text of the record.
+     */
+    public static String putRecord(Order order) {
+        StringWriter record = new StringWriter();
+        record.write("{\"" + Keys.WAL_OPERATION + "\":\"" + PUT + "\",\"" + Keys.WAL_ORDER + "\":");
+        try {
+            new OrderJsonWriter(record, false).writeOrder(order);
+        } catch (IOException e) { // a StringWriter never throws
+            throw new UncheckedIOException(e);
+        }
+        record.write('}');
+        return record.toString();
+    }
+
+    /**
+     * Builds the text of a record that deletes an order, without appending it.
+     *
+     * @param id the id of the deleted order.
+     * @return the JSON text of the record.
+     */
+    public static String deleteRecord(int id) {
+        JSONObject record = new JSONObject();
+        record.put(Keys.WAL_OPERATION, DELETE);
+        record.put(Keys.ID, id);
+        return record.toString();
+    }
+
+    /**
+     * Writes a single record as one line at the end of the log, and forces the log to disk if the
+     * durability policy asks for it. Forcing the log also makes every earlier unforced record durable.
+     *
+     * @param record the JSON text of the record to append, without line breaks.
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    private void append(String record) throws IOException {
+        appendAll(List.of(record));
+    }
+
+    /**
+     * Writes several records at the end of the log in a single write, one line each, and forces the log
+     * to disk if the durability policy asks for it. Concept: File Writing
+     *
+     * @param records the JSON text of the records to append, without line breaks.
+     * @throws IOException if an I/O error occurs while appending to the log.
+     */
+    public synchronized void appendAll(Collection<String> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(record).append(System.lineSeparator());
+        }
+
+        FileOutputStream out = new FileOutputStream(path, true);
+        try {
+            out.write(lines.toString().getBytes(StandardCharsets.UTF_8));
+            recordCount += records.size();
+            unforcedRecordCount += records.size();
+
+            if (durabilityPolicy.shouldForceLog(unforcedRecordCount)) {
+                out.getChannel().force(false);
+                unforcedRecordCount = 0;
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Forces every record appended so far to disk, regardless of the durability policy.
+     *
+     * @throws IOException if an I/O error occurs while forcing the log.
+     */
+    public synchronized void force() throws IOException {
+        if (unforcedRecordCount == 0 || !new File(path).exists()) {
+            return;
+        }
+
+        FileOutputStream out = new FileOutputStream(path, true);
+        try {
+            out.getChannel().force(false);
+            unforcedRecordCount = 0;
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Reads every record in the log, oldest first. A last line that cannot be parsed is treated as a
+     * torn write from a crash during an append and is skipped; a malformed line anywhere else is an error.
+     * Concept: File Reading
+     *
+     * @return the records in the order they were appended, or an empty list if the log does not exist.
+     * @throws IOException   if an I/O error occurs while reading the log.
+     * @throws JSONException if a record other than the last one is malformed.
+     */
+    public synchronized List<JSONObject> readRecords() throws IOException, JSONException {
+        List<JSONObject> records = new ArrayList<>();
+        File file = new File(path);
+
+        if (!file.exists()) {
+            recordCount = 0;
+            return records;
+        }
+
+        BufferedReader br = new BufferedReader(new FileReader(file, StandardCharsets.UTF_8));
+        String line = br.readLine();
+        int lineNumber = 1;
+
+        while (line != null) {
+            String next = br.readLine();
+
+            if (!line.isBlank()) {
+                try {
+                    records.add(new JSONObject(line));
+                } catch (JSONException e) {
+                    if (next != null) { // only the final line may be incomplete
+                        br.close();
+                        throw new JSONException("Error reading write-ahead log record on line " + lineNumber + ": " + e.getMessage(), e);
+                    }
+                }
+            }
+            line = next;
+            lineNumber++;
+        }
+        br.close();
+
+        recordCount = records.size();
+        return records;
+    }
+
+    /**
+     * Removes every record from the log. Called after the snapshot has been rewritten.
+     * Concept: File Writing
+     *
+     * @throws IOException if an I/O error occurs while truncating the log.
+     */
+    public synchronized void truncate() throws IOException {
+        new FileWriter(path).close();
+        recordCount = 0;
+        unforcedRecordCount = 0;
+    }
+}
@@ -1,6 +1,7 @@
 package menu;
 
 import info.CustomerInfo;
+import management.CustomerOrderHistory;
 import management.OrderManager;
 import utils.ConsoleUtils;
 
@@ -40,6 +41,7 @@ public class CustomerMenu extends Menu {
                   1. View info of a customer given the order ID
                   2. View info of a customer given first name and last name
                   3. Count the number of unique customers' (unique full name)
+                  4. View the order history of a customer given first name and last name
                  -1. Back to Main Menu""").render();
     }
 
@@ -99,6 +101,35 @@ public class CustomerMenu extends Menu {
         consumeInput();
     }
 
+    /**
+     * Displays the number of orders, lifetime spend and number of open orders of the customer with the
+     * provided first name and last name, and optionally prints their orders.
+     */
+    private void viewCustomerOrderHistory() {
+        String firstName = prompt("Enter the first name of the customer: ").value;
+        String lastName = prompt("Enter the last name of the customer: ").value;
+        System.out.println();
+        CustomerOrderHistory history = orderManager.getCustomerOrderHistory(firstName, lastName);
+
+        if (history.isEmpty()) {
+            printError("Customer with that full name not found!");
+            consumeInput();
+            return;
+        }
+
+        ConsoleUtils.boxCustomerInfo(history.getCustomerInfo()).render();
+        printSuccess("Orders placed: " + history.getOrderCount());
+        printSuccess("Open orders: " + history.getOpenOrderCount());
+        printSuccess(String.format("Lifetime spend (excluding cancelled orders): $%.2f", history.getLifetimeSpend()));
+
+        String toPrint = prompt("Would you like to print out each of these orders? (Y/N): ").value;
+
+        if(toPrint.equalsIgnoreCase("Y")) {
+            OrderManager.printOrderList(history.getOrders());
+        }
+        consumeInput();
+    }
+
     /**
      * Executes the specified option based on the user's choice.
      * Concept: Polymorphism
@@ -109,8 +140,9 @@ public class CustomerMenu extends Menu {
             case 1 -> viewCustomerInfoGivenID();
             case 2 -> viewCustomerInfoGivenFirstNameAndLastName();
             case 3 -> viewUniqueCustomers();
+            case 4 -> viewCustomerOrderHistory();
             default -> {
-                printError("Please enter a valid option from 1 to 3, or -1 to quit.");
+                printError("Please enter a valid option from 1 to 4, or -1 to quit.");
                 consumeInput();
             }
         }
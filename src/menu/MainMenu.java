@@ -4,6 +4,8 @@ import management.OrderManager;
 import utils.ConsoleUtils;
 import static utils.ConsoleUtils.*;
 
+import java.io.IOException;
+
 /**
  * <p>ICS4U</p>
  * <p>AY Jackson SS</p>
@@ -93,6 +95,11 @@ public class MainMenu extends Menu {
             choice = promptChoice();
         }
 
+        try {
+            orderManager.flushPendingWrites();
+        } catch (IOException e) {
+            printError("Some changes could not be saved to the database: " + e.getMessage());
+        }
         System.out.println("Thank you for coming! We hope you run this database again sometime soon! :D");
     }
 }
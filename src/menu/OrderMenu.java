@@ -3,16 +3,28 @@ package menu;
 import computer.ComputerType;
 import hardware.GamingAdditionalHardware;
 import hardware.LaptopAdditionalHardware;
+import management.GroupSummary;
 import management.OrderManager;
+import management.OrderSortKey;
+import management.OrderSorter;
+import management.PartCriterion;
+import management.PartSlot;
+import management.ReportDimension;
 import order.Order;
 import order.OrderStatus;
 import order.OrderType;
 import org.json.JSONException;
+import query.OrderPredicate;
+import query.OrderQuery;
 import parts.Storage;
 import utils.ConsoleUtils;
+import utils.DateUtils;
+import utils.Input;
 import static utils.ConsoleUtils.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 
 /**
@@ -73,6 +85,10 @@ public class OrderMenu extends Menu {
                 17. Check/print the number of canceled orders
                 18. Check/print the number of orders that match given Additional Hardware
                     specifications
+                19. Search for orders by components (brand/model of any part)
+                20. Advanced search (status, type, price, finish by date, sorting and limit)
+                21. Check/print overdue orders and orders due in the next few days
+                22. Sales report by status, order type or computer type
                 -1. Back to Main Menu
                 """).render();
     }
@@ -114,6 +130,21 @@ public class OrderMenu extends Menu {
                 -1. Back to Order Menu""").render();
     }
 
+    /**
+     * Displays the menu options for selecting part slots.
+     */
+    private void printPartSlotOptions() {
+        StringBuilder options = new StringBuilder();
+        List<PartSlot> slots = PartSlot.values();
+        for (int i = 0; i < slots.size(); i++) {
+            options.append(String.format("%2d. %s%n", i + 1, slots.get(i)));
+        }
+        options.append("-1. Done adding components");
+
+        System.out.println();
+        ConsoleUtils.boxMenu("Component Options", options.toString()).render();
+    }
+
     private void listAllOrders() {
         orderManager.printAllOrders();
         if (orderManager.isEmptyOrders()) {
@@ -136,10 +167,14 @@ public class OrderMenu extends Menu {
             return;
         }
 
-        if (orderManager.deleteOrder(id)) {
-            printSuccess("Order successfully deleted.");
-        } else {
-            printError("Order failed to delete: No order exists with id " + id);
+        try {
+            if (orderManager.deleteOrder(id)) {
+                printSuccess("Order successfully deleted.");
+            } else {
+                printError("Order failed to delete: No order exists with id " + id);
+            }
+        } catch (IOException e) {
+            printError("The deletion could not be saved to the database: " + e.getMessage());
         }
         consumeInput();
     }
@@ -241,23 +276,28 @@ public class OrderMenu extends Menu {
         printStatusMenu();
 
         int choice = promptChoice();
-        switch (choice) {
-            case 1, 2, 3, 4 -> {
-                orderManager.updateOrderStatus(order, choice - 1);
-                printSuccess("Order " + id + "'s status changed!");
-                consumeInput();
+        try {
+            switch (choice) {
+                case 1, 2, 3, 4 -> {
+                    orderManager.updateOrderStatus(order, choice - 1);
+                    printSuccess("Order " + id + "'s status changed!");
+                    consumeInput();
 
+                }
+                case 5 -> {
+                    orderManager.updateOrderStatus(order, prompt("Enter a custom status: ").value);
+                    printSuccess("Order " + id + "'s status changed!");
+                    consumeInput();
+                }
+                case -1 -> {}
+                default -> {
+                    printError("Please enter a valid option from 1 to 5, or -1 to quit.");
+                    consumeInput();
+                }
             }
-            case 5 -> {
-                orderManager.updateOrderStatus(order, prompt("Enter a custom status: ").value);
-                printSuccess("Order " + id + "'s status changed!");
-                consumeInput();
-            }
-            case -1 -> {}
-            default -> {
-                printError("Please enter a valid option from 1 to 5, or -1 to quit.");
-                consumeInput();
-            }
+        } catch (IOException e) {
+            printError("The change could not be saved to the database: " + e.getMessage());
+            consumeInput();
         }
     }
 
@@ -268,7 +308,8 @@ public class OrderMenu extends Menu {
     private void searchOrdersByCPUAndGPUBrand() {
         String CPUBrand = prompt("Enter the brand of the CPU you want to search for: ").value;
         String GPUBrand = prompt("Enter the brand of the GPU you want to search for: ").value;
-        List<Order> orderMatches = orderManager.findOrdersByCPUAndGPUBrand(CPUBrand, GPUBrand);
+        List<Order> orderMatches = orderManager.query(OrderQuery.where(OrderPredicate.hasPartBrand(PartSlot.CPU, CPUBrand)
+                .and(OrderPredicate.hasPartBrand(PartSlot.GPU, GPUBrand))));
 
         if (!orderMatches.isEmpty()) {
             printSuccess("Successfully fetched all orders with the given CPU and GPU Brands.");
@@ -279,6 +320,217 @@ public class OrderMenu extends Menu {
         consumeInput();
     }
 
+    /**
+     * Searches for orders by the brand and model of any of their parts. The user enters one or more components,
+     * each a part slot and the words its brand or model must contain, and chooses whether orders must match
+     * every component or at least one. Displays the matching orders, if any.
+     */
+    private void searchOrdersByComponents() {
+        List<PartCriterion> criteria = new ArrayList<>();
+        List<PartSlot> slots = PartSlot.values();
+
+        printPartSlotOptions();
+        int slotChoice = promptChoice();
+        while (slotChoice != QUIT_PROGRAM) {
+            if (slotChoice >= 1 && slotChoice <= slots.size()) {
+                PartSlot slot = slots.get(slotChoice - 1);
+                String text = prompt("Enter the brand and/or model of the " + slot + " you want to search for: ").value;
+                criteria.add(new PartCriterion(slot, text));
+            } else {
+                printError("Enter a valid number between 1 and " + slots.size() + "!");
+            }
+            printPartSlotOptions();
+            slotChoice = promptChoice();
+        }
+
+        if (criteria.isEmpty()) {
+            printError("No components were entered!");
+            consumeInput();
+            return;
+        }
+
+        boolean matchAll = true;
+        if (criteria.size() > 1) {
+            matchAll = !prompt("Must orders match every component? Enter N to match any of them (Y/N): ").value.equalsIgnoreCase("N");
+        }
+
+        List<Order> orderMatches = orderManager.query(OrderQuery.where(OrderPredicate.hasParts(criteria, matchAll)));
+        if (!orderMatches.isEmpty()) {
+            printSuccess("Successfully fetched " + orderMatches.size() + " orders with the given components.");
+            OrderManager.printOrderList(orderMatches);
+        } else {
+            printError("No orders that match those given components!");
+        }
+        consumeInput();
+    }
+
+    /**
+     * Searches for orders with any combination of filters on status, order type, computer type, total cost and
+     * finish by date, sorted and limited as the user chooses. Every filter can be skipped by leaving it blank.
+     * Shows how the query will run before displaying the matching orders.
+     */
+    private void advancedSearch() {
+        List<OrderPredicate> filters = new ArrayList<>();
+        OrderSorter sorter = null;
+        int limit = OrderQuery.NO_LIMIT;
+
+        System.out.println("Leave any filter blank to skip it.");
+        try {
+            String status = prompt("Status (1. Not Started, 2. In Progress, 3. Completed, 4. Cancelled, 5. Current, 6. Custom): ").value;
+            switch (status) {
+                case "" -> {}
+                case "1", "2", "3", "4" -> filters.add(OrderPredicate.hasStatus(OrderStatus.defaultByIndex(Integer.parseInt(status) - 1)));
+                case "5" -> filters.add(OrderPredicate.isCurrent());
+                case "6" -> filters.add(OrderPredicate.hasCustomStatus());
+                default -> throw new IllegalArgumentException("Please enter a status from 1 to 6!");
+            }
+
+            String orderType = prompt("Order type (1. Shipping, 2. Pickup): ").value;
+            switch (orderType) {
+                case "" -> {}
+                case "1" -> filters.add(OrderPredicate.ofOrderType(OrderType.SHIPPING));
+                case "2" -> filters.add(OrderPredicate.ofOrderType(OrderType.PICKUP));
+                default -> throw new IllegalArgumentException("Please enter an order type from 1 to 2!");
+            }
+
+            String computerType = prompt("Computer type (1. Gaming, 2. Laptop): ").value;
+            switch (computerType) {
+                case "" -> {}
+                case "1" -> filters.add(OrderPredicate.ofComputerType(ComputerType.GAMING));
+                case "2" -> filters.add(OrderPredicate.ofComputerType(ComputerType.LAPTOP));
+                default -> throw new IllegalArgumentException("Please enter a computer type from 1 to 2!");
+            }
+
+            Input minPrice = prompt("Minimum total cost: ");
+            Input maxPrice = prompt("Maximum total cost: ");
+            if (!minPrice.value.isEmpty() || !maxPrice.value.isEmpty()) {
+                filters.add(OrderPredicate.totalCostBetween(minPrice.value.isEmpty() ? 0 : minPrice.toPositiveDouble(),
+                        maxPrice.value.isEmpty() ? Double.MAX_VALUE : maxPrice.toPositiveDouble()));
+            }
+
+            Input dueDays = prompt("Finish by within how many days from now: ");
+            if (!dueDays.value.isEmpty()) {
+                filters.add(OrderPredicate.finishByBetween(null, DateUtils.addDays(new Date(), dueDays.toPositiveInt())));
+            }
+
+            if (prompt("Exclude cancelled orders? (Y/N): ").value.equalsIgnoreCase("Y")) {
+                filters.add(OrderPredicate.hasStatus(OrderStatus.CANCELLED).negate());
+            }
+
+            String sortBy = prompt("Sort by (1. ID, 2. Total cost, most expensive first, 3. Finish by date, most urgent first, 4. Status): ").value;
+            switch (sortBy) {
+                case "", "1" -> {}
+                case "2" -> sorter = OrderSorter.by(OrderSortKey.TOTAL_COST.reversed());
+                case "3" -> sorter = OrderSorter.by(OrderSortKey.FINISH_BY_DATE);
+                case "4" -> sorter = OrderSorter.by(OrderSortKey.STATUS);
+                default -> throw new IllegalArgumentException("Please enter a sort order from 1 to 4!");
+            }
+
+            Input maxResults = prompt("Maximum number of orders to show: ");
+            if (!maxResults.value.isEmpty()) {
+                limit = maxResults.toPositiveInt();
+            }
+        } catch (NumberFormatException e) {
+            printError("Invalid input - Please enter a valid number!");
+            consumeInput();
+            return;
+        } catch (IllegalArgumentException e) {
+            printError(e.getMessage());
+            consumeInput();
+            return;
+        }
+
+        OrderPredicate predicate = filters.isEmpty() ? OrderPredicate.any()
+                : OrderPredicate.allOf(filters.toArray(new OrderPredicate[0]));
+        OrderQuery query = OrderQuery.where(predicate);
+        if (sorter != null) {
+            query = query.sortedBy(sorter);
+        }
+        if (limit != OrderQuery.NO_LIMIT) {
+            query = query.limit(limit);
+        }
+
+        System.out.println("Query plan: " + orderManager.explain(query));
+        List<Order> orderMatches = orderManager.query(query);
+        if (!orderMatches.isEmpty()) {
+            printSuccess("Successfully fetched " + orderMatches.size() + " orders that match the given filters.");
+            OrderManager.printOrderList(orderMatches);
+        } else {
+            printError("No orders that match those given filters!");
+        }
+        consumeInput();
+    }
+
+    /**
+     * Displays the number of overdue orders and the number of orders due in a number of days entered by the
+     * user, and optionally prints them, from most to least urgent.
+     */
+    private void overdueAndDueSoonOrders() {
+        List<Order> overdueOrders = orderManager.findOverdueOrders();
+        printSuccess("There are " + overdueOrders.size() + " overdue orders (not started or in progress).");
+        if (!overdueOrders.isEmpty() && prompt("Would you like to view those orders? (Y/N): ").value.equalsIgnoreCase("Y")) {
+            OrderManager.printOrderList(overdueOrders);
+        }
+
+        int days;
+        try {
+            days = prompt("Enter the number of days to check for upcoming orders: ").toPositiveInt();
+        } catch (NumberFormatException e) {
+            printError("Invalid input - Please enter a valid number of days!");
+            consumeInput();
+            return;
+        } catch (IllegalArgumentException e) {
+            printError("Please enter a positive number of days!");
+            consumeInput();
+            return;
+        }
+
+        List<Order> dueOrders = orderManager.findOrdersDueWithinDays(days);
+        printSuccess("There are " + dueOrders.size() + " orders due in the next " + days + " days.");
+        if (!dueOrders.isEmpty() && prompt("Would you like to view those orders? (Y/N): ").value.equalsIgnoreCase("Y")) {
+            OrderManager.printOrderList(dueOrders);
+        }
+        consumeInput();
+    }
+
+    /**
+     * Prompts the user for a way to group the orders and an optional number of days, then prints the number of
+     * orders and computers, the total cost and the average part prices of each group, for the orders placed in
+     * that many days (or all orders).
+     */
+    private void salesReport() {
+        ReportDimension dimension;
+        Date from = null;
+        try {
+            String groupBy = prompt("Group orders by (1. Status, 2. Order type, 3. Computer type): ").value;
+            switch (groupBy) {
+                case "1" -> dimension = ReportDimension.STATUS;
+                case "2" -> dimension = ReportDimension.ORDER_TYPE;
+                case "3" -> dimension = ReportDimension.COMPUTER_TYPE;
+                default -> throw new IllegalArgumentException("Please enter a grouping from 1 to 3!");
+            }
+
+            Input days = prompt("Only include orders placed in the last how many days (leave blank for all): ");
+            if (!days.value.isEmpty()) {
+                from = DateUtils.addDays(new Date(), -days.toPositiveInt());
+            }
+        } catch (NumberFormatException e) {
+            printError("Invalid input - Please enter a valid number!");
+            consumeInput();
+            return;
+        } catch (IllegalArgumentException e) {
+            printError(e.getMessage());
+            consumeInput();
+            return;
+        }
+
+        printSuccess("Sales report by " + dimension.getName().toLowerCase() + ":");
+        for (GroupSummary groupSummary : orderManager.summarizeOrders(dimension, from, null)) {
+            ConsoleUtils.boxGroupSummary(groupSummary).render();
+        }
+        consumeInput();
+    }
+
     /**
      * Prompts the user to enter the ID of the order they want to print and displays the details of the order, if found.
      * Handles user input validation and communicates success or failure messages accordingly.
@@ -348,7 +600,7 @@ public class OrderMenu extends Menu {
             }
         }
 
-        List<Order> filteredOrders = orderManager.filterOrdersByStatus(orderStatus);
+        List<Order> filteredOrders = orderManager.query(OrderQuery.where(OrderPredicate.hasStatus(orderStatus)));
 
         if (filteredOrders.isEmpty()) {
             printError("No orders found with the given status.");
@@ -364,16 +616,16 @@ public class OrderMenu extends Menu {
      * Communicates the total number of completed orders and prompts the user for further action.
      */
     private void allCompletedOrders() {
-        List<Order> completedOrders = orderManager.allCompletedOrders();
-        printSuccess("Currently " + completedOrders.size() + " completed orders."); // number of completed order
+        int count = orderManager.countOrdersWithStatus(OrderStatus.COMPLETED);
+        printSuccess("Currently " + count + " completed orders."); // number of completed order
 
-        if (completedOrders.isEmpty()) {
+        if (count == 0) {
             return;
         }
 
         String toPrint = prompt("Would you like to print out all the completed orders? (Y/N) ").value;
         if(toPrint.equalsIgnoreCase("y")) {
-            OrderManager.printOrderList(completedOrders);
+            OrderManager.printOrderList(orderManager.allCompletedOrders());
         }
         consumeInput();
     }
@@ -383,17 +635,17 @@ public class OrderMenu extends Menu {
      * Communicates the total number of current orders and prompts the user for further action.
      */
     private void allCurrentOrders() {
-        List<Order> currentOrders = orderManager.allCurrentOrders();
-        printSuccess("Currently " + currentOrders.size() + " not started or in progress orders");
+        int count = orderManager.countCurrentOrders();
+        printSuccess("Currently " + count + " not started or in progress orders");
 
-        if (currentOrders.isEmpty()) {
+        if (count == 0) {
             return;
         }
 
         String toPrint = prompt("Would you like to print out all the current orders? (Y/N) ").value;
 
         if (toPrint.equalsIgnoreCase("y")) {
-            OrderManager.printOrderList(currentOrders);
+            OrderManager.printOrderList(orderManager.allCurrentOrders());
         }
         consumeInput();
     }
@@ -403,16 +655,16 @@ public class OrderMenu extends Menu {
      * Communicates the total number of orders to be shipped and prompts the user for further action.
      */
     private void allShippingOrders() {
-        List<Order> shippingOrders = orderManager.allShippingOrders();
-        printSuccess("Currently " + shippingOrders.size() + " orders to be shipped out. ");
+        int count = orderManager.countOrdersOfType(OrderType.SHIPPING);
+        printSuccess("Currently " + count + " orders to be shipped out. ");
 
-        if (shippingOrders.isEmpty()) {
+        if (count == 0) {
             return;
         }
 
         String toPrint = prompt("Would you like to print out all the shipping orders? (Y/N) ").value;
         if (toPrint.equalsIgnoreCase("y")) {
-            OrderManager.printOrderList(shippingOrders);
+            OrderManager.printOrderList(orderManager.allShippingOrders());
         }
         consumeInput();
     }
@@ -422,16 +674,16 @@ public class OrderMenu extends Menu {
      * Communicates the total number of pickup orders and prompts the user for further action.
      */
     private void allPickupOrders() {
-        List<Order> pickupOrders = orderManager.allPickupOrders();
-        printSuccess("Currently " + pickupOrders.size() + " orders to be picked up.");
+        int count = orderManager.countOrdersOfType(OrderType.PICKUP);
+        printSuccess("Currently " + count + " orders to be picked up.");
 
-        if (pickupOrders.isEmpty()) {
+        if (count == 0) {
             return;
         }
 
         String toPrint = prompt("Would you like to print out all the pickup orders? (Y/N) ").value;
         if (toPrint.equalsIgnoreCase("y")) {
-            OrderManager.printOrderList(pickupOrders);
+            OrderManager.printOrderList(orderManager.allPickupOrders());
         }
         consumeInput();
     }
@@ -441,16 +693,16 @@ public class OrderMenu extends Menu {
      * Communicates the total number of cancelled orders and prompts the user for further action.
      */
     private void allCancelledOrders(){
-        List<Order> cancelledOrders = orderManager.allCancelledOrders();
-        printSuccess("Currently " + cancelledOrders.size() + " cancelled orders.");
+        int count = orderManager.countOrdersWithStatus(OrderStatus.CANCELLED);
+        printSuccess("Currently " + count + " cancelled orders.");
 
-        if (cancelledOrders.isEmpty()) {
+        if (count == 0) {
             return;
         }
 
         String toPrint = prompt("Would you like to print out all the cancelled orders? (Y/N) ").value;
         if (toPrint.equalsIgnoreCase("y")) {
-            OrderManager.printOrderList(cancelledOrders);
+            OrderManager.printOrderList(orderManager.allCancelledOrders());
         }
         consumeInput();
     }
@@ -692,8 +944,12 @@ public class OrderMenu extends Menu {
             case 16 -> allShippingOrders();
             case 17 -> allCancelledOrders();
             case 18 -> findMatchingOrdersByAdditionalHardwareAndPercent();
+            case 19 -> searchOrdersByComponents();
+            case 20 -> advancedSearch();
+            case 21 -> overdueAndDueSoonOrders();
+            case 22 -> salesReport();
             default -> {
-                printError("Please enter a valid option from 1 to 18, or -1 to quit.");
+                printError("Please enter a valid option from 1 to 22, or -1 to quit.");
                 consumeInput();
             }
         }
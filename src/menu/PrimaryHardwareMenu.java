@@ -6,6 +6,8 @@ import utils.ConsoleUtils;
 
 import static utils.ConsoleUtils.*;
 
+import java.io.IOException;
+
 /**
  * <p>ICS4U</p>
  * <p>AY Jackson SS</p>
@@ -58,6 +60,8 @@ public class PrimaryHardwareMenu extends Menu {
             printError("Invalid input! Try again or select another component to update.");
         } catch (IllegalArgumentException e) {
             printError("Please enter a positive, finite number!");
+        } catch (IOException e) {
+            printError("The change could not be saved to the database: " + e.getMessage());
         }
         consumeInput();
     }
@@ -94,6 +98,8 @@ public class PrimaryHardwareMenu extends Menu {
             printError("Invalid input! Try again or select another component to update.");
         } catch (IllegalArgumentException e) {
             printError("Please enter a positive, finite number!");
+        } catch (IOException e) {
+            printError("The change could not be saved to the database: " + e.getMessage());
         }
         consumeInput();
     }
@@ -126,6 +132,8 @@ public class PrimaryHardwareMenu extends Menu {
             printError("Invalid input! Try again or select another component to update.");
         } catch (IllegalArgumentException e) {
             printError("Please enter a positive, finite number!");
+        } catch (IOException e) {
+            printError("The change could not be saved to the database: " + e.getMessage());
         }
         consumeInput();
     }
@@ -160,6 +168,8 @@ public class PrimaryHardwareMenu extends Menu {
             printError("Invalid input! Try again or select another component to update.");
         } catch (IllegalArgumentException e) {
             printError("Please enter a positive, finite number!");
+        } catch (IOException e) {
+            printError("The change could not be saved to the database: " + e.getMessage());
         }
         consumeInput();
     }
@@ -190,6 +200,8 @@ public class PrimaryHardwareMenu extends Menu {
             printError("Invalid input! Try again or select another component to update.");
         } catch (IllegalArgumentException e) {
             printError("Please enter a positive, finite number!");
+        } catch (IOException e) {
+            printError("The change could not be saved to the database: " + e.getMessage());
         }
         consumeInput();
     }
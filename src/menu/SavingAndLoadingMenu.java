@@ -1,18 +1,30 @@
 package menu;
 
+import management.ImportBatch;
+import management.MappedOrderStore;
 import management.OrderManager;
+import management.PersistenceScheduler;
+import order.Order;
 import org.json.JSONException;
 import utils.ConsoleUtils;
 import static utils.ConsoleUtils.*;
 
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 /**
  * <p>ICS4U</p>
  * <p>AY Jackson SS</p>
  * <p>The SavingAndLoadingMenu class inherits from the abstract {@link Menu} class and thus
  * represents a sub menu for saving and loading orders from a database.
- * It provides options to save all orders to a file and load all orders from a file.</p>
+ * It provides options to save all orders to a file, load all orders from a file, export all orders
+ * to orders.json, inspect the binary snapshot, write pending changes immediately and import many orders at once.</p>
  * <p>Concept: Inheritance</p>
  * @author Meherzad Antia
  * @author Stanley Gu
@@ -36,8 +48,12 @@ public class SavingAndLoadingMenu extends Menu {
     public void printOptions() {
         System.out.println();
         ConsoleUtils.boxMenu("Saving & Loading Menu", """
-                 1. Save all orders to file (orders.json)
-                 2. Load all orders from file (orders.json)
+                 1. Save all orders to database file
+                 2. Load all orders from database file
+                 3. Export all orders to orders.json
+                 4. Inspect binary snapshot (orders.bin)
+                 5. Write pending changes to database now
+                 6. Import orders from a directory or NDJSON file
                 -1. Back to Main Menu""").render();
     }
 
@@ -49,8 +65,12 @@ public class SavingAndLoadingMenu extends Menu {
     public void executeOption(int choice) {
         switch (choice) {
             case 1 -> {
-                orderManager.saveOrdersToDatabase();
-                printSuccess("Successfully saved orders to database!");
+                try {
+                    orderManager.saveOrdersToDatabase();
+                    printSuccess("Successfully saved orders to database!");
+                } catch (IOException e) {
+                    printError("An error occurred when writing to database file: " + e.getMessage());
+                }
             }
             case 2 -> {
                 try{
@@ -60,11 +80,79 @@ public class SavingAndLoadingMenu extends Menu {
                     printError(e.getMessage());
                 }
             }
-            default -> printError("Please enter a valid option from 1 to 2, or -1 to quit.");
+            case 3 -> {
+                try {
+                    orderManager.exportOrdersToJson();
+                    printSuccess("Successfully exported orders to orders.json!");
+                } catch (IOException e) {
+                    printError(e.getMessage());
+                }
+            }
+            case 4 -> {
+                try {
+                    MappedOrderStore store = orderManager.getDatabaseManager().openBinarySnapshot();
+                    System.out.println("Orders in snapshot: " + store.size());
+                    for (Map.Entry<String, Integer> entry : store.countByStatus().entrySet()) {
+                        System.out.println("  " + entry.getKey() + ": " + entry.getValue());
+                    }
+                } catch (IOException e) {
+                    printError(e.getMessage());
+                }
+            }
+            case 5 -> {
+                try {
+                    orderManager.flushPendingWrites();
+                    PersistenceScheduler scheduler = orderManager.getDatabaseManager().getPersistenceScheduler();
+                    if (scheduler != null) {
+                        System.out.println(scheduler.getFlushedMutationCount() + " changes written in "
+                                + scheduler.getFlushCount() + " writes (" + scheduler.getCoalescedWriteCount()
+                                + " writes coalesced)");
+                        System.out.println(scheduler.getDiscardedMutationCount()
+                                + " changes saved by a full save instead");
+                    }
+                    printSuccess("Successfully wrote pending changes to database!");
+                } catch (IOException e) {
+                    printError(e.getMessage());
+                }
+            }
+            case 6 -> importOrders();
+            default -> printError("Please enter a valid option from 1 to 6, or -1 to quit.");
         }
         consumeInput();
     }
 
+    /**
+     * Prompts for a directory of order files or an NDJSON file of orders, imports it, and prints the IDs of
+     * the imported orders and an error for each order that could not be imported.
+     */
+    private void importOrders() {
+        String location = prompt("Enter the path of a directory of order files or an NDJSON file: ").value.trim();
+        try {
+            Path path = Path.of(location);
+            ImportBatch batch;
+            if (Files.isDirectory(path)) {
+                batch = orderManager.importOrdersFromDirectory(path);
+            } else {
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    batch = orderManager.importOrdersFromNdjson(reader);
+                }
+            }
+
+            for (String error : batch.getErrors()) {
+                printError(error);
+            }
+            List<Order> orders = batch.getOrders();
+            if (orders.isEmpty()) {
+                printError("No orders were imported.");
+            } else {
+                printSuccess("Successfully imported " + orders.size() + " of " + batch.getRecordCount()
+                        + " orders (IDs " + orders.get(0).getId() + " to " + orders.get(orders.size() - 1).getId() + ")!");
+            }
+        } catch (IOException | InvalidPathException e) {
+            printError("An error occurred when importing orders: " + e.getMessage());
+        }
+    }
+
     /**
      * Runs the SavingAndLoadingMenu, allowing the user to interact with the available options. Concept: Polymorphism
      */
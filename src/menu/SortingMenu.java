@@ -1,7 +1,12 @@
 package menu;
 import management.OrderManager;
+import management.OrderSortKey;
+import management.OrderSorter;
+import order.Order;
 import utils.ConsoleUtils;
+import utils.Input;
 import static utils.ConsoleUtils.*;
+import java.util.List;
 
 
 /**
@@ -9,7 +14,9 @@ import static utils.ConsoleUtils.*;
  * <p>AY Jackson SS</p>
  * <p>The SortingMenu class inherits from the abstract {@link Menu} class and thus
  * represents a sub menu for sorting the orders in the database.
- * It provides options to sort orders by ascending ID number, and sort them by status and soonest completion date.</p>
+ * It provides options to sort orders by ascending ID number, by status and soonest completion date,
+ * by total price, and by soonest completion date alone, and to view the most expensive or cheapest orders
+ * and the orders in a price range without sorting the list.</p>
  * <p>Concept: Inheritance</p>
  * @author Meherzad Antia
  * @author Stanley Gu
@@ -36,6 +43,11 @@ public class SortingMenu extends Menu {
         ConsoleUtils.boxMenu("Sorting Menu", """
                  1. Sort orders by status and soonest date to be completed
                  2. Sort orders by ID in ascending order
+                 3. Sort orders by total price (most expensive first)
+                 4. Sort orders by total price (cheapest first)
+                 5. Sort orders by soonest date to be completed
+                 6. View the most expensive or cheapest orders
+                 7. View the orders in a price range
                 -1. Back to Main Menu""").render();
     }
 
@@ -56,13 +68,94 @@ public class SortingMenu extends Menu {
                 System.out.println("Successfully sorted.");
                 consumeInput();
             }
+            case 3 -> {
+                orderManager.sortOrders(OrderSorter.by(OrderSortKey.TOTAL_COST.reversed()).thenBy(OrderSortKey.ID));
+                System.out.println("Successfully sorted.");
+                consumeInput();
+            }
+            case 4 -> {
+                orderManager.sortOrders(OrderSorter.by(OrderSortKey.TOTAL_COST).thenBy(OrderSortKey.ID));
+                System.out.println("Successfully sorted.");
+                consumeInput();
+            }
+            case 5 -> {
+                orderManager.sortOrders(OrderSorter.by(OrderSortKey.FINISH_BY_DATE).thenBy(OrderSortKey.ID));
+                System.out.println("Successfully sorted.");
+                consumeInput();
+            }
+            case 6 -> viewTopOrdersByPrice();
+            case 7 -> viewOrdersInPriceRange();
             default -> {
-                printError("Please enter a valid option from 1 to 2, or -1 to quit.");
+                printError("Please enter a valid option from 1 to 7, or -1 to quit.");
                 consumeInput();
             }
         }
     }
 
+    /**
+     * Prompts for a number of orders and whether to show the most expensive or the cheapest ones, then prints them
+     * from the price index without sorting the list of orders.
+     */
+    private void viewTopOrdersByPrice() {
+        List<Order> orders;
+        try {
+            int count = prompt("Enter the number of orders to view: ").toPositiveInt();
+            String choice = prompt("View the most expensive or the cheapest orders? (1. Most expensive, 2. Cheapest): ").value;
+            switch (choice) {
+                case "1" -> orders = orderManager.findMostExpensiveOrders(count);
+                case "2" -> orders = orderManager.findCheapestOrders(count);
+                default -> throw new IllegalArgumentException("Please enter 1 or 2!");
+            }
+        } catch (NumberFormatException e) {
+            printError("Invalid input - Please enter a valid number!");
+            consumeInput();
+            return;
+        } catch (IllegalArgumentException e) {
+            printError(e.getMessage());
+            consumeInput();
+            return;
+        }
+
+        if (orders.isEmpty()) {
+            printError("There are no orders.");
+        } else {
+            OrderManager.printOrderList(orders);
+        }
+        consumeInput();
+    }
+
+    /**
+     * Prompts for a minimum and maximum total cost, then prints the orders in that range from cheapest to most
+     * expensive, using the price index.
+     */
+    private void viewOrdersInPriceRange() {
+        double min;
+        double max;
+        try {
+            Input minPrice = prompt("Minimum total cost (leave blank for none): ");
+            Input maxPrice = prompt("Maximum total cost (leave blank for none): ");
+            min = minPrice.value.isEmpty() ? 0 : minPrice.toPositiveDouble();
+            max = maxPrice.value.isEmpty() ? Double.MAX_VALUE : maxPrice.toPositiveDouble();
+        } catch (NumberFormatException e) {
+            printError("Invalid input - Please enter a valid number!");
+            consumeInput();
+            return;
+        } catch (IllegalArgumentException e) {
+            printError(e.getMessage());
+            consumeInput();
+            return;
+        }
+
+        List<Order> orders = orderManager.findOrdersPricedBetween(min, max);
+        if (orders.isEmpty()) {
+            printError("There are no orders in that price range.");
+        } else {
+            OrderManager.printOrderList(orders);
+            printSuccess(orders.size() + " order(s) found.");
+        }
+        consumeInput();
+    }
+
     /**
      * Runs the SortingMenu, allowing the user to interact with the available options. Concept: Polymorphism
      */
@@ -63,6 +63,11 @@ public abstract class Order {
      */
     protected Date finishByDate;
 
+    /**
+     * Whether this order is a read-only copy, see {@link #readOnlyCopy()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a new order with the given parameters, used during adding a new order where the order/expiry dates are
      * determined automatically based on current time.
@@ -109,6 +114,19 @@ public abstract class Order {
         this.finishByDate = finishByDate;
     }
 
+    /**
+     * Constructs a new order with the same type, ID, quantity, status and dates as another order, and copies of
+     * its computer and customer information. The copy shares no object that can be changed with the other order,
+     * and can be changed even if the other order is read-only.
+     *
+     * @param other The order to copy.
+     */
+    protected Order(Order other){
+        this(other.type, other.id, other.quantity, other.orderStatus, other.computer.copy(),
+                new CustomerInfo(other.customerInfo), new Date(other.orderDate.getTime()),
+                new Date(other.finishByDate.getTime()));
+    }
+
 
     /**
      * Retrieves the type of the order.
@@ -165,29 +183,32 @@ public abstract class Order {
     }
 
     /**
-     * Retrieves the date when the order was placed.
+     * Retrieves the date when the order was placed. A read-only order returns a copy of the date, so that the
+     * date cannot be changed through it.
      *
      * @return The date when the order was placed.
      */
     public Date getOrderDate() {
-        return orderDate;
+        return readOnly ? new Date(orderDate.getTime()) : orderDate;
     }
 
     /**
-     * Retrieves the date by which the order should be finished.
+     * Retrieves the date by which the order should be finished. A read-only order returns a copy of the date.
      *
      * @return The date by which the order should be finished.
      */
     public Date getFinishByDate() {
-        return finishByDate;
+        return readOnly ? new Date(finishByDate.getTime()) : finishByDate;
     }
 
     /**
      * Sets the customer information associated with the order.
      *
      * @param customerInfo The new customer information.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setCustomerInfo(CustomerInfo customerInfo) {
+        checkWritable();
         this.customerInfo = customerInfo;
     }
 
@@ -195,8 +216,10 @@ public abstract class Order {
      * Sets the computer associated with the order.
      *
      * @param computer The new computer associated with the order.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setComputer(Computer computer) {
+        checkWritable();
         this.computer = computer;
     }
 
@@ -204,8 +227,10 @@ public abstract class Order {
      * Sets the unique identifier of the order.
      *
      * @param id The new unique identifier for the order.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setId(int id) {
+        checkWritable();
         this.id = id;
     }
 
@@ -213,8 +238,10 @@ public abstract class Order {
      * Sets the quantity of items in the order.
      *
      * @param quantity The new quantity of items in the order.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setQuantity(int quantity) {
+        checkWritable();
         this.quantity = quantity;
     }
 
@@ -222,8 +249,10 @@ public abstract class Order {
      * Sets the date when the order was placed.
      *
      * @param orderDate The new date when the order was placed.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setOrderDate(Date orderDate) {
+        checkWritable();
         this.orderDate = orderDate;
     }
 
@@ -231,8 +260,10 @@ public abstract class Order {
      * Sets the date by which the order should be finished.
      *
      * @param finishByDate The new date by which the order should be finished.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setFinishByDate(Date finishByDate) {
+        checkWritable();
         this.finishByDate = finishByDate;
     }
 
@@ -251,13 +282,12 @@ public abstract class Order {
     public abstract String orderInfo();
 
     /**
-     * Checks if the order is overdue.
+     * Checks if the order is overdue, that is, if its finish by date has passed.
      *
      * @return {@code true} if the order is overdue, {@code false} otherwise.
      */
     public boolean isOverdue() {
-        Date currDate = new Date();
-        return currDate.compareTo(finishByDate) > 0;
+        return System.currentTimeMillis() > finishByDate.getTime();
     }
 
     /**
@@ -308,8 +338,10 @@ public abstract class Order {
      * Updates the order status based on the provided index.
      *
      * @param index The index representing the new order status.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void updateStatus(int index){
+        checkWritable();
         orderStatus = OrderStatus.defaultByIndex(index);
     }
 
@@ -317,9 +349,11 @@ public abstract class Order {
      * Updates the order status to the specified status.
      *
      * @param orderStatus The new order status.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
 
     public void updateStatus(OrderStatus orderStatus){
+        checkWritable();
         this.orderStatus = orderStatus;
     }
 
@@ -341,4 +375,55 @@ public abstract class Order {
                 Computer:
                 %s""", id, orderStatus, quantity, orderDate, finishByDate, customerInfo, orderInfo(), computer);
     }
+
+    /**
+     * Makes a copy of this order, its computer and its customer information, which can be changed even if this
+     * order is read-only.
+     * Concept: Abstract Method
+     * @return The copy of this order.
+     */
+    public abstract Order copy();
+
+    /**
+     * Makes a read-only copy of this order, used for the snapshots that are read by many threads at once.
+     * The copy shares no object that can be changed with this order, so later changes to this order do not show
+     * in it, and every setter of the copy and of the objects in it throws an {@code UnsupportedOperationException}.
+     * Concept: Immutability
+     * @return The read-only copy of this order.
+     */
+    public Order readOnlyCopy() {
+        Order copy = copy();
+        copy.makeReadOnly();
+        return copy;
+    }
+
+    /**
+     * Makes this order, its computer and its customer information read-only. This cannot be undone.
+     * Concept: Immutability
+     */
+    protected void makeReadOnly() {
+        readOnly = true;
+        computer.makeReadOnly();
+        customerInfo.makeReadOnly();
+    }
+
+    /**
+     * Checks if this order is a read-only copy.
+     *
+     * @return {@code true} if this order is read-only, {@code false} otherwise.
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this order is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException If this order is a read-only copy.
+     */
+    protected void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("Order " + id + " is a read-only copy and cannot be changed");
+        }
+    }
 }
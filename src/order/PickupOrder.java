@@ -60,6 +60,16 @@ public class PickupOrder extends Order{
 
     }
 
+    /**
+     * Constructs a new {@code PickupOrder} with the same details as another one, see {@link Order#Order(Order)}.
+     *
+     * @param other The order to copy.
+     */
+    public PickupOrder(PickupOrder other) {
+        super(other);
+        this.pickupInfo = new PickupInfo(other.pickupInfo);
+    }
+
     /**
      * Gets the pickup information associated with the order.
      *
@@ -73,8 +83,10 @@ public class PickupOrder extends Order{
      * Sets the pickup information associated with the order.
      *
      * @param pickupInfo The pickup information to set.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setPickupInfo(PickupInfo pickupInfo){
+        checkWritable();
         this.pickupInfo = pickupInfo;
     }
 
@@ -98,4 +110,24 @@ public class PickupOrder extends Order{
                 Pickup Info:
                 %s""", pickupInfo);
     }
+
+    /**
+     * Makes a copy of this order, which can be changed even if this order is read-only.
+     * Concept: Polymorphism
+     * @return The copy of this order.
+     */
+    @Override
+    public PickupOrder copy() {
+        return new PickupOrder(this);
+    }
+
+    /**
+     * Makes this order and all its information read-only.
+     * Concept: Polymorphism
+     */
+    @Override
+    protected void makeReadOnly() {
+        super.makeReadOnly();
+        pickupInfo.makeReadOnly();
+    }
 }
@@ -61,6 +61,16 @@ public class ShippingOrder extends Order {
         this.shippingInfo = shippingInfo;
     }
 
+    /**
+     * Constructs a new {@code ShippingOrder} with the same details as another one, see {@link Order#Order(Order)}.
+     *
+     * @param other The order to copy.
+     */
+    public ShippingOrder(ShippingOrder other) {
+        super(other);
+        this.shippingInfo = new ShippingInfo(other.shippingInfo);
+    }
+
     /**
      * Gets the shipping information associated with the order.
      *
@@ -74,8 +84,10 @@ public class ShippingOrder extends Order {
      * Sets the shipping information associated with the order.
      *
      * @param shippingInfo The shipping information to set.
+     * @throws UnsupportedOperationException If this order is a read-only copy.
      */
     public void setShippingInfo(ShippingInfo shippingInfo) {
+        checkWritable();
         this.shippingInfo = shippingInfo;
     }
 
@@ -99,4 +111,24 @@ public class ShippingOrder extends Order {
                 Shipping Info:
                 %s""", shippingInfo);
     }
+
+    /**
+     * Makes a copy of this order, which can be changed even if this order is read-only.
+     * Concept: Polymorphism
+     * @return The copy of this order.
+     */
+    @Override
+    public ShippingOrder copy() {
+        return new ShippingOrder(this);
+    }
+
+    /**
+     * Makes this order and all its information read-only.
+     * Concept: Polymorphism
+     */
+    @Override
+    protected void makeReadOnly() {
+        super.makeReadOnly();
+        shippingInfo.makeReadOnly();
+    }
 }
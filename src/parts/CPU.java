@@ -49,6 +49,19 @@ public class CPU extends Part {
         this.processingSpeed = processingSpeed;
     }
 
+    /**
+     * Constructs a new {@code CPU} object with the same specifications as another CPU.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the CPU to copy
+     */
+    public CPU(CPU other) {
+        super(other);
+        this.processingSpeed = other.processingSpeed;
+        this.cores = other.cores;
+        this.threads = other.threads;
+    }
+
     /**
      * Gets the processing speed of the CPU.
      *
@@ -80,8 +93,10 @@ public class CPU extends Part {
      * Sets the processing speed of the CPU.
      *
      * @param processingSpeed the new processing speed to set in gigahertz (GHz)
+     * @throws UnsupportedOperationException if this CPU is a read-only copy
      */
     public void setProcessingSpeed(double processingSpeed) {
+        checkWritable();
         this.processingSpeed = processingSpeed;
     }
 
@@ -89,8 +104,10 @@ public class CPU extends Part {
      * Sets the number of cores in the CPU.
      *
      * @param cores the new number of cores to set
+     * @throws UnsupportedOperationException if this CPU is a read-only copy
      */
     public void setCores(int cores) {
+        checkWritable();
         this.cores = cores;
     }
 
@@ -98,8 +115,10 @@ public class CPU extends Part {
      * Sets the number of threads in the CPU.
      *
      * @param threads the new number of threads to set
+     * @throws UnsupportedOperationException if this CPU is a read-only copy
      */
     public void setThreads(int threads) {
+        checkWritable();
         this.threads = threads;
     }
 
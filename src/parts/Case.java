@@ -50,6 +50,19 @@ public class Case extends Part {
         this.material = material;
     }
 
+    /**
+     * Constructs a new {@code Case} object with the same specifications as another case.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the case to copy
+     */
+    public Case(Case other) {
+        super(other);
+        this.colour = other.colour;
+        this.size = other.size;
+        this.material = other.material;
+    }
+
     /**
      * Gets the color of the case.
      *
@@ -81,8 +94,10 @@ public class Case extends Part {
      * Sets the color of the case.
      *
      * @param colour the new color to set
+     * @throws UnsupportedOperationException if this case is a read-only copy
      */
     public void setColour(String colour) {
+        checkWritable();
         this.colour = colour;
     }
 
@@ -90,8 +105,10 @@ public class Case extends Part {
      * Sets the size of the case.
      *
      * @param size the new color to set
+     * @throws UnsupportedOperationException if this case is a read-only copy
      */
     public void setSize(String size) {
+        checkWritable();
         this.size = size;
     }
 
@@ -99,8 +116,10 @@ public class Case extends Part {
      * Sets the material of the case.
      *
      * @param material the new color to set
+     * @throws UnsupportedOperationException if this case is a read-only copy
      */
     public void setMaterial(String material) {
+        checkWritable();
         this.material = material;
     }
 
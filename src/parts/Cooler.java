@@ -55,6 +55,20 @@ public class Cooler extends Part {
         this.rpm = rpm;
     }
 
+    /**
+     * Constructs a new {@code Cooler} object with the same specifications as another cooler.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the cooler to copy
+     */
+    public Cooler(Cooler other) {
+        super(other);
+        this.colour = other.colour;
+        this.type = other.type;
+        this.fanCount = other.fanCount;
+        this.rpm = other.rpm;
+    }
+
     /**
      * Gets the colour of the cooler.
      *
@@ -95,8 +109,10 @@ public class Cooler extends Part {
      * Sets the colour of the cooler.
      *
      * @param colour the new colour to set
+     * @throws UnsupportedOperationException if this cooler is a read-only copy
      */
     public void setColour(String colour) {
+        checkWritable();
         this.colour = colour;
     }
 
@@ -104,8 +120,10 @@ public class Cooler extends Part {
      * Sets the type of the cooler.
      *
      * @param type the new type to set
+     * @throws UnsupportedOperationException if this cooler is a read-only copy
      */
     public void setType(String type) {
+        checkWritable();
         this.type = type;
     }
 
@@ -113,8 +131,10 @@ public class Cooler extends Part {
      * Sets the number of fans in the cooler.
      *
      * @param fanCount the new number of fans to set
+     * @throws UnsupportedOperationException if this cooler is a read-only copy
      */
     public void setFanCount(int fanCount) {
+        checkWritable();
         this.fanCount = fanCount;
     }
 
@@ -122,8 +142,10 @@ public class Cooler extends Part {
      * Sets the speed of the fans in the cooler.
      *
      * @param rpm the new number of fans to set
+     * @throws UnsupportedOperationException if this cooler is a read-only copy
      */
     public void setRpm(int rpm) {
+        checkWritable();
         this.rpm = rpm;
     }
 
@@ -52,6 +52,19 @@ public class GPU extends Part {
         this.VRAM = VRAM;
     }
 
+    /**
+     * Constructs a new {@code GPU} object with the same specifications as another GPU.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the GPU to copy
+     */
+    public GPU(GPU other) {
+        super(other);
+        this.rayTracing = other.rayTracing;
+        this.clockSpeed = other.clockSpeed;
+        this.VRAM = other.VRAM;
+    }
+
     /**
      * Checks if the GPU has ray tracing capability.
      *
@@ -83,8 +96,10 @@ public class GPU extends Part {
      * Sets the ray tracing capability of the GPU.
      *
      * @param rayTracing {@code true} if the GPU has ray tracing capability, {@code false} otherwise
+     * @throws UnsupportedOperationException if this GPU is a read-only copy
      */
     public void setRayTracing(boolean rayTracing) {
+        checkWritable();
         this.rayTracing = rayTracing;
     }
 
@@ -92,8 +107,10 @@ public class GPU extends Part {
      * Sets the clock speed of the GPU.
      *
      * @param clockSpeed the new clock speed to set in gigahertz (GHz)
+     * @throws UnsupportedOperationException if this GPU is a read-only copy
      */
     public void setClockSpeed(double clockSpeed) {
+        checkWritable();
         this.clockSpeed = clockSpeed;
     }
 
@@ -101,8 +118,10 @@ public class GPU extends Part {
      * Sets the amount of video RAM (VRAM) in gigabytes (GB).
      *
      * @param vRam the new amount of VRAM to set in gigabytes (GB)
+     * @throws UnsupportedOperationException if this GPU is a read-only copy
      */
     public void setVRAM(int vRam) {
+        checkWritable();
         this.VRAM = vRam;
     }
 
@@ -45,6 +45,18 @@ public class Motherboard extends Part {
         this.hasWifi = hasWifi;
     }
 
+    /**
+     * Constructs a new {@code Motherboard} object with the same specifications as another motherboard.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the motherboard to copy
+     */
+    public Motherboard(Motherboard other) {
+        super(other);
+        this.size = other.size;
+        this.hasWifi = other.hasWifi;
+    }
+
     /**
      * Gets the size of the motherboard.
      *
@@ -67,8 +79,10 @@ public class Motherboard extends Part {
      * Sets the size of the motherboard.
      *
      * @param size the new size to set
+     * @throws UnsupportedOperationException if this motherboard is a read-only copy
      */
     public void setSize(String size) {
+        checkWritable();
         this.size = size;
     }
 
@@ -76,8 +90,10 @@ public class Motherboard extends Part {
      * Sets the Wi-Fi capability of the motherboard.
      *
      * @param hasWifi {@code true} if the motherboard has Wi-Fi capability, {@code false} otherwise
+     * @throws UnsupportedOperationException if this motherboard is a read-only copy
      */
     public void setWifi(boolean hasWifi) {
+        checkWritable();
         this.hasWifi = hasWifi;
     }
 
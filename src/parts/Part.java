@@ -32,6 +32,11 @@ public class Part {
      */
     protected String model;
 
+    /**
+     * Whether this part is a read-only copy, see {@link #makeReadOnly()}.
+     */
+    private boolean readOnly;
+
     /**
      * Constructs a new {@code Part} object with the specified price, model, and brand.
      *
@@ -45,6 +50,16 @@ public class Part {
         this.brand = brand;
     }
 
+    /**
+     * Constructs a new {@code Part} object with the same price, model, and brand as another part.
+     * The copy can be changed, even if the other part is read-only.
+     *
+     * @param other the part to copy
+     */
+    protected Part(Part other) {
+        this(other.price, other.model, other.brand);
+    }
+
     /**
      * Gets the price of the part.
      *
@@ -76,8 +91,10 @@ public class Part {
      * Sets the price of the part.
      *
      * @param price the new price to set
+     * @throws UnsupportedOperationException if this part is a read-only copy
      */
     public void setPrice(double price) {
+        checkWritable();
         this.price = price;
     }
 
@@ -85,8 +102,10 @@ public class Part {
      * Sets the model of the part.
      *
      * @param model the new model to set
+     * @throws UnsupportedOperationException if this part is a read-only copy
      */
     public void setModel(String model) {
+        checkWritable();
         this.model = model;
     }
 
@@ -94,8 +113,10 @@ public class Part {
      * Sets the brand of the part.
      *
      * @param brand the new brand to set
+     * @throws UnsupportedOperationException if this part is a read-only copy
      */
     public void setBrand(String brand) {
+        checkWritable();
         this.brand = brand;
     }
 
@@ -121,4 +142,33 @@ public class Part {
                 Brand: %s
                 Model: %s""", this.price, this.brand, this.model);
     }
+
+    /**
+     * Makes this part read-only, so every setter throws an {@code UnsupportedOperationException}.
+     * This cannot be undone; use the copy constructor to get a copy that can be changed.
+     * Concept: Immutability
+     */
+    public void makeReadOnly() {
+        readOnly = true;
+    }
+
+    /**
+     * Checks if this part is a read-only copy.
+     *
+     * @return {@code true} if this part is read-only, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * Throws an exception if this part is read-only. Called first by every setter.
+     *
+     * @throws UnsupportedOperationException if this part is a read-only copy
+     */
+    protected void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("This part is a read-only copy and cannot be changed");
+        }
+    }
 }
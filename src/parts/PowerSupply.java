@@ -38,6 +38,17 @@ public class PowerSupply extends Part {
         this.wattage = wattage;
     }
 
+    /**
+     * Constructs a new {@code PowerSupply} object with the same specifications as another power supply unit.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the power supply unit to copy
+     */
+    public PowerSupply(PowerSupply other) {
+        super(other);
+        this.wattage = other.wattage;
+    }
+
     /**
      * Gets the wattage of the power supply unit.
      *
@@ -51,8 +62,10 @@ public class PowerSupply extends Part {
      * Sets the wattage of the power supply unit.
      *
      * @param wattage the new wattage to set
+     * @throws UnsupportedOperationException if this power supply unit is a read-only copy
      */
     public void setWattage(double wattage) {
+        checkWritable();
         this.wattage = wattage;
     }
 
@@ -52,6 +52,19 @@ public class RAM extends Part {
         this.speedMHz = speedMHz;
     }
 
+    /**
+     * Constructs a new {@code RAM} object with the same specifications as another RAM module.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the RAM module to copy
+     */
+    public RAM(RAM other) {
+        super(other);
+        this.type = other.type;
+        this.capacity = other.capacity;
+        this.speedMHz = other.speedMHz;
+    }
+
     /**
      * Gets the type of the RAM module.
      *
@@ -83,8 +96,10 @@ public class RAM extends Part {
      * Sets the type of the RAM module.
      *
      * @param type the new type to set
+     * @throws UnsupportedOperationException if this RAM module is a read-only copy
      */
     public void setType(String type) {
+        checkWritable();
         this.type = type;
     }
 
@@ -92,8 +107,10 @@ public class RAM extends Part {
      * Sets the memory capacity of the RAM module.
      *
      * @param capacity the new memory capacity to set in gigabytes (GB)
+     * @throws UnsupportedOperationException if this RAM module is a read-only copy
      */
     public void setCapacity(int capacity) {
+        checkWritable();
         this.capacity = capacity;
     }
 
@@ -101,8 +118,10 @@ public class RAM extends Part {
      * Sets the speed of the RAM module.
      *
      * @param speedMHz the new speed to set in gigahertz (GHz)
+     * @throws UnsupportedOperationException if this RAM module is a read-only copy
      */
     public void setSpeedMHz(double speedMHz) {
+        checkWritable();
         this.speedMHz = speedMHz;
     }
 
@@ -45,6 +45,18 @@ public class Storage extends Part {
         this.capacityGB = capacityGB;
     }
 
+    /**
+     * Constructs a new {@code Storage} object with the same specifications as another storage device.
+     * The copy can be changed, even if the other one is read-only.
+     *
+     * @param other the storage device to copy
+     */
+    public Storage(Storage other) {
+        super(other);
+        this.speedMBps = other.speedMBps;
+        this.capacityGB = other.capacityGB;
+    }
+
     /**
      * Gets the speed of the storage device.
      *
@@ -67,8 +79,10 @@ public class Storage extends Part {
      * Sets the speed of the storage device.
      *
      * @param speedMBps the new speed to set in megabytes per second (MBps)
+     * @throws UnsupportedOperationException if this storage device is a read-only copy
      */
     public void setSpeedMBps(double speedMBps) {
+        checkWritable();
         this.speedMBps = speedMBps;
     }
 
@@ -76,8 +90,10 @@ public class Storage extends Part {
      * Sets the storage size of the storage device.
      *
      * @param capacityGB the new storage size to set in gigabytes (GB)
+     * @throws UnsupportedOperationException if this storage device is a read-only copy
      */
     public void setCapacityGB(double capacityGB) {
+        checkWritable();
         this.capacityGB = capacityGB;
     }
 
@@ -0,0 +1,136 @@
+package query;
+
+import hardware.AdditionalHardware;
+import management.PartCriterion;
+import management.PartSlot;
+import order.Order;
+import order.OrderStatus;
+
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code IndexedOrders} interface is what the {@link QueryPlanner} needs from a collection of orders:
+ * a way to scan every order, a way to look up an order by ID, and the secondary indexes that can answer a
+ * predicate without a scan. Every method that returns IDs returns them in ascending order.
+ * </p>
+ * <p>
+ * {@link management.OrderManager} provides an implementation backed by its indexes.
+ * </p>
+ * <p>Concept: Interfaces</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public interface IndexedOrders {
+    /**
+     * Gets every order, for a full scan.
+     *
+     * @return Every order, in no particular order.
+     */
+    Iterable<Order> allOrders();
+
+    /**
+     * Gets the number of orders.
+     *
+     * @return The number of orders.
+     */
+    int orderCount();
+
+    /**
+     * Finds an order by its ID.
+     *
+     * @param id The ID of the order.
+     * @return The order, or {@code null} if there is no order with that ID.
+     */
+    Order orderWithId(int id);
+
+    /**
+     * Gets the IDs of the orders with a status.
+     *
+     * @param status The status to look for.
+     * @return The IDs in ascending order.
+     */
+    int[] idsWithStatus(OrderStatus status);
+
+    /**
+     * Gets the IDs of the orders that are not started or in progress.
+     *
+     * @return The IDs in ascending order.
+     */
+    int[] currentIds();
+
+    /**
+     * Gets the IDs of the orders with a custom status.
+     *
+     * @return The IDs in ascending order.
+     */
+    int[] customStatusIds();
+
+    /**
+     * Gets the IDs of the orders of an order type.
+     *
+     * @param orderType The order type, for example {@link order.OrderType#PICKUP}.
+     * @return The IDs in ascending order.
+     */
+    int[] idsOfOrderType(String orderType);
+
+    /**
+     * Gets the IDs of the orders for a computer type.
+     *
+     * @param computerType The computer type, for example {@link computer.ComputerType#LAPTOP}.
+     * @return The IDs in ascending order.
+     */
+    int[] idsOfComputerType(String computerType);
+
+    /**
+     * Gets the IDs of the orders with a finish by date in a range of time.
+     *
+     * @param from The earliest finish by date in epoch milliseconds, inclusive.
+     * @param to   The latest finish by date in epoch milliseconds, inclusive.
+     * @return The IDs in ascending order.
+     */
+    int[] idsDueBetween(long from, long to);
+
+    /**
+     * Gets the IDs of the orders with a total cost in a price range.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return The IDs in ascending order.
+     */
+    int[] idsPricedBetween(double min, double max);
+
+    /**
+     * Gets the IDs of the orders whose additional hardware matches the specs of another additional hardware at
+     * a match rate, see {@link AdditionalHardware#matchSpecs(AdditionalHardware, double)}.
+     *
+     * @param additionalHardware The additional hardware to match against.
+     * @param percent            The match rate, from 0 to 1.
+     * @return The IDs in ascending order.
+     */
+    int[] idsMatchingAdditionalHardware(AdditionalHardware additionalHardware, double percent);
+
+    /**
+     * Gets the IDs of the orders whose part in a slot has a brand, ignoring case.
+     *
+     * @param slot  The slot of the part.
+     * @param brand The brand to look for.
+     * @return The IDs in ascending order.
+     */
+    int[] idsWithPartBrand(PartSlot slot, String brand);
+
+    /**
+     * Gets the IDs of the orders whose parts match every criterion, or at least one criterion.
+     *
+     * @param criteria The criteria to match; at least one.
+     * @param matchAll {@code true} to match every criterion, {@code false} to match at least one.
+     * @return The IDs in ascending order.
+     */
+    int[] idsMatchingParts(List<PartCriterion> criteria, boolean matchAll);
+}
@@ -0,0 +1,571 @@
+package query;
+
+import computer.ComputerType;
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.AdditionalHardware;
+import hardware.GamingAdditionalHardware;
+import management.PartCriterion;
+import management.PartSlot;
+import order.Order;
+import order.OrderStatus;
+import parts.Part;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderPredicate} class represents a condition that an order either matches or does not. Predicates
+ * are created with the static factory methods of this class, for example on the status, type, dates, total
+ * cost or parts of an order, and combined with {@link #and(OrderPredicate)}, {@link #or(OrderPredicate)} and
+ * {@link #negate()}:
+ * <pre>
+ * OrderPredicate.hasStatus(OrderStatus.NOT_STARTED)
+ *         .and(OrderPredicate.hasPart(new PartCriterion(PartSlot.GPU, "nvidia")))
+ *         .and(OrderPredicate.totalCostBetween(1000, 2000).negate());
+ * </pre>
+ * </p>
+ * <p>
+ * Besides checking a single order with {@link #test(Order)}, a predicate can tell the {@link QueryPlanner}
+ * which orders might match by using an index, through {@link #candidateIds(IndexedOrders)}. Predicates that
+ * no index can answer return {@code null} there, and the planner falls back to a scan.
+ * </p>
+ * <p>Instances of this class are immutable.</p>
+ * <p>Concepts: Abstract Classes, Polymorphism, Composite</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public abstract class OrderPredicate {
+    /**
+     * Checks if an order matches this predicate.
+     *
+     * @param order The order to check.
+     * @return {@code true} if the order matches, {@code false} otherwise.
+     */
+    public abstract boolean test(Order order);
+
+    /**
+     * Gets the IDs of every order that might match this predicate, using the indexes of the orders. Every
+     * matching order must be among them, but some of them may not match, so the planner still tests each one.
+     *
+     * @param orders The orders and their indexes.
+     * @return The candidate IDs in ascending order, or {@code null} if no index can narrow down the orders.
+     */
+    public int[] candidateIds(IndexedOrders orders) {
+        return null;
+    }
+
+    /**
+     * Combines this predicate with another, so that both must match.
+     *
+     * @param other The other predicate.
+     * @return The combined predicate.
+     */
+    public OrderPredicate and(OrderPredicate other) {
+        return allOf(this, other);
+    }
+
+    /**
+     * Combines this predicate with another, so that at least one must match.
+     *
+     * @param other The other predicate.
+     * @return The combined predicate.
+     */
+    public OrderPredicate or(OrderPredicate other) {
+        return anyOf(this, other);
+    }
+
+    /**
+     * Gets a predicate that matches exactly the orders this predicate does not match.
+     *
+     * @return The negated predicate.
+     */
+    public OrderPredicate negate() {
+        return new Not(this);
+    }
+
+    /**
+     * Gets a predicate that matches every order.
+     *
+     * @return The predicate.
+     */
+    public static OrderPredicate any() {
+        return new Leaf("any order") {
+            public boolean test(Order order) {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders with a status. Uses the status index.
+     *
+     * @param status The status to match.
+     * @return The predicate.
+     */
+    public static OrderPredicate hasStatus(OrderStatus status) {
+        return new Leaf("status is " + status.getCurrentStatus()) {
+            public boolean test(Order order) {
+                return order.getOrderStatus().equals(status);
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsWithStatus(status);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders that are not started or in progress. Uses the status index.
+     *
+     * @return The predicate.
+     */
+    public static OrderPredicate isCurrent() {
+        return new Leaf("status is current") {
+            public boolean test(Order order) {
+                return order.getOrderStatus().isCurrent();
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.currentIds();
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders with a custom status. Uses the status index.
+     *
+     * @return The predicate.
+     */
+    public static OrderPredicate hasCustomStatus() {
+        return new Leaf("status is custom") {
+            public boolean test(Order order) {
+                return order.getOrderStatus().isCustom();
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.customStatusIds();
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders of an order type. Uses the order type index.
+     *
+     * @param orderType The order type, for example {@link order.OrderType#PICKUP}.
+     * @return The predicate.
+     */
+    public static OrderPredicate ofOrderType(String orderType) {
+        return new Leaf("order type is " + orderType) {
+            public boolean test(Order order) {
+                return order.getType().equals(orderType);
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsOfOrderType(orderType);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders for a computer type. Uses the computer type index.
+     *
+     * @param computerType The computer type, for example {@link ComputerType#LAPTOP}.
+     * @return The predicate.
+     */
+    public static OrderPredicate ofComputerType(String computerType) {
+        return new Leaf("computer type is " + computerType) {
+            public boolean test(Order order) {
+                return order.getComputer().getType().equals(computerType);
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsOfComputerType(computerType);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders with a finish by date in a range. Uses the finish by date index.
+     *
+     * @param from The earliest finish by date, inclusive, or {@code null} for no lower bound.
+     * @param to   The latest finish by date, inclusive, or {@code null} for no upper bound.
+     * @return The predicate.
+     */
+    public static OrderPredicate finishByBetween(Date from, Date to) {
+        long fromTime = from == null ? Long.MIN_VALUE : from.getTime();
+        long toTime = to == null ? Long.MAX_VALUE : to.getTime();
+
+        return new Leaf("finish by date " + describeRange(from, to)) {
+            public boolean test(Order order) {
+                long time = order.getFinishByDate().getTime();
+                return time >= fromTime && time <= toTime;
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsDueBetween(fromTime, toTime);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders that are not started or in progress and whose finish by date
+     * has passed. Uses the finish by date and status indexes.
+     *
+     * @param now The current time in epoch milliseconds.
+     * @return The predicate.
+     */
+    public static OrderPredicate isOverdue(long now) {
+        return finishByBetween(null, new Date(now - 1)).and(isCurrent());
+    }
+
+    /**
+     * Gets a predicate that matches the orders placed in a range of dates.
+     *
+     * @param from The earliest order date, inclusive, or {@code null} for no lower bound.
+     * @param to   The latest order date, inclusive, or {@code null} for no upper bound.
+     * @return The predicate.
+     */
+    public static OrderPredicate orderDateBetween(Date from, Date to) {
+        return new Leaf("order date " + describeRange(from, to)) {
+            public boolean test(Order order) {
+                return inRange(order.getOrderDate(), from, to);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders with a total cost in a range. Uses the price index.
+     *
+     * @param min The smallest total cost, inclusive.
+     * @param max The largest total cost, inclusive.
+     * @return The predicate.
+     */
+    public static OrderPredicate totalCostBetween(double min, double max) {
+        return new Leaf(String.format("total cost between $%.2f and $%.2f", min, max)) {
+            public boolean test(Order order) {
+                double totalCost = order.totalCost();
+                return totalCost >= min && totalCost <= max;
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsPricedBetween(min, max);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders whose part in a slot has a brand, ignoring case.
+     * Uses the part index.
+     *
+     * @param slot  The slot of the part.
+     * @param brand The brand to match.
+     * @return The predicate.
+     */
+    public static OrderPredicate hasPartBrand(PartSlot slot, String brand) {
+        return new Leaf(slot + " brand is " + brand) {
+            public boolean test(Order order) {
+                Part part = slot.partOf(order);
+                return part != null && brand.equalsIgnoreCase(part.getBrand());
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsWithPartBrand(slot, brand);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders whose part matches a criterion, see {@link PartCriterion}.
+     * Uses the part index.
+     *
+     * @param criterion The criterion to match.
+     * @return The predicate.
+     */
+    public static OrderPredicate hasPart(PartCriterion criterion) {
+        return new Leaf(criterion.toString()) {
+            public boolean test(Order order) {
+                return criterion.matches(order);
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsMatchingParts(List.of(criterion), true);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders whose parts match every one, or at least one, of several
+     * criteria. Uses the part index, which intersects or merges the posting lists of all the criteria at once.
+     *
+     * @param criteria The criteria to match; at least one.
+     * @param matchAll {@code true} to match every criterion, {@code false} to match at least one.
+     * @return The predicate.
+     */
+    public static OrderPredicate hasParts(List<PartCriterion> criteria, boolean matchAll) {
+        List<PartCriterion> copy = List.copyOf(criteria);
+        return new Leaf(copy.toString().replace(", ", matchAll ? " AND " : " OR ")) {
+            public boolean test(Order order) {
+                for (PartCriterion criterion : copy) {
+                    if (criterion.matches(order) != matchAll) {
+                        return !matchAll;
+                    }
+                }
+                return matchAll;
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsMatchingParts(copy, matchAll);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders whose additional hardware matches the given additional
+     * hardware at a percentage, see {@link AdditionalHardware#matchSpecs(AdditionalHardware, double)}. Only
+     * computers of the same type as the given additional hardware, and with additional storage, can match.
+     * Uses the additional hardware columns.
+     *
+     * @param additionalHardware The additional hardware to match against.
+     * @param percent            The percentage match threshold.
+     * @return The predicate.
+     */
+    public static OrderPredicate additionalHardwareMatches(AdditionalHardware additionalHardware, double percent) {
+        boolean isGaming = additionalHardware instanceof GamingAdditionalHardware;
+
+        return new Leaf("additional hardware matches at " + percent * 100 + "%") {
+            public boolean test(Order order) {
+                AdditionalHardware orderHardware;
+                if (order.getComputer() instanceof GamingComputer gamingComputer && isGaming) {
+                    orderHardware = gamingComputer.getAdditionalHardware();
+                } else if (order.getComputer() instanceof Laptop laptop && !isGaming) {
+                    orderHardware = laptop.getAdditionalHardware();
+                } else {
+                    return false;
+                }
+                return orderHardware.getAdditionalStorage() != null
+                        && orderHardware.matchSpecs(additionalHardware, percent);
+            }
+
+            public int[] candidateIds(IndexedOrders orders) {
+                return orders.idsMatchingAdditionalHardware(additionalHardware, percent);
+            }
+        };
+    }
+
+    /**
+     * Gets a predicate that matches the orders that match every one of the given predicates.
+     *
+     * @param predicates The predicates; at least one.
+     * @return The combined predicate.
+     */
+    public static OrderPredicate allOf(OrderPredicate... predicates) {
+        return new And(flatten(predicates, And.class));
+    }
+
+    /**
+     * Gets a predicate that matches the orders that match at least one of the given predicates.
+     *
+     * @param predicates The predicates; at least one.
+     * @return The combined predicate.
+     */
+    public static OrderPredicate anyOf(OrderPredicate... predicates) {
+        return new Or(flatten(predicates, Or.class));
+    }
+
+    /**
+     * Lists the given predicates, replacing any predicate of the given combining class by its parts, so that
+     * chains like {@code a.and(b).and(c)} become a single combination of three predicates.
+     *
+     * @param predicates The predicates.
+     * @param type       {@link And} or {@link Or}.
+     * @return The flattened predicates.
+     */
+    private static OrderPredicate[] flatten(OrderPredicate[] predicates, Class<? extends Combination> type) {
+        if (predicates.length == 0) {
+            throw new IllegalArgumentException("At least one predicate is required");
+        }
+
+        List<OrderPredicate> flattened = new ArrayList<>();
+        for (OrderPredicate predicate : predicates) {
+            if (type.isInstance(predicate)) {
+                flattened.addAll(List.of(((Combination) predicate).parts));
+            } else {
+                flattened.add(predicate);
+            }
+        }
+        return flattened.toArray(new OrderPredicate[0]);
+    }
+
+    /**
+     * Checks if a date is in a range.
+     *
+     * @param date The date to check.
+     * @param from The start of the range, inclusive, or {@code null}.
+     * @param to   The end of the range, inclusive, or {@code null}.
+     * @return {@code true} if the date is in the range, {@code false} otherwise.
+     */
+    private static boolean inRange(Date date, Date from, Date to) {
+        return (from == null || !date.before(from)) && (to == null || !date.after(to));
+    }
+
+    /**
+     * Describes a range of dates.
+     *
+     * @param from The start of the range, or {@code null}.
+     * @param to   The end of the range, or {@code null}.
+     * @return The description.
+     */
+    private static String describeRange(Date from, Date to) {
+        if (from == null) {
+            return to == null ? "is any date" : "on or before " + to;
+        }
+        return to == null ? "on or after " + from : "between " + from + " and " + to;
+    }
+
+    /**
+     * A predicate that does not contain other predicates, described by a fixed text.
+     */
+    private abstract static class Leaf extends OrderPredicate {
+        private final String description;
+
+        private Leaf(String description) {
+            this.description = description;
+        }
+
+        public String toString() {
+            return description;
+        }
+    }
+
+    /**
+     * A predicate made of other predicates.
+     */
+    private abstract static class Combination extends OrderPredicate {
+        final OrderPredicate[] parts;
+
+        private Combination(OrderPredicate[] parts) {
+            this.parts = parts;
+        }
+
+        /**
+         * Joins the descriptions of the parts.
+         *
+         * @param operator The word between two parts.
+         * @return The description.
+         */
+        protected String describe(String operator) {
+            StringBuilder description = new StringBuilder("(");
+            for (int i = 0; i < parts.length; i++) {
+                description.append(i == 0 ? "" : " " + operator + " ").append(parts[i]);
+            }
+            return description.append(")").toString();
+        }
+    }
+
+    /**
+     * Matches the orders that match every part.
+     */
+    private static class And extends Combination {
+        private And(OrderPredicate[] parts) {
+            super(parts);
+        }
+
+        public boolean test(Order order) {
+            for (OrderPredicate part : parts) {
+                if (!part.test(order)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Every matching order matches every part, so the smallest candidate set of any part will do.
+         */
+        public int[] candidateIds(IndexedOrders orders) {
+            int[] smallest = null;
+            for (OrderPredicate part : parts) {
+                int[] candidates = part.candidateIds(orders);
+                if (candidates != null && (smallest == null || candidates.length < smallest.length)) {
+                    smallest = candidates;
+                }
+            }
+            return smallest;
+        }
+
+        public String toString() {
+            return describe("AND");
+        }
+    }
+
+    /**
+     * Matches the orders that match at least one part.
+     */
+    private static class Or extends Combination {
+        private Or(OrderPredicate[] parts) {
+            super(parts);
+        }
+
+        public boolean test(Order order) {
+            for (OrderPredicate part : parts) {
+                if (part.test(order)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * A matching order matches some part, so the candidates are the union of the candidates of every part.
+         * If any part has no index, every order is a candidate.
+         */
+        public int[] candidateIds(IndexedOrders orders) {
+            int[] union = new int[0];
+            for (OrderPredicate part : parts) {
+                int[] candidates = part.candidateIds(orders);
+                if (candidates == null) {
+                    return null;
+                }
+                union = QueryPlanner.union(union, candidates);
+            }
+            return union;
+        }
+
+        public String toString() {
+            return describe("OR");
+        }
+    }
+
+    /**
+     * Matches the orders that do not match another predicate. No index can answer this, since it would have
+     * to list every order that is not a candidate of the other predicate.
+     */
+    private static class Not extends OrderPredicate {
+        private final OrderPredicate negated;
+
+        private Not(OrderPredicate negated) {
+            this.negated = negated;
+        }
+
+        public boolean test(Order order) {
+            return !negated.test(order);
+        }
+
+        public OrderPredicate negate() {
+            return negated;
+        }
+
+        public String toString() {
+            return "NOT " + negated;
+        }
+    }
+}
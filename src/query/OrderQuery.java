@@ -0,0 +1,136 @@
+package query;
+
+import management.OrderSorter;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderQuery} class describes a search for orders: which orders to find (an {@link OrderPredicate}),
+ * the order to return them in (an {@link OrderSorter}) and how many of them to return. A query is built by
+ * chaining, for example the ten most expensive current orders:
+ * <pre>
+ * OrderQuery.where(OrderPredicate.isCurrent())
+ *         .sortedBy(OrderSorter.by(OrderSortKey.TOTAL_COST.reversed()))
+ *         .limit(10);
+ * </pre>
+ * and is run by {@link management.OrderManager#query(OrderQuery)}. Without a sorter, the orders are returned
+ * in ascending ID order. Orders that are tied on every key of the sorter are returned in ascending ID order.
+ * </p>
+ * <p>Instances of this class are immutable; each chained call returns a new query.</p>
+ * <p>Concept: Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderQuery {
+    /**
+     * Stands for a query without a limit.
+     */
+    public static final int NO_LIMIT = -1;
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final OrderPredicate predicate;
+    private final OrderSorter sorter; // null for ascending ID order
+    private final int limit;
+
+    /**
+     * Constructs a new {@code OrderQuery}.
+     *
+     * @param predicate The predicate that the orders must match.
+     * @param sorter    The order to return the orders in, or {@code null} for ascending ID order.
+     * @param limit     The largest number of orders to return, or {@link #NO_LIMIT}.
+     */
+    private OrderQuery(OrderPredicate predicate, OrderSorter sorter, int limit) {
+        this.predicate = predicate;
+        this.sorter = sorter;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a query for the orders that match a predicate.
+     *
+     * @param predicate The predicate that the orders must match.
+     * @return The new query.
+     */
+    public static OrderQuery where(OrderPredicate predicate) {
+        return new OrderQuery(predicate, null, NO_LIMIT);
+    }
+
+    /**
+     * Gets a query that returns its orders in the order of a sorter.
+     *
+     * @param sorter The sorter.
+     * @return The new query.
+     */
+    public OrderQuery sortedBy(OrderSorter sorter) {
+        return new OrderQuery(predicate, sorter, limit);
+    }
+
+    /**
+     * Gets a query that returns at most a number of orders, the first ones in the order of the query.
+     *
+     * @param limit The largest number of orders to return.
+     * @return The new query.
+     * @throws IllegalArgumentException If the limit is negative.
+     */
+    public OrderQuery limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Invalid limit: " + limit);
+        }
+        return new OrderQuery(predicate, sorter, limit);
+    }
+
+    /**
+     * Gets the predicate that the orders must match.
+     *
+     * @return The predicate.
+     */
+    public OrderPredicate getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Gets the sorter that the orders are returned in the order of.
+     *
+     * @return The sorter, or {@code null} if the orders are returned in ascending ID order.
+     */
+    public OrderSorter getSorter() {
+        return sorter;
+    }
+
+    /**
+     * Gets the largest number of orders to return.
+     *
+     * @return The limit, or {@link #NO_LIMIT}.
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks if the query returns at most a number of orders.
+     *
+     * @return {@code true} if the query has a limit, {@code false} otherwise.
+     */
+    public boolean hasLimit() {
+        return limit != NO_LIMIT;
+    }
+
+    /**
+     * Returns the predicate, sorter and limit of the query.
+     * Concept: Polymorphism
+     * @return The string representation of the query.
+     */
+    public String toString() {
+        return "orders where " + predicate
+                + (sorter == null ? "" : " sorted by " + sorter)
+                + (hasLimit() ? " limit " + limit : "");
+    }
+}
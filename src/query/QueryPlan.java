@@ -0,0 +1,97 @@
+package query;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code QueryPlan} class is the decision the {@link QueryPlanner} made about how to run an
+ * {@link OrderQuery}: either look up the candidate orders in an index and test only those, or scan every order.
+ * Either way the predicate is tested once per order in a single pass, and no list is built for a part of the
+ * predicate. Printing a plan explains how a query will run.
+ * </p>
+ * <p>Concept: Encapsulation</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class QueryPlan {
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final OrderQuery query;
+    private final int[] candidateIds; // null for a full scan
+    private final int orderCount;
+
+    /**
+     * Constructs a new {@code QueryPlan}.
+     *
+     * @param query        The query that is planned.
+     * @param candidateIds The IDs of the orders to test in ascending order, or {@code null} to scan every order.
+     * @param orderCount   The number of orders at the time of planning.
+     */
+    QueryPlan(OrderQuery query, int[] candidateIds, int orderCount) {
+        this.query = query;
+        this.candidateIds = candidateIds;
+        this.orderCount = orderCount;
+    }
+
+    /**
+     * Gets the query that is planned.
+     *
+     * @return The query.
+     */
+    public OrderQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * Checks if the plan looks up candidates in an index instead of scanning every order.
+     *
+     * @return {@code true} if the plan uses an index, {@code false} if it scans every order.
+     */
+    public boolean usesIndex() {
+        return candidateIds != null;
+    }
+
+    /**
+     * Gets the IDs of the orders that the plan tests.
+     *
+     * @return The IDs in ascending order, or {@code null} if the plan scans every order.
+     */
+    int[] getCandidateIds() {
+        return candidateIds;
+    }
+
+    /**
+     * Gets the number of orders that the plan tests against the predicate.
+     *
+     * @return The number of candidates, or the number of orders for a full scan.
+     */
+    public int getCandidateCount() {
+        return candidateIds == null ? orderCount : candidateIds.length;
+    }
+
+    /**
+     * Returns a description of how the query will run.
+     * Concept: Polymorphism
+     * @return The string representation of the plan.
+     */
+    public String toString() {
+        String source = usesIndex()
+                ? "index lookup (" + candidateIds.length + " of " + orderCount + " orders)"
+                : "full scan (" + orderCount + " orders)";
+        String output;
+        if (query.getSorter() == null) {
+            output = query.hasLimit() ? "first " + query.getLimit() + " by ID" : "all by ID";
+        } else {
+            output = query.hasLimit()
+                    ? "top " + query.getLimit() + " by " + query.getSorter() + " (heap)"
+                    : "all sorted by " + query.getSorter();
+        }
+        return source + " -> filter " + query.getPredicate() + " -> " + output;
+    }
+}
@@ -0,0 +1,162 @@
+package query;
+
+import management.OrderSortKey;
+import management.OrderSorter;
+import order.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code QueryPlanner} class plans and runs {@link OrderQuery}s against a collection of
+ * {@link IndexedOrders}. Planning asks the predicate of the query for candidate orders from the indexes (for
+ * an AND, the smallest candidate set of its parts; for an OR, the union of the candidate sets of its parts).
+ * If no index applies, the plan is a full scan.
+ * </p>
+ * <p>
+ * Running a plan tests the whole predicate once on each candidate, in a single pass, and hands each match
+ * straight to the output: a list, or a bounded heap when the query has a limit and a sorter. When the query
+ * has no sorter and an index applies, the candidates are already in ID order, so the pass stops as soon as
+ * the limit is reached.
+ * </p>
+ * <p>
+ * This class is designed to be used as a utility class, and its methods are static.
+ * </p>
+ * <p>Concepts: Query Planning, Heaps</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public final class QueryPlanner {
+    /**
+     * Order of the results of a query without a sorter, and the last tie breaker of every query.
+     */
+    private static final OrderSorter ID_ORDER = OrderSorter.by(OrderSortKey.ID);
+
+    /**
+     * Private constructor to prevent instantiation of the class.
+     */
+    private QueryPlanner() {}
+
+    /**
+     * Decides how to run a query.
+     *
+     * @param query  The query to plan.
+     * @param orders The orders and their indexes.
+     * @return The plan.
+     */
+    public static QueryPlan plan(OrderQuery query, IndexedOrders orders) {
+        return new QueryPlan(query, query.getPredicate().candidateIds(orders), orders.orderCount());
+    }
+
+    /**
+     * Runs a query.
+     *
+     * @param query  The query to run.
+     * @param orders The orders and their indexes.
+     * @return A new list of the matching orders, in the order of the query and at most as many as its limit.
+     */
+    public static List<Order> execute(OrderQuery query, IndexedOrders orders) {
+        QueryPlan plan = plan(query, orders);
+        int limit = query.hasLimit() ? query.getLimit() : Integer.MAX_VALUE;
+
+        if (query.getSorter() == null && plan.usesIndex()) {
+            // candidates come in ID order, which is the order of the results
+            List<Order> matches = new ArrayList<>();
+            OrderPredicate predicate = query.getPredicate();
+            for (int id : plan.getCandidateIds()) {
+                if (matches.size() >= limit) {
+                    break;
+                }
+                Order order = orders.orderWithId(id);
+                if (order != null && predicate.test(order)) {
+                    matches.add(order);
+                }
+            }
+            return matches;
+        }
+
+        OrderSorter sorter = query.getSorter() == null ? ID_ORDER : query.getSorter().thenBy(OrderSortKey.ID);
+        if (query.hasLimit()) {
+            OrderSorter.Selection selection = sorter.select(limit);
+            forEachMatch(plan, orders, selection::offer);
+            return selection.toList();
+        }
+
+        List<Order> matches = new ArrayList<>();
+        forEachMatch(plan, orders, matches::add);
+        sorter.sort(matches);
+        return matches;
+    }
+
+    /**
+     * Counts the orders that match a predicate.
+     *
+     * @param predicate The predicate to match.
+     * @param orders    The orders and their indexes.
+     * @return The number of matching orders.
+     */
+    public static int count(OrderPredicate predicate, IndexedOrders orders) {
+        int[] count = {0};
+        forEachMatch(plan(OrderQuery.where(predicate), orders), orders, order -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Hands every order that matches the predicate of a plan to an action, testing each candidate once.
+     *
+     * @param plan   The plan to run.
+     * @param orders The orders and their indexes.
+     * @param action What to do with each matching order.
+     */
+    private static void forEachMatch(QueryPlan plan, IndexedOrders orders, Consumer<Order> action) {
+        OrderPredicate predicate = plan.getQuery().getPredicate();
+        if (plan.usesIndex()) {
+            for (int id : plan.getCandidateIds()) {
+                Order order = orders.orderWithId(id);
+                if (order != null && predicate.test(order)) {
+                    action.accept(order);
+                }
+            }
+        } else {
+            for (Order order : orders.allOrders()) {
+                if (predicate.test(order)) {
+                    action.accept(order);
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges two arrays of IDs in ascending order into one. Concept: Merging
+     *
+     * @param first  The first IDs, in ascending order.
+     * @param second The second IDs, in ascending order.
+     * @return The IDs that are in either array, in ascending order, each once.
+     */
+    static int[] union(int[] first, int[] second) {
+        int[] merged = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                merged[count++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                merged[count++] = second[j++];
+            } else { // in both
+                merged[count++] = first[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(merged, count);
+    }
+}
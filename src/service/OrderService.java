@@ -0,0 +1,479 @@
+package service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import management.Keys;
+import management.OrderJsonWriter;
+import management.OrderManager;
+import management.OrderSnapshot;
+import order.Order;
+import order.OrderStatus;
+import org.json.JSONException;
+import org.json.JSONObject;
+import query.OrderPredicate;
+import query.OrderQuery;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderService} class serves the orders of an {@link OrderManager} over HTTP, so that many
+ * front desk clients can share one database process. It only listens on the loopback address, so it can be
+ * used by clients on the same computer and by tests, but not from the network.
+ * </p>
+ * <p>
+ * Every request runs on its own virtual thread, so a slow client only holds up its own request. Lookups read
+ * the latest {@link OrderSnapshot} without taking a lock, status filters use the indexes of the order manager
+ * and send the matching orders from the snapshot, and changes go through the order manager like the menus do. Orders are sent in the same JSON format as orders.json.
+ * </p>
+ * <p>Endpoints:</p>
+ * <ul>
+ *   <li>{@code GET /orders/{id}} - The order with an ID.</li>
+ *   <li>{@code GET /orders?status={statusNumber}} - The orders with a default status, or with a custom
+ *       status if the status is {@code custom}. Without a status, every order.</li>
+ *   <li>{@code POST /orders} - Adds an order from a JSON body in the format of the input files.</li>
+ *   <li>{@code PUT /orders/{id}/status} - Updates the status of an order from a JSON body with a
+ *       {@code statusNumber}, or a {@code currentStatus} for a custom status.</li>
+ *   <li>{@code GET /revenue} - The expected revenue and the average price of all orders.</li>
+ * </ul>
+ * <p>
+ * Errors are sent as a JSON object with an {@code error} message: 400 for an invalid request, 404 for an
+ * order that does not exist, 405 for an unsupported method and 500 for a database error.
+ * </p>
+ * <p>Concepts: Concurrency, Virtual Threads, Networking</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderService {
+    /**
+     * Default port of the service.
+     */
+    public static final int DEFAULT_PORT = 8080;
+
+    /**
+     * Paths of the endpoints.
+     */
+    private static final String ORDERS_PATH = "/orders";
+    private static final String REVENUE_PATH = "/revenue";
+    private static final String STATUS_PATH = "status";
+
+    /**
+     * Query parameter of the status filter, and its value for custom statuses.
+     */
+    private static final String STATUS_PARAMETER = "status";
+    private static final String CUSTOM_STATUS = "custom";
+
+    /**
+     * Keys of the JSON responses that are not order keys.
+     */
+    private static final String ERROR = "error";
+    private static final String EXPECTED_REVENUE = "expectedRevenue";
+    private static final String AVERAGE_PRICE = "averagePrice";
+    private static final String ORDER_COUNT = "orderCount";
+
+    /**
+     * Largest request body that is read, in bytes.
+     */
+    private static final int MAX_BODY_BYTES = 1 << 20;
+
+    /**
+     * HTTP status codes used by the service.
+     */
+    private static final int OK = 200;
+    private static final int CREATED = 201;
+    private static final int BAD_REQUEST = 400;
+    private static final int NOT_FOUND = 404;
+    private static final int METHOD_NOT_ALLOWED = 405;
+    private static final int PAYLOAD_TOO_LARGE = 413;
+    private static final int INTERNAL_SERVER_ERROR = 500;
+
+    /**
+     * System property of the JDK HTTP server that turns off Nagle's algorithm on its connections. Without it,
+     * every response on a kept-alive connection waits for the delayed acknowledgement of its headers, about 40 ms.
+     */
+    private static final String NO_DELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // read by the JDK once, when the first server is created, so it has to be set before then
+        if (System.getProperty(NO_DELAY_PROPERTY) == null) {
+            System.setProperty(NO_DELAY_PROPERTY, "true");
+        }
+    }
+
+    /**
+     * Instance fields
+     * Concept: Encapsulation
+     */
+    private final OrderManager orderManager;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    /**
+     * Constructs a new {@code OrderService} on a port of the loopback address. The service does not accept
+     * requests until it is started.
+     *
+     * @param orderManager The order manager whose orders are served.
+     * @param port         The port to listen on, or 0 for any free port.
+     * @throws IOException If the port cannot be opened.
+     */
+    public OrderService(OrderManager orderManager, int port) throws IOException {
+        this.orderManager = orderManager;
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(ORDERS_PATH, exchange -> respond(exchange, () -> routeOrders(exchange)));
+        server.createContext(REVENUE_PATH, exchange -> respond(exchange, () -> revenue(exchange)));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, waits for the requests that are running to finish, and closes the port.
+     *
+     * @param delaySeconds The longest time to wait for the running requests, in seconds.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        executor.close();
+    }
+
+    /**
+     * Gets the port that the service listens on, which is useful if it was constructed with port 0.
+     *
+     * @return The port number.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Handles a request to an endpoint under {@code /orders}.
+     *
+     * @param exchange The request.
+     * @return The response.
+     * @throws IOException If an I/O error occurs while reading the request or saving a change.
+     */
+    private Response routeOrders(HttpExchange exchange) throws IOException {
+        String[] segments = exchange.getRequestURI().getPath().substring(ORDERS_PATH.length()).split("/");
+        String method = exchange.getRequestMethod();
+
+        if (segments.length <= 1) { // "/orders" or "/orders/"
+            if (segments.length == 1 && !segments[0].isEmpty()) {
+                return error(NOT_FOUND, "Unknown path: " + exchange.getRequestURI().getPath());
+            }
+            return switch (method) {
+                case "GET" -> filterOrders(exchange);
+                case "POST" -> addOrder(exchange);
+                default -> methodNotAllowed(exchange, "GET, POST");
+            };
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(segments[1]);
+        } catch (NumberFormatException e) {
+            return error(BAD_REQUEST, "Invalid order ID: " + segments[1]);
+        }
+
+        if (segments.length == 2) {
+            return method.equals("GET") ? findOrder(id) : methodNotAllowed(exchange, "GET");
+        }
+        if (segments.length == 3 && segments[2].equals(STATUS_PATH)) {
+            return method.equals("PUT") ? updateStatus(exchange, id) : methodNotAllowed(exchange, "PUT");
+        }
+        return error(NOT_FOUND, "Unknown path: " + exchange.getRequestURI().getPath());
+    }
+
+    /**
+     * Finds an order by its ID in the latest snapshot.
+     *
+     * @param id The ID of the order.
+     * @return The order, or an error if there is no order with that ID.
+     * @throws IOException If the order cannot be written as JSON.
+     */
+    private Response findOrder(int id) throws IOException {
+        Order order = orderManager.snapshot().get(id);
+        if (order == null) {
+            return error(NOT_FOUND, "No order with ID " + id);
+        }
+        return new Response(OK, orderToJson(order));
+    }
+
+    /**
+     * Filters the orders by the status in the query string, if there is one. The orders with a status are found
+     * through the category index by the query planner, see {@link OrderManager#querySnapshot(OrderQuery)}, and
+     * their copies are read from the snapshot; without a status, the whole latest snapshot is sent.
+     *
+     * @param exchange The request.
+     * @return The matching orders, in ascending ID order.
+     * @throws IOException If the orders cannot be written as JSON.
+     */
+    private Response filterOrders(HttpExchange exchange) throws IOException {
+        String status = queryParameters(exchange).get(STATUS_PARAMETER);
+        if (status == null) {
+            return new Response(OK, ordersToJson(orderManager.snapshot().getOrders()));
+        }
+
+        OrderPredicate predicate;
+        if (status.equalsIgnoreCase(CUSTOM_STATUS)) {
+            predicate = OrderPredicate.hasCustomStatus();
+        } else {
+            try {
+                predicate = OrderPredicate.hasStatus(OrderStatus.defaultByIndex(Integer.parseInt(status)));
+            } catch (IllegalArgumentException e) { // including NumberFormatException
+                return error(BAD_REQUEST, "Invalid status: " + status);
+            }
+        }
+        return new Response(OK, ordersToJson(orderManager.querySnapshot(OrderQuery.where(predicate))));
+    }
+
+    /**
+     * Adds an order from the JSON body of the request.
+     *
+     * @param exchange The request.
+     * @return The new order, with its ID and order dates.
+     * @throws IOException If an I/O error occurs while reading the request or saving the order.
+     */
+    private Response addOrder(HttpExchange exchange) throws IOException {
+        int id = orderManager.addOrder(readJsonBody(exchange)).getId();
+        Order order = orderManager.snapshot().get(id);
+        if (order == null) { // already deleted by another request
+            return new Response(CREATED, new JSONObject().put(Keys.ID, id).toString());
+        }
+        return new Response(CREATED, orderToJson(order));
+    }
+
+    /**
+     * Updates the status of an order from the JSON body of the request.
+     *
+     * @param exchange The request.
+     * @param id       The ID of the order.
+     * @return The updated order, or an error if there is no order with that ID.
+     * @throws IOException If an I/O error occurs while reading the request or saving the change.
+     */
+    private Response updateStatus(HttpExchange exchange, int id) throws IOException {
+        JSONObject json = readJsonBody(exchange);
+        Order order = orderManager.findOrderById(id);
+        boolean updated;
+        if (json.has(Keys.STATUS_NUMBER) && json.getInt(Keys.STATUS_NUMBER) != -1) {
+            updated = orderManager.updateOrderStatus(order, json.getInt(Keys.STATUS_NUMBER));
+        } else {
+            updated = orderManager.updateOrderStatus(order, json.getString(Keys.CURRENT_STATUS));
+        }
+
+        if (!updated) { // not found, or deleted by another request
+            return error(NOT_FOUND, "No order with ID " + id);
+        }
+        return findOrder(id);
+    }
+
+    /**
+     * Gets the expected revenue, the average price of all orders and the number of orders.
+     *
+     * @param exchange The request.
+     * @return The revenue as a JSON object.
+     */
+    private Response revenue(HttpExchange exchange) {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            return methodNotAllowed(exchange, "GET");
+        }
+        JSONObject json = new JSONObject();
+        json.put(EXPECTED_REVENUE, orderManager.calculateExpectedRevenue());
+        json.put(AVERAGE_PRICE, orderManager.calculateAveragePriceOfAllOrders());
+        json.put(ORDER_COUNT, orderManager.ordersCount());
+        return new Response(OK, json.toString());
+    }
+
+    /**
+     * Runs a handler and sends its response, or an error response if it fails.
+     *
+     * @param exchange The request.
+     * @param handler  The handler of the request.
+     * @throws IOException If the response cannot be sent.
+     */
+    private static void respond(HttpExchange exchange, Handler handler) throws IOException {
+        Response response;
+        try {
+            response = handler.handle();
+        } catch (BodyTooLargeException e) {
+            response = error(PAYLOAD_TOO_LARGE, e.getMessage());
+        } catch (JSONException | IllegalArgumentException e) {
+            response = error(BAD_REQUEST, e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            response = error(INTERNAL_SERVER_ERROR, e.getMessage());
+        }
+
+        try (exchange) {
+            byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(response.status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Reads the body of a request as a JSON object.
+     *
+     * @param exchange The request.
+     * @return The JSON object.
+     * @throws IOException   If an I/O error occurs while reading the body, or the body is too large.
+     * @throws JSONException If the body is not a JSON object.
+     */
+    private static JSONObject readJsonBody(HttpExchange exchange) throws IOException, JSONException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new BodyTooLargeException("Request body is larger than " + MAX_BODY_BYTES + " bytes");
+            }
+            return new JSONObject(new String(body, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses the query string of a request.
+     *
+     * @param exchange The request.
+     * @return The value of each parameter, by name.
+     */
+    private static Map<String, String> queryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0) {
+                parameters.put(URLDecoder.decode(parameter.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(parameter.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Writes an order as JSON.
+     *
+     * @param order The order to write.
+     * @return The JSON text.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static String orderToJson(Order order) throws IOException {
+        StringWriter json = new StringWriter();
+        new OrderJsonWriter(json, false).writeOrder(order);
+        return json.toString();
+    }
+
+    /**
+     * Writes orders as a JSON array.
+     *
+     * @param orders The orders to write.
+     * @return The JSON text.
+     * @throws IOException If an I/O error occurs while writing.
+     */
+    private static String ordersToJson(List<Order> orders) throws IOException {
+        StringWriter json = new StringWriter();
+        new OrderJsonWriter(json, false).writeOrders(orders);
+        return json.toString();
+    }
+
+    /**
+     * Makes an error response.
+     *
+     * @param status  The HTTP status code.
+     * @param message The error message.
+     * @return The response.
+     */
+    private static Response error(int status, String message) {
+        return new Response(status, new JSONObject().put(ERROR, String.valueOf(message)).toString());
+    }
+
+    /**
+     * Makes the response to a method that an endpoint does not support.
+     *
+     * @param exchange The request.
+     * @param allowed  The methods that the endpoint supports, separated by commas.
+     * @return The response.
+     */
+    private static Response methodNotAllowed(HttpExchange exchange, String allowed) {
+        exchange.getResponseHeaders().set("Allow", allowed);
+        return error(METHOD_NOT_ALLOWED, "Method not allowed: " + exchange.getRequestMethod());
+    }
+
+    /**
+     * Handles a request and makes its response. Concept: Functional Interfaces
+     */
+    @FunctionalInterface
+    private interface Handler {
+        /**
+         * Handles the request.
+         *
+         * @return The response.
+         * @throws IOException If an I/O error occurs.
+         */
+        Response handle() throws IOException;
+    }
+
+    /**
+     * An HTTP status code and a JSON body.
+     */
+    private static final class Response {
+        private final int status;
+        private final String body;
+
+        /**
+         * Constructs a new {@code Response}.
+         *
+         * @param status The HTTP status code.
+         * @param body   The JSON body.
+         */
+        private Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Thrown when a request body is larger than {@link #MAX_BODY_BYTES}.
+     */
+    private static final class BodyTooLargeException extends IOException {
+        /**
+         * Version of the serialized form of the exception.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Constructs a new {@code BodyTooLargeException}.
+         *
+         * @param message The error message.
+         */
+        private BodyTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
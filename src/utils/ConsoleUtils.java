@@ -6,6 +6,8 @@ import hardware.GamingAdditionalHardware;
 import hardware.PrimaryHardware;
 import info.CustomerInfo;
 import info.ShippingInfo;
+import management.GroupSummary;
+import management.PartSlot;
 import order.Order;
 import order.PickupOrder;
 import order.ShippingOrder;
@@ -147,6 +149,35 @@ public class ConsoleUtils {
         return table;
     }
 
+    /**
+     * Creates and returns a table formatted with the totals of a group of orders in a report.
+     *
+     * @param groupSummary The totals of the group.
+     * @return A {@link Table} object representing the formatted group totals.
+     */
+    public static Table boxGroupSummary(GroupSummary groupSummary) {
+        Table table = new Table(INNER_ORDER_WIDTH);
+        table.addComponent(new SimpleComponent(groupSummary.getGroupName(), Component.CENTER_JUSTIFY));
+
+        StringBuilder totals = new StringBuilder(String.format("""
+                        Orders: %d
+                        Computers: %d
+                        Total Cost: $%.2f""",
+                groupSummary.getOrderCount(), groupSummary.getComputerCount(), groupSummary.getTotalCost()));
+        if (groupSummary.getOrderCount() > 0) {
+            totals.append(String.format("%nAverage Order Cost: $%.2f", groupSummary.getAverageOrderCost()));
+        }
+        for (PartSlot slot : PartSlot.values()) {
+            if (groupSummary.getPartCount(slot) > 0) {
+                totals.append(String.format("%nAverage %s Price: $%.2f", slot, groupSummary.getAveragePartPrice(slot)));
+            }
+        }
+        table.addComponent(new KeyValueComponent(totals.toString(),
+                Component.LEFT_JUSTIFY, ORDER_INFORMATION_RATIO_KEYS, Component.LEFT_JUSTIFY, ORDER_INFORMATION_RATIO_VALUES));
+
+        return table;
+    }
+
     /**
      * Creates and returns a table formatted with order details.
      *
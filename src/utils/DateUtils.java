@@ -22,13 +22,15 @@ public class DateUtils {
      */
     private static final String DATE_FORMAT = "EEE MMM dd HH:mm:ss zzz yyyy"; // Ex. Mon Jan 15 17:39:08 EST 2024
     /**
-     * The calendar instance used for date manipulation.
+     * The calendar instance used for date manipulation, one per thread since {@code Calendar} is not thread-safe.
      */
-    private static final Calendar CALENDAR = Calendar.getInstance();
+    private static final ThreadLocal<Calendar> CALENDAR = ThreadLocal.withInitial(Calendar::getInstance);
     /**
-     * The date formatter instance used for parsing and formatting dates.
+     * The date formatter instance used for parsing and formatting dates, one per thread since
+     * {@code SimpleDateFormat} is not thread-safe.
      */
-    private static final SimpleDateFormat DATE_FORMATTER = new SimpleDateFormat(DATE_FORMAT);
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMATTER =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat(DATE_FORMAT));
 
     /**
      * Private constructor to prevent instantiation of the utility class.
@@ -54,9 +56,10 @@ public class DateUtils {
             throw new NullPointerException("baseDate cannot be null.");
         }
 
-        CALENDAR.setTime(baseDate);
-        CALENDAR.add(Calendar.DAY_OF_WEEK, daysToAdd);
-        return CALENDAR.getTime();
+        Calendar calendar = CALENDAR.get();
+        calendar.setTime(baseDate);
+        calendar.add(Calendar.DAY_OF_WEEK, daysToAdd);
+        return calendar.getTime();
     }
 
     /**
@@ -78,7 +81,7 @@ public class DateUtils {
      */
     public static Date stringToDate(String date) {
         try {
-            return DATE_FORMATTER.parse(date);
+            return DATE_FORMATTER.get().parse(date);
         } catch (ParseException e) {
             System.err.println("Invalid date format.");
             return null;
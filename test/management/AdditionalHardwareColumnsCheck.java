@@ -0,0 +1,223 @@
+package management;
+
+import computer.Computer;
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.AdditionalHardware;
+import hardware.GamingAdditionalHardware;
+import hardware.LaptopAdditionalHardware;
+import info.CustomerInfo;
+import info.PickupInfo;
+import order.Order;
+import order.OrderStatus;
+import order.PickupOrder;
+import parts.Storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static management.OrderAssertions.check;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code AdditionalHardwareColumnsCheck} class checks that {@link AdditionalHardwareColumns#matchingIds}
+ * finds exactly the orders that a plain scan calling
+ * {@link AdditionalHardware#matchSpecs(AdditionalHardware, double)} on every order finds. That includes how a
+ * laptop compares its 360-degree hinge to the touchscreen of the other hardware, and the match rates where
+ * the division of {@code matchSpecs} is exactly on a threshold (0, 0.25, 0.5, 0.75 and 1).
+ * </p>
+ * <p>
+ * The orders have random gaming and laptop additional hardware, with few values for each feature so that
+ * equal features and equal storage are common, and some have no additional storage. The check runs once on a
+ * small set of orders and once on enough orders that both sets of columns are scored in parallel, and then
+ * again after some orders have been changed and removed.
+ * </p>
+ * <p>
+ * Run it from the project root, with the compiled classes of src and test and json-20231013.jar on the class
+ * path: {@code java -cp out:json-20231013.jar management.AdditionalHardwareColumnsCheck}. It only reads the
+ * database, and exits with an error if a check fails.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class AdditionalHardwareColumnsCheck {
+    /**
+     * Number of orders of each computer type in the large run, more than the parallel threshold of the columns
+     * (32,768 rows).
+     */
+    private static final int LARGE_COUNT = 40_000;
+    private static final int SMALL_COUNT = 500;
+
+    /**
+     * Match rates that are checked: the exact thresholds of 4 features, and a few in between and outside.
+     */
+    private static final double[] PERCENTS = {0, 0.25, 0.5, 0.75, 1, 0.1, 0.3, 0.6, 0.99, 1.01, -0.5};
+
+    /**
+     * Number of random hardware that every set of orders is matched against.
+     */
+    private static final int QUERY_COUNT = 12;
+
+    /**
+     * Values of the storage and of the extra fan count, kept few so that ties are common.
+     */
+    private static final double[] SPEEDS = {500, 1000, 3500};
+    private static final double[] CAPACITIES = {256, 512, 1024};
+    private static final int MAX_EXTRA_FANS = 3;
+
+    /**
+     * Customer and pickup information shared by every order, which the columns do not read.
+     */
+    private static final CustomerInfo CUSTOMER = new CustomerInfo("Ada", "Lovelace", "ada@example.com",
+            "416-555-0100", "1 Main St");
+    private static final PickupInfo PICKUP = new PickupInfo("1 Main St", "2 Store Rd");
+
+    /**
+     * Runs the check.
+     *
+     * @param args Not used.
+     * @throws IOException If the database cannot be read.
+     */
+    public static void main(String[] args) throws IOException {
+        List<Order> samples = new DatabaseManager(false).getAllOrders();
+        GamingComputer gamingTemplate = null;
+        Laptop laptopTemplate = null;
+        for (Order order : samples) {
+            if (order.getComputer() instanceof GamingComputer gamingComputer) {
+                gamingTemplate = gamingComputer;
+            } else if (order.getComputer() instanceof Laptop laptop) {
+                laptopTemplate = laptop;
+            }
+        }
+        check(gamingTemplate != null && laptopTemplate != null, "the sample database needs a gaming computer and a laptop");
+
+        Random random = new Random(19);
+        int comparisons = 0;
+        for (int count : new int[]{SMALL_COUNT, LARGE_COUNT}) {
+            List<Order> orders = new ArrayList<>(2 * count);
+            for (int i = 0; i < 2 * count; i++) {
+                boolean gaming = i % 2 == 0;
+                orders.add(newOrder(i + 1, gaming ? gamingTemplate : laptopTemplate,
+                        randomHardware(random, gaming, true)));
+            }
+
+            AdditionalHardwareColumns columns = new AdditionalHardwareColumns();
+            columns.rebuild(orders);
+            comparisons += checkQueries(columns, orders, random, "rebuilt " + count);
+
+            // change and remove some orders, then compare again
+            for (int i = 0; i < count / 10; i++) {
+                int position = random.nextInt(orders.size());
+                Order order = orders.get(position);
+                boolean gaming = order.getComputer() instanceof GamingComputer;
+                Order changed = newOrder(order.getId(), gaming ? gamingTemplate : laptopTemplate,
+                        randomHardware(random, gaming, true));
+                orders.set(position, changed);
+                columns.update(changed);
+            }
+            for (int i = 0; i < count / 10; i++) {
+                columns.remove(orders.remove(random.nextInt(orders.size())).getId());
+            }
+            comparisons += checkQueries(columns, orders, random, "changed " + count);
+        }
+
+        System.out.println("Additional hardware columns OK: " + comparisons + " queries matched the matchSpecs scan");
+    }
+
+    /**
+     * Matches random gaming and laptop hardware against the columns and against a plain scan of the orders,
+     * at every match rate.
+     *
+     * @param columns The columns of the orders.
+     * @param orders  The orders in the columns.
+     * @param random  The random number generator.
+     * @param where   Which run this is, for the error message.
+     * @return The number of queries compared.
+     */
+    private static int checkQueries(AdditionalHardwareColumns columns, List<Order> orders, Random random, String where) {
+        int comparisons = 0;
+        for (int query = 0; query < QUERY_COUNT; query++) {
+            AdditionalHardware hardware = randomHardware(random, query % 2 == 0, false);
+            for (double percent : PERCENTS) {
+                int[] expected = scan(orders, hardware, percent);
+                int[] actual = columns.matchingIds(hardware, percent);
+                if (!Arrays.equals(expected, actual)) {
+                    throw new AssertionError(where + ": matching " + hardware.getClass().getSimpleName() + " at "
+                            + percent + ": expected " + expected.length + " orders but was " + actual.length);
+                }
+                comparisons++;
+            }
+        }
+        return comparisons;
+    }
+
+    /**
+     * Finds the matching orders the plain way, calling {@code matchSpecs} on the additional hardware of every
+     * order that has additional storage, like the scan of the query planner does.
+     *
+     * @param orders   The orders to scan.
+     * @param hardware The hardware to match against.
+     * @param percent  The match rate.
+     * @return The IDs of the matching orders in ascending order.
+     */
+    private static int[] scan(List<Order> orders, AdditionalHardware hardware, double percent) {
+        List<Integer> ids = new ArrayList<>();
+        for (Order order : orders) {
+            AdditionalHardware orderHardware = order.getComputer() instanceof GamingComputer gamingComputer
+                    ? gamingComputer.getAdditionalHardware()
+                    : ((Laptop) order.getComputer()).getAdditionalHardware();
+            if (orderHardware.getAdditionalStorage() != null && orderHardware.matchSpecs(hardware, percent)) {
+                ids.add(order.getId());
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    /**
+     * Makes random additional hardware.
+     *
+     * @param random        The random number generator.
+     * @param gaming        {@code true} for gaming additional hardware, {@code false} for laptop additional hardware.
+     * @param mayLackStorage {@code true} if the hardware may have no additional storage.
+     * @return The additional hardware.
+     */
+    private static AdditionalHardware randomHardware(Random random, boolean gaming, boolean mayLackStorage) {
+        Storage storage = mayLackStorage && random.nextInt(10) == 0 ? null
+                : new Storage(100, "Model", "Brand", SPEEDS[random.nextInt(SPEEDS.length)],
+                CAPACITIES[random.nextInt(CAPACITIES.length)]);
+        if (gaming) {
+            return new GamingAdditionalHardware(storage, random.nextBoolean(), random.nextBoolean(),
+                    random.nextInt(MAX_EXTRA_FANS + 1));
+        }
+        return new LaptopAdditionalHardware(storage, random.nextBoolean(), random.nextBoolean(), random.nextBoolean());
+    }
+
+    /**
+     * Makes an order with the given additional hardware. The other hardware is shared with a template computer,
+     * since the columns only read the additional hardware.
+     *
+     * @param id       The ID of the order.
+     * @param template The computer whose other hardware is used.
+     * @param hardware The additional hardware of the order.
+     * @return The order.
+     */
+    private static Order newOrder(int id, Computer template, AdditionalHardware hardware) {
+        Computer computer;
+        if (template instanceof GamingComputer gaming) {
+            computer = new GamingComputer(gaming.getPrimaryHardware(), gaming.getCooler(), gaming.getPowerSupply(),
+                    gaming.getComputerCase(), (GamingAdditionalHardware) hardware);
+        } else {
+            computer = new Laptop(template.getPrimaryHardware(), (LaptopAdditionalHardware) hardware);
+        }
+        return new PickupOrder(id, 1, OrderStatus.NOT_STARTED, computer, CUSTOMER, PICKUP);
+    }
+}
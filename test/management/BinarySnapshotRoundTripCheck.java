@@ -0,0 +1,119 @@
+package management;
+
+import computer.GamingComputer;
+import computer.Laptop;
+import order.Order;
+import order.PickupOrder;
+import order.ShippingOrder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static management.OrderAssertions.assertSameOrder;
+import static management.OrderAssertions.check;
+import static management.OrderAssertions.checkEqual;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code BinarySnapshotRoundTripCheck} class checks that the binary snapshot format keeps every field of
+ * every order. It loads the sample database (src/database/orders.json), writes it as a binary snapshot with
+ * {@link BinarySnapshot#write}, reads it back with {@link BinarySnapshot#read}, and compares each order field
+ * by field with the order loaded from JSON. The orders read back are then written as JSON again, which must
+ * give the same text as the orders loaded from orders.json.
+ * </p>
+ * <p>
+ * The sample database has gaming computers and laptops, shipping and pickup orders, orders without additional
+ * storage and orders with a custom status, and the check fails if any of these is missing from it.
+ * </p>
+ * <p>
+ * Run it from the project root, with the compiled classes of src and test and json-20231013.jar on the class
+ * path: {@code java -cp out:json-20231013.jar management.BinarySnapshotRoundTripCheck}. It only reads the
+ * database, and exits with an error if a check fails.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class BinarySnapshotRoundTripCheck {
+    /**
+     * Runs the check.
+     *
+     * @param args Not used.
+     * @throws IOException If the database cannot be read or the snapshot cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        List<Order> orders = new DatabaseManager(false).getAllOrders();
+        checkCoverage(orders);
+
+        Path snapshot = Files.createTempFile("orders", ".bin");
+        try {
+            try (OutputStream out = Files.newOutputStream(snapshot)) {
+                BinarySnapshot.write(out, orders);
+            }
+            List<Order> readBack = BinarySnapshot.read(snapshot);
+
+            checkEqual(orders.size(), readBack.size(), "number of orders");
+            for (int i = 0; i < orders.size(); i++) {
+                assertSameOrder(orders.get(i), readBack.get(i), "order " + orders.get(i).getId());
+            }
+            checkEqual(toJson(orders), toJson(readBack), "JSON of the orders read back");
+        } finally {
+            Files.delete(snapshot);
+        }
+
+        System.out.println("Binary snapshot round trip OK: " + orders.size() + " orders, "
+                + Files.size(Path.of("src/database/orders.json")) + " bytes of JSON");
+    }
+
+    /**
+     * Checks that the orders cover every kind of order that the binary format encodes differently.
+     *
+     * @param orders The orders to check.
+     */
+    private static void checkCoverage(List<Order> orders) {
+        boolean gaming = false;
+        boolean laptop = false;
+        boolean noAdditionalStorage = false;
+        boolean customStatus = false;
+        boolean shipping = false;
+        boolean pickup = false;
+        for (Order order : orders) {
+            if (order.getComputer() instanceof GamingComputer gamingComputer) {
+                gaming = true;
+                noAdditionalStorage |= gamingComputer.getAdditionalHardware().getAdditionalStorage() == null;
+            } else {
+                laptop = true;
+                noAdditionalStorage |= ((Laptop) order.getComputer()).getAdditionalHardware().getAdditionalStorage() == null;
+            }
+            customStatus |= order.getOrderStatus().isCustom();
+            shipping |= order instanceof ShippingOrder;
+            pickup |= order instanceof PickupOrder;
+        }
+        check(gaming && laptop, "the sample database needs both gaming computer and laptop orders");
+        check(noAdditionalStorage, "the sample database needs an order without additional storage");
+        check(shipping && pickup, "the sample database needs both shipping and pickup orders");
+        check(customStatus, "the sample database needs an order with a custom status");
+    }
+
+    /**
+     * Writes orders as a JSON array, the same way they are saved to orders.json.
+     *
+     * @param orders The orders to write.
+     * @return The JSON text.
+     * @throws IOException If an order cannot be written.
+     */
+    private static String toJson(List<Order> orders) throws IOException {
+        StringWriter json = new StringWriter();
+        new OrderJsonWriter(json, true).writeOrders(orders);
+        return json.toString();
+    }
+}
@@ -0,0 +1,294 @@
+package management;
+
+import computer.Computer;
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.AdditionalHardware;
+import hardware.GamingAdditionalHardware;
+import hardware.LaptopAdditionalHardware;
+import hardware.PrimaryHardware;
+import info.CustomerInfo;
+import info.PickupInfo;
+import info.ShippingInfo;
+import order.Order;
+import order.PickupOrder;
+import order.ShippingOrder;
+import parts.*;
+
+import java.util.Objects;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderAssertions} class holds the checks shared by the check programs in this folder. The main
+ * one, {@link #assertSameOrder(Order, Order, String)}, compares two orders field by field, down to every part
+ * of the computer, and names the first field that differs.
+ * </p>
+ * <p>
+ * This class is designed to be used as a utility class, and its methods are static.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+final class OrderAssertions {
+    /**
+     * Private constructor to prevent instantiation of the class.
+     */
+    private OrderAssertions() {}
+
+    /**
+     * Checks a condition.
+     *
+     * @param condition The condition that must hold.
+     * @param message   The message of the error if it does not.
+     * @throws AssertionError If the condition does not hold.
+     */
+    static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    /**
+     * Checks that two values are equal.
+     *
+     * @param expected The expected value.
+     * @param actual   The actual value.
+     * @param where    The name of the value, used in the error message.
+     * @throws AssertionError If the values are not equal.
+     */
+    static void checkEqual(Object expected, Object actual, String where) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError(where + ": expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+
+    /**
+     * Checks that two orders have the same value in every field, including the order type, status, dates,
+     * customer, shipping or pickup information and every part of the computer.
+     *
+     * @param expected The expected order.
+     * @param actual   The actual order.
+     * @param where    The name of the order, used in the error message.
+     * @throws AssertionError If a field differs.
+     */
+    static void assertSameOrder(Order expected, Order actual, String where) {
+        check(actual != null, where + ": missing");
+        checkEqual(expected.getClass(), actual.getClass(), where + ".class");
+        checkEqual(expected.getType(), actual.getType(), where + ".type");
+        checkEqual(expected.getId(), actual.getId(), where + ".id");
+        checkEqual(expected.getQuantity(), actual.getQuantity(), where + ".quantity");
+        checkEqual(expected.getOrderStatus().getStatusNumber(), actual.getOrderStatus().getStatusNumber(), where + ".statusNumber");
+        checkEqual(expected.getOrderStatus().getCurrentStatus(), actual.getOrderStatus().getCurrentStatus(), where + ".currentStatus");
+        checkEqual(expected.getOrderDate().getTime(), actual.getOrderDate().getTime(), where + ".orderDate");
+        checkEqual(expected.getFinishByDate().getTime(), actual.getFinishByDate().getTime(), where + ".finishByDate");
+
+        CustomerInfo expectedCustomer = expected.getCustomerInfo();
+        CustomerInfo actualCustomer = actual.getCustomerInfo();
+        checkEqual(expectedCustomer.getFirstName(), actualCustomer.getFirstName(), where + ".customerInfo.firstName");
+        checkEqual(expectedCustomer.getLastName(), actualCustomer.getLastName(), where + ".customerInfo.lastName");
+        checkEqual(expectedCustomer.getEmail(), actualCustomer.getEmail(), where + ".customerInfo.email");
+        checkEqual(expectedCustomer.getPhoneNumber(), actualCustomer.getPhoneNumber(), where + ".customerInfo.phoneNumber");
+        checkEqual(expectedCustomer.getAddress(), actualCustomer.getAddress(), where + ".customerInfo.address");
+
+        if (expected instanceof ShippingOrder shippingOrder) {
+            ShippingInfo expectedInfo = shippingOrder.getShippingInfo();
+            ShippingInfo actualInfo = ((ShippingOrder) actual).getShippingInfo();
+            checkEqual(expectedInfo.getBillingAddress(), actualInfo.getBillingAddress(), where + ".shippingInfo.billingAddress");
+            checkEqual(expectedInfo.getShippingAddress(), actualInfo.getShippingAddress(), where + ".shippingInfo.shippingAddress");
+            checkEqual(expectedInfo.getShippingCompany(), actualInfo.getShippingCompany(), where + ".shippingInfo.shippingCompany");
+        } else {
+            PickupInfo expectedInfo = ((PickupOrder) expected).getPickupInfo();
+            PickupInfo actualInfo = ((PickupOrder) actual).getPickupInfo();
+            checkEqual(expectedInfo.getBillingAddress(), actualInfo.getBillingAddress(), where + ".pickupInfo.billingAddress");
+            checkEqual(expectedInfo.getPickupAddress(), actualInfo.getPickupAddress(), where + ".pickupInfo.pickupAddress");
+        }
+
+        assertSameComputer(expected.getComputer(), actual.getComputer(), where + ".computer");
+    }
+
+    /**
+     * Checks that two computers have the same value in every field.
+     *
+     * @param expected The expected computer.
+     * @param actual   The actual computer.
+     * @param where    The name of the computer, used in the error message.
+     */
+    private static void assertSameComputer(Computer expected, Computer actual, String where) {
+        checkEqual(expected.getClass(), actual.getClass(), where + ".class");
+        checkEqual(expected.getType(), actual.getType(), where + ".type");
+
+        PrimaryHardware expectedPrimary = expected.getPrimaryHardware();
+        PrimaryHardware actualPrimary = actual.getPrimaryHardware();
+        assertSameCPU(expectedPrimary.getCPU(), actualPrimary.getCPU(), where + ".CPU");
+        assertSameGPU(expectedPrimary.getGPU(), actualPrimary.getGPU(), where + ".GPU");
+        assertSameRAM(expectedPrimary.getRAM(), actualPrimary.getRAM(), where + ".RAM");
+        assertSameMotherboard(expectedPrimary.getMotherboard(), actualPrimary.getMotherboard(), where + ".motherboard");
+        assertSameStorage(expectedPrimary.getStorage(), actualPrimary.getStorage(), where + ".storage");
+
+        if (expected instanceof GamingComputer gamingComputer) {
+            GamingComputer actualGaming = (GamingComputer) actual;
+            assertSameCooler(gamingComputer.getCooler(), actualGaming.getCooler(), where + ".cooler");
+            assertSamePowerSupply(gamingComputer.getPowerSupply(), actualGaming.getPowerSupply(), where + ".powerSupply");
+            assertSameCase(gamingComputer.getComputerCase(), actualGaming.getComputerCase(), where + ".computerCase");
+
+            GamingAdditionalHardware expectedExtras = gamingComputer.getAdditionalHardware();
+            GamingAdditionalHardware actualExtras = actualGaming.getAdditionalHardware();
+            assertSameAdditionalStorage(expectedExtras, actualExtras, where + ".additionalHardware");
+            checkEqual(expectedExtras.isHasRgbStrips(), actualExtras.isHasRgbStrips(), where + ".additionalHardware.hasRgbStrips");
+            checkEqual(expectedExtras.isUseNoiseCancellingFans(), actualExtras.isUseNoiseCancellingFans(), where + ".additionalHardware.useNoiseCancellingFans");
+            checkEqual(expectedExtras.getExtraFansCount(), actualExtras.getExtraFansCount(), where + ".additionalHardware.extraFansCount");
+        } else {
+            LaptopAdditionalHardware expectedExtras = ((Laptop) expected).getAdditionalHardware();
+            LaptopAdditionalHardware actualExtras = ((Laptop) actual).getAdditionalHardware();
+            assertSameAdditionalStorage(expectedExtras, actualExtras, where + ".additionalHardware");
+            checkEqual(expectedExtras.isHasFingerprintScanner(), actualExtras.isHasFingerprintScanner(), where + ".additionalHardware.hasFingerprintScanner");
+            checkEqual(expectedExtras.isHasTouchscreen(), actualExtras.isHasTouchscreen(), where + ".additionalHardware.hasTouchscreen");
+            checkEqual(expectedExtras.isHas360Hinge(), actualExtras.isHas360Hinge(), where + ".additionalHardware.has360Hinge");
+        }
+    }
+
+    /**
+     * Checks that two sets of additional hardware have the same additional storage, or both have none.
+     *
+     * @param expected The expected additional hardware.
+     * @param actual   The actual additional hardware.
+     * @param where    The name of the additional hardware, used in the error message.
+     */
+    private static void assertSameAdditionalStorage(AdditionalHardware expected, AdditionalHardware actual, String where) {
+        if (expected.getAdditionalStorage() == null) {
+            checkEqual(null, actual.getAdditionalStorage(), where + ".additionalStorage");
+        } else {
+            check(actual.getAdditionalStorage() != null, where + ".additionalStorage: missing");
+            assertSameStorage(expected.getAdditionalStorage(), actual.getAdditionalStorage(), where + ".additionalStorage");
+        }
+    }
+
+    /**
+     * Checks that two parts have the same price, brand and model.
+     *
+     * @param expected The expected part.
+     * @param actual   The actual part.
+     * @param where    The name of the part, used in the error message.
+     */
+    private static void assertSamePart(Part expected, Part actual, String where) {
+        checkEqual(expected.getClass(), actual.getClass(), where + ".class");
+        checkEqual(expected.getPrice(), actual.getPrice(), where + ".price");
+        checkEqual(expected.getBrand(), actual.getBrand(), where + ".brand");
+        checkEqual(expected.getModel(), actual.getModel(), where + ".model");
+    }
+
+    /**
+     * Checks that two CPUs have the same value in every field.
+     *
+     * @param expected The expected CPU.
+     * @param actual   The actual CPU.
+     * @param where    The name of the CPU, used in the error message.
+     */
+    private static void assertSameCPU(CPU expected, CPU actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getCores(), actual.getCores(), where + ".cores");
+        checkEqual(expected.getThreads(), actual.getThreads(), where + ".threads");
+        checkEqual(expected.getProcessingSpeed(), actual.getProcessingSpeed(), where + ".processingSpeed");
+    }
+
+    /**
+     * Checks that two GPUs have the same value in every field.
+     *
+     * @param expected The expected GPU.
+     * @param actual   The actual GPU.
+     * @param where    The name of the GPU, used in the error message.
+     */
+    private static void assertSameGPU(GPU expected, GPU actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.isRayTracing(), actual.isRayTracing(), where + ".rayTracing");
+        checkEqual(expected.getClockSpeed(), actual.getClockSpeed(), where + ".clockSpeed");
+        checkEqual(expected.getVRAM(), actual.getVRAM(), where + ".VRAM");
+    }
+
+    /**
+     * Checks that two sets of RAM have the same value in every field.
+     *
+     * @param expected The expected RAM.
+     * @param actual   The actual RAM.
+     * @param where    The name of the RAM, used in the error message.
+     */
+    private static void assertSameRAM(RAM expected, RAM actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getType(), actual.getType(), where + ".type");
+        checkEqual(expected.getCapacity(), actual.getCapacity(), where + ".capacity");
+        checkEqual(expected.getSpeedMHz(), actual.getSpeedMHz(), where + ".speedMHz");
+    }
+
+    /**
+     * Checks that two motherboards have the same value in every field.
+     *
+     * @param expected The expected motherboard.
+     * @param actual   The actual motherboard.
+     * @param where    The name of the motherboard, used in the error message.
+     */
+    private static void assertSameMotherboard(Motherboard expected, Motherboard actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getSize(), actual.getSize(), where + ".size");
+        checkEqual(expected.isHasWifi(), actual.isHasWifi(), where + ".hasWifi");
+    }
+
+    /**
+     * Checks that two storage devices have the same value in every field.
+     *
+     * @param expected The expected storage.
+     * @param actual   The actual storage.
+     * @param where    The name of the storage, used in the error message.
+     */
+    private static void assertSameStorage(Storage expected, Storage actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getSpeedMBps(), actual.getSpeedMBps(), where + ".speedMBps");
+        checkEqual(expected.getCapacityGB(), actual.getCapacityGB(), where + ".capacityGB");
+    }
+
+    /**
+     * Checks that two coolers have the same value in every field.
+     *
+     * @param expected The expected cooler.
+     * @param actual   The actual cooler.
+     * @param where    The name of the cooler, used in the error message.
+     */
+    private static void assertSameCooler(Cooler expected, Cooler actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getColour(), actual.getColour(), where + ".colour");
+        checkEqual(expected.getType(), actual.getType(), where + ".type");
+        checkEqual(expected.getFanCount(), actual.getFanCount(), where + ".fanCount");
+        checkEqual(expected.getRpm(), actual.getRpm(), where + ".rpm");
+    }
+
+    /**
+     * Checks that two power supplies have the same value in every field.
+     *
+     * @param expected The expected power supply.
+     * @param actual   The actual power supply.
+     * @param where    The name of the power supply, used in the error message.
+     */
+    private static void assertSamePowerSupply(PowerSupply expected, PowerSupply actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getWattage(), actual.getWattage(), where + ".wattage");
+    }
+
+    /**
+     * Checks that two cases have the same value in every field.
+     *
+     * @param expected The expected case.
+     * @param actual   The actual case.
+     * @param where    The name of the case, used in the error message.
+     */
+    private static void assertSameCase(Case expected, Case actual, String where) {
+        assertSamePart(expected, actual, where);
+        checkEqual(expected.getColour(), actual.getColour(), where + ".colour");
+        checkEqual(expected.getSize(), actual.getSize(), where + ".size");
+        checkEqual(expected.getMaterial(), actual.getMaterial(), where + ".material");
+    }
+}
@@ -0,0 +1,476 @@
+package management;
+
+import computer.ComputerType;
+import info.CustomerInfo;
+import order.Order;
+import order.OrderStatus;
+import order.OrderType;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Predicate;
+
+import static management.OrderAssertions.assertSameOrder;
+import static management.OrderAssertions.check;
+import static management.OrderAssertions.checkEqual;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderManagerStressCheck} class checks that an {@link OrderManager} can be shared between threads.
+ * Several writer threads add, change and delete orders at random, while reader threads look orders up, filter
+ * them, search them, report on them and read snapshots. Once every thread has finished, the ID index, the
+ * category index, the running statistics, the customer index and the part index are each checked against
+ * {@link OrderManager#getOrdersList()}, along with the latest snapshot and the database as it was saved.
+ * </p>
+ * <p>
+ * The check changes the database, so it runs in a scratch copy of src/database and src/input, see
+ * {@link ScratchCopy}. Run it from the project root, with the compiled classes of src and test and
+ * json-20231013.jar on the class path: {@code java -cp out:json-20231013.jar management.OrderManagerStressCheck}.
+ * It exits with an error if a check fails.
+ * </p>
+ * <p>Concept: Concurrency</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderManagerStressCheck {
+    private static final int WRITER_COUNT = 4;
+    private static final int READER_COUNT = 4;
+    private static final int OPERATIONS_PER_WRITER = 400;
+
+    /**
+     * Names, brands and statuses that the writers pick from. They are few, so that customers gain and lose
+     * orders and the part index has words that many orders share.
+     */
+    private static final String[][] CUSTOMER_NAMES = {{"Ada", "Lovelace"}, {"alan", "TURING"}, {"Grace", "Hopper"}};
+    private static final String[] CPU_BRANDS = {"Intel", "AMD", "Ryzen"};
+    private static final String[] CUSTOM_STATUSES = {"On hold", "Waiting for parts"};
+    /**
+     * Computer type and order type of the input files that new orders are made from. The gaming shipping
+     * input file is left out, since it is an example of a misformatted input file.
+     */
+    private static final String[][] NEW_ORDER_TEMPLATES = {{ComputerType.GAMING, OrderType.PICKUP},
+            {ComputerType.LAPTOP, OrderType.PICKUP}, {ComputerType.LAPTOP, OrderType.SHIPPING}};
+    private static final OrderStatus[] DEFAULT_STATUSES = {OrderStatus.NOT_STARTED, OrderStatus.IN_PROGRESS,
+            OrderStatus.COMPLETED, OrderStatus.CANCELLED};
+
+    /**
+     * Runs the check.
+     *
+     * @param args Not used.
+     * @throws Exception If the check cannot run, or a check fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (!ScratchCopy.isInside()) {
+            System.exit(ScratchCopy.run(OrderManagerStressCheck.class));
+        }
+
+        OrderManager orderManager = new OrderManager();
+        Set<Integer> deletedIds = ConcurrentHashMap.newKeySet();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch writersDone = new CountDownLatch(WRITER_COUNT);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < WRITER_COUNT; i++) {
+            Random random = new Random(i);
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int operation = 0; operation < OPERATIONS_PER_WRITER; operation++) {
+                        write(orderManager, random, deletedIds);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                } finally {
+                    writersDone.countDown();
+                }
+            }, "writer-" + i));
+        }
+        for (int i = 0; i < READER_COUNT; i++) {
+            Random random = new Random(100 + i);
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    while (writersDone.getCount() > 0) {
+                        read(orderManager, random);
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }, "reader-" + i));
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long millis = (System.nanoTime() - startTime) / 1_000_000;
+
+        if (!failures.isEmpty()) {
+            AssertionError error = new AssertionError(failures.size() + " thread(s) failed");
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+
+        List<Order> orders = orderManager.getOrdersList();
+        checkIdIndex(orderManager, orders, deletedIds);
+        checkCategoryIndex(orderManager, orders);
+        checkStatistics(orderManager, orders);
+        checkCustomerIndex(orderManager, orders);
+        checkPartIndex(orderManager, orders);
+        checkSnapshot(orderManager, orders);
+        checkSavedDatabase(orderManager, orders);
+
+        System.out.println("OrderManager stress check OK: " + WRITER_COUNT * OPERATIONS_PER_WRITER + " writes by "
+                + WRITER_COUNT + " writers and " + READER_COUNT + " readers in " + millis + " ms, "
+                + orders.size() + " orders left, " + deletedIds.size() + " deleted");
+    }
+
+    /**
+     * Makes one random change: adds an order, or changes the status, quantity, customer or CPU of an order,
+     * or deletes an order.
+     *
+     * @param orderManager The manager to change.
+     * @param random       The random number generator of the thread.
+     * @param deletedIds   The IDs of the orders deleted so far, which the deleted order is added to.
+     * @throws IOException If a change cannot be saved.
+     */
+    private static void write(OrderManager orderManager, Random random, Set<Integer> deletedIds) throws IOException {
+        int choice = random.nextInt(7);
+        if (choice == 0) {
+            String[] template = NEW_ORDER_TEMPLATES[random.nextInt(NEW_ORDER_TEMPLATES.length)];
+            orderManager.addOrder(template[0], template[1]);
+            return;
+        }
+
+        Order order = randomOrder(orderManager, random);
+        if (order == null) {
+            return;
+        }
+        switch (choice) {
+            case 1 -> orderManager.updateOrderStatus(order, random.nextInt(DEFAULT_STATUSES.length));
+            case 2 -> orderManager.updateOrderStatus(order, CUSTOM_STATUSES[random.nextInt(CUSTOM_STATUSES.length)]);
+            case 3 -> orderManager.updateOrderQuantity(order, 1 + random.nextInt(5));
+            case 4 -> {
+                String[] name = CUSTOMER_NAMES[random.nextInt(CUSTOMER_NAMES.length)];
+                orderManager.updateOrderCustomerInfo(order, new CustomerInfo(name[0], name[1],
+                        "customer@example.com", "555-0100", "1 Main Street"));
+            }
+            case 5 -> orderManager.updateOrderCPU(order, CPU_BRANDS[random.nextInt(CPU_BRANDS.length)],
+                    "Stress " + random.nextInt(3), 100 + random.nextInt(400), 8, 16, 3.5);
+            default -> {
+                if (orderManager.deleteOrder(order.getId())) {
+                    deletedIds.add(order.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs one random read, and checks what can be checked while other threads are still writing.
+     *
+     * @param orderManager The manager to read.
+     * @param random       The random number generator of the thread.
+     */
+    private static void read(OrderManager orderManager, Random random) {
+        switch (random.nextInt(7)) {
+            case 0 -> {
+                Order order = randomOrder(orderManager, random);
+                if (order != null) {
+                    check(orderManager.orderTotalCost(order.getId()) != 0, "order " + order.getId() + " has no cost");
+                }
+            }
+            case 1 -> {
+                OrderStatus status = DEFAULT_STATUSES[random.nextInt(DEFAULT_STATUSES.length)];
+                orderManager.filterOrdersByStatus(status);
+                orderManager.countOrdersWithStatus(status);
+            }
+            case 2 -> {
+                orderManager.calculateExpectedRevenue();
+                orderManager.calculateAveragePriceOfAllOrders();
+            }
+            case 3 -> {
+                String[] name = CUSTOMER_NAMES[random.nextInt(CUSTOMER_NAMES.length)];
+                orderManager.getCustomerOrderHistory(name[0], name[1]);
+                orderManager.viewAllUniqueCustomerInfo();
+            }
+            case 4 -> orderManager.findOrdersByParts(
+                    List.of(new PartCriterion(PartSlot.CPU, CPU_BRANDS[random.nextInt(CPU_BRANDS.length)])), true);
+            case 5 -> orderManager.getSortedOrders(OrderSorter.by(OrderSortKey.STATUS).thenBy(OrderSortKey.FINISH_BY_DATE));
+            default -> {
+                // a snapshot never changes, so it must be consistent however far the writers have got
+                OrderSnapshot snapshot = orderManager.snapshot();
+                List<Order> snapshotOrders = snapshot.getOrders();
+                checkEqual(snapshot.size(), snapshotOrders.size(), "snapshot size");
+                for (int i = 0; i < snapshotOrders.size(); i++) {
+                    Order order = snapshotOrders.get(i);
+                    check(i == 0 || snapshotOrders.get(i - 1).getId() < order.getId(), "snapshot is not in ID order");
+                    check(snapshot.get(order.getId()) == order, "snapshot lookup of order " + order.getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks a random order that is currently managed.
+     *
+     * @param orderManager The manager to pick from.
+     * @param random       The random number generator of the thread.
+     * @return The live order, or {@code null} if there are no orders or it has just been deleted.
+     */
+    private static Order randomOrder(OrderManager orderManager, Random random) {
+        List<Order> orders = orderManager.snapshot().getOrders();
+        if (orders.isEmpty()) {
+            return null;
+        }
+        return orderManager.findOrderById(orders.get(random.nextInt(orders.size())).getId());
+    }
+
+    /**
+     * Checks that the orders list is in ID order, and that the ID index finds every order and no deleted order.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     * @param deletedIds   The IDs of the deleted orders.
+     */
+    private static void checkIdIndex(OrderManager orderManager, List<Order> orders, Set<Integer> deletedIds) {
+        checkEqual(orders.size(), orderManager.ordersCount(), "ordersCount");
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            check(i == 0 || orders.get(i - 1).getId() < order.getId(), "orders list is not in ID order at " + i);
+            check(orderManager.findOrderById(order.getId()) == order, "ID index lookup of order " + order.getId());
+        }
+        for (int id : deletedIds) {
+            checkEqual(null, orderManager.findOrderById(id), "ID index lookup of deleted order " + id);
+        }
+    }
+
+    /**
+     * Checks every count and list of the category index against the orders list.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     */
+    private static void checkCategoryIndex(OrderManager orderManager, List<Order> orders) {
+        for (OrderStatus status : DEFAULT_STATUSES) {
+            List<Integer> expected = idsWhere(orders, order -> order.getOrderStatus().equals(status));
+            checkEqual(expected.size(), orderManager.countOrdersWithStatus(status), "count of status " + status);
+            checkEqual(expected, ids(orderManager.filterOrdersByStatus(status)), "orders with status " + status);
+        }
+        for (String customStatus : CUSTOM_STATUSES) {
+            OrderStatus status = new OrderStatus(customStatus);
+            List<Integer> expected = idsWhere(orders, order -> order.getOrderStatus().equals(status));
+            checkEqual(expected.size(), orderManager.countOrdersWithStatus(status), "count of status " + status);
+        }
+
+        List<Integer> custom = idsWhere(orders, order -> order.getOrderStatus().isCustom());
+        checkEqual(custom.size(), orderManager.countCustomOrders(), "count of custom orders");
+        checkEqual(custom, ids(orderManager.allCustomOrders()), "custom orders");
+        List<Integer> current = idsWhere(orders, order -> order.getOrderStatus().isCurrent());
+        checkEqual(current.size(), orderManager.countCurrentOrders(), "count of current orders");
+        checkEqual(current, ids(orderManager.allCurrentOrders()), "current orders");
+
+        List<Integer> pickup = idsWhere(orders, order -> order.getType().equals(OrderType.PICKUP));
+        checkEqual(pickup.size(), orderManager.countOrdersOfType(OrderType.PICKUP), "count of pickup orders");
+        checkEqual(pickup, ids(orderManager.allPickupOrders()), "pickup orders");
+        List<Integer> shipping = idsWhere(orders, order -> order.getType().equals(OrderType.SHIPPING));
+        checkEqual(shipping.size(), orderManager.countOrdersOfType(OrderType.SHIPPING), "count of shipping orders");
+        checkEqual(shipping, ids(orderManager.allShippingOrders()), "shipping orders");
+
+        List<Integer> gaming = idsWhere(orders, order -> order.getComputer().getType().equals(ComputerType.GAMING));
+        checkEqual(gaming.size(), orderManager.countOrdersOfComputerType(ComputerType.GAMING), "count of gaming orders");
+        checkEqual(gaming, ids(orderManager.allGamingComputerOrders()), "gaming computer orders");
+        List<Integer> laptop = idsWhere(orders, order -> order.getComputer().getType().equals(ComputerType.LAPTOP));
+        checkEqual(laptop.size(), orderManager.countOrdersOfComputerType(ComputerType.LAPTOP), "count of laptop orders");
+        checkEqual(laptop, ids(orderManager.allLaptopOrders()), "laptop orders");
+    }
+
+    /**
+     * Checks the running statistics against a full recompute over the orders list.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     */
+    private static void checkStatistics(OrderManager orderManager, List<Order> orders) {
+        double revenue = 0;
+        double notCancelledTotal = 0;
+        int notCancelledCount = 0;
+        for (Order order : orders) {
+            if (order.getOrderStatus().isCurrent()) {
+                revenue += order.totalCost();
+            }
+            if (!order.getOrderStatus().equals(OrderStatus.CANCELLED)) {
+                notCancelledTotal += order.totalCost();
+                notCancelledCount++;
+            }
+        }
+        double average = notCancelledCount == 0 ? 0 : notCancelledTotal / notCancelledCount;
+
+        orderManager.setVerifyingStatistics(true); // the manager also compares them with its own recompute
+        try {
+            checkClose(revenue, orderManager.calculateExpectedRevenue(), "expected revenue");
+            checkClose(average, orderManager.calculateAveragePriceOfAllOrders(), "average price");
+        } finally {
+            orderManager.setVerifyingStatistics(false);
+        }
+    }
+
+    /**
+     * Checks the customer index against the orders list grouped by normalized full name.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     */
+    private static void checkCustomerIndex(OrderManager orderManager, List<Order> orders) {
+        Map<String, List<Integer>> idsByCustomer = new LinkedHashMap<>();
+        Map<String, CustomerInfo> customers = new HashMap<>();
+        for (Order order : orders) {
+            CustomerInfo customerInfo = order.getCustomerInfo();
+            String key = normalize(customerInfo.getFirstName()) + "\n" + normalize(customerInfo.getLastName());
+            idsByCustomer.computeIfAbsent(key, k -> new ArrayList<>()).add(order.getId());
+            customers.putIfAbsent(key, customerInfo);
+        }
+
+        checkEqual(idsByCustomer.size(), orderManager.viewAllUniqueCustomerInfo().size(), "number of customers");
+        for (Map.Entry<String, List<Integer>> entry : idsByCustomer.entrySet()) {
+            CustomerInfo customerInfo = customers.get(entry.getKey());
+            checkEqual(entry.getValue(), ids(orderManager.findOrdersByCustomerName(customerInfo.getFirstName(),
+                    customerInfo.getLastName())), "orders of customer " + customerInfo.getFirstName() + " "
+                    + customerInfo.getLastName());
+        }
+    }
+
+    /**
+     * Checks a search of the part index for every brand of every part slot against the orders list.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     */
+    private static void checkPartIndex(OrderManager orderManager, List<Order> orders) {
+        for (PartSlot slot : PartSlot.values()) {
+            Set<String> brands = new HashSet<>();
+            for (Order order : orders) {
+                if (slot.partOf(order) != null) {
+                    brands.add(slot.partOf(order).getBrand());
+                }
+            }
+            for (String brand : brands) {
+                PartCriterion criterion = new PartCriterion(slot, brand);
+                checkEqual(idsWhere(orders, criterion::matches),
+                        ids(orderManager.findOrdersByParts(List.of(criterion), true)), "part search " + criterion);
+            }
+        }
+    }
+
+    /**
+     * Checks that the latest snapshot holds a copy of every order, equal to it field by field.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     */
+    private static void checkSnapshot(OrderManager orderManager, List<Order> orders) {
+        List<Order> snapshotOrders = orderManager.snapshot().getOrders();
+        checkEqual(orders.size(), snapshotOrders.size(), "snapshot size");
+        for (int i = 0; i < orders.size(); i++) {
+            assertSameOrder(orders.get(i), snapshotOrders.get(i), "snapshot order " + orders.get(i).getId());
+        }
+    }
+
+    /**
+     * Checks that the database, loaded again from the files, holds the same orders as the manager.
+     *
+     * @param orderManager The manager to check.
+     * @param orders       The orders list.
+     * @throws IOException If the database cannot be read.
+     */
+    private static void checkSavedDatabase(OrderManager orderManager, List<Order> orders) throws IOException {
+        orderManager.flushPendingWrites();
+        List<Order> saved = new OrderManager().getOrdersList();
+        checkEqual(toJson(orders), toJson(saved), "orders saved to the database");
+    }
+
+    /**
+     * Checks that two amounts are equal, up to rounding errors.
+     *
+     * @param expected The expected amount.
+     * @param actual   The actual amount.
+     * @param where    The name of the amount, used in the error message.
+     */
+    private static void checkClose(double expected, double actual, String where) {
+        check(Math.abs(expected - actual) <= 1e-6 * Math.max(1, Math.abs(expected)),
+                where + ": expected <" + expected + "> but was <" + actual + ">");
+    }
+
+    /**
+     * Gets the IDs of the orders that match a condition.
+     *
+     * @param orders    The orders.
+     * @param condition The condition.
+     * @return The IDs of the matching orders, in the same order.
+     */
+    private static List<Integer> idsWhere(List<Order> orders, Predicate<Order> condition) {
+        List<Integer> ids = new ArrayList<>();
+        for (Order order : orders) {
+            if (condition.test(order)) {
+                ids.add(order.getId());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the IDs of orders.
+     *
+     * @param orders The orders.
+     * @return Their IDs, in the same order.
+     */
+    private static List<Integer> ids(List<Order> orders) {
+        return idsWhere(orders, order -> true);
+    }
+
+    /**
+     * Normalizes a name the same way as the customer index.
+     *
+     * @param name The name.
+     * @return The normalized name.
+     */
+    private static String normalize(String name) {
+        return name.trim().toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Writes orders as a JSON array, the same way they are saved to orders.json.
+     *
+     * @param orders The orders to write.
+     * @return The JSON text.
+     * @throws IOException If an order cannot be written.
+     */
+    private static String toJson(List<Order> orders) throws IOException {
+        StringWriter json = new StringWriter();
+        new OrderJsonWriter(json, true).writeOrders(orders);
+        return json.toString();
+    }
+}
@@ -0,0 +1,187 @@
+package management;
+
+import computer.GamingComputer;
+import computer.Laptop;
+import hardware.AdditionalHardware;
+import order.Order;
+import order.PickupOrder;
+import order.ShippingOrder;
+
+import java.util.List;
+
+import static management.OrderAssertions.assertSameOrder;
+import static management.OrderAssertions.check;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderSnapshotCheck} class checks the read-only copies that the snapshots of an {@link OrderManager}
+ * are made of. For every order of the database it checks that {@link Order#readOnlyCopy()} is equal to the
+ * order field by field, that every setter of the copy, and of the computer, parts and information in it, throws
+ * an {@code UnsupportedOperationException}, and that changing the order afterwards does not change the copy.
+ * It then checks that a snapshot only holds read-only copies, and that it keeps the old values of an order
+ * after the order is changed through the manager.
+ * </p>
+ * <p>
+ * The check changes the database, so it runs in a scratch copy of src/database and src/input, see
+ * {@link ScratchCopy}. Run it from the project root, with the compiled classes of src and test and
+ * json-20231013.jar on the class path: {@code java -cp out:json-20231013.jar management.OrderSnapshotCheck}.
+ * It exits with an error if a check fails.
+ * </p>
+ * <p>Concept: Immutability</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderSnapshotCheck {
+    /**
+     * Runs the check.
+     *
+     * @param args Not used.
+     * @throws Exception If the check cannot run, or a check fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (!ScratchCopy.isInside()) {
+            System.exit(ScratchCopy.run(OrderSnapshotCheck.class));
+        }
+
+        List<Order> orders = new DatabaseManager(false).getAllOrders();
+        for (Order order : orders) {
+            checkCopy(order);
+        }
+        checkManagerSnapshot();
+
+        System.out.println("Order snapshot copies OK: " + orders.size() + " orders");
+    }
+
+    /**
+     * Checks the read-only copy of an order. The order is changed by the check.
+     *
+     * @param order The order to copy.
+     */
+    private static void checkCopy(Order order) {
+        String where = "order " + order.getId();
+        Order before = order.copy();
+        Order readOnly = order.readOnlyCopy();
+        check(!before.isReadOnly() && readOnly.isReadOnly(), where + ": only the read-only copy is read-only");
+        assertSameOrder(order, readOnly, where);
+        checkSettersThrow(readOnly, where);
+
+        // nothing that can be changed is shared with the order
+        order.setQuantity(order.getQuantity() + 1);
+        order.getOrderDate().setTime(0);
+        order.getFinishByDate().setTime(0);
+        order.getCustomerInfo().setFirstName("Changed");
+        order.getComputer().getPrimaryHardware().getCPU().setBrand("Changed");
+        additionalHardware(order).setAdditionalStorage(null);
+        if (order instanceof PickupOrder pickupOrder) {
+            pickupOrder.getPickupInfo().setPickupAddress("Changed");
+        } else {
+            ((ShippingOrder) order).getShippingInfo().setShippingAddress("Changed");
+        }
+        assertSameOrder(before, readOnly, where + " after the order changed");
+
+        // the dates of a read-only copy cannot be changed through their getters either
+        readOnly.getOrderDate().setTime(0);
+        assertSameOrder(before, readOnly, where + " after its order date was changed");
+
+        // a copy of a read-only copy can be changed
+        Order writable = readOnly.copy();
+        writable.setQuantity(1);
+        writable.getComputer().getPrimaryHardware().getCPU().setCores(1);
+        assertSameOrder(before, readOnly, where + " after its copy changed");
+    }
+
+    /**
+     * Checks that every setter of a read-only order, and of the objects in it, throws an exception.
+     *
+     * @param order The read-only order.
+     * @param where Where the check is, for the error message.
+     */
+    private static void checkSettersThrow(Order order, String where) {
+        checkThrows(() -> order.setQuantity(1), where + ": setQuantity");
+        checkThrows(() -> order.updateStatus(0), where + ": updateStatus");
+        checkThrows(() -> order.setComputer(order.getComputer().copy()), where + ": setComputer");
+        checkThrows(() -> order.getCustomerInfo().setEmail("a@b.c"), where + ": customer setEmail");
+        if (order instanceof PickupOrder pickupOrder) {
+            checkThrows(() -> pickupOrder.getPickupInfo().setBillingAddress("Changed"), where + ": pickup info");
+        } else {
+            checkThrows(() -> ((ShippingOrder) order).getShippingInfo().setShippingCompany("Changed"),
+                    where + ": shipping info");
+        }
+        checkThrows(() -> order.getComputer().getPrimaryHardware().setCPU(null), where + ": setCPU");
+        checkThrows(() -> order.getComputer().getPrimaryHardware().getGPU().setPrice(1), where + ": GPU setPrice");
+        checkThrows(() -> order.getComputer().getPrimaryHardware().getRAM().setCapacity(1), where + ": RAM");
+        checkThrows(() -> order.getComputer().getPrimaryHardware().getStorage().setCapacityGB(1), where + ": storage");
+        checkThrows(() -> order.getComputer().getPrimaryHardware().getMotherboard().setWifi(true), where + ": motherboard");
+        AdditionalHardware additionalHardware = additionalHardware(order);
+        checkThrows(() -> additionalHardware.setAdditionalStorage(null), where + ": setAdditionalStorage");
+        if (additionalHardware.getAdditionalStorage() != null) {
+            checkThrows(() -> additionalHardware.getAdditionalStorage().setModel("Changed"), where + ": additional storage");
+        }
+        if (order.getComputer() instanceof GamingComputer gamingComputer) {
+            checkThrows(() -> gamingComputer.getCooler().setRpm(1), where + ": cooler");
+            checkThrows(() -> gamingComputer.getPowerSupply().setWattage(1), where + ": power supply");
+            checkThrows(() -> gamingComputer.getComputerCase().setColour("Changed"), where + ": case");
+            checkThrows(() -> gamingComputer.getAdditionalHardware().setExtraFansCount(1), where + ": extra fans");
+        } else {
+            checkThrows(() -> ((Laptop) order.getComputer()).getAdditionalHardware().setTouchscreen(true),
+                    where + ": touchscreen");
+        }
+    }
+
+    /**
+     * Checks that the orders of a snapshot are read-only copies, and that a snapshot keeps the old values of
+     * an order that is changed through the manager.
+     *
+     * @throws Exception If the database cannot be read or saved.
+     */
+    private static void checkManagerSnapshot() throws Exception {
+        OrderManager orderManager = new OrderManager();
+        OrderSnapshot snapshot = orderManager.snapshot();
+        for (Order order : snapshot.getOrders()) {
+            check(order.isReadOnly(), "snapshot order " + order.getId() + " is not read-only");
+            check(orderManager.findOrderById(order.getId()) != order, "snapshot order " + order.getId() + " is the live order");
+        }
+
+        Order live = orderManager.getOrdersList().get(0);
+        Order before = live.copy();
+        orderManager.updateOrderQuantity(live, live.getQuantity() + 1);
+        orderManager.updateOrderCPU(live, "Changed", "Changed", 1, 1, 1, 1);
+        assertSameOrder(before, snapshot.get(live.getId()), "old snapshot of order " + live.getId());
+        assertSameOrder(live, orderManager.snapshot().get(live.getId()), "new snapshot of order " + live.getId());
+        orderManager.flushPendingWrites();
+    }
+
+    /**
+     * Gets the additional hardware of the computer of an order.
+     *
+     * @param order The order.
+     * @return The additional hardware of its gaming computer or laptop.
+     */
+    private static AdditionalHardware additionalHardware(Order order) {
+        if (order.getComputer() instanceof GamingComputer gamingComputer) {
+            return gamingComputer.getAdditionalHardware();
+        }
+        return ((Laptop) order.getComputer()).getAdditionalHardware();
+    }
+
+    /**
+     * Checks that an action throws an {@code UnsupportedOperationException}.
+     *
+     * @param action The action, which should try to change a read-only object.
+     * @param where  Where the check is, for the error message.
+     */
+    private static void checkThrows(Runnable action, String where) {
+        try {
+            action.run();
+        } catch (UnsupportedOperationException expected) {
+            return;
+        }
+        throw new AssertionError(where + ": a read-only copy was changed");
+    }
+}
@@ -0,0 +1,138 @@
+package management;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code ScratchCopy} class lets a check program change the database without touching the real one.
+ * The database and input files are found through paths relative to the working directory
+ * (src/database/orders.json, src/input/gamingShipping.json, ...), so a check that adds, changes or deletes
+ * orders copies src/database and src/input into a temporary directory and runs itself again in a new JVM
+ * with that directory as its working directory. The temporary directory is deleted afterwards.
+ * </p>
+ * <p>
+ * A check calls {@link #isInside()} first, and if it is not running in a scratch copy yet, it exits with the
+ * exit code of {@link #run(Class)}.
+ * </p>
+ * <p>
+ * This class is designed to be used as a utility class, and its methods are static.
+ * </p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public final class ScratchCopy {
+    /**
+     * System property set in the JVM that runs in the scratch copy.
+     */
+    private static final String INSIDE_PROPERTY = "scratch.copy";
+
+    /**
+     * Folders of the project that are copied, relative to the project root.
+     */
+    private static final String[] COPIED_FOLDERS = {"src/database", "src/input"};
+
+    /**
+     * Private constructor to prevent instantiation of the class.
+     */
+    private ScratchCopy() {}
+
+    /**
+     * Checks if this JVM was started by {@link #run(Class)}, so its working directory is a scratch copy.
+     *
+     * @return {@code true} if the working directory is a scratch copy, {@code false} otherwise.
+     */
+    public static boolean isInside() {
+        return Boolean.getBoolean(INSIDE_PROPERTY);
+    }
+
+    /**
+     * Copies the database and input files of the project into a temporary directory, and runs the main method
+     * of a class in a new JVM with that working directory and the same class path. The output of the new JVM
+     * goes to the output of this one. Must be called from the project root.
+     *
+     * @param mainClass The class whose main method is run.
+     * @return The exit code of the new JVM, 0 if every check passed.
+     * @throws IOException          If the files cannot be copied or the JVM cannot be started.
+     * @throws InterruptedException If interrupted while waiting for the JVM to finish.
+     */
+    public static int run(Class<?> mainClass) throws IOException, InterruptedException {
+        Path scratch = Files.createTempDirectory("orders-check");
+        try {
+            for (String folder : COPIED_FOLDERS) {
+                copyFolder(Path.of(folder), scratch.resolve(folder));
+            }
+
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.add("-D" + INSIDE_PROPERTY + "=true");
+            command.add("-cp");
+            command.add(absoluteClassPath());
+            command.add(mainClass.getName());
+            return new ProcessBuilder(command).directory(scratch.toFile()).inheritIO().start().waitFor();
+        } finally {
+            deleteFolder(scratch);
+        }
+    }
+
+    /**
+     * Gets the class path of this JVM with every entry made absolute, so it still works from another
+     * working directory.
+     *
+     * @return The absolute class path.
+     */
+    private static String absoluteClassPath() {
+        List<String> entries = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            entries.add(Path.of(entry).toAbsolutePath().toString());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    /**
+     * Copies the files of a folder, and of its sub-folders, into another folder.
+     *
+     * @param source The folder to copy.
+     * @param target The folder to copy it to, which is created.
+     * @throws IOException If a file cannot be copied.
+     */
+    private static void copyFolder(Path source, Path target) throws IOException {
+        try (Stream<Path> paths = Files.walk(source)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Path copy = target.resolve(source.relativize(path).toString());
+                if (Files.isDirectory(path)) {
+                    Files.createDirectories(copy);
+                } else {
+                    Files.copy(path, copy);
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes a folder and everything in it.
+     *
+     * @param folder The folder to delete.
+     * @throws IOException If a file cannot be deleted.
+     */
+    private static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package service;
+
+import management.Keys;
+import management.OrderJsonWriter;
+import management.OrderManager;
+import management.ScratchCopy;
+import order.Order;
+import order.OrderStatus;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * <p>ICS4U</p>
+ * <p>AY Jackson SS</p>
+ *
+ * <p>
+ * The {@code OrderServiceCheck} class checks the endpoints of an {@link OrderService} over HTTP. It starts the
+ * service on a free port of the loopback address and checks that an order can be found by its ID, that the
+ * status filter returns the same orders as a scan of {@link OrderManager#getOrdersList()} for every default
+ * status and for custom statuses, and that the service answers 404 for an order that does not exist, 400 for
+ * an invalid status and 413 for a request body that is too large.
+ * </p>
+ * <p>
+ * The service saves the orders it is sent, so the check runs in a scratch copy of src/database and src/input,
+ * see {@link ScratchCopy}. Run it from the project root, with the compiled classes of src and test and
+ * json-20231013.jar on the class path: {@code java -cp out:json-20231013.jar service.OrderServiceCheck}.
+ * It exits with an error if a check fails.
+ * </p>
+ * <p>Concept: Networking</p>
+ *
+ * @author Meherzad Antia
+ * @author Stanley Gu
+ * @author Daniel Li
+ * @since 2024-01-19
+ */
+public class OrderServiceCheck {
+    /**
+     * Largest request body that the service reads, in bytes, the same as in {@link OrderService}.
+     */
+    private static final int MAX_BODY_BYTES = 1 << 20;
+
+    /**
+     * Runs the check.
+     *
+     * @param args Not used.
+     * @throws Exception If the check cannot run, or a check fails.
+     */
+    public static void main(String[] args) throws Exception {
+        if (!ScratchCopy.isInside()) {
+            System.exit(ScratchCopy.run(OrderServiceCheck.class));
+        }
+
+        OrderManager orderManager = new OrderManager();
+        OrderService service = new OrderService(orderManager, 0);
+        service.start();
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            String base = "http://localhost:" + service.getPort();
+            checkFindOrder(client, base, orderManager);
+            checkFilter(client, base, orderManager);
+            checkErrors(client, base, orderManager);
+        } finally {
+            service.stop(0);
+        }
+
+        System.out.println("Order service OK: " + orderManager.ordersCount() + " orders on port " + service.getPort());
+    }
+
+    /**
+     * Checks that every order can be found by its ID, and is sent as it is saved to orders.json.
+     *
+     * @param client       The HTTP client.
+     * @param base         The address of the service.
+     * @param orderManager The order manager of the service.
+     * @throws Exception If a request fails.
+     */
+    private static void checkFindOrder(HttpClient client, String base, OrderManager orderManager) throws Exception {
+        for (Order order : orderManager.getOrdersList()) {
+            HttpResponse<String> response = get(client, base + "/orders/" + order.getId());
+            checkEqual(200, response.statusCode(), "status code of GET /orders/" + order.getId());
+            checkEqual(orderToJson(order), response.body(), "body of GET /orders/" + order.getId());
+        }
+    }
+
+    /**
+     * Checks the status filter for every default status, for custom statuses and without a status.
+     *
+     * @param client       The HTTP client.
+     * @param base         The address of the service.
+     * @param orderManager The order manager of the service.
+     * @throws Exception If a request fails.
+     */
+    private static void checkFilter(HttpClient client, String base, OrderManager orderManager) throws Exception {
+        int matched = 0;
+        for (int statusNumber = 0; statusNumber < 4; statusNumber++) {
+            OrderStatus status = OrderStatus.defaultByIndex(statusNumber);
+            matched += checkFilterResult(client, base + "/orders?status=" + statusNumber, orderManager,
+                    order -> order.getOrderStatus().equals(status));
+        }
+        matched += checkFilterResult(client, base + "/orders?status=custom", orderManager,
+                order -> order.getOrderStatus().isCustom());
+        checkEqual(orderManager.ordersCount(), matched, "orders matched by some status filter");
+        checkFilterResult(client, base + "/orders", orderManager, order -> true);
+    }
+
+    /**
+     * Checks that a filter request returns the IDs of the orders that match a predicate, in ascending order.
+     *
+     * @param client       The HTTP client.
+     * @param uri          The filter request.
+     * @param orderManager The order manager of the service.
+     * @param expected     The orders that the request should return.
+     * @return The number of orders returned.
+     * @throws Exception If the request fails.
+     */
+    private static int checkFilterResult(HttpClient client, String uri, OrderManager orderManager,
+                                         Predicate<Order> expected) throws Exception {
+        List<Integer> expectedIds = new ArrayList<>();
+        for (Order order : orderManager.getOrdersList()) {
+            if (expected.test(order)) {
+                expectedIds.add(order.getId());
+            }
+        }
+
+        HttpResponse<String> response = get(client, uri);
+        checkEqual(200, response.statusCode(), "status code of GET " + uri);
+        JSONArray orders = new JSONArray(response.body());
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i < orders.length(); i++) {
+            ids.add(orders.getJSONObject(i).getInt(Keys.ID));
+        }
+        checkEqual(expectedIds, ids, "IDs of GET " + uri);
+        return ids.size();
+    }
+
+    /**
+     * Checks the responses to an order that does not exist, an invalid status and a body that is too large.
+     *
+     * @param client       The HTTP client.
+     * @param base         The address of the service.
+     * @param orderManager The order manager of the service.
+     * @throws Exception If a request fails.
+     */
+    private static void checkErrors(HttpClient client, String base, OrderManager orderManager) throws Exception {
+        int missingId = 1;
+        for (Order order : orderManager.getOrdersList()) {
+            missingId = Math.max(missingId, order.getId() + 1);
+        }
+        checkError(get(client, base + "/orders/" + missingId), 404, "GET of a missing order");
+        checkError(get(client, base + "/orders?status=7"), 400, "GET with an invalid status");
+
+        int ordersBefore = orderManager.ordersCount();
+        byte[] body = new byte[MAX_BODY_BYTES + 1];
+        Arrays.fill(body, (byte) ' ');
+        HttpRequest request = HttpRequest.newBuilder(URI.create(base + "/orders"))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body)).build();
+        checkError(client.send(request, HttpResponse.BodyHandlers.ofString()), 413, "POST of a body that is too large");
+        checkEqual(ordersBefore, orderManager.ordersCount(), "number of orders after a rejected POST");
+    }
+
+    /**
+     * Checks that a response is an error with a status code and a JSON error message.
+     *
+     * @param response   The response.
+     * @param statusCode The expected status code.
+     * @param where      What the request was, for the error message.
+     */
+    private static void checkError(HttpResponse<String> response, int statusCode, String where) {
+        checkEqual(statusCode, response.statusCode(), "status code of " + where);
+        if (!new JSONObject(response.body()).has("error")) {
+            throw new AssertionError(where + ": no error message in " + response.body());
+        }
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param client The HTTP client.
+     * @param uri    The address to get.
+     * @return The response, with its body as text.
+     * @throws Exception If the request fails.
+     */
+    private static HttpResponse<String> get(HttpClient client, String uri) throws Exception {
+        return client.send(HttpRequest.newBuilder(URI.create(uri)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Writes an order as JSON, the same way the service sends it.
+     *
+     * @param order The order to write.
+     * @return The JSON text.
+     * @throws IOException If the order cannot be written.
+     */
+    private static String orderToJson(Order order) throws IOException {
+        StringWriter json = new StringWriter();
+        new OrderJsonWriter(json, false).writeOrder(order);
+        return json.toString();
+    }
+
+    /**
+     * Checks that a value is equal to the expected value.
+     *
+     * @param expected The expected value.
+     * @param actual   The value to check.
+     * @param where    What the value is, for the error message.
+     */
+    private static void checkEqual(Object expected, Object actual, String where) {
+        if (!Objects.equals(expected, actual)) {
+            throw new AssertionError(where + ": expected <" + expected + "> but was <" + actual + ">");
+        }
+    }
+}